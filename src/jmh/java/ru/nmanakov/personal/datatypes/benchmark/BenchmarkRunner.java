@@ -0,0 +1,54 @@
+package ru.nmanakov.personal.datatypes.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+
+/**
+ * Benchmarks entry point.
+ * <p>
+ * Accepts the same command line options as the standard JMH runner, but always attaches GC profiler
+ * so that allocation rate and GC counts are reported next to every score.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs benchmarks selected by command line {@code args}.
+     *
+     * @param args JMH command line options
+     *
+     * @throws CommandLineOptionException if command line options can not be parsed
+     * @throws IOException                if help can not be printed
+     * @throws RunnerException            if error occurred during benchmarks run
+     */
+    public static void main(final String[] args)
+            throws CommandLineOptionException, IOException, RunnerException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+        if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+            return;
+        }
+
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLineOptions);
+        if (commandLineOptions.getProfilers().stream()
+                .noneMatch(profiler -> profiler.getKlass().equals(GCProfiler.class.getName()))) {
+            options.addProfiler(GCProfiler.class);
+        }
+
+        new Runner(options.build()).run();
+    }
+}
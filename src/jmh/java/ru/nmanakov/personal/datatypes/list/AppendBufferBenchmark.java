@@ -0,0 +1,119 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * {@link AppendBuffer} producers compared against producers adding to {@link ArrayList} under a lock.
+ * <p>
+ * Benchmark threads are producers, a background consumer keeps transferring added elements into its own list, which
+ * is cleared once it exceeds {@link #CONSUMER_LIST_LIMIT} elements. Every {@link #CHECK_INTERVAL} additions
+ * producer yields while more than {@link #BACKLOG_LIMIT} elements are not consumed yet, so that starved consumer
+ * doesn't let memory grow without bound. Throughput mode reports additions per microsecond of all producers, sample
+ * time mode - latency distribution of a single addition. Run with {@code -t 1}, {@code -t 4}, {@code -t 16} and
+ * {@code -t 64} to vary number of producers.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class AppendBufferBenchmark {
+    private static final int CONSUMER_LIST_LIMIT = 1 << 16;
+
+    private static final int CHECK_INTERVAL = 1024;
+
+    private static final int BACKLOG_LIMIT = 1 << 20;
+
+    private static final Integer ELEMENT = 42; // pre-boxed element, so boxing is not measured
+
+    private AppendBuffer<Integer> buffer;
+
+    private ArrayList<Integer> lockedList;
+
+    private volatile boolean running;
+
+    private Thread consumer;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        buffer = new AppendBuffer<>();
+        lockedList = new ArrayList<>();
+        running = true;
+
+        consumer = new Thread(() -> {
+            final ArrayList<Integer> consumed = new ArrayList<>();
+            while (running) {
+                buffer.drainTo(consumed);
+                synchronized (lockedList) {
+                    consumed.addAll(lockedList);
+                    lockedList.clear();
+                }
+                if (consumed.size() > CONSUMER_LIST_LIMIT) {
+                    consumed.clear();
+                }
+                Thread.yield();
+            }
+        });
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        running = false;
+        consumer.join();
+    }
+
+    @Benchmark
+    public void appendBuffer(final Producer producer) {
+        buffer.add(ELEMENT);
+        if (++producer.additions % CHECK_INTERVAL == 0) {
+            while (running && buffer.size() > BACKLOG_LIMIT) {
+                Thread.yield();
+            }
+        }
+    }
+
+    @Benchmark
+    public void lockedList(final Producer producer) {
+        synchronized (lockedList) {
+            lockedList.add(ELEMENT);
+        }
+        if (++producer.additions % CHECK_INTERVAL == 0) {
+            while (running && lockedListSize() > BACKLOG_LIMIT) {
+                Thread.yield();
+            }
+        }
+    }
+
+    private int lockedListSize() {
+        synchronized (lockedList) {
+            return lockedList.size();
+        }
+    }
+
+    /**
+     * Per-producer state.
+     */
+    @State(Scope.Thread)
+    public static class Producer {
+        private long additions; // number of additions made by producer
+    }
+}
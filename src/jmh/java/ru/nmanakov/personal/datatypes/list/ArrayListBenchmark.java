@@ -0,0 +1,241 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * {@link ArrayList} operations compared against {@link java.util.ArrayList} ones.
+ * <p>
+ * Every pair of benchmarks performs exactly the same operations on both implementations. Benchmarks that change list
+ * size restore it within the same invocation (e.g. removal is followed by appending of the removed element), so list
+ * size stays equal to {@code size} parameter during the whole measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ArrayListBenchmark {
+    private static final int INDICES_MASK = 1023;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] elements; // pre-boxed elements, so boxing is not measured
+
+    private Integer missingElement;
+
+    private int[] randomIndices;
+
+    private int randomIndex;
+
+    private ArrayList<Integer> list;
+
+    private ArrayList<Integer> equalList;
+
+    private ArrayList<Integer> hashCachedList;
+
+    private ArrayList<Integer> differentHashCachedList; // differs from hashCachedList by its last element only
+
+    private ListMetrics metrics; // listener of instrumented lists
+
+    private java.util.ArrayList<Integer> jdkList;
+
+    private java.util.ArrayList<Integer> jdkEqualList;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; ++i) {
+            elements[i] = i;
+        }
+        missingElement = -1;
+        metrics = new ListMetrics();
+
+        randomIndices = new int[INDICES_MASK + 1];
+        for (int i = 0; i < randomIndices.length; ++i) {
+            randomIndices[i] = ThreadLocalRandom.current().nextInt(size);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        list = new ArrayList<>();
+        equalList = new ArrayList<>();
+        jdkList = new java.util.ArrayList<>();
+        jdkEqualList = new java.util.ArrayList<>();
+        for (final Integer element : elements) {
+            list.add(element);
+            equalList.add(element);
+            jdkList.add(element);
+            jdkEqualList.add(element);
+        }
+
+        hashCachedList = new ArrayList<>();
+        differentHashCachedList = new ArrayList<>();
+        hashCachedList.setHashCached(true);
+        differentHashCachedList.setHashCached(true);
+        for (final Integer element : elements) {
+            hashCachedList.add(element);
+            differentHashCachedList.add(element);
+        }
+        differentHashCachedList.remove();
+        differentHashCachedList.add(missingElement);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> add() {
+        final ArrayList<Integer> aList = new ArrayList<>();
+        for (final Integer element : elements) {
+            aList.add(element);
+        }
+        return aList;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> addWithMetrics() {
+        final ArrayList<Integer> aList = new ArrayList<>();
+        aList.setListener(metrics);
+        for (final Integer element : elements) {
+            aList.add(element);
+        }
+        return aList;
+    }
+
+    @Benchmark
+    public List<Integer> jdkAdd() {
+        final List<Integer> aList = new java.util.ArrayList<>();
+        for (final Integer element : elements) {
+            aList.add(element);
+        }
+        return aList;
+    }
+
+    @Benchmark
+    public Integer addByIndex() {
+        list.add(missingElement, size / 2);
+        return list.remove();
+    }
+
+    @Benchmark
+    public Integer jdkAddByIndex() {
+        jdkList.add(size / 2, missingElement);
+        return jdkList.remove(size);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextRandomIndex());
+    }
+
+    @Benchmark
+    public Integer jdkGet() {
+        return jdkList.get(nextRandomIndex());
+    }
+
+    @Benchmark
+    public Integer removeByIndex() {
+        return list.add(list.remove(size / 2));
+    }
+
+    @Benchmark
+    public Integer jdkRemoveByIndex() {
+        final Integer removedElement = jdkList.remove(size / 2);
+        jdkList.add(removedElement);
+        return removedElement;
+    }
+
+    @Benchmark
+    public Integer removeByElement() {
+        return list.add(list.remove(list.get(size / 2)));
+    }
+
+    @Benchmark
+    public Integer jdkRemoveByElement() {
+        final Integer removedElement = jdkList.get(size / 2);
+        jdkList.remove(removedElement);
+        jdkList.add(removedElement);
+        return removedElement;
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(missingElement);
+    }
+
+    @Benchmark
+    public int jdkIndexOf() {
+        return jdkList.indexOf(missingElement);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(missingElement);
+    }
+
+    @Benchmark
+    public boolean jdkContains() {
+        return jdkList.contains(missingElement);
+    }
+
+    @Benchmark
+    public int hashCode_() {
+        return list.hashCode();
+    }
+
+    @Benchmark
+    public int jdkHashCode() {
+        return jdkList.hashCode();
+    }
+
+    /**
+     * Hash code of the list caching it, after an append and a removal from the end, which update it incrementally.
+     */
+    @Benchmark
+    public int hashCodeCached() {
+        hashCachedList.add(missingElement);
+        hashCachedList.remove();
+        return hashCachedList.hashCode();
+    }
+
+    @Benchmark
+    public boolean equals_() {
+        return list.equals(equalList);
+    }
+
+    @Benchmark
+    public boolean jdkEquals() {
+        return jdkList.equals(jdkEqualList);
+    }
+
+    /**
+     * Comparison of lists differing by their last element only, which is rejected by their cached hash codes.
+     */
+    @Benchmark
+    public boolean equalsCachedHash() {
+        hashCachedList.hashCode();
+        differentHashCachedList.hashCode();
+        return hashCachedList.equals(differentHashCachedList);
+    }
+
+    private int nextRandomIndex() {
+        randomIndex = (randomIndex + 1) & INDICES_MASK;
+        return randomIndices[randomIndex];
+    }
+}
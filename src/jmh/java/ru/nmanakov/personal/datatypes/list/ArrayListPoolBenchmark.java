@@ -0,0 +1,75 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Short-lived {@link ArrayList} instances created by constructor compared against the ones acquired from
+ * {@link ArrayListPool}.
+ * <p>
+ * Every invocation models a request: a list is filled with {@code size} elements, summed up and discarded or
+ * released. Run with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ArrayListPoolBenchmark {
+    @Param({"4", "100", "10000"})
+    private int size;
+
+    private Integer[] elements; // pre-boxed elements, so boxing is not measured
+
+    private ArrayListPool pool;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; ++i) {
+            elements[i] = i;
+        }
+        pool = new ArrayListPool();
+    }
+
+    @Benchmark
+    public long constructed() {
+        final ArrayList<Integer> aList = new ArrayList<>();
+        return fillAndSum(aList);
+    }
+
+    @Benchmark
+    public long pooled() {
+        final ArrayList<Integer> aList = pool.acquire();
+        final long sum = fillAndSum(aList);
+        pool.release(aList);
+
+        return sum;
+    }
+
+    private long fillAndSum(final ArrayList<Integer> aList) {
+        for (final Integer element : elements) {
+            aList.add(element);
+        }
+
+        long sum = 0;
+        for (int i = 0; i < aList.size(); ++i) {
+            sum += aList.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,127 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * {@link ConcurrentArrayList} readers contention compared against {@code synchronized} access to {@link ArrayList}.
+ * <p>
+ * Read-only benchmarks show reader scaling: run them with increasing number of threads, e.g.
+ * {@code -t 1}, {@code -t 2}, ..., {@code -t max}, and compare throughput per thread. Benchmarks of
+ * {@code readWrite} groups run three readers against one writer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ConcurrentArrayListBenchmark {
+    private static final int INDICES_MASK = 1023;
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ConcurrentArrayList<Integer> concurrentList;
+
+    private ArrayList<Integer> synchronizedList;
+
+    private Integer writtenElement;
+
+    @Setup
+    public void setUp() {
+        concurrentList = new ConcurrentArrayList<>();
+        synchronizedList = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            concurrentList.add(i);
+            synchronizedList.add(i);
+        }
+        writtenElement = -1;
+    }
+
+    @Benchmark
+    public Integer get(final Reader reader) {
+        return concurrentList.get(reader.nextIndex());
+    }
+
+    @Benchmark
+    public Integer synchronizedGet(final Reader reader) {
+        synchronized (synchronizedList) {
+            return synchronizedList.get(reader.nextIndex());
+        }
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public Integer readWrite_get(final Reader reader) {
+        return concurrentList.get(reader.nextIndex());
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void readWrite_update() {
+        concurrentList.update(list -> {
+            list.add(writtenElement);
+            list.remove();
+        });
+    }
+
+    @Benchmark
+    @Group("synchronizedReadWrite")
+    @GroupThreads(3)
+    public Integer synchronizedReadWrite_get(final Reader reader) {
+        synchronized (synchronizedList) {
+            return synchronizedList.get(reader.nextIndex());
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedReadWrite")
+    @GroupThreads(1)
+    public Integer synchronizedReadWrite_update() {
+        synchronized (synchronizedList) {
+            synchronizedList.add(writtenElement);
+            return synchronizedList.remove();
+        }
+    }
+
+    /**
+     * Per thread random indices source.
+     */
+    @State(Scope.Thread)
+    public static class Reader {
+        private int[] indices;
+
+        private int index;
+
+        @Setup
+        public void setUp(final ConcurrentArrayListBenchmark benchmark) {
+            indices = new int[INDICES_MASK + 1];
+            for (int i = 0; i < indices.length; ++i) {
+                indices[i] = ThreadLocalRandom.current().nextInt(benchmark.size);
+            }
+        }
+
+        int nextIndex() {
+            index = (index + 1) & INDICES_MASK;
+            return indices[index];
+        }
+    }
+}
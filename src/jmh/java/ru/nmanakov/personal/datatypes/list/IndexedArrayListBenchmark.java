@@ -0,0 +1,107 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Indexed {@link ArrayList} lookups and index maintenance compared against plain linear scanning list.
+ * <p>
+ * {@code contains} / {@code indexOf} show lookup speedup. {@code appendAndContains} models deduplication: element is
+ * appended only if it's not present yet, the index is maintained incrementally. {@code removeAndIndexOf} shows the
+ * worst case for the index: every removal shifts elements, so the following lookup has to rebuild positions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IndexedArrayListBenchmark {
+    private static final int INDICES_MASK = 1023;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private Integer[] elements; // pre-boxed elements, so boxing is not measured
+
+    private int[] randomIndices;
+
+    private int randomIndex;
+
+    private ArrayList<Integer> list;
+
+    private ArrayList<Integer> dedupList;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        elements = new Integer[size * 2];
+        for (int i = 0; i < elements.length; ++i) {
+            elements[i] = i;
+        }
+
+        randomIndices = new int[INDICES_MASK + 1];
+        for (int i = 0; i < randomIndices.length; ++i) {
+            randomIndices[i] = ThreadLocalRandom.current().nextInt(elements.length);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        list = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            list.add(elements[i]);
+        }
+        list.setIndexed(indexed);
+
+        dedupList = new ArrayList<>();
+        dedupList.setIndexed(indexed);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(nextRandomElement());
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(nextRandomElement());
+    }
+
+    @Benchmark
+    public Integer appendAndContains() {
+        if (dedupList.size() == size) {
+            dedupList.removeRange(0, size);
+        }
+
+        final Integer element = nextRandomElement();
+        return dedupList.contains(element) ? null : dedupList.add(element);
+    }
+
+    @Benchmark
+    public int removeAndIndexOf() {
+        list.add(list.remove(0));
+        return list.indexOf(nextRandomElement());
+    }
+
+    private Integer nextRandomElement() {
+        randomIndex = (randomIndex + 1) & INDICES_MASK;
+        return elements[randomIndices[randomIndex]];
+    }
+}
@@ -0,0 +1,147 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Edits in the middle of {@link GapBufferList} and {@link ChunkedList} compared against {@link ArrayList} ones.
+ * <p>
+ * {@code cursorEdit} models editor-like workload: element is inserted by a cursor which drifts by a few positions
+ * between edits, and then the element after the cursor is removed. {@code randomEdit} inserts and removes elements by
+ * random indices. Every invocation inserts and removes a single element, so list size stays equal to {@code size}
+ * parameter during the whole measurement. {@code get} shows the price of indirection for random reads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class InsertHeavyBenchmark {
+    private static final int INDICES_MASK = 1023;
+
+    private static final int CURSOR_DRIFT = 8;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Integer element;
+
+    private int[] randomIndices;
+
+    private int[] cursorSteps;
+
+    private int randomIndex;
+
+    private int cursor;
+
+    private ArrayList<Integer> arrayList;
+
+    private GapBufferList<Integer> gapBufferList;
+
+    private ChunkedList<Integer> chunkedList;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        element = 42;
+
+        randomIndices = new int[INDICES_MASK + 1];
+        cursorSteps = new int[INDICES_MASK + 1];
+        for (int i = 0; i < randomIndices.length; ++i) {
+            randomIndices[i] = ThreadLocalRandom.current().nextInt(size);
+            cursorSteps[i] = ThreadLocalRandom.current().nextInt(-CURSOR_DRIFT, CURSOR_DRIFT + 1);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        arrayList = new ArrayList<>();
+        gapBufferList = new GapBufferList<>();
+        chunkedList = new ChunkedList<>();
+        for (int i = 0; i < size; ++i) {
+            arrayList.add(element);
+            gapBufferList.add(element);
+            chunkedList.add(element);
+        }
+        cursor = size / 2;
+    }
+
+    @Benchmark
+    public Integer cursorEdit_arrayList() {
+        final int index = nextCursor();
+        arrayList.add(element, index);
+        return arrayList.remove(index + 1);
+    }
+
+    @Benchmark
+    public Integer cursorEdit_gapBufferList() {
+        final int index = nextCursor();
+        gapBufferList.add(element, index);
+        return gapBufferList.remove(index + 1);
+    }
+
+    @Benchmark
+    public Integer cursorEdit_chunkedList() {
+        final int index = nextCursor();
+        chunkedList.add(element, index);
+        return chunkedList.remove(index + 1);
+    }
+
+    @Benchmark
+    public Integer randomEdit_arrayList() {
+        arrayList.add(element, nextRandomIndex());
+        return arrayList.remove(nextRandomIndex());
+    }
+
+    @Benchmark
+    public Integer randomEdit_gapBufferList() {
+        gapBufferList.add(element, nextRandomIndex());
+        return gapBufferList.remove(nextRandomIndex());
+    }
+
+    @Benchmark
+    public Integer randomEdit_chunkedList() {
+        chunkedList.add(element, nextRandomIndex());
+        return chunkedList.remove(nextRandomIndex());
+    }
+
+    @Benchmark
+    public Integer get_arrayList() {
+        return arrayList.get(nextRandomIndex());
+    }
+
+    @Benchmark
+    public Integer get_gapBufferList() {
+        return gapBufferList.get(nextRandomIndex());
+    }
+
+    @Benchmark
+    public Integer get_chunkedList() {
+        return chunkedList.get(nextRandomIndex());
+    }
+
+    private int nextCursor() {
+        randomIndex = (randomIndex + 1) & INDICES_MASK;
+        cursor = Math.floorMod(cursor + cursorSteps[randomIndex], size);
+        return cursor;
+    }
+
+    private int nextRandomIndex() {
+        randomIndex = (randomIndex + 1) & INDICES_MASK;
+        return randomIndices[randomIndex];
+    }
+}
@@ -0,0 +1,84 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * {@link ListView} windows compared against windows copied element by element into new {@link ArrayList}.
+ * <p>
+ * Every invocation takes the window of {@code window} elements from the middle of the list and sums it up. Run with
+ * {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ListViewBenchmark {
+    private static final int SIZE = 1_000_000;
+
+    @Param({"16", "1024", "65536"})
+    private int window;
+
+    private ArrayList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; ++i) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public long copiedWindow() {
+        final int from = (SIZE - window) / 2;
+        final ArrayList<Integer> copy = new ArrayList<>();
+        for (int i = from; i < from + window; ++i) {
+            copy.add(list.get(i));
+        }
+
+        long sum = 0;
+        for (int i = 0; i < copy.size(); ++i) {
+            sum += copy.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long viewWindow() {
+        final int from = (SIZE - window) / 2;
+        final ListView<Integer> view = list.subList(from, from + window);
+
+        long sum = 0;
+        for (int i = 0; i < view.size(); ++i) {
+            sum += view.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long reversedStridedViewWindow() {
+        final int from = (SIZE - window) / 2;
+        final ListView<Integer> view = list.subList(from, from + window * 2).reversed().strided(2);
+
+        long sum = 0;
+        for (int i = 0; i < view.size(); ++i) {
+            sum += view.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,108 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Vector scan kernels compared against scalar ones over {@code size} elements.
+ * <p>
+ * Build with {@code mvn -P jmh,vector package}, otherwise both {@code kernels} parameter values run scalar kernels.
+ * Searched element is absent, so {@code indexOf} scans every element, as {@code equals} does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class ScanKernelsBenchmark {
+    @Param({"1024", "1048576"})
+    private int size;
+
+    @Param({"scalar", "vector"})
+    private String kernels;
+
+    private ScanKernels scanKernels;
+
+    private int[] ints;
+
+    private int[] otherInts;
+
+    private long[] longs;
+
+    private double[] doubles;
+
+    @Setup
+    public void setUp() {
+        scanKernels = "scalar".equals(kernels) ? new ScalarScanKernels() : ScanKernels.load();
+
+        final Random random = new Random(5);
+        ints = new int[size];
+        longs = new long[size];
+        doubles = new double[size];
+        for (int i = 0; i < size; ++i) {
+            ints[i] = random.nextInt(1 << 20);
+            longs[i] = random.nextLong();
+            doubles[i] = random.nextDouble();
+        }
+        otherInts = ints.clone();
+    }
+
+    @Benchmark
+    public int intIndexOf() {
+        return scanKernels.indexOf(ints, size, -1);
+    }
+
+    @Benchmark
+    public int doubleIndexOf() {
+        return scanKernels.indexOf(doubles, size, -1.0);
+    }
+
+    @Benchmark
+    public long intSum() {
+        return scanKernels.sum(ints, size);
+    }
+
+    @Benchmark
+    public double doubleSum() {
+        return scanKernels.sum(doubles, size);
+    }
+
+    @Benchmark
+    public int intMax() {
+        return scanKernels.max(ints, size);
+    }
+
+    @Benchmark
+    public boolean intEquals() {
+        return scanKernels.equals(ints, otherInts, size);
+    }
+
+    @Benchmark
+    public int intHashCode() {
+        return scanKernels.hashCode(ints, size);
+    }
+
+    @Benchmark
+    public int longHashCode() {
+        return scanKernels.hashCode(longs, size);
+    }
+
+    @Benchmark
+    public int doubleHashCode() {
+        return scanKernels.hashCode(doubles, size);
+    }
+}
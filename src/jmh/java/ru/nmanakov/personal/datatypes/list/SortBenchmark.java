@@ -0,0 +1,148 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * In-place sorts of {@link ArrayList} and primitive lists compared against sorting {@link java.util.ArrayList} and
+ * plain arrays.
+ * <p>
+ * Lists are refilled with the same random elements before every invocation, so every benchmark sorts unsorted
+ * input. {@code intSort} / {@code longSort} use radix sort, {@code jdkIntSort} / {@code jdkLongSort} show dual-pivot
+ * quicksort of the same elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class SortBenchmark {
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private Integer[] elements; // pre-boxed elements, so boxing is not measured
+
+    private int[] intElements;
+
+    private long[] longElements;
+
+    private ArrayList<Integer> list;
+
+    private List<Integer> jdkList;
+
+    private IntArrayList intList;
+
+    private LongArrayList longList;
+
+    private int[] intArray;
+
+    private long[] longArray;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        elements = new Integer[size];
+        intElements = new int[size];
+        longElements = new long[size];
+        for (int i = 0; i < size; ++i) {
+            intElements[i] = ThreadLocalRandom.current().nextInt();
+            longElements[i] = ThreadLocalRandom.current().nextLong();
+            elements[i] = intElements[i];
+        }
+
+        list = new ArrayList<>(size);
+        jdkList = new java.util.ArrayList<>(size);
+        intList = new IntArrayList(size);
+        longList = new LongArrayList(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        list.removeRange(0, list.size());
+        list.addAll(elements);
+        jdkList.clear();
+        jdkList.addAll(Arrays.asList(elements));
+
+        while (!intList.isEmpty()) {
+            intList.remove();
+            longList.remove();
+        }
+        for (int i = 0; i < size; ++i) {
+            intList.add(intElements[i]);
+            longList.add(longElements[i]);
+        }
+        intArray = intElements.clone();
+        longArray = longElements.clone();
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sort() {
+        list.sort(Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> parallelSort() {
+        list.parallelSort(Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> jdkSort() {
+        jdkList.sort(Comparator.naturalOrder());
+        return jdkList;
+    }
+
+    @Benchmark
+    public IntArrayList intSort() {
+        intList.sort();
+        return intList;
+    }
+
+    @Benchmark
+    public IntArrayList intParallelSort() {
+        intList.parallelSort();
+        return intList;
+    }
+
+    @Benchmark
+    public int[] jdkIntSort() {
+        Arrays.sort(intArray);
+        return intArray;
+    }
+
+    @Benchmark
+    public LongArrayList longSort() {
+        longList.sort();
+        return longList;
+    }
+
+    @Benchmark
+    public LongArrayList longParallelSort() {
+        longList.parallelSort();
+        return longList;
+    }
+
+    @Benchmark
+    public long[] jdkLongSort() {
+        Arrays.sort(longArray);
+        return longArray;
+    }
+}
@@ -0,0 +1,117 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * {@link SortedList} compared against {@link ArrayList} kept sorted by binary search and insertion by index.
+ * <p>
+ * {@code insertAndRemove} benchmarks insert random element and remove the first one afterwards, which models a
+ * sliding time-series window of {@code size} elements. {@code rangeSum} benchmarks sum up {@code RANGE} elements
+ * following a random one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SortedListBenchmark {
+    private static final int ELEMENTS_MASK = 1023;
+
+    private static final int RANGE = 64;
+
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Integer[] elements; // pre-boxed random elements, so boxing is not measured
+
+    private int elementIndex;
+
+    private SortedList<Integer> sortedList;
+
+    private ArrayList<Integer> arrayList;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        elements = new Integer[ELEMENTS_MASK + 1];
+        for (int i = 0; i < elements.length; ++i) {
+            elements[i] = ThreadLocalRandom.current().nextInt(size * 4);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        sortedList = new SortedList<>(ORDER);
+        arrayList = new ArrayList<>(size + 1);
+        for (int i = 0; i < size; ++i) {
+            final Integer element = ThreadLocalRandom.current().nextInt(size * 4);
+            sortedList.add(element);
+            arrayList.add(element);
+        }
+        arrayList.sort(ORDER);
+    }
+
+    @Benchmark
+    public Integer sortedListInsertAndRemove() {
+        sortedList.add(nextElement());
+        return sortedList.remove(0);
+    }
+
+    @Benchmark
+    public Integer arrayListInsertAndRemove() {
+        final Integer element = nextElement();
+        final int position = arrayList.binarySearch(element, ORDER);
+        arrayList.add(element, position >= 0 ? position : -position - 1);
+        return arrayList.remove(0);
+    }
+
+    @Benchmark
+    public long sortedListRangeSum() {
+        final Integer from = nextElement();
+        long sum = 0;
+        int count = 0;
+        for (final Integer element : sortedList.subRange(from, Integer.MAX_VALUE)) {
+            sum += element;
+            if (++count == RANGE) {
+                break;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long arrayListRangeSum() {
+        final Integer from = nextElement();
+        final int position = arrayList.binarySearch(from, ORDER);
+        final int start = position >= 0 ? position : -position - 1;
+        final int end = Math.min(arrayList.size(), start + RANGE);
+        long sum = 0;
+        for (int i = start; i < end; ++i) {
+            sum += arrayList.get(i);
+        }
+        return sum;
+    }
+
+    private Integer nextElement() {
+        elementIndex = (elementIndex + 1) & ELEMENTS_MASK;
+        return elements[elementIndex];
+    }
+}
@@ -0,0 +1,73 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Streaming {@code writeTo} compared against {@code toString} written to the same {@link Writer}, which discards
+ * written characters.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation: {@code toString} builds the whole representation, while
+ * {@code writeTo} reuses bounded chunk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class WriteToBenchmark {
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private ArrayList<Integer> list;
+
+    private IntArrayList intList;
+
+    private Writer writer;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>(size);
+        intList = new IntArrayList(size);
+        for (int i = 0; i < size; ++i) {
+            list.add(i);
+            intList.add(i);
+        }
+        writer = Writer.nullWriter();
+    }
+
+    @Benchmark
+    public void listToString() throws IOException {
+        writer.write(list.toString());
+    }
+
+    @Benchmark
+    public void listWriteTo() throws IOException {
+        list.writeTo(writer);
+    }
+
+    @Benchmark
+    public void intListToString() throws IOException {
+        writer.write(intList.toString());
+    }
+
+    @Benchmark
+    public void intListWriteTo() throws IOException {
+        intList.writeTo(writer);
+    }
+}
@@ -0,0 +1,90 @@
+package ru.nmanakov.personal.datatypes.set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.nmanakov.personal.datatypes.list.ArrayList;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * {@link CompressedIntSet} compared against {@link ArrayList} of boxed IDs and {@link BitSet}.
+ * <p>
+ * Both sets hold {@code size} random IDs out of {@code 16 * size}. Membership is checked for a random ID, bulk
+ * operations intersect two such sets.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CompressedIntSetBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ArrayList<Integer> list;
+
+    private BitSet firstBits;
+
+    private BitSet secondBits;
+
+    private CompressedIntSet first;
+
+    private CompressedIntSet second;
+
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(17);
+        list = new ArrayList<>(size);
+        firstBits = new BitSet();
+        secondBits = new BitSet();
+        first = new CompressedIntSet();
+        second = new CompressedIntSet();
+        for (int i = 0; i < size; ++i) {
+            final int id = random.nextInt(size * 16);
+            list.add(id);
+            firstBits.set(id);
+            first.add(id);
+
+            final int other = random.nextInt(size * 16);
+            secondBits.set(other);
+            second.add(other);
+        }
+    }
+
+    @Benchmark
+    public boolean listContains() {
+        return list.indexOf(random.nextInt(size * 16)) != -1;
+    }
+
+    @Benchmark
+    public boolean compressedContains() {
+        return first.contains(random.nextInt(size * 16));
+    }
+
+    @Benchmark
+    public int bitSetAnd() {
+        final BitSet result = (BitSet) firstBits.clone();
+        result.and(secondBits);
+        return result.cardinality();
+    }
+
+    @Benchmark
+    public long compressedAnd() {
+        return first.and(second).cardinality();
+    }
+}
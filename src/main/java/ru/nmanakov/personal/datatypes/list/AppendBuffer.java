@@ -0,0 +1,297 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free multi-producer/single-consumer append buffer, which is drained into {@link ArrayList} in batches.
+ * <p>
+ * Every producer thread appends to its own segment, so producers never contend with each other: an addition is a plain
+ * array store followed by an ordered store of the segment counter, which publishes the element to the consumer.
+ * Segment is a chain of fixed size blocks, so buffer is unbounded and elements are never copied within it. The only
+ * synchronization between producers is a single CAS on the first addition of a thread, which registers its segment.
+ * <p>
+ * Consumer transfers everything published so far with {@link #drainTo(ArrayList)}, growing target list at most once
+ * and copying whole blocks. Elements added by the same thread are drained in their addition order, elements of
+ * different threads are not ordered. Segments of terminated threads are dropped once they are drained.
+ * <p>
+ * Producer fields of a segment are padded from consumer ones and from neighbouring segments, so that producer stores
+ * don't invalidate cache lines read by the consumer or by other producers (false sharing).
+ */
+public final class AppendBuffer<T> {
+    private static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private static final Segment[] EMPTY_SEGMENTS = new Segment[0];
+
+    private final int blockSize; // number of element(-s) per block
+
+    private final ThreadLocal<Segment> localSegment; // segment of the current producer thread
+
+    private final AtomicReference<Segment[]> segments; // copy-on-write array of registered segments
+
+    private final AtomicBoolean draining; // whether consumer is draining the buffer now
+
+    /**
+     * Creates empty buffer with default block size.
+     */
+    public AppendBuffer() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates empty buffer, segments of which are chains of {@code blockSize} element(-s) blocks.
+     *
+     * @param blockSize number of element(-s) per block, must be positive
+     *
+     * @throws IllegalArgumentException if {@code blockSize} is not positive
+     */
+    public AppendBuffer(final int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException(String.format("Block size %d should be positive", blockSize));
+        }
+
+        this.blockSize = blockSize;
+        this.localSegment = new ThreadLocal<>();
+        this.segments = new AtomicReference<>(EMPTY_SEGMENTS);
+        this.draining = new AtomicBoolean();
+    }
+
+    /**
+     * Adds {@code element} to the buffer. May be called by any number of threads concurrently.
+     *
+     * @param element element to add
+     */
+    public void add(final T element) {
+        Segment segment = localSegment.get();
+        if (segment == null) {
+            segment = register();
+        }
+        segment.add(element);
+    }
+
+    /**
+     * Transfers all element(-s) published so far to the end of {@code list}. Element(-s) holder of the list grows at
+     * most once. Must not be called concurrently, as buffer has a single consumer.
+     *
+     * @param list list to transfer element(-s) to
+     *
+     * @return number of transferred element(-s)
+     *
+     * @throws IllegalStateException if buffer is being drained by another thread
+     */
+    public int drainTo(final ArrayList<? super T> list) {
+        if (!draining.compareAndSet(false, true)) {
+            throw new IllegalStateException("Buffer is being drained by another thread");
+        }
+
+        try {
+            final Segment[] snapshot = segments.get();
+
+            // fix number of element(-s) to transfer, so that the list grows once
+            long total = 0;
+            for (final Segment segment : snapshot) {
+                segment.pending = segment.published() - segment.consumed;
+                total += segment.pending;
+            }
+            int remaining = (int) Math.min(total, GrowthPolicy.MAX_CAPACITY - list.size());
+            list.ensureCapacity(list.size() + remaining);
+
+            final int count = remaining;
+            boolean terminated = false;
+            for (final Segment segment : snapshot) {
+                final int segmentCount = (int) Math.min(segment.pending, remaining);
+                segment.drainTo(list, segmentCount);
+                remaining -= segmentCount;
+                terminated |= segment.isTerminated();
+            }
+            if (terminated) {
+                removeTerminated();
+            }
+
+            return count;
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    /**
+     * Number of element(-s), which have been added but not drained yet. It's exact if called by consumer while
+     * producers are idle, otherwise it's an estimate.
+     *
+     * @return buffered element(-s) number
+     */
+    public long size() {
+        long size = 0;
+        for (final Segment segment : segments.get()) {
+            size += segment.published() - segment.consumed;
+        }
+        return size;
+    }
+
+    /**
+     * Whether buffer holds no element(-s). It's an estimate the same way {@link #size()} is.
+     *
+     * @return Whether buffer is empty or not.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Number of registered producer segments.
+     *
+     * @return segments number
+     */
+    int segmentCount() {
+        return segments.get().length;
+    }
+
+    private Segment register() {
+        final Segment segment = new Segment(Thread.currentThread(), blockSize);
+        Segment[] current;
+        Segment[] updated;
+        do {
+            current = segments.get();
+            updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = segment;
+        } while (!segments.compareAndSet(current, updated));
+
+        localSegment.set(segment);
+        return segment;
+    }
+
+    private void removeTerminated() {
+        Segment[] current;
+        Segment[] updated;
+        do {
+            current = segments.get();
+            updated = new Segment[current.length];
+            int count = 0;
+            for (final Segment segment : current) {
+                if (!segment.isTerminated()) {
+                    updated[count++] = segment;
+                }
+            }
+            updated = Arrays.copyOf(updated, count);
+        } while (!segments.compareAndSet(current, updated));
+    }
+
+    /**
+     * Fixed size part of a segment. Producer links next block before publishing its first element.
+     */
+    private static final class Block {
+        private final Object[] elements; // element(-s) holder
+
+        private Block next; // next block, {@code null} - if it's the last one
+
+        private Block(final int size) {
+            this.elements = new Object[size];
+        }
+    }
+
+    /**
+     * Padding, which separates producer fields from the preceding object.
+     */
+    @SuppressWarnings("unused")
+    private abstract static class ProducerPadding {
+        private long p00, p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    /**
+     * Fields written by producer. HotSpot lays superclass fields out before subclass ones, so padding classes keep
+     * them apart from consumer fields.
+     */
+    private abstract static class ProducerFields extends ProducerPadding {
+        protected static final AtomicLongFieldUpdater<ProducerFields> PUBLISHED =
+                AtomicLongFieldUpdater.newUpdater(ProducerFields.class, "published");
+
+        protected Block tail; // block producer appends to
+
+        protected int tailIndex; // index of the next element within tail block
+
+        protected volatile long published; // number of element(-s) added and published to consumer
+    }
+
+    /**
+     * Padding, which separates producer fields from consumer ones.
+     */
+    @SuppressWarnings("unused")
+    private abstract static class ConsumerPadding extends ProducerFields {
+        private long p10, p11, p12, p13, p14, p15, p16, p17;
+    }
+
+    /**
+     * Fields written by consumer.
+     */
+    private abstract static class ConsumerFields extends ConsumerPadding {
+        protected static final AtomicLongFieldUpdater<ConsumerFields> CONSUMED =
+                AtomicLongFieldUpdater.newUpdater(ConsumerFields.class, "consumed");
+
+        protected Block head; // block consumer drains from
+
+        protected int headIndex; // index of the next element to drain within head block
+
+        protected long pending; // number of element(-s) to drain by the current drain operation
+
+        protected volatile long consumed; // number of drained element(-s)
+    }
+
+    /**
+     * Single-producer/single-consumer chain of blocks owned by one producer thread.
+     */
+    @SuppressWarnings("unused")
+    private static final class Segment extends ConsumerFields {
+        private final Thread owner; // producer thread
+
+        private final int blockSize; // number of element(-s) per block
+
+        private long p20, p21, p22, p23, p24, p25, p26, p27; // padding from the following object
+
+        private Segment(final Thread owner, final int blockSize) {
+            this.owner = owner;
+            this.blockSize = blockSize;
+            this.tail = new Block(blockSize);
+            this.head = tail;
+        }
+
+        private void add(final Object element) {
+            if (tailIndex == blockSize) {
+                final Block block = new Block(blockSize);
+                tail.next = block;
+                tail = block;
+                tailIndex = 0;
+            }
+            tail.elements[tailIndex++] = element;
+            // ordered store publishes both the element and the block link
+            PUBLISHED.lazySet(this, published + 1);
+        }
+
+        private long published() {
+            return published;
+        }
+
+        private void drainTo(final ArrayList<?> list, final int count) {
+            int remaining = count;
+            while (remaining != 0) {
+                if (headIndex == blockSize) {
+                    head = head.next;
+                    headIndex = 0;
+                }
+                final int length = Math.min(remaining, blockSize - headIndex);
+                list.append(head.elements, headIndex, length);
+                // drained element(-s) should not be retained by the buffer
+                Arrays.fill(head.elements, headIndex, headIndex + length, null);
+                headIndex += length;
+                remaining -= length;
+            }
+            CONSUMED.lazySet(this, consumed + count);
+        }
+
+        private boolean isTerminated() {
+            // terminated thread publishes nothing more, so its segment is dropped once it's drained
+            return !owner.isAlive() && published() == consumed;
+        }
+    }
+}
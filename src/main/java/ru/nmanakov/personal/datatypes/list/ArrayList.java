@@ -1,24 +1,56 @@
 package ru.nmanakov.personal.datatypes.list;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Array list implementation.
  */
-public final class ArrayList<T> implements Cloneable {
+public final class ArrayList<T> implements Iterable<T>, Cloneable {
     private static final int DEFAULT_INITIAL_CAPACITY = 15;
 
+    private static final int HASH_PRIME = 31;
+
+    private static final int HASH_PRIME_INVERSE = 0xBDEF7BDF; // HASH_PRIME * HASH_PRIME_INVERSE == 1 (mod 2^32)
+
     private Object[] array; // element(-s) holder
 
     private int capacity; // maximum capacity for element(-s) holder
 
     private int size; // current number of element's in an list
 
+    private int modCount; // number of structural modifications, used by iterators to fail fast
+
+    private final GrowthPolicy growthPolicy; // element(-s) holder growth policy
+
+    private ElementIndex elementIndex; // element(-s) hash index, {@code null} - if list is not indexed
+
+    private boolean hashCached; // whether list caches its hash code
+
+    private boolean hashValid; // whether cached hash code matches list elements
+
+    private int hash; // cached hash code
+
+    private ListListener listener; // element(-s) holder events listener, {@code null} - if list is not instrumented
+
+    private SlackReport slackReport; // unused capacity reported to listener, {@code null} - if list is not instrumented
+
     /**
      * Creates and initializes instance of {@code ArrayList} with capacity as default one.
      */
     public ArrayList() {
-        this.array = new Object[DEFAULT_INITIAL_CAPACITY];
-        this.capacity = DEFAULT_INITIAL_CAPACITY;
-        this.size = 0;
+        this(DEFAULT_INITIAL_CAPACITY);
     }
 
     /**
@@ -27,13 +59,10 @@ public final class ArrayList<T> implements Cloneable {
      * @param elements initial elements
      */
     public ArrayList(final T... elements) {
-        this.array = new Object[elements.length * 2];
-        //noinspection ManualArrayCopy
-        for (int i = 0; i < elements.length; ++i) {
-            this.array[i] = elements[i];
-        }
+        this.array = Arrays.copyOf(elements, elements.length * 2, Object[].class);
         this.capacity = elements.length * 2;
         this.size = elements.length;
+        this.growthPolicy = GrowthPolicy.DEFAULT;
     }
 
     /**
@@ -42,9 +71,38 @@ public final class ArrayList<T> implements Cloneable {
      * @param initialCapacity initial capacity
      */
     public ArrayList(final int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Creates empty array list with initial capacity equals to {@code initialCapacity}, which grows according to
+     * {@code growthPolicy}.
+     *
+     * @param initialCapacity initial capacity
+     * @param growthPolicy    element(-s) holder growth policy
+     */
+    public ArrayList(final int initialCapacity, final GrowthPolicy growthPolicy) {
         this.array = new Object[initialCapacity];
         this.capacity = initialCapacity;
         this.size = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Creates list of {@code elements}, which adopts the array as its element(-s) holder without copying. The array
+     * must not be accessed by the caller afterwards.
+     *
+     * @param elements list elements
+     * @param <T>      type of list elements
+     *
+     * @return list of provided elements
+     */
+    static <T> ArrayList<T> adopt(final Object[] elements) {
+        final ArrayList<T> list = new ArrayList<>(0);
+        list.array = elements;
+        list.capacity = elements.length;
+        list.size = elements.length;
+        return list;
     }
 
     /**
@@ -89,10 +147,17 @@ public final class ArrayList<T> implements Cloneable {
         final int index = size;
 
         if (size == capacity) {
-            ensureCapacity();
+            grow(size + 1);
         }
         array[index] = element;
         size++;
+        modCount++;
+        if (elementIndex != null) {
+            elementIndex.added(element, index);
+        }
+        if (hashValid) {
+            hash = hash * HASH_PRIME + Objects.hashCode(element);
+        }
 
         return (T) array[index];
     }
@@ -111,20 +176,102 @@ public final class ArrayList<T> implements Cloneable {
         }
 
         if (size == capacity) {
-            ensureCapacity();
+            grow(size + 1);
         }
         if (index != size) {
-            //noinspection ManualArrayCopy
-            for (int i = size; i > index; --i) {
-                array[i] = array[i - 1];
+            System.arraycopy(array, index, array, index + 1, size - index);
+            if (listener != null) {
+                listener.shifted(size - index);
             }
         }
         array[index] = element;
         size++;
+        modCount++;
+        if (elementIndex != null) {
+            elementIndex.inserted(element, index);
+        }
+        if (hashValid) {
+            if (index == size - 1) {
+                hash = hash * HASH_PRIME + Objects.hashCode(element);
+            } else {
+                hashValid = false;
+            }
+        }
 
         return (T) array[index];
     }
 
+    /**
+     * Adds all {@code elements} to the end of the list, growing element(-s) holder at most once.
+     *
+     * @param elements elements to add
+     */
+    public void addAll(final T[] elements) {
+        insert(size, elements, 0, elements.length);
+    }
+
+    /**
+     * Adds all {@code elements} to the end of the list, growing element(-s) holder at most once.
+     *
+     * @param elements list of elements to add
+     */
+    public void addAll(final ArrayList<? extends T> elements) {
+        insert(size, elements.array, 0, elements.size);
+    }
+
+    /**
+     * Inserts all {@code elements} to the list starting from {@code index}. Element(-s) holder grows at most once
+     * and trailing element(-s) are shifted only once.
+     *
+     * @param index    index to insert first element by
+     * @param elements elements to insert
+     */
+    public void insertAll(final int index, final T[] elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+        insert(index, elements, 0, elements.length);
+    }
+
+    /**
+     * Inserts all {@code elements} to the list starting from {@code index}. Element(-s) holder grows at most once
+     * and trailing element(-s) are shifted only once.
+     *
+     * @param index    index to insert first element by
+     * @param elements list of elements to insert
+     */
+    public void insertAll(final int index, final ArrayList<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+        insert(index, elements.array, 0, elements.size);
+    }
+
+    /**
+     * Replaces list element by {@code index} with {@code element}. Replacement is not a structural modification.
+     *
+     * @param index   index of element to replace
+     * @param element element to store
+     *
+     * @return replaced element
+     */
+    @SuppressWarnings("unchecked")
+    public T set(final int index, final T element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        final T replacedElement = (T) array[index];
+        array[index] = element;
+        hashValid &= Objects.equals(replacedElement, element);
+        if (elementIndex != null) {
+            elementIndex.removed(replacedElement, index);
+            elementIndex.added(element, index);
+        }
+
+        return replacedElement;
+    }
+
     /**
      * Removes last element from list.
      *
@@ -138,6 +285,13 @@ public final class ArrayList<T> implements Cloneable {
             removedElement = (T) array[size - 1];
             array[size - 1] = null;
             size--;
+            modCount++;
+            if (elementIndex != null) {
+                elementIndex.removed(removedElement, size);
+            }
+            if (hashValid) {
+                hash = (hash - Objects.hashCode(removedElement)) * HASH_PRIME_INVERSE;
+            }
         }
 
         return removedElement;
@@ -156,19 +310,7 @@ public final class ArrayList<T> implements Cloneable {
             throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
         }
 
-        //noinspection unchecked
-        final T removedElement = (T) array[index];
-        array[index] = null;
-        if (index < size - 1) {
-            //noinspection ManualArrayCopy
-            for (int i = index; i < size - 1; ++i) {
-                array[i] = array[i + 1];
-            }
-        }
-        array[size - 1] = null;
-        size--;
-
-        return removedElement;
+        return removeAt(index);
     }
 
     /**
@@ -179,37 +321,141 @@ public final class ArrayList<T> implements Cloneable {
      * @return removed element
      */
     public T remove(final T element) {
-        T removedElement = null;
+        final int index = indexOf(element);
 
-        for (int i = 0; i < size; ++i) {
-            if (array[i].equals(element)) {
-                //noinspection unchecked
-                removedElement = (T) array[i];
-                if (i < size - 1) {
-                    //noinspection ManualArrayCopy
-                    for (int k = i; k < size - 1; ++k) {
-                        array[k] = array[k + 1];
+        return index != -1 ? removeAt(index) : null;
+    }
+
+    /**
+     * Removes elements with indices from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+     *
+     * @param fromIndex index of first element to remove
+     * @param toIndex   index after last element to remove
+     */
+    public void removeRange(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    String.format("List range [%d, %d) is out of range", fromIndex, toIndex));
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        if (elementIndex != null) {
+            for (int i = fromIndex; i < toIndex; ++i) {
+                elementIndex.removed(array[i], i);
+            }
+            if (toIndex != size) {
+                elementIndex.shifted(toIndex, fromIndex - toIndex);
+            }
+        }
+
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        if (listener != null && toIndex != size) {
+            listener.shifted(size - toIndex);
+        }
+        final int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(array, newSize, size, null);
+        size = newSize;
+        modCount++;
+        hashValid = false;
+    }
+
+    /**
+     * Removes all elements from the list. Capacity of the list is kept, so it could be refilled without growth.
+     */
+    public void clear() {
+        Arrays.fill(array, 0, size, null);
+        size = 0;
+        modCount++;
+        hash = 1;
+        hashValid = hashCached;
+        if (elementIndex != null) {
+            elementIndex = new ElementIndex(array, 0);
+        }
+    }
+
+    /**
+     * Removes all elements matching {@code filter}. List is compacted in a single pass, so each remaining element
+     * is moved at most once.
+     *
+     * @param filter predicate returning {@code true} for elements to remove
+     *
+     * @return number of removed elements
+     */
+    @SuppressWarnings("unchecked")
+    public int removeIf(final Predicate<? super T> filter) {
+        final int initialSize = size;
+        int firstRemoved = -1;
+        int retained = 0;
+        int i = 0;
+        try {
+            for (; i < size; ++i) {
+                final T element = (T) array[i];
+                if (!filter.test(element)) {
+                    array[retained++] = element;
+                } else {
+                    if (firstRemoved == -1) {
+                        firstRemoved = i;
+                    }
+                    if (elementIndex != null) {
+                        elementIndex.removed(element, i);
                     }
-                    array[size - 1] = null;
-                    size--;
                 }
-                break;
+            }
+        } finally {
+            // keeps not tested elements if filter has thrown an exception
+            if (i < size) {
+                System.arraycopy(array, i, array, retained, size - i);
+                retained += size - i;
+            }
+            Arrays.fill(array, retained, size, null);
+            if (retained != size) {
+                if (listener != null && retained != firstRemoved) {
+                    // every element retained after the first removed one has been moved
+                    listener.shifted(retained - firstRemoved);
+                }
+                size = retained;
+                modCount++;
+                hashValid = false;
+                if (elementIndex != null) {
+                    elementIndex.reordered();
+                }
             }
         }
 
-        return removedElement;
+        return initialSize - size;
+    }
+
+    /**
+     * Retains only elements which are contained in {@code elements}. List is compacted in a single pass. Every
+     * membership check costs O(1) if {@code elements} list is indexed.
+     *
+     * @param elements elements to retain
+     *
+     * @return number of removed elements
+     */
+    public int retainAll(final ArrayList<T> elements) {
+        return removeIf(element -> !elements.contains(element));
     }
 
     /**
      * Gets index of provided {@code element}. If element's not present in the collection then return <b>-1</b>.
+     * <p>
+     * Indexed list answers in O(1) expected time, positions of the element are brought up to date with shifts made
+     * since its previous lookup first.
      *
      * @param element element's index to find
      *
      * @return element's index
      */
     public int indexOf(final T element) {
+        if (elementIndex != null) {
+            return elementIndex.indexOf(element, array, size);
+        }
+
         for (int i = 0; i < size; ++i) {
-            if (array[i].equals(element)) {
+            if (Objects.equals(array[i], element)) {
                 return i;
             }
         }
@@ -218,15 +464,19 @@ public final class ArrayList<T> implements Cloneable {
     }
 
     /**
-     * Whether list contains provided {@code element}.
+     * Whether list contains provided {@code element}. Indexed list answers in O(1) expected time.
      *
      * @param element element to check inclusion against
      *
      * @return wheter list contains provided element or not
      */
     public boolean contains(final T element) {
+        if (elementIndex != null) {
+            return elementIndex.contains(element);
+        }
+
         for (int i = 0; i < size; ++i) {
-            if (array[i].equals(element)) {
+            if (Objects.equals(array[i], element)) {
                 return true;
             }
         }
@@ -234,6 +484,237 @@ public final class ArrayList<T> implements Cloneable {
         return false;
     }
 
+    /**
+     * Sorts list elements in place according to {@code comparator}. Sort is stable and runs directly on the
+     * element(-s) holder, without copying elements out of the list.
+     *
+     * @param comparator elements comparator, {@code null} - if elements' natural ordering should be used
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(final Comparator<? super T> comparator) {
+        Arrays.sort(array, 0, size, (Comparator<Object>) comparator);
+        sorted();
+    }
+
+    /**
+     * Sorts list elements in place according to {@code comparator}, splitting the work between all available
+     * processors. Sort is stable, small lists are sorted sequentially.
+     *
+     * @param comparator elements comparator, {@code null} - if elements' natural ordering should be used
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelSort(final Comparator<? super T> comparator) {
+        Arrays.parallelSort(array, 0, size, (Comparator<Object>) comparator);
+        sorted();
+    }
+
+    /**
+     * Searches list sorted according to {@code comparator} for {@code element}. If list is not sorted then result
+     * is undefined.
+     *
+     * @param element    element to search for
+     * @param comparator elements comparator, {@code null} - if elements' natural ordering should be used
+     *
+     * @return element's index if it's present in the list, otherwise <b>(-(insertion point) - 1)</b>
+     */
+    @SuppressWarnings("unchecked")
+    public int binarySearch(final T element, final Comparator<? super T> comparator) {
+        return Arrays.binarySearch(array, 0, size, element, (Comparator<Object>) comparator);
+    }
+
+    /**
+     * Switches indexed mode on or off. Indexed list keeps element(-s) hash index in sync with every modification,
+     * which makes {@link #contains(Object)} O(1) and {@link #indexOf(Object)} / {@link #remove(Object)} lookups
+     * O(1) expected, at the cost of index maintenance and memory. Elements of indexed list must not change their
+     * {@code hashCode} / {@code equals} while they are in the list.
+     *
+     * @param indexed whether list should be indexed
+     */
+    public void setIndexed(final boolean indexed) {
+        if (indexed && elementIndex == null) {
+            elementIndex = new ElementIndex(array, size);
+        } else if (!indexed) {
+            elementIndex = null;
+        }
+    }
+
+    /**
+     * Whether list is in indexed mode.
+     *
+     * @return whether list is indexed or not
+     */
+    public boolean isIndexed() {
+        return elementIndex != null;
+    }
+
+    /**
+     * Switches hash code caching on or off. List caching its hash code computes it once, keeps it updated by
+     * appends and removals from the end of the list and recomputes it on the next {@link #hashCode()} call after
+     * other modifications. Cached hash codes let {@link #equals(Object)} reject unequal lists without comparing
+     * their elements. Elements of such list must not change their {@code hashCode} while they are in the list.
+     *
+     * @param cached whether list should cache its hash code
+     */
+    public void setHashCached(final boolean cached) {
+        hashCached = cached;
+        hashValid = false;
+    }
+
+    /**
+     * Whether list caches its hash code.
+     *
+     * @return whether hash code is cached or not
+     */
+    public boolean isHashCached() {
+        return hashCached;
+    }
+
+    /**
+     * Installs {@code listener} of element(-s) holder growths, trims and element shifts, e.g. {@link ListMetrics}.
+     * List without listener checks a single field per event, so instrumentation costs nothing when it's off. Slack
+     * reported to the listener is retracted once it's uninstalled or the list is garbage collected.
+     *
+     * @param listener listener to install, {@code null} - to uninstall current one
+     */
+    public void setListener(final ListListener listener) {
+        if (slackReport != null) {
+            slackReport.stop();
+        }
+        this.listener = listener;
+        this.slackReport = listener != null ? SlackReport.start(this, listener) : null;
+    }
+
+    /**
+     * Listener installed by {@link #setListener(ListListener)}.
+     *
+     * @return installed listener, {@code null} - if there's none
+     */
+    public ListListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Ensures that list is able to hold at least {@code minCapacity} element(-s) without further growth.
+     *
+     * @param minCapacity minimum required capacity
+     */
+    public void ensureCapacity(final int minCapacity) {
+        if (minCapacity > capacity) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims capacity of the list to its current size.
+     */
+    public void trimToSize() {
+        if (size < capacity) {
+            final int oldCapacity = capacity;
+            array = Arrays.copyOf(array, size);
+            capacity = size;
+            if (listener != null) {
+                listener.trimmed(oldCapacity, size);
+                slackReport.update(0);
+            }
+        }
+    }
+
+    /**
+     * View of elements within {@code [fromIndex, toIndex)} range, which reads and writes through to this list.
+     *
+     * @param fromIndex index of first view element
+     * @param toIndex   index after last view element
+     *
+     * @return list view
+     */
+    public ListView<T> subList(final int fromIndex, final int toIndex) {
+        return ListView.of(this).subList(fromIndex, toIndex);
+    }
+
+    /**
+     * View of list elements in reverse order, which reads and writes through to this list.
+     *
+     * @return list view
+     */
+    public ListView<T> reversed() {
+        return ListView.of(this).reversed();
+    }
+
+    /**
+     * View of every {@code step}-th list element starting from the first one, which reads and writes through to this
+     * list.
+     *
+     * @param step distance between view elements in this list, must be positive
+     *
+     * @return list view
+     */
+    public ListView<T> strided(final int step) {
+        return ListView.of(this).strided(step);
+    }
+
+    /**
+     * Element(-s) holder, which is replaced by growth and trimming.
+     *
+     * @return element(-s) holder
+     */
+    Object[] elements() {
+        return array;
+    }
+
+    /**
+     * Hands element(-s) holder trimmed to the list size over to the caller, leaving the list empty, so that the holder
+     * is never modified through the list afterwards. Holder is copied only if the list has unused capacity.
+     *
+     * @return array of list elements
+     */
+    Object[] detach() {
+        final Object[] elements = size == capacity ? array : Arrays.copyOf(array, size);
+
+        array = new Object[0];
+        capacity = 0;
+        size = 0;
+        modCount++;
+        hash = 1;
+        hashValid = hashCached;
+        if (elementIndex != null) {
+            elementIndex = new ElementIndex(array, 0);
+        }
+        if (listener != null) {
+            slackReport.update(0);
+        }
+        return elements;
+    }
+
+    /**
+     * Number of structural modifications of the list.
+     *
+     * @return modifications number
+     */
+    int modCount() {
+        return modCount;
+    }
+
+    /**
+     * Appends {@code length} elements of {@code elements} starting from {@code from} to the end of the list, growing
+     * element(-s) holder at most once. Used by {@link AppendBuffer} to transfer its blocks without intermediate copies.
+     *
+     * @param elements elements holder
+     * @param from     index of the first element to append
+     * @param length   number of elements to append
+     */
+    void append(final Object[] elements, final int from, final int length) {
+        insert(size, elements, from, length);
+    }
+
+    /**
+     * Current capacity of element(-s) holder.
+     *
+     * @return list capacity
+     */
+    int capacity() {
+        return capacity;
+    }
+
     /**
      * Whether list is empty.
      *
@@ -252,6 +733,78 @@ public final class ArrayList<T> implements Cloneable {
         return size;
     }
 
+    /**
+     * Copies list elements into a new array of exactly {@link #size()} length.
+     *
+     * @return array of list elements
+     */
+    public Object[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Performs {@code action} for each list element in order. Backing array is traversed directly, without
+     * per-element bounds checks.
+     *
+     * @param action action to perform
+     *
+     * @throws ConcurrentModificationException if list is structurally modified by {@code action}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(final Consumer<? super T> action) {
+        final int expectedModCount = modCount;
+        final Object[] elements = array;
+        final int elementsSize = size;
+
+        for (int i = 0; i < elementsSize && modCount == expectedModCount; ++i) {
+            action.accept((T) elements[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Creates iterator over list elements, which fails fast if list is structurally modified not through it.
+     *
+     * @return list iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    /**
+     * Creates late-binding, fail-fast spliterator over list elements. Spliterator reports {@link Spliterator#SIZED},
+     * {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED} characteristics and splits in halves, so parallel
+     * streams distribute elements evenly.
+     *
+     * @return list spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
+    }
+
+    /**
+     * Creates sequential stream of list elements.
+     *
+     * @return list stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Creates parallel stream of list elements.
+     *
+     * @return list parallel stream
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * CLones <p>this</p> object with all internals and returns it.
      *
@@ -261,7 +814,17 @@ public final class ArrayList<T> implements Cloneable {
      */
     @Override
     public Object clone() throws CloneNotSupportedException {
-        return super.clone();
+        @SuppressWarnings("unchecked") final ArrayList<T> clone = (ArrayList<T>) super.clone();
+        // clone must not share element(-s) holder: its modifications would corrupt this list and its cached hash
+        clone.array = array.clone();
+        clone.modCount = 0;
+        // clone has no slack reported, its own report is retracted independently of this list's one
+        clone.slackReport = listener != null ? SlackReport.start(clone, listener) : null;
+        if (elementIndex != null) {
+            clone.elementIndex = elementIndex.copy();
+        }
+
+        return clone;
     }
 
     @SuppressWarnings("unchecked")
@@ -278,9 +841,13 @@ public final class ArrayList<T> implements Cloneable {
         final ArrayList<T> that = (ArrayList<T>) obj;
         if (size != that.size) {
             return false;
+        } else if (hashValid && that.hashValid && hash != that.hash) {
+            return false;
         }
+
+        final Object[] thatArray = that.array;
         for (int i = 0; i < size; ++i) {
-            if (!array[i].equals(that.get(i))) {
+            if (!Objects.equals(array[i], thatArray[i])) {
                 return false;
             }
         }
@@ -289,16 +856,59 @@ public final class ArrayList<T> implements Cloneable {
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
+        if (hashValid) {
+            return hash;
+        }
 
+        int result = 1;
         for (int i = 0; i < size; ++i) {
-            result = result * prime + array[i].hashCode();
+            result = result * HASH_PRIME + Objects.hashCode(array[i]);
+        }
+        if (hashCached) {
+            hash = result;
+            hashValid = true;
         }
 
         return result;
     }
 
+    /**
+     * Writes list string representation, the same as {@link #toString()} one, to {@code out}. Unlike
+     * {@link #toString()}, representation is written in bounded chunks and is never built as a whole.
+     *
+     * @param out output to write to, e.g. {@link java.io.Writer}
+     *
+     * @throws IOException if output fails
+     */
+    public void writeTo(final Appendable out) throws IOException {
+        writeTo(out, size, Objects::toString);
+    }
+
+    /**
+     * Writes string representation of at most {@code limit} first list elements to {@code out}, each of them
+     * is formatted by {@code formatter}. Number of remaining elements is written after them:
+     * {@code [1, 2, ... 8 more]}. Representation is written in bounded chunks and is never built as a whole.
+     *
+     * @param out       output to write to, e.g. {@link java.io.Writer}
+     * @param limit     maximum number of element(-s) to write
+     * @param formatter element formatter
+     *
+     * @throws IllegalArgumentException if {@code limit} is negative
+     * @throws IOException              if output fails
+     */
+    @SuppressWarnings("unchecked")
+    public void writeTo(final Appendable out, final int limit,
+                        final Function<? super T, ? extends CharSequence> formatter) throws IOException {
+        ListWriter.checkLimit(limit);
+
+        final ListWriter writer = new ListWriter(out);
+        final int count = Math.min(limit, size);
+        for (int i = 0; i < count; ++i) {
+            writer.next().append(formatter.apply((T) array[i]));
+        }
+        writer.close(size - count);
+    }
+
     @Override
     public String toString() {
         final StringBuilder str = new StringBuilder("[");
@@ -313,16 +923,216 @@ public final class ArrayList<T> implements Cloneable {
         return str.toString();
     }
 
-    private void ensureCapacity() {
-        final int newCapacity = capacity * 2;
+    private void insert(final int index, final Object[] elements, final int from, final int length) {
+        if (length == 0) {
+            return;
+        }
+
+        // elements could be backed by this list's holder, which is shifted below
+        final Object[] source = elements == array ? Arrays.copyOfRange(elements, from, from + length) : elements;
+        final int offset = source == elements ? from : 0;
 
-        final Object[] newArray = new Object[newCapacity];
-        //noinspection ManualArrayCopy
-        for (int i = 0; i < capacity; ++i) {
-            newArray[i] = array[i];
+        if (size + length > capacity) {
+            grow(size + length);
+        }
+        if (index != size) {
+            System.arraycopy(array, index, array, index + length, size - index);
+            if (listener != null) {
+                listener.shifted(size - index);
+            }
+        }
+        System.arraycopy(source, offset, array, index, length);
+        size += length;
+        modCount++;
+        if (hashValid) {
+            if (index == size - length) {
+                for (int i = 0; i < length; ++i) {
+                    hash = hash * HASH_PRIME + Objects.hashCode(source[offset + i]);
+                }
+            } else {
+                hashValid = false;
+            }
+        }
+        if (elementIndex != null) {
+            if (index != size - length) {
+                elementIndex.shifted(index, length);
+            }
+            for (int i = 0; i < length; ++i) {
+                elementIndex.added(source[offset + i], index + i);
+            }
         }
+    }
 
+    private T removeAt(final int index) {
+        //noinspection unchecked
+        final T removedElement = (T) array[index];
+        if (index < size - 1) {
+            System.arraycopy(array, index + 1, array, index, size - index - 1);
+            if (listener != null) {
+                listener.shifted(size - index - 1);
+            }
+        }
+        array[size - 1] = null;
+        size--;
+        modCount++;
+        if (elementIndex != null) {
+            elementIndex.removed(removedElement, index);
+            if (index != size) {
+                elementIndex.shifted(index + 1, -1);
+            }
+        }
+        if (hashValid) {
+            if (index == size) {
+                hash = (hash - Objects.hashCode(removedElement)) * HASH_PRIME_INVERSE;
+            } else {
+                hashValid = false;
+            }
+        }
+
+        return removedElement;
+    }
+
+    private void sorted() {
+        modCount++;
+        hashValid = false;
+        if (elementIndex != null) {
+            elementIndex.reordered();
+        }
+    }
+
+    private void grow(final int minCapacity) {
+        final int newCapacity = growthPolicy.newCapacity(capacity, minCapacity);
+
+        array = Arrays.copyOf(array, newCapacity);
+        if (listener != null) {
+            listener.grown(capacity, newCapacity, minCapacity);
+            slackReport.update(newCapacity - minCapacity);
+        }
         capacity = newCapacity;
-        array = newArray;
+    }
+
+    /**
+     * Fail-fast list iterator.
+     */
+    private final class ArrayListIterator implements Iterator<T> {
+        private int cursor; // index of element to return by next call of {@link #next()}
+
+        private int lastReturned = -1; // index of element returned by last call of {@link #next()}
+
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor++;
+            return (T) array[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned < 0) {
+                throw new IllegalStateException("No element to remove at iterator position");
+            }
+
+            removeAt(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Late-binding, fail-fast list spliterator. Covered range is bound to list size on first use.
+     */
+    private final class ArrayListSpliterator implements Spliterator<T> {
+        private int index; // index of next element to traverse
+
+        private int fence; // index after last element to traverse, -1 until bound
+
+        private int expectedModCount;
+
+        ArrayListSpliterator(final int origin, final int fence, final int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int hi = getFence();
+            final int lo = index;
+            final int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+
+            index = mid;
+            return new ArrayListSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            final int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+
+            final T element = (T) array[index++];
+            action.accept(element);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(final Consumer<? super T> action) {
+            final int hi = getFence();
+            final Object[] elements = array;
+            for (int i = index; i < hi; ++i) {
+                action.accept((T) elements[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
     }
 }
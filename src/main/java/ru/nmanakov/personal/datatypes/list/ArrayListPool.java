@@ -0,0 +1,290 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of {@link ArrayList} instances, which lets short-lived lists reuse element(-s) holders of released ones.
+ * <p>
+ * Every thread keeps its own released lists, so acquiring and releasing a list takes no locks and, once the pool is
+ * warmed up, allocates nothing. Released lists are bucketed by capacity: bucket {@code k} holds lists of capacity
+ * within {@code [2^k, 2^(k+1))}, so {@link #acquire(int)} hands out a list of the smallest bucket able to hold
+ * required number of elements without growth. Lists are cleared and switched to the plain mode (not indexed, no cached
+ * hash code, no listener) on release. Lists of capacity larger than maximum pooled one and lists exceeding bucket
+ * limit are dropped.
+ * <p>
+ * Released list must not be used anymore. Such use is not detected, it corrupts the list of the next borrower. Release
+ * of a list held by the releasing thread already is detected. Pool in debug mode tracks acquired lists and reports the
+ * ones which have been garbage collected without release as leaks, along with the place they have been acquired at.
+ * Debug mode costs a few allocations per acquisition and release, so it's meant for tests. Pool keeps all of its
+ * bookkeeping itself, lists know nothing about being pooled.
+ */
+public final class ArrayListPool {
+    private static final int DEFAULT_LISTS_PER_BUCKET = 16;
+
+    private static final int DEFAULT_MAX_POOLED_CAPACITY = 1 << 16;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private static final int BUCKET_COUNT = Integer.SIZE;
+
+    private static final System.Logger LOGGER = System.getLogger(ArrayListPool.class.getName());
+
+    // leases of lists acquired from pools in debug mode, shared, so that list could be released to any pool
+    private static final Map<ListKey, Lease> LEASES = new ConcurrentHashMap<>();
+
+    private final int listsPerBucket; // maximum number of lists in thread's bucket
+
+    private final int maxPooledCapacity; // maximum capacity of pooled list
+
+    private final ThreadLocal<Buckets> buckets; // released list(-s) holder of each thread
+
+    private final boolean debug; // whether pool detects leaked lists
+
+    private final LongAdder leaks; // number of detected leaks
+
+    /**
+     * Creates pool with default limits, which is not in debug mode.
+     */
+    public ArrayListPool() {
+        this(DEFAULT_LISTS_PER_BUCKET, DEFAULT_MAX_POOLED_CAPACITY, false);
+    }
+
+    /**
+     * Creates pool.
+     *
+     * @param listsPerBucket    maximum number of released lists of similar capacity kept by each thread
+     * @param maxPooledCapacity maximum capacity of kept list, larger lists are dropped on release
+     * @param debug             whether pool should detect lists which are not released
+     */
+    public ArrayListPool(final int listsPerBucket, final int maxPooledCapacity, final boolean debug) {
+        if (listsPerBucket < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Lists per bucket number %d should not be negative", listsPerBucket));
+        }
+
+        this.listsPerBucket = listsPerBucket;
+        this.maxPooledCapacity = maxPooledCapacity;
+        this.buckets = ThreadLocal.withInitial(Buckets::new);
+        this.debug = debug;
+        this.leaks = new LongAdder();
+    }
+
+    /**
+     * Acquires empty list of default capacity.
+     *
+     * @param <T> list element type
+     *
+     * @return acquired list
+     */
+    public <T> ArrayList<T> acquire() {
+        return acquire(MIN_CAPACITY);
+    }
+
+    /**
+     * Acquires empty list able to hold at least {@code minCapacity} elements without growth.
+     *
+     * @param minCapacity minimum required capacity
+     * @param <T>         list element type
+     *
+     * @return acquired list
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ArrayList<T> acquire(final int minCapacity) {
+        final int capacity = Math.max(minCapacity, MIN_CAPACITY);
+        // every list of bucket ceil(log2(capacity)) and above fits required capacity
+        final int bucket = BUCKET_COUNT - Integer.numberOfLeadingZeros(capacity - 1);
+
+        ArrayList<T> list = null;
+        if (capacity <= maxPooledCapacity) {
+            list = (ArrayList<T>) buckets.get().poll(bucket);
+        }
+
+        if (list == null) {
+            list = new ArrayList<>(bucket < BUCKET_COUNT - 1 ? 1 << bucket : capacity);
+        }
+        if (debug) {
+            final ListKey key = new ListKey(list);
+            final Lease lease = new Lease(key, leaks);
+            lease.cleanable = LeakDetection.CLEANER.register(list, lease);
+            LEASES.put(key, lease);
+        }
+
+        return list;
+    }
+
+    /**
+     * Releases {@code list}, so that its element(-s) holder could be reused by the following acquisitions of the
+     * current thread. List could be acquired by any pool or created by constructor.
+     *
+     * @param list list to release
+     *
+     * @throws IllegalStateException if list has already been released to this pool by the current thread
+     */
+    public void release(final ArrayList<?> list) {
+        final int capacity = list.capacity();
+        final boolean pooled = capacity != 0 && capacity <= maxPooledCapacity;
+        final int bucket = BUCKET_COUNT - 1 - Integer.numberOfLeadingZeros(capacity);
+        if (pooled && buckets.get().contains(bucket, list)) {
+            throw new IllegalStateException("List has already been released");
+        }
+
+        // plain pools skip lease lookup, which allocates, unless some list is acquired in debug mode
+        if (!LEASES.isEmpty()) {
+            final Lease lease = LEASES.remove(new ListKey(list));
+            if (lease != null) {
+                lease.released = true;
+                lease.cleanable.clean();
+            }
+        }
+
+        if (!pooled) {
+            return;
+        }
+
+        // modes are switched off first, so that clearing does not rebuild an index, which is dropped anyway
+        list.setIndexed(false);
+        list.setHashCached(false);
+        list.setListener(null);
+        list.clear();
+        buckets.get().offer(bucket, list, listsPerBucket);
+    }
+
+    /**
+     * Whether pool detects lists which are not released.
+     *
+     * @return whether pool is in debug mode or not
+     */
+    public boolean isDebug() {
+        return debug;
+    }
+
+    /**
+     * Number of lists garbage collected without release. Always <b>0</b> if pool is not in debug mode.
+     *
+     * @return number of leaked lists
+     */
+    public long leakCount() {
+        return leaks.sum();
+    }
+
+    /**
+     * Released lists of a single thread.
+     */
+    private static final class Buckets {
+        private final ArrayList<?>[][] lists = new ArrayList<?>[BUCKET_COUNT][]; // list(-s) holder of each bucket
+
+        private final int[] sizes = new int[BUCKET_COUNT]; // number of lists in each bucket
+
+        private int nonEmpty; // bit mask of buckets holding lists
+
+        private ArrayList<?> poll(final int minBucket) {
+            final int candidates = minBucket < BUCKET_COUNT ? nonEmpty & (-1 << minBucket) : 0;
+            if (candidates == 0) {
+                return null;
+            }
+
+            final int bucket = Integer.numberOfTrailingZeros(candidates);
+            final int index = --sizes[bucket];
+            final ArrayList<?> list = lists[bucket][index];
+            lists[bucket][index] = null;
+            if (index == 0) {
+                nonEmpty &= ~(1 << bucket);
+            }
+
+            return list;
+        }
+
+        private boolean contains(final int bucket, final ArrayList<?> list) {
+            for (int i = 0; i < sizes[bucket]; ++i) {
+                if (lists[bucket][i] == list) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void offer(final int bucket, final ArrayList<?> list, final int listsPerBucket) {
+            if (sizes[bucket] == listsPerBucket) {
+                return;
+            }
+            if (lists[bucket] == null) {
+                lists[bucket] = new ArrayList<?>[listsPerBucket];
+            }
+
+            lists[bucket][sizes[bucket]++] = list;
+            nonEmpty |= 1 << bucket;
+        }
+    }
+
+    /**
+     * Identity key of a list, which does not keep the list reachable.
+     */
+    private static final class ListKey extends WeakReference<ArrayList<?>> {
+        private final int hash; // identity hash code of the list
+
+        private ListKey(final ArrayList<?> list) {
+            super(list);
+            this.hash = System.identityHashCode(list);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof ListKey)) {
+                return false;
+            }
+
+            final ArrayList<?> list = get();
+            return list != null && list == ((ListKey) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Cleaner shared by all pools in debug mode. It's held by a separate class, so that its thread is started by the
+     * first debug mode acquisition only.
+     */
+    private static final class LeakDetection {
+        private static final Cleaner CLEANER = Cleaner.create();
+    }
+
+    /**
+     * Acquired list tracking, which is run by cleaner once the list is released or garbage collected.
+     */
+    private static final class Lease implements Runnable {
+        private final ListKey key; // key of the leased list
+
+        private final LongAdder leaks; // number of detected leaks of the pool
+
+        private final Throwable acquisition; // stack trace of the place list has been acquired at
+
+        private volatile boolean released; // whether list has been released
+
+        private Cleaner.Cleanable cleanable; // registration of the list in cleaner
+
+        private Lease(final ListKey key, final LongAdder leaks) {
+            this.key = key;
+            this.leaks = leaks;
+            this.acquisition = new Throwable("List acquisition");
+        }
+
+        @Override
+        public void run() {
+            LEASES.remove(key, this);
+            if (!released) {
+                leaks.increment();
+                LOGGER.log(System.Logger.Level.WARNING, "List has been garbage collected without release",
+                        acquisition);
+            }
+        }
+    }
+}
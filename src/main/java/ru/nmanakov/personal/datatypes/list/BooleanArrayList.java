@@ -0,0 +1,531 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Array list implementation specialized for {@code boolean} elements.
+ * <p>
+ * Elements are packed into {@code long[]} holder, 64 elements per word, so list takes 1 bit per element and neither
+ * element addition nor element retrieval box values. Bulk operations ({@link #and(BooleanArrayList)},
+ * {@link #or(BooleanArrayList)}, {@link #xor(BooleanArrayList)}, {@link #andNot(BooleanArrayList)} and
+ * {@link #cardinality()}) process a whole word per iteration in simple loops, which JIT compiler unrolls and
+ * vectorizes. Insertion and removal by index shift following elements a word at a time.
+ * <p>
+ * Bits of the holder beyond list size are always cleared, so whole words could be compared and counted.
+ */
+public final class BooleanArrayList implements Cloneable {
+    private static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+    private static final int WORD_SHIFT = 6;
+
+    private long[] words; // element(-s) holder, element {@code i} is bit {@code i & 63} of word {@code i >>> 6}
+
+    private int capacity; // maximum capacity for element(-s) holder
+
+    private int size; // current number of element's in an list
+
+    private final GrowthPolicy growthPolicy; // element(-s) holder growth policy
+
+    /**
+     * Creates and initializes instance of {@code BooleanArrayList} with capacity as default one.
+     */
+    public BooleanArrayList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates and initializes instance of {@code BooleanArrayList} with {@code elements} provided.
+     *
+     * @param elements initial elements
+     */
+    public BooleanArrayList(final boolean... elements) {
+        this(elements.length * 2, GrowthPolicy.DEFAULT);
+        for (final boolean element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Creates empty array list with initial capacity equals to {@code initialCapacity}.
+     *
+     * @param initialCapacity initial capacity
+     */
+    public BooleanArrayList(final int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Creates empty array list with initial capacity equals to {@code initialCapacity}, which grows according to
+     * {@code growthPolicy}.
+     *
+     * @param initialCapacity initial capacity
+     * @param growthPolicy    element(-s) holder growth policy
+     */
+    public BooleanArrayList(final int initialCapacity, final GrowthPolicy growthPolicy) {
+        this.words = new long[wordCount(initialCapacity)];
+        this.capacity = bitCapacity(words.length);
+        this.size = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Retrieves last list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return retrieved element
+     */
+    public boolean get() {
+        if (size != 0) {
+            return bit(size - 1);
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Retrieves list element by {@code index}.
+     *
+     * @param index index of element to retrieve
+     *
+     * @return retrieved element
+     */
+    public boolean get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return bit(index);
+    }
+
+    /**
+     * Replaces list element by {@code index} with {@code element}.
+     *
+     * @param index   index of element to replace
+     * @param element element to store
+     *
+     * @return replaced element
+     */
+    public boolean set(final int index, final boolean element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        final boolean replacedElement = bit(index);
+        setBit(index, element);
+
+        return replacedElement;
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @param element element to add
+     *
+     * @return added element
+     */
+    public boolean add(final boolean element) {
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        setBit(size++, element);
+
+        return element;
+    }
+
+    /**
+     * Adds {@code element} to the list by {@code index}.
+     *
+     * @param element element to add
+     * @param index   index to add element by
+     *
+     * @return added element
+     */
+    public boolean add(final boolean element, final int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        if (size == capacity) {
+            grow(size + 1);
+        }
+
+        final int word = index >>> WORD_SHIFT;
+        for (int i = size >>> WORD_SHIFT; i > word; --i) {
+            words[i] = (words[i] << 1) | (words[i - 1] >>> 63);
+        }
+        final long low = (1L << index) - 1; // bits preceding the index within its word
+        words[word] = (words[word] & low) | ((words[word] << 1) & ~low);
+        setBit(index, element);
+        size++;
+
+        return element;
+    }
+
+    /**
+     * Removes last element from list. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return removed element
+     */
+    public boolean remove() {
+        if (size != 0) {
+            final boolean removedElement = bit(--size);
+            setBit(size, false);
+
+            return removedElement;
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Removes element by {@code index} from list.
+     *
+     * @param index index of element to remove
+     *
+     * @return removed element
+     */
+    public boolean remove(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        final boolean removedElement = bit(index);
+        final int word = index >>> WORD_SHIFT;
+        final long low = (1L << index) - 1; // bits preceding the index within its word
+        words[word] = (words[word] & low) | ((words[word] >>> 1) & ~low);
+        for (int i = word + 1, lastWord = (size - 1) >>> WORD_SHIFT; i <= lastWord; ++i) {
+            words[i - 1] |= words[i] << 63;
+            words[i] >>>= 1;
+        }
+        size--;
+
+        return removedElement;
+    }
+
+    /**
+     * Gets index of provided {@code element}. If element's not present in the collection then return <b>-1</b>.
+     * List is scanned a word at a time.
+     *
+     * @param element element's index to find
+     *
+     * @return element's index
+     */
+    public int indexOf(final boolean element) {
+        final int index = element ? nextSetBit(0) : nextClearBit(0);
+
+        return index < size ? index : -1;
+    }
+
+    /**
+     * Whether list contains provided {@code element}.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter list contains provided element or not
+     */
+    public boolean contains(final boolean element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Index of the first {@code true} element starting from {@code fromIndex}.
+     *
+     * @param fromIndex index to start search from
+     *
+     * @return element's index, <b>-1</b> - if there's no {@code true} element starting from {@code fromIndex}
+     */
+    public int nextSetBit(final int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(fromIndex);
+        }
+        if (fromIndex >= size) {
+            return -1;
+        }
+
+        int word = fromIndex >>> WORD_SHIFT;
+        long bits = words[word] & (-1L << fromIndex);
+        final int wordCount = wordCount(size);
+        while (bits == 0) {
+            if (++word == wordCount) {
+                return -1;
+            }
+            bits = words[word];
+        }
+        return (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Index of the first {@code false} element starting from {@code fromIndex}.
+     *
+     * @param fromIndex index to start search from
+     *
+     * @return element's index, list size - if there's no {@code false} element starting from {@code fromIndex}
+     */
+    public int nextClearBit(final int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(fromIndex);
+        }
+        if (fromIndex >= size) {
+            return size;
+        }
+
+        int word = fromIndex >>> WORD_SHIFT;
+        long bits = ~words[word] & (-1L << fromIndex);
+        final int wordCount = wordCount(size);
+        while (bits == 0) {
+            if (++word == wordCount) {
+                return size;
+            }
+            bits = ~words[word];
+        }
+        return Math.min(size, (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits));
+    }
+
+    /**
+     * Number of {@code true} elements.
+     *
+     * @return number of {@code true} elements
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0, wordCount = wordCount(size); i < wordCount; ++i) {
+            cardinality += Long.bitCount(words[i]);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Replaces every element with logical and of it and element of {@code other} list by the same index. Elements
+     * missing in {@code other} list are considered {@code false}.
+     *
+     * @param other list to combine with
+     */
+    public void and(final BooleanArrayList other) {
+        final long[] otherWords = other.words;
+        final int common = Math.min(wordCount(size), wordCount(other.size));
+        for (int i = 0; i < common; ++i) {
+            words[i] &= otherWords[i];
+        }
+        Arrays.fill(words, common, wordCount(size), 0L);
+    }
+
+    /**
+     * Replaces every element with logical or of it and element of {@code other} list by the same index. Elements of
+     * {@code other} list beyond size of this list are ignored.
+     *
+     * @param other list to combine with
+     */
+    public void or(final BooleanArrayList other) {
+        final long[] otherWords = other.words;
+        final int common = Math.min(wordCount(size), wordCount(other.size));
+        for (int i = 0; i < common; ++i) {
+            words[i] |= otherWords[i];
+        }
+        clearTail();
+    }
+
+    /**
+     * Replaces every element with logical xor of it and element of {@code other} list by the same index. Elements of
+     * {@code other} list beyond size of this list are ignored.
+     *
+     * @param other list to combine with
+     */
+    public void xor(final BooleanArrayList other) {
+        final long[] otherWords = other.words;
+        final int common = Math.min(wordCount(size), wordCount(other.size));
+        for (int i = 0; i < common; ++i) {
+            words[i] ^= otherWords[i];
+        }
+        clearTail();
+    }
+
+    /**
+     * Clears every element, which is {@code true} in {@code other} list by the same index.
+     *
+     * @param other list of elements to clear
+     */
+    public void andNot(final BooleanArrayList other) {
+        final long[] otherWords = other.words;
+        final int common = Math.min(wordCount(size), wordCount(other.size));
+        for (int i = 0; i < common; ++i) {
+            words[i] &= ~otherWords[i];
+        }
+    }
+
+    /**
+     * Ensures that list is able to hold at least {@code minCapacity} element(-s) without further growth.
+     *
+     * @param minCapacity minimum required capacity
+     */
+    public void ensureCapacity(final int minCapacity) {
+        if (minCapacity > capacity) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims capacity of the list to the words holding its current elements.
+     */
+    public void trimToSize() {
+        final int wordCount = wordCount(size);
+        if (wordCount < words.length) {
+            words = Arrays.copyOf(words, wordCount);
+            capacity = bitCapacity(wordCount);
+        }
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of list elements.
+     *
+     * @return list elements number
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies list elements into new array.
+     *
+     * @return array of list elements
+     */
+    public boolean[] toArray() {
+        final boolean[] result = new boolean[size];
+        for (int i = nextSetBit(0); i != -1; i = nextSetBit(i + 1)) {
+            result[i] = true;
+        }
+        return result;
+    }
+
+    /**
+     * Clones <p>this</p> object with its own copy of element(-s) holder and returns it.
+     *
+     * @return cloned list
+     *
+     * @throws CloneNotSupportedException if error occurred during clone operation
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        final BooleanArrayList clone = (BooleanArrayList) super.clone();
+        clone.words = words.clone();
+
+        return clone;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final BooleanArrayList that = (BooleanArrayList) obj;
+        return size == that.size && Arrays.equals(words, 0, wordCount(size), that.words, 0, wordCount(size));
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = size;
+
+        for (int i = 0, wordCount = wordCount(size); i < wordCount; ++i) {
+            result = result * prime + Long.hashCode(words[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Writes list string representation, the same as {@link #toString()} one, to {@code out}. Unlike
+     * {@link #toString()}, representation is written in bounded chunks and is never built as a whole.
+     *
+     * @param out output to write to, e.g. {@link java.io.Writer}
+     *
+     * @throws IOException if output fails
+     */
+    public void writeTo(final Appendable out) throws IOException {
+        writeTo(out, size);
+    }
+
+    /**
+     * Writes string representation of at most {@code limit} first list elements to {@code out}. Number of remaining
+     * elements is written after them: {@code [1, 2, ... 8 more]}. Elements are formatted without boxing into bounded
+     * chunks, so representation is never built as a whole.
+     *
+     * @param out   output to write to, e.g. {@link java.io.Writer}
+     * @param limit maximum number of element(-s) to write
+     *
+     * @throws IllegalArgumentException if {@code limit} is negative
+     * @throws IOException              if output fails
+     */
+    public void writeTo(final Appendable out, final int limit) throws IOException {
+        ListWriter.checkLimit(limit);
+
+        final ListWriter writer = new ListWriter(out);
+        final int count = Math.min(limit, size);
+        for (int i = 0; i < count; ++i) {
+            writer.next().append(bit(i));
+        }
+        writer.close(size - count);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < size; ++i) {
+            str.append(bit(i));
+            if (i != size - 1) {
+                str.append(", ");
+            }
+        }
+        str.append("]");
+
+        return str.toString();
+    }
+
+    private boolean bit(final int index) {
+        return (words[index >>> WORD_SHIFT] & (1L << index)) != 0;
+    }
+
+    private void setBit(final int index, final boolean element) {
+        if (element) {
+            words[index >>> WORD_SHIFT] |= 1L << index;
+        } else {
+            words[index >>> WORD_SHIFT] &= ~(1L << index);
+        }
+    }
+
+    private void clearTail() {
+        // bits beyond size could be set by other list's words
+        if ((size & 63) != 0) {
+            words[size >>> WORD_SHIFT] &= (1L << size) - 1;
+        }
+    }
+
+    private void grow(final int minCapacity) {
+        final int newCapacity = growthPolicy.newCapacity(capacity, minCapacity);
+
+        words = Arrays.copyOf(words, wordCount(newCapacity));
+        capacity = bitCapacity(words.length);
+    }
+
+    private static int bitCapacity(final int wordCount) {
+        return (int) Math.min((long) wordCount << WORD_SHIFT, GrowthPolicy.MAX_CAPACITY);
+    }
+
+    private static int wordCount(final int bits) {
+        return (int) (((long) bits + 63) >>> WORD_SHIFT);
+    }
+}
@@ -0,0 +1,501 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Chunked list implementation (tiered vector) for insert-heavy workloads.
+ * <p>
+ * Elements are held in chunks of equal power of two capacity, every chunk is a circular buffer and all of them except
+ * the last one are full. Element {@code index} is stored in chunk {@code index / chunkCapacity}, so retrieval by
+ * index is O(1). Insertion or removal shifts elements within a single chunk only, choosing its shorter side, and then
+ * moves one element between every following chunk and its neighbour in O(1). Chunk capacity is kept about square root
+ * of list size, so random edits cost O(&radic;n) instead of O(n) for {@link ArrayList}.
+ * <p>
+ * Chunk capacity only grows: list which has shrunk keeps its chunk capacity until {@link #trimToSize()}.
+ */
+public final class ChunkedList<T> implements Iterable<T> {
+    private static final int MIN_CHUNK_SHIFT = 4;
+
+    private Object[][] chunks; // chunk(-s) holder, each chunk is a circular buffer of {@code 1 << chunkShift} slots
+
+    private int[] heads; // slot of the first element of each chunk
+
+    private int chunkCount; // number of chunks in use, the last one is not empty
+
+    private int chunkShift; // log2 of chunk capacity
+
+    private int chunkMask; // mask of slot within chunk
+
+    private int size; // current number of element's in an list
+
+    private int modCount; // number of structural modifications, used by iterators to fail fast
+
+    /**
+     * Creates and initializes empty instance of {@code ChunkedList}.
+     */
+    public ChunkedList() {
+        this(0);
+    }
+
+    /**
+     * Creates and initializes instance of {@code ChunkedList} with {@code elements} provided.
+     *
+     * @param elements initial elements
+     */
+    public ChunkedList(final T... elements) {
+        this(elements.length);
+        for (final T element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Creates empty list with chunk capacity suitable for {@code expectedSize} elements.
+     *
+     * @param expectedSize expected number of list elements
+     */
+    public ChunkedList(final int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException(String.format("Expected size %d should not be negative",
+                    expectedSize));
+        }
+
+        this.chunkShift = chunkShift(expectedSize);
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.chunks = new Object[4][];
+        this.heads = new int[4];
+        this.chunkCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Retrieves last list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return retrieved element
+     */
+    public T get() {
+        if (size != 0) {
+            return element(size - 1);
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Retrieves list element by {@code index}.
+     *
+     * @param index index of element to retrieve
+     *
+     * @return retrieved element
+     */
+    public T get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return element(index);
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @param element element to add
+     *
+     * @return added element
+     */
+    public T add(final T element) {
+        if (size == chunkCount << chunkShift) {
+            addChunk();
+        }
+
+        final int chunk = size >>> chunkShift;
+        chunks[chunk][(heads[chunk] + size) & chunkMask] = element;
+        size++;
+        modCount++;
+
+        return element;
+    }
+
+    /**
+     * Adds {@code element} to the list by {@code index}.
+     *
+     * @param element element to add
+     * @param index   index to add element by
+     *
+     * @return added element
+     */
+    public T add(final T element, final int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        if (size == chunkCount << chunkShift) {
+            addChunk();
+        }
+
+        final int chunk = index >>> chunkShift;
+        final int last = chunkCount - 1;
+        if (chunk == last) {
+            insertWithin(chunk, index & chunkMask, size - (last << chunkShift), element);
+        } else {
+            // the last element of every full chunk is carried to the front of the next one
+            Object carried = chunks[chunk][(heads[chunk] + chunkMask) & chunkMask];
+            insertWithin(chunk, index & chunkMask, chunkMask, element);
+            for (int i = chunk + 1; i < last; ++i) {
+                final int head = (heads[i] - 1) & chunkMask;
+                final Object lastElement = chunks[i][head];
+                chunks[i][head] = carried;
+                heads[i] = head;
+                carried = lastElement;
+            }
+            heads[last] = (heads[last] - 1) & chunkMask;
+            chunks[last][heads[last]] = carried;
+        }
+        size++;
+        modCount++;
+
+        return element;
+    }
+
+    /**
+     * Removes last element from list.
+     *
+     * @return removed element, {@code null} - if nothing was removed
+     */
+    public T remove() {
+        return size != 0 ? removeAt(size - 1) : null;
+    }
+
+    /**
+     * Removes element by {@code index} from list.
+     *
+     * @param index index of element to remove
+     *
+     * @return removed element
+     */
+    public T remove(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        return removeAt(index);
+    }
+
+    /**
+     * Removes element by first occurence of {@code element} from list.
+     *
+     * @param element element to remove
+     *
+     * @return removed element
+     */
+    public T remove(final T element) {
+        final int index = indexOf(element);
+
+        return index != -1 ? removeAt(index) : null;
+    }
+
+    /**
+     * Gets index of provided {@code element}. If element's not present in the collection then return <b>-1</b>.
+     *
+     * @param element element's index to find
+     *
+     * @return element's index
+     */
+    public int indexOf(final T element) {
+        for (int i = 0; i < size; ++i) {
+            if (Objects.equals(element(i), element)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Whether list contains provided {@code element}.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter list contains provided element or not
+     */
+    public boolean contains(final T element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Releases chunks which are not required to hold current elements and adjusts chunk capacity to list size.
+     */
+    public void trimToSize() {
+        rebuild(chunkShift(size));
+        chunks = Arrays.copyOf(chunks, Math.max(chunkCount, 1));
+        heads = Arrays.copyOf(heads, chunks.length);
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of list elements.
+     *
+     * @return list elements number
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies list elements into a new array.
+     *
+     * @return array of list elements
+     */
+    public Object[] toArray() {
+        final Object[] copy = new Object[size];
+        for (int i = 0; i < chunkCount; ++i) {
+            final int from = i << chunkShift;
+            copyChunk(i, copy, from, Math.min(size - from, chunkMask + 1));
+        }
+
+        return copy;
+    }
+
+    /**
+     * Creates fail-fast iterator over list elements. Iterator throws {@code ConcurrentModificationException} if list
+     * has been structurally modified after iterator creation.
+     *
+     * @return list iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ChunkedListIterator();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final ChunkedList<?> that = (ChunkedList<?>) obj;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; ++i) {
+            if (!Objects.equals(element(i), that.element(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+
+        for (int i = 0; i < size; ++i) {
+            result = result * prime + Objects.hashCode(element(i));
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < size; ++i) {
+            str.append(element(i));
+            if (i != size - 1) {
+                str.append(", ");
+            }
+        }
+        str.append("]");
+
+        return str.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(final int index) {
+        final int chunk = index >>> chunkShift;
+
+        return (T) chunks[chunk][(heads[chunk] + index) & chunkMask];
+    }
+
+    private T removeAt(final int index) {
+        final int chunk = index >>> chunkShift;
+        final int last = chunkCount - 1;
+        final T removedElement = element(index);
+
+        if (chunk == last) {
+            removeWithin(chunk, index & chunkMask, size - (last << chunkShift));
+        } else {
+            // the first element of every following chunk is carried to the back of the previous one
+            removeWithin(chunk, index & chunkMask, chunkMask + 1);
+            for (int i = chunk; i < last; ++i) {
+                final int next = i + 1;
+                chunks[i][(heads[i] + chunkMask) & chunkMask] = chunks[next][heads[next]];
+                chunks[next][heads[next]] = null;
+                heads[next] = (heads[next] + 1) & chunkMask;
+            }
+        }
+        size--;
+        modCount++;
+        if (size == last << chunkShift) {
+            // emptied chunk is kept as a spare, so that edits around chunk boundary don't allocate
+            chunkCount--;
+        }
+
+        return removedElement;
+    }
+
+    private void insertWithin(final int chunk, final int position, final int count, final Object element) {
+        final Object[] slots = chunks[chunk];
+        final int head = heads[chunk];
+
+        if (position < count / 2) {
+            // shift leading elements one slot back
+            final int newHead = (head - 1) & chunkMask;
+            for (int i = 0; i < position; ++i) {
+                slots[(newHead + i) & chunkMask] = slots[(head + i) & chunkMask];
+            }
+            heads[chunk] = newHead;
+            slots[(newHead + position) & chunkMask] = element;
+        } else {
+            // shift trailing elements one slot forward
+            for (int i = count; i > position; --i) {
+                slots[(head + i) & chunkMask] = slots[(head + i - 1) & chunkMask];
+            }
+            slots[(head + position) & chunkMask] = element;
+        }
+    }
+
+    private void removeWithin(final int chunk, final int position, final int count) {
+        final Object[] slots = chunks[chunk];
+        final int head = heads[chunk];
+
+        if (position < count / 2) {
+            // shift leading elements one slot forward
+            for (int i = position; i > 0; --i) {
+                slots[(head + i) & chunkMask] = slots[(head + i - 1) & chunkMask];
+            }
+            slots[head] = null;
+            heads[chunk] = (head + 1) & chunkMask;
+        } else {
+            // shift trailing elements one slot back
+            for (int i = position; i < count - 1; ++i) {
+                slots[(head + i) & chunkMask] = slots[(head + i + 1) & chunkMask];
+            }
+            slots[(head + count - 1) & chunkMask] = null;
+        }
+    }
+
+    private void addChunk() {
+        if (chunkCount > 2 << chunkShift) {
+            // list has outgrown its chunk capacity: doubling it keeps edits O(sqrt(n))
+            rebuild(chunkShift + 1);
+            if (size != chunkCount << chunkShift) {
+                return;
+            }
+        }
+
+        if (chunkCount == chunks.length) {
+            final int newLength = GrowthPolicy.DEFAULT.newCapacity(chunks.length, chunkCount + 1);
+            chunks = Arrays.copyOf(chunks, newLength);
+            heads = Arrays.copyOf(heads, newLength);
+        }
+        if (chunks[chunkCount] == null) {
+            chunks[chunkCount] = new Object[chunkMask + 1];
+        }
+        heads[chunkCount] = 0;
+        chunkCount++;
+    }
+
+    private void rebuild(final int newChunkShift) {
+        final Object[] elements = toArray();
+        final int newChunkCapacity = 1 << newChunkShift;
+        final int newChunkCount = (size + newChunkCapacity - 1) >>> newChunkShift;
+
+        chunks = new Object[Math.max(newChunkCount + 1, 4)][];
+        heads = new int[chunks.length];
+        for (int i = 0; i < newChunkCount; ++i) {
+            final int from = i << newChunkShift;
+            chunks[i] = Arrays.copyOfRange(elements, from, from + newChunkCapacity);
+        }
+        chunkCount = newChunkCount;
+        chunkShift = newChunkShift;
+        chunkMask = newChunkCapacity - 1;
+    }
+
+    private void copyChunk(final int chunk, final Object[] target, final int targetIndex, final int count) {
+        final int head = heads[chunk];
+        final int firstPart = Math.min(count, chunkMask + 1 - head);
+        System.arraycopy(chunks[chunk], head, target, targetIndex, firstPart);
+        System.arraycopy(chunks[chunk], 0, target, targetIndex + firstPart, count - firstPart);
+    }
+
+    private static int chunkShift(final int expectedSize) {
+        // chunk capacity is the power of two closest to sqrt(expectedSize)
+        final int bits = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(expectedSize, 1));
+
+        return Math.max(MIN_CHUNK_SHIFT, (bits + 1) / 2);
+    }
+
+    /**
+     * Fail-fast list iterator.
+     */
+    private final class ChunkedListIterator implements Iterator<T> {
+        private int cursor; // index of element to return by next call of {@link #next()}
+
+        private int lastReturned = -1; // index of element returned by last call of {@link #next()}
+
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor++;
+            return element(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned < 0) {
+                throw new IllegalStateException("No element to remove at iterator position");
+            }
+
+            removeAt(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
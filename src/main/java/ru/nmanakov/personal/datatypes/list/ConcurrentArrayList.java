@@ -0,0 +1,363 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe copy-on-write array list implementation.
+ * <p>
+ * Elements are held in an immutable array snapshot published through {@code volatile} field. Reads never lock: each
+ * of them works with the snapshot actual at the moment of call. Writes are serialized, copy the snapshot, modify
+ * the copy and publish it, so every write costs O(n). Several modifications should be batched with
+ * {@link #update(Consumer)} to pay for a single copy.
+ */
+public final class ConcurrentArrayList<T> implements Iterable<T> {
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    private final Object lock = new Object(); // writers lock
+
+    private volatile Object[] array; // immutable element(-s) snapshot, its length is list size
+
+    /**
+     * Creates and initializes empty instance of {@code ConcurrentArrayList}.
+     */
+    public ConcurrentArrayList() {
+        this.array = EMPTY_ARRAY;
+    }
+
+    /**
+     * Creates and initializes instance of {@code ConcurrentArrayList} with {@code elements} provided.
+     *
+     * @param elements initial elements
+     */
+    public ConcurrentArrayList(final T... elements) {
+        this.array = Arrays.copyOf(elements, elements.length, Object[].class);
+    }
+
+    /**
+     * Retrieves last list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return retrieved element
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        final Object[] snapshot = array;
+        if (snapshot.length != 0) {
+            return (T) snapshot[snapshot.length - 1];
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Retrieves list element by {@code index}.
+     *
+     * @param index index of element to retrieve
+     *
+     * @return retrieved element
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        final Object[] snapshot = array;
+        if (index < 0 || index >= snapshot.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (T) snapshot[index];
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @param element element to add
+     *
+     * @return added element
+     */
+    public T add(final T element) {
+        synchronized (lock) {
+            final Object[] snapshot = array;
+            final Object[] newArray = Arrays.copyOf(snapshot, snapshot.length + 1);
+            newArray[snapshot.length] = element;
+            array = newArray;
+        }
+
+        return element;
+    }
+
+    /**
+     * Adds {@code element} to the list by {@code index}.
+     *
+     * @param element element to add
+     * @param index   index to add element by
+     *
+     * @return added element
+     */
+    public T add(final T element, final int index) {
+        synchronized (lock) {
+            final Object[] snapshot = array;
+            if (index < 0 || index > snapshot.length) {
+                throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+            }
+
+            final Object[] newArray = new Object[snapshot.length + 1];
+            System.arraycopy(snapshot, 0, newArray, 0, index);
+            System.arraycopy(snapshot, index, newArray, index + 1, snapshot.length - index);
+            newArray[index] = element;
+            array = newArray;
+        }
+
+        return element;
+    }
+
+    /**
+     * Adds all {@code elements} to the end of the list with a single snapshot copy.
+     *
+     * @param elements elements to add
+     */
+    public void addAll(final T[] elements) {
+        synchronized (lock) {
+            final Object[] snapshot = array;
+            final Object[] newArray = Arrays.copyOf(snapshot, snapshot.length + elements.length);
+            System.arraycopy(elements, 0, newArray, snapshot.length, elements.length);
+            array = newArray;
+        }
+    }
+
+    /**
+     * Adds all {@code elements} to the end of the list with a single snapshot copy.
+     *
+     * @param elements list of elements to add
+     */
+    public void addAll(final ArrayList<? extends T> elements) {
+        final Object[] elementsArray = elements.toArray();
+
+        synchronized (lock) {
+            final Object[] snapshot = array;
+            final Object[] newArray = Arrays.copyOf(snapshot, snapshot.length + elementsArray.length);
+            System.arraycopy(elementsArray, 0, newArray, snapshot.length, elementsArray.length);
+            array = newArray;
+        }
+    }
+
+    /**
+     * Removes last element from list.
+     *
+     * @return removed element, {@code null} - if nothing was removed
+     */
+    @SuppressWarnings("unchecked")
+    public T remove() {
+        synchronized (lock) {
+            final Object[] snapshot = array;
+            if (snapshot.length == 0) {
+                return null;
+            }
+
+            array = Arrays.copyOf(snapshot, snapshot.length - 1);
+            return (T) snapshot[snapshot.length - 1];
+        }
+    }
+
+    /**
+     * Removes element by {@code index} from list.
+     *
+     * @param index index of element to remove
+     *
+     * @return removed element
+     */
+    public T remove(final int index) {
+        synchronized (lock) {
+            final Object[] snapshot = array;
+            if (index < 0 || index >= snapshot.length) {
+                throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+            }
+
+            return removeAt(snapshot, index);
+        }
+    }
+
+    /**
+     * Removes element by first occurence of {@code element} from list.
+     *
+     * @param element element to remove
+     *
+     * @return removed element
+     */
+    public T remove(final T element) {
+        synchronized (lock) {
+            final Object[] snapshot = array;
+            final int index = indexOf(snapshot, element);
+
+            return index != -1 ? removeAt(snapshot, index) : null;
+        }
+    }
+
+    /**
+     * Removes all elements matching {@code filter} with a single snapshot copy.
+     *
+     * @param filter predicate returning {@code true} for elements to remove
+     *
+     * @return number of removed elements
+     */
+    @SuppressWarnings("unchecked")
+    public int removeIf(final Predicate<? super T> filter) {
+        synchronized (lock) {
+            final Object[] snapshot = array;
+            final Object[] newArray = new Object[snapshot.length];
+
+            int retained = 0;
+            for (final Object element : snapshot) {
+                if (!filter.test((T) element)) {
+                    newArray[retained++] = element;
+                }
+            }
+            if (retained != snapshot.length) {
+                array = Arrays.copyOf(newArray, retained);
+            }
+
+            return snapshot.length - retained;
+        }
+    }
+
+    /**
+     * Applies all modifications made by {@code mutator} with a single snapshot copy. Mutator receives modifiable copy
+     * of the list, which is published once mutator returns. Readers never observe intermediate modifications. The copy
+     * is left empty after publishing, so it should not be retained by mutator.
+     *
+     * @param mutator modifications to apply
+     */
+    public void update(final Consumer<? super ArrayList<T>> mutator) {
+        synchronized (lock) {
+            final Object[] snapshot = array;
+            final ArrayList<T> copy = ArrayList.adopt(Arrays.copyOf(snapshot, snapshot.length));
+            mutator.accept(copy);
+            array = copy.detach();
+        }
+    }
+
+    /**
+     * Gets index of provided {@code element}. If element's not present in the collection then return <b>-1</b>.
+     *
+     * @param element element's index to find
+     *
+     * @return element's index
+     */
+    public int indexOf(final T element) {
+        return indexOf(array, element);
+    }
+
+    /**
+     * Whether list contains provided {@code element}.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter list contains provided element or not
+     */
+    public boolean contains(final T element) {
+        return indexOf(array, element) != -1;
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    /**
+     * Number of list elements.
+     *
+     * @return list elements number
+     */
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Copies current list elements into a new {@link ArrayList}.
+     *
+     * @return list snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayList<T> snapshot() {
+        return new ArrayList<>((T[]) array);
+    }
+
+    /**
+     * Creates iterator over the snapshot actual at the moment of call. Iterator never observes following
+     * modifications and never fails because of them.
+     *
+     * @return snapshot iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        final Object[] snapshot = array;
+
+        return new Iterator<T>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < snapshot.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= snapshot.length) {
+                    throw new NoSuchElementException();
+                }
+                return (T) snapshot[index++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final ConcurrentArrayList<?> that = (ConcurrentArrayList<?>) obj;
+        return Arrays.equals(array, that.array);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(array);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(array);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T removeAt(final Object[] snapshot, final int index) {
+        final Object[] newArray = new Object[snapshot.length - 1];
+        System.arraycopy(snapshot, 0, newArray, 0, index);
+        System.arraycopy(snapshot, index + 1, newArray, index, snapshot.length - index - 1);
+        array = newArray;
+
+        return (T) snapshot[index];
+    }
+
+    private static int indexOf(final Object[] snapshot, final Object element) {
+        for (int i = 0; i < snapshot.length; ++i) {
+            if (Objects.equals(snapshot[i], element)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
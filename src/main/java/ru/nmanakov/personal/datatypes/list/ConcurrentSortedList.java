@@ -0,0 +1,265 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe ordered list implementation based on lock-free {@link ConcurrentSkipListMap}.
+ * <p>
+ * Elements are kept sorted by comparator, equal elements are kept in insertion order: every element is stored under
+ * a key made of the element and a unique sequence number, which breaks ties. Insertion, removal and search take
+ * O(log n) on average and never block, so writer threads insert in parallel. Iteration is weakly consistent: it
+ * never throws {@code ConcurrentModificationException} and reflects some of the modifications made after the iterator
+ * creation. Unlike {@link SortedList}, elements are not indexed.
+ * <p>
+ * Elements are compared by comparator only, {@code equals} of elements is not used. {@code null} elements are not
+ * supported.
+ *
+ * @param <T> element type
+ */
+public final class ConcurrentSortedList<T> implements Iterable<T> {
+    private final Comparator<? super T> comparator; // elements order
+
+    private final ConcurrentSkipListMap<Key<T>, Boolean> map; // element(-s) holder
+
+    private final AtomicLong sequence; // sequence number of the next added element
+
+    private final LongAdder size; // current number of element's in an list
+
+    /**
+     * Creates empty list ordering elements by their natural order.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentSortedList() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Creates empty list ordering elements by {@code comparator}.
+     *
+     * @param comparator elements order
+     */
+    public ConcurrentSortedList(final Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.map = new ConcurrentSkipListMap<>(this::compare);
+        this.sequence = new AtomicLong();
+        this.size = new LongAdder();
+    }
+
+    /**
+     * Retrieves first (the least) list element.
+     *
+     * @return retrieved element, {@code null} - if list is empty
+     */
+    public T first() {
+        final Map.Entry<Key<T>, Boolean> entry = map.firstEntry();
+
+        return entry != null ? entry.getKey().element : null;
+    }
+
+    /**
+     * Retrieves last (the greatest) list element.
+     *
+     * @return retrieved element, {@code null} - if list is empty
+     */
+    public T last() {
+        final Map.Entry<Key<T>, Boolean> entry = map.lastEntry();
+
+        return entry != null ? entry.getKey().element : null;
+    }
+
+    /**
+     * Adds {@code element} to the list keeping it sorted. Element is placed after all equal ones added before.
+     *
+     * @param element element to add
+     *
+     * @return added element
+     */
+    public T add(final T element) {
+        map.put(new Key<>(Objects.requireNonNull(element), sequence.getAndIncrement()), Boolean.TRUE);
+        size.increment();
+
+        return element;
+    }
+
+    /**
+     * Removes first (the least) element from list.
+     *
+     * @return removed element, {@code null} - if list is empty
+     */
+    public T pollFirst() {
+        final Map.Entry<Key<T>, Boolean> entry = map.pollFirstEntry();
+        if (entry == null) {
+            return null;
+        }
+
+        size.decrement();
+        return entry.getKey().element;
+    }
+
+    /**
+     * Removes first element equal to {@code element} according to comparator from list.
+     *
+     * @param element element to remove
+     *
+     * @return removed element, {@code null} - if nothing was removed
+     */
+    public T remove(final T element) {
+        final Key<T> lowerBound = new Key<>(element, Long.MIN_VALUE);
+        while (true) {
+            final Key<T> key = map.ceilingKey(lowerBound);
+            if (key == null || comparator.compare(key.element, element) != 0) {
+                return null;
+            }
+            // another thread could remove the same key concurrently, then the next equal one is tried
+            if (map.remove(key) != null) {
+                size.decrement();
+                return key.element;
+            }
+        }
+    }
+
+    /**
+     * Whether list contains element equal to {@code element} according to comparator.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter list contains provided element or not
+     */
+    public boolean contains(final T element) {
+        final Key<T> key = map.ceilingKey(new Key<>(element, Long.MIN_VALUE));
+
+        return key != null && comparator.compare(key.element, element) == 0;
+    }
+
+    /**
+     * Elements within {@code [fromElement, toElement)} range in ascending order. Range iteration is weakly
+     * consistent and supports removal.
+     *
+     * @param fromElement lower bound of the range, inclusive
+     * @param toElement   upper bound of the range, exclusive
+     *
+     * @return range elements
+     */
+    public Iterable<T> subRange(final T fromElement, final T toElement) {
+        final Key<T> from = new Key<>(Objects.requireNonNull(fromElement), Long.MIN_VALUE);
+        final Key<T> to = new Key<>(Objects.requireNonNull(toElement), Long.MIN_VALUE);
+
+        return () -> {
+            if (compare(from, to) >= 0) {
+                return Collections.emptyIterator();
+            }
+            return elements(map.subMap(from, true, to, false));
+        };
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * Number of list elements. Result is exact only if list is not modified concurrently.
+     *
+     * @return list elements number
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(size.sum(), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Copies list elements in ascending order into new array.
+     *
+     * @return array of list elements
+     */
+    public Object[] toArray() {
+        final ArrayList<Object> elements = new ArrayList<>();
+        for (final T element : this) {
+            elements.add(element);
+        }
+        return elements.toArray();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return elements(map);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder("[");
+        final Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            str.append(iterator.next());
+            if (iterator.hasNext()) {
+                str.append(", ");
+            }
+        }
+        str.append("]");
+
+        return str.toString();
+    }
+
+    private Iterator<T> elements(final ConcurrentNavigableMap<Key<T>, Boolean> keys) {
+        final Iterator<Key<T>> iterator = keys.keySet().iterator();
+        return new Iterator<T>() {
+            private Key<T> lastReturned; // key returned by last call of {@link #next()}
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                lastReturned = iterator.next();
+                return lastReturned.element;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException("No element to remove at iterator position");
+                }
+                // element could be removed concurrently, then it must not be counted twice
+                if (map.remove(lastReturned) != null) {
+                    size.decrement();
+                }
+                lastReturned = null;
+            }
+        };
+    }
+
+    private int compare(final Key<T> first, final Key<T> second) {
+        final int result = comparator.compare(first.element, second.element);
+
+        return result != 0 ? result : Long.compare(first.sequence, second.sequence);
+    }
+
+    /**
+     * Element stored under unique sequence number.
+     *
+     * @param <T> element type
+     */
+    private static final class Key<T> {
+        private final T element; // stored element
+
+        private final long sequence; // sequence number of the element addition
+
+        private Key(final T element, final long sequence) {
+            this.element = element;
+            this.sequence = sequence;
+        }
+    }
+}
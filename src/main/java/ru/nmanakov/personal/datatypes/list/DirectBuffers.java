@@ -0,0 +1,53 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Direct and mapped buffers utilities.
+ */
+final class DirectBuffers {
+    private static final Object UNSAFE; // sun.misc.Unsafe instance, {@code null} - if not available
+
+    private static final Method INVOKE_CLEANER; // sun.misc.Unsafe.invokeCleaner, {@code null} - if not available
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            unsafe = unsafeField.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            // memory is released by garbage collector then
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Releases native memory of direct or mapped {@code buffer} immediately, without waiting for garbage collection.
+     * Buffer must not be accessed afterwards. If immediate release is not supported by the runtime, then memory is
+     * released once buffer is garbage collected.
+     *
+     * @param buffer buffer to release
+     */
+    static void release(final ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || !buffer.isDirect()) {
+            return;
+        }
+
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            // memory is released by garbage collector then
+        }
+    }
+}
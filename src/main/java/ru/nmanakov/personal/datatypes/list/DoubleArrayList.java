@@ -0,0 +1,420 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Array list implementation specialized for {@code double} elements.
+ * <p>
+ * Elements are stored in {@code double[]} holder, so neither element addition nor element retrieval box values.
+ */
+public final class DoubleArrayList implements Cloneable {
+    private static final int DEFAULT_INITIAL_CAPACITY = 15;
+
+    private double[] array; // element(-s) holder
+
+    private int capacity; // maximum capacity for element(-s) holder
+
+    private int size; // current number of element's in an list
+
+    private final GrowthPolicy growthPolicy; // element(-s) holder growth policy
+
+    /**
+     * Creates and initializes instance of {@code DoubleArrayList} with capacity as default one.
+     */
+    public DoubleArrayList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates and initializes instance of {@code DoubleArrayList} with {@code elements} provided.
+     *
+     * @param elements initial elements
+     */
+    public DoubleArrayList(final double... elements) {
+        this.array = new double[elements.length * 2];
+        System.arraycopy(elements, 0, this.array, 0, elements.length);
+        this.capacity = elements.length * 2;
+        this.size = elements.length;
+        this.growthPolicy = GrowthPolicy.DEFAULT;
+    }
+
+    /**
+     * Creates empty array list with initial capacity equals to {@code initialCapacity}.
+     *
+     * @param initialCapacity initial capacity
+     */
+    public DoubleArrayList(final int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Creates empty array list with initial capacity equals to {@code initialCapacity}, which grows according to
+     * {@code growthPolicy}.
+     *
+     * @param initialCapacity initial capacity
+     * @param growthPolicy    element(-s) holder growth policy
+     */
+    public DoubleArrayList(final int initialCapacity, final GrowthPolicy growthPolicy) {
+        this.array = new double[initialCapacity];
+        this.capacity = initialCapacity;
+        this.size = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Retrieves last list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return retrieved element
+     */
+    public double get() {
+        if (size != 0) {
+            return array[size - 1];
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Retrieves list element by {@code index}.
+     *
+     * @param index index of element to retrieve
+     *
+     * @return retrieved element
+     */
+    public double get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return array[index];
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @param element element to add
+     *
+     * @return added element
+     */
+    public double add(final double element) {
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        array[size++] = element;
+
+        return element;
+    }
+
+    /**
+     * Adds {@code element} to the list by {@code index}.
+     *
+     * @param element element to add
+     * @param index   index to add element by
+     *
+     * @return added element
+     */
+    public double add(final double element, final int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        if (index != size) {
+            System.arraycopy(array, index, array, index + 1, size - index);
+        }
+        array[index] = element;
+        size++;
+
+        return element;
+    }
+
+    /**
+     * Removes last element from list. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return removed element
+     */
+    public double remove() {
+        if (size != 0) {
+            return array[--size];
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Removes element by {@code index} from list.
+     *
+     * @param index index of element to remove
+     *
+     * @return removed element
+     */
+    public double remove(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        final double removedElement = array[index];
+        if (index < size - 1) {
+            System.arraycopy(array, index + 1, array, index, size - index - 1);
+        }
+        size--;
+
+        return removedElement;
+    }
+
+    /**
+     * Removes first occurence of {@code element} from list.
+     * <p>
+     * Named differently from {@link #remove(int)}, to stay consistent with {@link IntArrayList#removeElement(int)}.
+     *
+     * @param element element to remove
+     *
+     * @return whether element was removed or not
+     */
+    public boolean removeElement(final double element) {
+        final int index = indexOf(element);
+        if (index == -1) {
+            return false;
+        }
+
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Gets index of provided {@code element}. If element's not present in the collection then return <b>-1</b>.
+     * <p>
+     * Elements are compared the same way {@link Double#equals(Object)} does, so {@code NaN} is found by itself
+     * and {@code 0.0} is not equal to {@code -0.0}.
+     *
+     * @param element element's index to find
+     *
+     * @return element's index
+     */
+    public int indexOf(final double element) {
+        return ScanKernels.INSTANCE.indexOf(array, size, element);
+    }
+
+    /**
+     * Whether list contains provided {@code element}.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter list contains provided element or not
+     */
+    public boolean contains(final double element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Replaces every list element with {@code element}.
+     *
+     * @param element element to fill list with
+     */
+    public void fill(final double element) {
+        ScanKernels.INSTANCE.fill(array, size, element);
+    }
+
+    /**
+     * Sum of list elements. Elements may be added in any order, so result may differ in rounding from the
+     * one of sequential addition.
+     *
+     * @return sum of list elements, <b>0</b> - if list is empty
+     */
+    public double sum() {
+        return ScanKernels.INSTANCE.sum(array, size);
+    }
+
+    /**
+     * Minimum list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     * <p>
+     * Elements are compared as by {@link Math#min(double, double)}, so {@code NaN} is the minimum if it's present and
+     * {@code -0.0} is less than {@code 0.0}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return minimum element
+     */
+    public double min() {
+        if (size != 0) {
+            return ScanKernels.INSTANCE.min(array, size);
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Maximum list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     * <p>
+     * Elements are compared as by {@link Math#max(double, double)}, so {@code NaN} is the maximum if it's present and
+     * {@code -0.0} is less than {@code 0.0}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return maximum element
+     */
+    public double max() {
+        if (size != 0) {
+            return ScanKernels.INSTANCE.max(array, size);
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Sorts list elements in ascending order in place by dual-pivot quicksort. Elements are ordered as by
+     * {@link Double#compare(double, double)}: {@code -0.0} precedes {@code 0.0} and {@code NaN} elements are the last.
+     */
+    public void sort() {
+        Arrays.sort(array, 0, size);
+    }
+
+    /**
+     * Sorts list elements in ascending order in place, splitting the work between all available processors.
+     * Small lists are sorted sequentially.
+     */
+    public void parallelSort() {
+        Arrays.parallelSort(array, 0, size);
+    }
+
+    /**
+     * Searches sorted list for {@code element}. If list is not sorted then result is undefined.
+     *
+     * @param element element to search for
+     *
+     * @return element's index if it's present in the list, otherwise <b>(-(insertion point) - 1)</b>
+     */
+    public int binarySearch(final double element) {
+        return Arrays.binarySearch(array, 0, size, element);
+    }
+
+    /**
+     * Ensures that list is able to hold at least {@code minCapacity} element(-s) without further growth.
+     *
+     * @param minCapacity minimum required capacity
+     */
+    public void ensureCapacity(final int minCapacity) {
+        if (minCapacity > capacity) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims capacity of the list to its current size.
+     */
+    public void trimToSize() {
+        if (size < capacity) {
+            array = Arrays.copyOf(array, size);
+            capacity = size;
+        }
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of list elements.
+     *
+     * @return list elements number
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clones <p>this</p> object with its own copy of element(-s) holder and returns it.
+     *
+     * @return cloned list
+     *
+     * @throws CloneNotSupportedException if error occurred during clone operation
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        final DoubleArrayList clone = (DoubleArrayList) super.clone();
+        clone.array = array.clone();
+
+        return clone;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final DoubleArrayList that = (DoubleArrayList) obj;
+        return size == that.size && ScanKernels.INSTANCE.equals(array, that.array, size);
+    }
+
+    @Override
+    public int hashCode() {
+        return ScanKernels.INSTANCE.hashCode(array, size);
+    }
+
+    /**
+     * Writes list string representation, the same as {@link #toString()} one, to {@code out}. Unlike
+     * {@link #toString()}, representation is written in bounded chunks and is never built as a whole.
+     *
+     * @param out output to write to, e.g. {@link java.io.Writer}
+     *
+     * @throws IOException if output fails
+     */
+    public void writeTo(final Appendable out) throws IOException {
+        writeTo(out, size);
+    }
+
+    /**
+     * Writes string representation of at most {@code limit} first list elements to {@code out}. Number of remaining
+     * elements is written after them: {@code [1, 2, ... 8 more]}. Elements are formatted without boxing into bounded
+     * chunks, so representation is never built as a whole.
+     *
+     * @param out   output to write to, e.g. {@link java.io.Writer}
+     * @param limit maximum number of element(-s) to write
+     *
+     * @throws IllegalArgumentException if {@code limit} is negative
+     * @throws IOException              if output fails
+     */
+    public void writeTo(final Appendable out, final int limit) throws IOException {
+        ListWriter.checkLimit(limit);
+
+        final ListWriter writer = new ListWriter(out);
+        final int count = Math.min(limit, size);
+        for (int i = 0; i < count; ++i) {
+            writer.next().append(array[i]);
+        }
+        writer.close(size - count);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < size; ++i) {
+            str.append(array[i]);
+            if (i != size - 1) {
+                str.append(", ");
+            }
+        }
+        str.append("]");
+
+        return str.toString();
+    }
+
+    private void grow(final int minCapacity) {
+        final int newCapacity = growthPolicy.newCapacity(capacity, minCapacity);
+
+        array = Arrays.copyOf(array, newCapacity);
+        capacity = newCapacity;
+    }
+}
@@ -1,8 +1,556 @@
 package ru.nmanakov.personal.datatypes.list;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
 /**
  * Double linked list implementation.
+ * <p>
+ * Nodes are not separate objects: node's element and links are stored in parallel {@code items}, {@code next} and
+ * {@code prev} arrays, and node is referred by its slot index in them. Slots of removed nodes are chained into a free
+ * list and reused by following additions, so queue-like workloads do not allocate anything once holders are grown.
  */
-public final class DoubleLinkedList implements Cloneable {
+public final class DoubleLinkedList<T> implements Iterable<T>, Cloneable {
+    private static final int DEFAULT_INITIAL_CAPACITY = 15;
+
+    private static final int NIL = -1; // absent node slot
+
+    private Object[] items; // node's element holder
+
+    private int[] next; // node's next slot holder, free slots are chained through it as well
+
+    private int[] prev; // node's previous slot holder
+
+    private int capacity; // maximum capacity for node(-s) holders
+
+    private int used; // number of slots ever occupied, slots starting from it have never been used
+
+    private int free; // first slot of free slots chain
+
+    private int head; // first node's slot
+
+    private int tail; // last node's slot
+
+    private int size; // current number of element's in an list
+
+    private int modCount; // number of structural modifications, used by cursors to fail fast
+
+    private final GrowthPolicy growthPolicy; // node(-s) holders growth policy
+
+    /**
+     * Creates and initializes instance of {@code DoubleLinkedList} with capacity as default one.
+     */
+    public DoubleLinkedList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates and initializes instance of {@code DoubleLinkedList} with {@code elements} provided.
+     *
+     * @param elements initial elements
+     */
+    public DoubleLinkedList(final T... elements) {
+        this(elements.length, GrowthPolicy.DEFAULT);
+        for (final T element : elements) {
+            addLast(element);
+        }
+    }
+
+    /**
+     * Creates empty linked list able to hold {@code initialCapacity} element(-s) without growth.
+     *
+     * @param initialCapacity initial capacity
+     */
+    public DoubleLinkedList(final int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Creates empty linked list able to hold {@code initialCapacity} element(-s) without growth, node(-s) holders of
+     * which grow according to {@code growthPolicy}.
+     *
+     * @param initialCapacity initial capacity
+     * @param growthPolicy    node(-s) holders growth policy
+     */
+    public DoubleLinkedList(final int initialCapacity, final GrowthPolicy growthPolicy) {
+        this.items = new Object[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.prev = new int[initialCapacity];
+        this.capacity = initialCapacity;
+        this.used = 0;
+        this.free = NIL;
+        this.head = NIL;
+        this.tail = NIL;
+        this.size = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Adds {@code element} to the beginning of the list.
+     *
+     * @param element element to add
+     */
+    public void addFirst(final T element) {
+        linkBefore(head, element);
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @param element element to add
+     */
+    public void addLast(final T element) {
+        linkBefore(NIL, element);
+    }
+
+    /**
+     * Retrieves first list element without removal.
+     *
+     * @return first element, {@code null} - if list is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekFirst() {
+        return head != NIL ? (T) items[head] : null;
+    }
+
+    /**
+     * Retrieves last list element without removal.
+     *
+     * @return last element, {@code null} - if list is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekLast() {
+        return tail != NIL ? (T) items[tail] : null;
+    }
+
+    /**
+     * Retrieves and removes first list element.
+     *
+     * @return removed element, {@code null} - if list is empty
+     */
+    public T pollFirst() {
+        return head != NIL ? unlink(head) : null;
+    }
+
+    /**
+     * Retrieves and removes last list element.
+     *
+     * @return removed element, {@code null} - if list is empty
+     */
+    public T pollLast() {
+        return tail != NIL ? unlink(tail) : null;
+    }
+
+    /**
+     * Retrieves last list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return retrieved element
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        if (size != 0) {
+            return (T) items[tail];
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Retrieves list element by {@code index}. List is traversed from the nearest end.
+     *
+     * @param index index of element to retrieve
+     *
+     * @return retrieved element
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (T) items[slotOf(index)];
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @param element element to add
+     *
+     * @return added element
+     */
+    public T add(final T element) {
+        addLast(element);
+
+        return element;
+    }
+
+    /**
+     * Adds {@code element} to the list by {@code index}.
+     *
+     * @param element element to add
+     * @param index   index to add element by
+     *
+     * @return added element
+     */
+    public T add(final T element, final int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        linkBefore(index == size ? NIL : slotOf(index), element);
+
+        return element;
+    }
+
+    /**
+     * Removes last element from list.
+     *
+     * @return removed element, {@code null} - if nothing was removed
+     */
+    public T remove() {
+        return pollLast();
+    }
+
+    /**
+     * Removes element by {@code index} from list.
+     *
+     * @param index index of element to remove
+     *
+     * @return removed element
+     */
+    public T remove(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        return unlink(slotOf(index));
+    }
+
+    /**
+     * Removes element by first occurence of {@code element} from list.
+     *
+     * @param element element to remove
+     *
+     * @return removed element
+     */
+    public T remove(final T element) {
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (Objects.equals(items[slot], element)) {
+                return unlink(slot);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets index of provided {@code element}. If element's not present in the collection then return <b>-1</b>.
+     *
+     * @param element element's index to find
+     *
+     * @return element's index
+     */
+    public int indexOf(final T element) {
+        int index = 0;
+        for (int slot = head; slot != NIL; slot = next[slot], ++index) {
+            if (Objects.equals(items[slot], element)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Whether list contains provided {@code element}.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter list contains provided element or not
+     */
+    public boolean contains(final T element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of list elements.
+     *
+     * @return list elements number
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Relocates nodes so that their slots follow list order. After heavy churn consecutive nodes are scattered over
+     * holders, compaction makes traversal sequential in memory again.
+     */
+    public void compact() {
+        final Object[] newItems = new Object[capacity];
+        final int[] newNext = new int[capacity];
+        final int[] newPrev = new int[capacity];
+
+        int index = 0;
+        for (int slot = head; slot != NIL; slot = next[slot], ++index) {
+            newItems[index] = items[slot];
+            newNext[index] = index + 1;
+            newPrev[index] = index - 1;
+        }
+        if (size != 0) {
+            newNext[size - 1] = NIL;
+        }
+
+        items = newItems;
+        next = newNext;
+        prev = newPrev;
+        used = size;
+        free = NIL;
+        head = size != 0 ? 0 : NIL;
+        tail = size - 1;
+        modCount++;
+    }
+
+    /**
+     * Creates cursor positioned before the first list element. Cursor is able to insert and remove elements at its
+     * position in constant time.
+     *
+     * @return list cursor
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return cursor();
+    }
+
+    /**
+     * Clones <p>this</p> object with its own copy of node(-s) holders and returns it.
+     *
+     * @return cloned list
+     *
+     * @throws CloneNotSupportedException if error occurred during clone operation
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        @SuppressWarnings("unchecked") final DoubleLinkedList<T> clone = (DoubleLinkedList<T>) super.clone();
+        clone.items = items.clone();
+        clone.next = next.clone();
+        clone.prev = prev.clone();
+        clone.modCount = 0;
+
+        return clone;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final DoubleLinkedList<?> that = (DoubleLinkedList<?>) obj;
+        if (size != that.size) {
+            return false;
+        }
+        for (int slot = head, thatSlot = that.head; slot != NIL; slot = next[slot], thatSlot = that.next[thatSlot]) {
+            if (!Objects.equals(items[slot], that.items[thatSlot])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            result = result * prime + Objects.hashCode(items[slot]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder("[");
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            str.append(items[slot]);
+            if (slot != tail) {
+                str.append(", ");
+            }
+        }
+        str.append("]");
+
+        return str.toString();
+    }
+
+    private int slotOf(final int index) {
+        int slot;
+        if (index < size / 2) {
+            slot = head;
+            for (int i = 0; i < index; ++i) {
+                slot = next[slot];
+            }
+        } else {
+            slot = tail;
+            for (int i = size - 1; i > index; --i) {
+                slot = prev[slot];
+            }
+        }
+
+        return slot;
+    }
+
+    private void linkBefore(final int successor, final T element) {
+        final int slot = allocate();
+        final int predecessor = successor != NIL ? prev[successor] : tail;
+
+        items[slot] = element;
+        next[slot] = successor;
+        prev[slot] = predecessor;
+        if (predecessor != NIL) {
+            next[predecessor] = slot;
+        } else {
+            head = slot;
+        }
+        if (successor != NIL) {
+            prev[successor] = slot;
+        } else {
+            tail = slot;
+        }
+        size++;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T unlink(final int slot) {
+        final T removedElement = (T) items[slot];
+        final int predecessor = prev[slot];
+        final int successor = next[slot];
+
+        if (predecessor != NIL) {
+            next[predecessor] = successor;
+        } else {
+            head = successor;
+        }
+        if (successor != NIL) {
+            prev[successor] = predecessor;
+        } else {
+            tail = predecessor;
+        }
+
+        items[slot] = null;
+        next[slot] = free;
+        free = slot;
+        size--;
+        modCount++;
+
+        return removedElement;
+    }
+
+    private int allocate() {
+        if (free != NIL) {
+            final int slot = free;
+            free = next[slot];
+            return slot;
+        }
+
+        if (used == capacity) {
+            final int newCapacity = growthPolicy.newCapacity(capacity, used + 1);
+
+            items = Arrays.copyOf(items, newCapacity);
+            next = Arrays.copyOf(next, newCapacity);
+            prev = Arrays.copyOf(prev, newCapacity);
+            capacity = newCapacity;
+        }
+        return used++;
+    }
+
+    /**
+     * Linked list cursor. Cursor is positioned between two adjacent elements (or before first / after last one) and
+     * fails fast if list is structurally modified not through it.
+     */
+    public final class Cursor implements Iterator<T> {
+        private int nextSlot = head; // slot of element returned by next call of {@link #next()}
+
+        private int lastReturnedSlot = NIL; // slot of element returned by last call of {@link #next()}
+
+        private int expectedModCount = modCount;
+
+        private Cursor() {
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot != NIL;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (nextSlot == NIL) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturnedSlot = nextSlot;
+            nextSlot = next[nextSlot];
+
+            return (T) items[lastReturnedSlot];
+        }
+
+        /**
+         * Inserts {@code element} at cursor position, so it's placed before the element to be returned by
+         * following {@link #next()} call.
+         *
+         * @param element element to insert
+         */
+        public void add(final T element) {
+            checkForComodification();
+
+            linkBefore(nextSlot, element);
+            lastReturnedSlot = NIL;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Removes element returned by last {@link #next()} call.
+         */
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturnedSlot == NIL) {
+                throw new IllegalStateException("No element to remove at cursor position");
+            }
+
+            unlink(lastReturnedSlot);
+            lastReturnedSlot = NIL;
+            expectedModCount = modCount;
+        }
 
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary codec of list elements, which is used by {@link ListCodec} to serialize {@link ArrayList} elements.
+ * <p>
+ * Codec is never given {@code null} elements: their presence is encoded by {@link ListCodec} itself.
+ *
+ * @param <T> element type
+ */
+public interface ElementCodec<T> {
+    /**
+     * Codec of {@code Integer} elements.
+     */
+    ElementCodec<Integer> INT = new ElementCodec<Integer>() {
+        @Override
+        public void write(final DataOutput out, final Integer element) throws IOException {
+            out.writeInt(element);
+        }
+
+        @Override
+        public Integer read(final DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /**
+     * Codec of {@code Long} elements.
+     */
+    ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        @Override
+        public void write(final DataOutput out, final Long element) throws IOException {
+            out.writeLong(element);
+        }
+
+        @Override
+        public Long read(final DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    /**
+     * Codec of {@code Double} elements.
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        @Override
+        public void write(final DataOutput out, final Double element) throws IOException {
+            out.writeDouble(element);
+        }
+
+        @Override
+        public Double read(final DataInput in) throws IOException {
+            return in.readDouble();
+        }
+    };
+
+    /**
+     * Codec of {@code String} elements encoded as UTF-8 bytes prefixed by their number. Unlike
+     * {@link DataOutput#writeUTF(String)} strings of any length are supported.
+     */
+    ElementCodec<String> STRING = new ElementCodec<String>() {
+        @Override
+        public void write(final DataOutput out, final String element) throws IOException {
+            final byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(final DataInput in) throws IOException {
+            final int length = in.readInt();
+            if (length < 0) {
+                throw new IOException(String.format("Malformed string length %d", length));
+            }
+
+            final byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Writes {@code element} to {@code out}.
+     *
+     * @param out     output to write element to
+     * @param element element to write, never {@code null}
+     *
+     * @throws IOException if element can not be written
+     */
+    void write(DataOutput out, T element) throws IOException;
+
+    /**
+     * Reads element from {@code in}.
+     *
+     * @param in input to read element from
+     *
+     * @throws IOException if element can not be read
+     * @return read element
+     */
+    T read(DataInput in) throws IOException;
+}
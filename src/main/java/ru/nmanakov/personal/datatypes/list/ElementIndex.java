@@ -0,0 +1,256 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index of list elements, which is used by {@link ArrayList} in indexed mode.
+ * <p>
+ * Index keeps sorted positions of all occurrences of each element. Number of occurrences is maintained exactly by
+ * every list modification, so membership check is always O(1). Positions are kept in sync through shifts lazily:
+ * every shift of a tail of the list is recorded to a bounded log, which is replayed to an entry by its next access.
+ * Therefore, position lookups cost O(1) expected plus the number of shifts since the previous access of the entry.
+ * <p>
+ * Once the log overflows, or elements are reordered (sorting, filtering), positions are rebuilt by the next lookup in
+ * a single pass. Log holds up to an eighth of the list size shifts, so rebuilds cost O(1) amortized time per shift,
+ * and replay of the whole log costs less than a scan of the list.
+ */
+final class ElementIndex {
+    private static final int MIN_LOG_LIMIT = 64;
+
+    private static final int LOG_LIMIT_DIVISOR = 8; // list size to log limit ratio
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final Map<Object, Entry> entries; // element -> its occurrences
+
+    private int[] shiftFrom; // log of shifts: first shifted position
+
+    private int[] shiftDelta; // log of shifts: distance positions have been shifted by
+
+    private int shifts; // number of shifts recorded to the log since the last rebuild
+
+    private int logLimit; // maximum number of shifts in the log
+
+    private boolean rebuildNeeded; // whether positions should be rebuilt, as shifts have not been kept by the log
+
+    /**
+     * Creates index of the first {@code size} elements of {@code array}.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements to index
+     */
+    ElementIndex(final Object[] array, final int size) {
+        this.entries = new HashMap<>();
+        this.shiftFrom = new int[MIN_LOG_LIMIT];
+        this.shiftDelta = new int[MIN_LOG_LIMIT];
+        this.logLimit = logLimit(size);
+        for (int i = 0; i < size; ++i) {
+            added(array[i], i);
+        }
+    }
+
+    private ElementIndex(final ElementIndex index) {
+        this.entries = new HashMap<>();
+        for (final Map.Entry<Object, Entry> entry : index.entries.entrySet()) {
+            this.entries.put(entry.getKey(), new Entry(entry.getValue()));
+        }
+        this.shiftFrom = index.shiftFrom.clone();
+        this.shiftDelta = index.shiftDelta.clone();
+        this.shifts = index.shifts;
+        this.logLimit = index.logLimit;
+        this.rebuildNeeded = index.rebuildNeeded;
+    }
+
+    /**
+     * Registers {@code element} placed by {@code position} without shifting other elements, e.g. appended one.
+     *
+     * @param element  added element
+     * @param position element's position
+     */
+    void added(final Object element, final int position) {
+        Entry entry = entries.get(element);
+        if (entry == null) {
+            entry = new Entry(shifts);
+            entries.put(element, entry);
+        }
+        if (rebuildNeeded) {
+            entry.count++;
+            return;
+        }
+
+        sync(entry);
+        int insertion = Arrays.binarySearch(entry.positions, 0, entry.count, position);
+        insertion = insertion < 0 ? -insertion - 1 : insertion;
+        if (entry.count == entry.positions.length) {
+            entry.positions = Arrays.copyOf(entry.positions, Math.max(1, entry.count * 2));
+        }
+        System.arraycopy(entry.positions, insertion, entry.positions, insertion + 1, entry.count - insertion);
+        entry.positions[insertion] = position;
+        entry.count++;
+    }
+
+    /**
+     * Registers {@code element} inserted by {@code position}, which shifts elements from this position on by one.
+     *
+     * @param element  inserted element
+     * @param position element's position
+     */
+    void inserted(final Object element, final int position) {
+        shifted(position, 1);
+        added(element, position);
+    }
+
+    /**
+     * Registers removal of {@code element} from {@code position}. If removal shifts other elements, then
+     * {@link #shifted(int, int)} should be called as well.
+     *
+     * @param element  removed element
+     * @param position element's position
+     */
+    void removed(final Object element, final int position) {
+        final Entry entry = entries.get(element);
+        if (entry.count == 1) {
+            entries.remove(element);
+            return;
+        }
+        if (rebuildNeeded) {
+            entry.count--;
+            return;
+        }
+
+        sync(entry);
+        final int removal = Arrays.binarySearch(entry.positions, 0, entry.count, position);
+        System.arraycopy(entry.positions, removal + 1, entry.positions, removal, entry.count - removal - 1);
+        entry.count--;
+    }
+
+    /**
+     * Registers shift of elements positioned at {@code from} and after it by {@code delta} positions.
+     *
+     * @param from  first shifted position
+     * @param delta shift distance, negative - if elements have been shifted towards the list head
+     */
+    void shifted(final int from, final int delta) {
+        if (rebuildNeeded) {
+            return;
+        }
+        if (shifts == logLimit) {
+            rebuildNeeded = true;
+            return;
+        }
+
+        if (shifts == shiftFrom.length) {
+            shiftFrom = Arrays.copyOf(shiftFrom, Math.min(shifts * 2, logLimit));
+            shiftDelta = Arrays.copyOf(shiftDelta, shiftFrom.length);
+        }
+        shiftFrom[shifts] = from;
+        shiftDelta[shifts] = delta;
+        shifts++;
+    }
+
+    /**
+     * Registers arbitrary reordering of list elements, e.g. by sorting.
+     */
+    void reordered() {
+        rebuildNeeded = true;
+    }
+
+    /**
+     * Whether {@code element} is present in the list.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return whether element is present or not
+     */
+    boolean contains(final Object element) {
+        return entries.containsKey(element);
+    }
+
+    /**
+     * Gets first position of {@code element}, bringing its positions up to date.
+     *
+     * @param element element's index to find
+     * @param array   indexed element(-s) holder
+     * @param size    number of indexed elements
+     *
+     * @return element's first position, <b>-1</b> - if element is not present in the list
+     */
+    int indexOf(final Object element, final Object[] array, final int size) {
+        final Entry entry = entries.get(element);
+        if (entry == null) {
+            return -1;
+        }
+
+        if (rebuildNeeded) {
+            rebuild(array, size);
+        }
+        sync(entry);
+        return entry.positions[0];
+    }
+
+    /**
+     * Creates independent copy of the index.
+     *
+     * @return index copy
+     */
+    ElementIndex copy() {
+        return new ElementIndex(this);
+    }
+
+    private void sync(final Entry entry) {
+        // log holds every shift since the entry's previous access, unless rebuild is needed
+        for (int shift = entry.shifts; shift < shifts; ++shift) {
+            final int from = shiftFrom[shift];
+            final int delta = shiftDelta[shift];
+            for (int i = entry.count - 1; i >= 0 && entry.positions[i] >= from; --i) {
+                entry.positions[i] += delta;
+            }
+        }
+        entry.shifts = shifts;
+    }
+
+    private void rebuild(final Object[] array, final int size) {
+        for (final Entry entry : entries.values()) {
+            if (entry.positions.length < entry.count) {
+                entry.positions = new int[entry.count];
+            }
+            entry.count = 0;
+        }
+        for (int i = 0; i < size; ++i) {
+            final Entry entry = entries.get(array[i]);
+            entry.positions[entry.count++] = i;
+        }
+
+        shifts = 0;
+        logLimit = logLimit(size);
+        for (final Entry entry : entries.values()) {
+            entry.shifts = 0;
+        }
+        rebuildNeeded = false;
+    }
+
+    private static int logLimit(final int size) {
+        return Math.max(MIN_LOG_LIMIT, size / LOG_LIMIT_DIVISOR);
+    }
+
+    private static final class Entry {
+        private int count; // number of element occurrences
+
+        private int[] positions; // sorted occurrence positions, first {@code count} ones are used
+
+        private int shifts; // number of logged shifts positions have been brought up to date with
+
+        Entry(final int shifts) {
+            this.positions = NO_POSITIONS;
+            this.shifts = shifts;
+        }
+
+        Entry(final Entry entry) {
+            this.count = entry.count;
+            this.positions = Arrays.copyOf(entry.positions, entry.positions.length);
+            this.shifts = entry.shifts;
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Gap buffer list implementation for edits concentrated around a moving cursor.
+ * <p>
+ * Element(-s) holder keeps free slots (the gap) at the position of the last edit. Insertion or removal moves the gap
+ * to the edited position first, which costs the number of elements between the old and the new position, and then
+ * takes O(1). Edits near the cursor are therefore amortized O(1), while random edits are as costly as in
+ * {@link ArrayList}. Retrieval by index is always O(1).
+ */
+public final class GapBufferList<T> implements Iterable<T> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 15;
+
+    private Object[] array; // element(-s) holder, elements before and after the gap
+
+    private int gapStart; // index of the first free slot, the cursor
+
+    private int gapEnd; // index after the last free slot
+
+    private int modCount; // number of structural modifications, used by iterators to fail fast
+
+    private final GrowthPolicy growthPolicy; // element(-s) holder growth policy
+
+    /**
+     * Creates and initializes instance of {@code GapBufferList} with capacity as default one.
+     */
+    public GapBufferList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates and initializes instance of {@code GapBufferList} with {@code elements} provided.
+     *
+     * @param elements initial elements
+     */
+    public GapBufferList(final T... elements) {
+        this.array = new Object[elements.length * 2];
+        System.arraycopy(elements, 0, this.array, 0, elements.length);
+        this.gapStart = elements.length;
+        this.gapEnd = array.length;
+        this.growthPolicy = GrowthPolicy.DEFAULT;
+    }
+
+    /**
+     * Creates empty list with initial capacity equals to {@code initialCapacity}.
+     *
+     * @param initialCapacity initial capacity
+     */
+    public GapBufferList(final int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Creates empty list with initial capacity equals to {@code initialCapacity}, which grows according to
+     * {@code growthPolicy}.
+     *
+     * @param initialCapacity initial capacity
+     * @param growthPolicy    element(-s) holder growth policy
+     */
+    public GapBufferList(final int initialCapacity, final GrowthPolicy growthPolicy) {
+        this.array = new Object[initialCapacity];
+        this.gapStart = 0;
+        this.gapEnd = initialCapacity;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Retrieves last list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return retrieved element
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        final int size = size();
+        if (size != 0) {
+            return (T) array[slot(size - 1)];
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Retrieves list element by {@code index}.
+     *
+     * @param index index of element to retrieve
+     *
+     * @return retrieved element
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (T) array[slot(index)];
+    }
+
+    /**
+     * Adds {@code element} to the end of the list. The cursor is moved to the end of the list.
+     *
+     * @param element element to add
+     *
+     * @return added element
+     */
+    public T add(final T element) {
+        return add(element, size());
+    }
+
+    /**
+     * Adds {@code element} to the list by {@code index}. The cursor is moved after the added element.
+     *
+     * @param element element to add
+     * @param index   index to add element by
+     *
+     * @return added element
+     */
+    public T add(final T element, final int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        if (gapStart == gapEnd) {
+            grow(array.length + 1);
+        }
+        moveGap(index);
+        array[gapStart++] = element;
+        modCount++;
+
+        return element;
+    }
+
+    /**
+     * Removes last element from list.
+     *
+     * @return removed element, {@code null} - if nothing was removed
+     */
+    public T remove() {
+        final int size = size();
+
+        return size != 0 ? removeAt(size - 1) : null;
+    }
+
+    /**
+     * Removes element by {@code index} from list. The cursor is moved to the removed element's position.
+     *
+     * @param index index of element to remove
+     *
+     * @return removed element
+     */
+    public T remove(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        return removeAt(index);
+    }
+
+    /**
+     * Removes element by first occurence of {@code element} from list.
+     *
+     * @param element element to remove
+     *
+     * @return removed element
+     */
+    public T remove(final T element) {
+        final int index = indexOf(element);
+
+        return index != -1 ? removeAt(index) : null;
+    }
+
+    /**
+     * Gets index of provided {@code element}. If element's not present in the collection then return <b>-1</b>.
+     *
+     * @param element element's index to find
+     *
+     * @return element's index
+     */
+    public int indexOf(final T element) {
+        for (int i = 0; i < gapStart; ++i) {
+            if (Objects.equals(array[i], element)) {
+                return i;
+            }
+        }
+        for (int i = gapEnd; i < array.length; ++i) {
+            if (Objects.equals(array[i], element)) {
+                return i - gapEnd + gapStart;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Whether list contains provided {@code element}.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter list contains provided element or not
+     */
+    public boolean contains(final T element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Cursor position: index before which the gap is located, so that edits by this index cost O(1).
+     *
+     * @return cursor position
+     */
+    public int cursor() {
+        return gapStart;
+    }
+
+    /**
+     * Ensures that list is able to hold at least {@code minCapacity} elements without further growth.
+     *
+     * @param minCapacity minimum required capacity
+     */
+    public void ensureCapacity(final int minCapacity) {
+        if (minCapacity > array.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims capacity of the list to its current size. The gap is closed, so the next edit grows the holder.
+     */
+    public void trimToSize() {
+        final int size = size();
+        if (size < array.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Number of list elements.
+     *
+     * @return list elements number
+     */
+    public int size() {
+        return array.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Copies list elements into a new array.
+     *
+     * @return array of list elements
+     */
+    public Object[] toArray() {
+        final Object[] copy = new Object[size()];
+        System.arraycopy(array, 0, copy, 0, gapStart);
+        System.arraycopy(array, gapEnd, copy, gapStart, array.length - gapEnd);
+
+        return copy;
+    }
+
+    /**
+     * Creates fail-fast iterator over list elements. Iterator throws {@code ConcurrentModificationException} if list
+     * has been structurally modified after iterator creation.
+     *
+     * @return list iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new GapBufferListIterator();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final GapBufferList<?> that = (GapBufferList<?>) obj;
+        final int size = size();
+        if (size != that.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; ++i) {
+            if (!Objects.equals(array[slot(i)], that.array[that.slot(i)])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+
+        for (int i = 0; i < gapStart; ++i) {
+            result = result * prime + Objects.hashCode(array[i]);
+        }
+        for (int i = gapEnd; i < array.length; ++i) {
+            result = result * prime + Objects.hashCode(array[i]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final int size = size();
+        final StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < size; ++i) {
+            str.append(array[slot(i)]);
+            if (i != size - 1) {
+                str.append(", ");
+            }
+        }
+        str.append("]");
+
+        return str.toString();
+    }
+
+    private int slot(final int index) {
+        return index < gapStart ? index : index + gapEnd - gapStart;
+    }
+
+    private T removeAt(final int index) {
+        moveGap(index);
+
+        //noinspection unchecked
+        final T removedElement = (T) array[gapEnd];
+        array[gapEnd++] = null;
+        modCount++;
+
+        return removedElement;
+    }
+
+    private void moveGap(final int index) {
+        if (index < gapStart) {
+            final int count = gapStart - index;
+            System.arraycopy(array, index, array, gapEnd - count, count);
+            clearSlots(index, Math.min(gapStart, gapEnd - count));
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            final int count = index - gapStart;
+            System.arraycopy(array, gapEnd, array, gapStart, count);
+            clearSlots(Math.max(gapEnd, index), gapEnd + count);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    private void clearSlots(final int from, final int to) {
+        // moved elements' old slots, which are now in the gap, must not retain elements
+        for (int i = from; i < to; ++i) {
+            array[i] = null;
+        }
+    }
+
+    private void grow(final int minCapacity) {
+        resize(growthPolicy.newCapacity(array.length, minCapacity));
+    }
+
+    private void resize(final int newCapacity) {
+        final int tail = array.length - gapEnd;
+        final Object[] newArray = new Object[newCapacity];
+        System.arraycopy(array, 0, newArray, 0, gapStart);
+        System.arraycopy(array, gapEnd, newArray, newCapacity - tail, tail);
+
+        array = newArray;
+        gapEnd = newCapacity - tail;
+    }
+
+    /**
+     * Fail-fast list iterator.
+     */
+    private final class GapBufferListIterator implements Iterator<T> {
+        private int cursor; // index of element to return by next call of {@link #next()}
+
+        private int lastReturned = -1; // index of element returned by last call of {@link #next()}
+
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (cursor >= size()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor++;
+            return (T) array[slot(lastReturned)];
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned < 0) {
+                throw new IllegalStateException("No element to remove at iterator position");
+            }
+
+            removeAt(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ru.nmanakov.personal.datatypes.list;
+
+/**
+ * Capacity growth policy for array based lists.
+ * <p>
+ * Capacity is multiplied by {@code factor} on each growth, but never grows by more than {@code maxStep} element(-s)
+ * at once and never exceeds {@link #MAX_CAPACITY}.
+ */
+public final class GrowthPolicy {
+    /**
+     * Maximum capacity of element(-s) holder. Some virtual machines reserve header words in an array, so requesting
+     * {@code Integer.MAX_VALUE} element(-s) fails even if heap is large enough.
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Default policy: capacity is doubled on each growth.
+     */
+    public static final GrowthPolicy DEFAULT = new GrowthPolicy(2.0, MAX_CAPACITY);
+
+    private final double factor; // capacity multiplier
+
+    private final int maxStep; // maximum number of element(-s) capacity may grow by at once
+
+    /**
+     * Creates growth policy.
+     *
+     * @param factor  capacity multiplier, must be greater than <b>1</b>
+     * @param maxStep maximum number of element(-s) capacity may grow by at once, must be positive
+     *
+     * @throws IllegalArgumentException if {@code factor} or {@code maxStep} is out of range
+     */
+    public GrowthPolicy(final double factor, final int maxStep) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException(String.format("Growth factor %s should be greater than 1", factor));
+        }
+        if (maxStep <= 0) {
+            throw new IllegalArgumentException(String.format("Growth step %d should be positive", maxStep));
+        }
+
+        this.factor = factor;
+        this.maxStep = maxStep;
+    }
+
+    /**
+     * Capacity multiplier.
+     *
+     * @return capacity multiplier
+     */
+    public double factor() {
+        return factor;
+    }
+
+    /**
+     * Maximum number of element(-s) capacity may grow by at once.
+     *
+     * @return maximum growth step
+     */
+    public int maxStep() {
+        return maxStep;
+    }
+
+    /**
+     * Calculates new capacity for element(-s) holder of {@code capacity} which should fit at least
+     * {@code minCapacity} element(-s).
+     *
+     * @param capacity    current capacity
+     * @param minCapacity minimum required capacity
+     *
+     * @return new capacity, which is not less than {@code minCapacity}
+     *
+     * @throws OutOfMemoryError if {@code minCapacity} exceeds {@link #MAX_CAPACITY} or has overflown
+     */
+    public int newCapacity(final int capacity, final int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required list capacity is too large");
+        }
+
+        final long step = Math.max(Math.min((long) (capacity * factor) - capacity, maxStep), 1);
+        final long newCapacity = Math.min(capacity + step, MAX_CAPACITY);
+
+        return (int) Math.max(newCapacity, minCapacity);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GrowthPolicy[factor=%s, maxStep=%d]", factor, maxStep);
+    }
+}
@@ -0,0 +1,416 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Array list implementation specialized for {@code int} elements.
+ * <p>
+ * Elements are stored in {@code int[]} holder, so neither element addition nor element retrieval box values.
+ */
+public final class IntArrayList implements Cloneable {
+    private static final int DEFAULT_INITIAL_CAPACITY = 15;
+
+    private static final int RADIX_SORT_THRESHOLD = 1 << 12;
+
+    private int[] array; // element(-s) holder
+
+    private int capacity; // maximum capacity for element(-s) holder
+
+    private int size; // current number of element's in an list
+
+    private final GrowthPolicy growthPolicy; // element(-s) holder growth policy
+
+    /**
+     * Creates and initializes instance of {@code IntArrayList} with capacity as default one.
+     */
+    public IntArrayList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates and initializes instance of {@code IntArrayList} with {@code elements} provided.
+     *
+     * @param elements initial elements
+     */
+    public IntArrayList(final int... elements) {
+        this.array = new int[elements.length * 2];
+        System.arraycopy(elements, 0, this.array, 0, elements.length);
+        this.capacity = elements.length * 2;
+        this.size = elements.length;
+        this.growthPolicy = GrowthPolicy.DEFAULT;
+    }
+
+    /**
+     * Creates empty array list with initial capacity equals to {@code initialCapacity}.
+     *
+     * @param initialCapacity initial capacity
+     */
+    public IntArrayList(final int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Creates empty array list with initial capacity equals to {@code initialCapacity}, which grows according to
+     * {@code growthPolicy}.
+     *
+     * @param initialCapacity initial capacity
+     * @param growthPolicy    element(-s) holder growth policy
+     */
+    public IntArrayList(final int initialCapacity, final GrowthPolicy growthPolicy) {
+        this.array = new int[initialCapacity];
+        this.capacity = initialCapacity;
+        this.size = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Retrieves last list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return retrieved element
+     */
+    public int get() {
+        if (size != 0) {
+            return array[size - 1];
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Retrieves list element by {@code index}.
+     *
+     * @param index index of element to retrieve
+     *
+     * @return retrieved element
+     */
+    public int get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return array[index];
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @param element element to add
+     *
+     * @return added element
+     */
+    public int add(final int element) {
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        array[size++] = element;
+
+        return element;
+    }
+
+    /**
+     * Adds {@code element} to the list by {@code index}.
+     *
+     * @param element element to add
+     * @param index   index to add element by
+     *
+     * @return added element
+     */
+    public int add(final int element, final int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        if (index != size) {
+            System.arraycopy(array, index, array, index + 1, size - index);
+        }
+        array[index] = element;
+        size++;
+
+        return element;
+    }
+
+    /**
+     * Removes last element from list. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return removed element
+     */
+    public int remove() {
+        if (size != 0) {
+            return array[--size];
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Removes element by {@code index} from list.
+     *
+     * @param index index of element to remove
+     *
+     * @return removed element
+     */
+    public int remove(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        final int removedElement = array[index];
+        if (index < size - 1) {
+            System.arraycopy(array, index + 1, array, index, size - index - 1);
+        }
+        size--;
+
+        return removedElement;
+    }
+
+    /**
+     * Removes first occurence of {@code element} from list.
+     * <p>
+     * Named differently from {@link #remove(int)}, because both of them would accept {@code int} argument otherwise.
+     *
+     * @param element element to remove
+     *
+     * @return whether element was removed or not
+     */
+    public boolean removeElement(final int element) {
+        final int index = indexOf(element);
+        if (index == -1) {
+            return false;
+        }
+
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Gets index of provided {@code element}. If element's not present in the collection then return <b>-1</b>.
+     *
+     * @param element element's index to find
+     *
+     * @return element's index
+     */
+    public int indexOf(final int element) {
+        return ScanKernels.INSTANCE.indexOf(array, size, element);
+    }
+
+    /**
+     * Whether list contains provided {@code element}.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter list contains provided element or not
+     */
+    public boolean contains(final int element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Replaces every list element with {@code element}.
+     *
+     * @param element element to fill list with
+     */
+    public void fill(final int element) {
+        ScanKernels.INSTANCE.fill(array, size, element);
+    }
+
+    /**
+     * Sum of list elements, which doesn't overflow, as elements are added as {@code long} ones.
+     *
+     * @return sum of list elements, <b>0</b> - if list is empty
+     */
+    public long sum() {
+        return ScanKernels.INSTANCE.sum(array, size);
+    }
+
+    /**
+     * Minimum list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return minimum element
+     */
+    public int min() {
+        if (size != 0) {
+            return ScanKernels.INSTANCE.min(array, size);
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Maximum list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return maximum element
+     */
+    public int max() {
+        if (size != 0) {
+            return ScanKernels.INSTANCE.max(array, size);
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Sorts list elements in ascending order in place. Large lists are sorted by radix sort in O(n) time using a
+     * scratch array of list size, smaller ones - by dual-pivot quicksort.
+     */
+    public void sort() {
+        if (size < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(array, 0, size);
+        } else {
+            RadixSort.sort(array, size);
+        }
+    }
+
+    /**
+     * Sorts list elements in ascending order in place, splitting the work between all available processors.
+     * Small lists are sorted sequentially.
+     */
+    public void parallelSort() {
+        Arrays.parallelSort(array, 0, size);
+    }
+
+    /**
+     * Searches sorted list for {@code element}. If list is not sorted then result is undefined.
+     *
+     * @param element element to search for
+     *
+     * @return element's index if it's present in the list, otherwise <b>(-(insertion point) - 1)</b>
+     */
+    public int binarySearch(final int element) {
+        return Arrays.binarySearch(array, 0, size, element);
+    }
+
+    /**
+     * Ensures that list is able to hold at least {@code minCapacity} element(-s) without further growth.
+     *
+     * @param minCapacity minimum required capacity
+     */
+    public void ensureCapacity(final int minCapacity) {
+        if (minCapacity > capacity) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims capacity of the list to its current size.
+     */
+    public void trimToSize() {
+        if (size < capacity) {
+            array = Arrays.copyOf(array, size);
+            capacity = size;
+        }
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of list elements.
+     *
+     * @return list elements number
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clones <p>this</p> object with its own copy of element(-s) holder and returns it.
+     *
+     * @return cloned list
+     *
+     * @throws CloneNotSupportedException if error occurred during clone operation
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        final IntArrayList clone = (IntArrayList) super.clone();
+        clone.array = array.clone();
+
+        return clone;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final IntArrayList that = (IntArrayList) obj;
+        return size == that.size && ScanKernels.INSTANCE.equals(array, that.array, size);
+    }
+
+    @Override
+    public int hashCode() {
+        return ScanKernels.INSTANCE.hashCode(array, size);
+    }
+
+    /**
+     * Writes list string representation, the same as {@link #toString()} one, to {@code out}. Unlike
+     * {@link #toString()}, representation is written in bounded chunks and is never built as a whole.
+     *
+     * @param out output to write to, e.g. {@link java.io.Writer}
+     *
+     * @throws IOException if output fails
+     */
+    public void writeTo(final Appendable out) throws IOException {
+        writeTo(out, size);
+    }
+
+    /**
+     * Writes string representation of at most {@code limit} first list elements to {@code out}. Number of remaining
+     * elements is written after them: {@code [1, 2, ... 8 more]}. Elements are formatted without boxing into bounded
+     * chunks, so representation is never built as a whole.
+     *
+     * @param out   output to write to, e.g. {@link java.io.Writer}
+     * @param limit maximum number of element(-s) to write
+     *
+     * @throws IllegalArgumentException if {@code limit} is negative
+     * @throws IOException              if output fails
+     */
+    public void writeTo(final Appendable out, final int limit) throws IOException {
+        ListWriter.checkLimit(limit);
+
+        final ListWriter writer = new ListWriter(out);
+        final int count = Math.min(limit, size);
+        for (int i = 0; i < count; ++i) {
+            writer.next().append(array[i]);
+        }
+        writer.close(size - count);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < size; ++i) {
+            str.append(array[i]);
+            if (i != size - 1) {
+                str.append(", ");
+            }
+        }
+        str.append("]");
+
+        return str.toString();
+    }
+
+    private void grow(final int minCapacity) {
+        final int newCapacity = growthPolicy.newCapacity(capacity, minCapacity);
+
+        array = Arrays.copyOf(array, newCapacity);
+        capacity = newCapacity;
+    }
+}
@@ -0,0 +1,320 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary serialization of {@link ArrayList} and its primitive variants.
+ * <p>
+ * Encoded list consists of a two bytes header (format version and list type) followed by chunks of at most
+ * {@value #CHUNK_ELEMENTS} elements. Every chunk is prefixed by its number of elements as a varint, empty chunk ends
+ * the list, so a list is written without knowing its size upfront and is read back chunk by chunk by
+ * {@link ListDecoder}.
+ * <p>
+ * Elements of primitive lists are delta encoded: {@code int} and {@code long} values are written as zigzag varints of
+ * their difference with the previous value, {@code double} values - as varints of XOR of their bits with the previous
+ * value's bits. Sorted, clustered or repeating values therefore take from one to a few bytes. Elements of
+ * {@code ArrayList} are written by pluggable {@link ElementCodec}, each one prefixed by its presence byte.
+ * <p>
+ * Output is buffered internally and written to the target by chunks, so no intermediate array holding the whole
+ * payload is ever created.
+ */
+public final class ListCodec {
+    static final int FORMAT_VERSION = 1;
+
+    static final int OBJECT_LIST = 0;
+
+    static final int INT_LIST = 1;
+
+    static final int LONG_LIST = 2;
+
+    static final int DOUBLE_LIST = 3;
+
+    static final int CHUNK_ELEMENTS = 4096;
+
+    private static final int BUFFER_BYTES = 8192;
+
+    private ListCodec() {
+    }
+
+    /**
+     * Writes {@code list} to {@code out}. Stream is not closed.
+     *
+     * @param list list to write
+     * @param out  stream to write list to
+     *
+     * @throws IOException if list can not be written
+     */
+    public static void write(final IntArrayList list, final OutputStream out) throws IOException {
+        write(list, new Sink(out, null));
+    }
+
+    /**
+     * Writes {@code list} to {@code buffer} starting from its position.
+     *
+     * @param list   list to write
+     * @param buffer buffer to write list to
+     *
+     * @throws java.nio.BufferOverflowException if buffer has not enough space left
+     */
+    public static void write(final IntArrayList list, final ByteBuffer buffer) {
+        writeUnchecked(() -> write(list, new Sink(null, buffer)));
+    }
+
+    /**
+     * Writes {@code list} to {@code out}. Stream is not closed.
+     *
+     * @param list list to write
+     * @param out  stream to write list to
+     *
+     * @throws IOException if list can not be written
+     */
+    public static void write(final LongArrayList list, final OutputStream out) throws IOException {
+        write(list, new Sink(out, null));
+    }
+
+    /**
+     * Writes {@code list} to {@code buffer} starting from its position.
+     *
+     * @param list   list to write
+     * @param buffer buffer to write list to
+     *
+     * @throws java.nio.BufferOverflowException if buffer has not enough space left
+     */
+    public static void write(final LongArrayList list, final ByteBuffer buffer) {
+        writeUnchecked(() -> write(list, new Sink(null, buffer)));
+    }
+
+    /**
+     * Writes {@code list} to {@code out}. Stream is not closed.
+     *
+     * @param list list to write
+     * @param out  stream to write list to
+     *
+     * @throws IOException if list can not be written
+     */
+    public static void write(final DoubleArrayList list, final OutputStream out) throws IOException {
+        write(list, new Sink(out, null));
+    }
+
+    /**
+     * Writes {@code list} to {@code buffer} starting from its position.
+     *
+     * @param list   list to write
+     * @param buffer buffer to write list to
+     *
+     * @throws java.nio.BufferOverflowException if buffer has not enough space left
+     */
+    public static void write(final DoubleArrayList list, final ByteBuffer buffer) {
+        writeUnchecked(() -> write(list, new Sink(null, buffer)));
+    }
+
+    /**
+     * Writes {@code list} to {@code out} encoding its elements by {@code codec}. Stream is not closed.
+     *
+     * @param list  list to write
+     * @param codec elements codec
+     * @param out   stream to write list to
+     * @param <T>   element type
+     *
+     * @throws IOException if list can not be written
+     */
+    public static <T> void write(final ArrayList<? extends T> list, final ElementCodec<T> codec,
+                                 final OutputStream out) throws IOException {
+        write(list, codec, new Sink(out, null));
+    }
+
+    /**
+     * Writes {@code list} to {@code buffer} starting from its position, encoding its elements by {@code codec}.
+     *
+     * @param list   list to write
+     * @param codec  elements codec
+     * @param buffer buffer to write list to
+     * @param <T>    element type
+     *
+     * @throws IOException                      if element codec fails
+     * @throws java.nio.BufferOverflowException if buffer has not enough space left
+     */
+    public static <T> void write(final ArrayList<? extends T> list, final ElementCodec<T> codec,
+                                 final ByteBuffer buffer) throws IOException {
+        write(list, codec, new Sink(null, buffer));
+    }
+
+    private static void write(final IntArrayList list, final Sink sink) throws IOException {
+        sink.writeHeader(INT_LIST);
+
+        int previous = 0;
+        for (int from = 0; from < list.size(); from += CHUNK_ELEMENTS) {
+            final int to = Math.min(list.size(), from + CHUNK_ELEMENTS);
+            sink.writeVarLong(to - from);
+            for (int i = from; i < to; ++i) {
+                final int value = list.get(i);
+                sink.writeVarLong(zigzag(value - previous) & 0xFFFFFFFFL);
+                previous = value;
+            }
+        }
+        sink.writeVarLong(0);
+        sink.flush();
+    }
+
+    private static void write(final LongArrayList list, final Sink sink) throws IOException {
+        sink.writeHeader(LONG_LIST);
+
+        long previous = 0;
+        for (int from = 0; from < list.size(); from += CHUNK_ELEMENTS) {
+            final int to = Math.min(list.size(), from + CHUNK_ELEMENTS);
+            sink.writeVarLong(to - from);
+            for (int i = from; i < to; ++i) {
+                final long value = list.get(i);
+                sink.writeVarLong(zigzag(value - previous));
+                previous = value;
+            }
+        }
+        sink.writeVarLong(0);
+        sink.flush();
+    }
+
+    private static void write(final DoubleArrayList list, final Sink sink) throws IOException {
+        sink.writeHeader(DOUBLE_LIST);
+
+        long previous = 0;
+        for (int from = 0; from < list.size(); from += CHUNK_ELEMENTS) {
+            final int to = Math.min(list.size(), from + CHUNK_ELEMENTS);
+            sink.writeVarLong(to - from);
+            for (int i = from; i < to; ++i) {
+                final long bits = Double.doubleToRawLongBits(list.get(i));
+                sink.writeVarLong(bits ^ previous);
+                previous = bits;
+            }
+        }
+        sink.writeVarLong(0);
+        sink.flush();
+    }
+
+    private static <T> void write(final ArrayList<? extends T> list, final ElementCodec<T> codec,
+                                  final Sink sink) throws IOException {
+        sink.writeHeader(OBJECT_LIST);
+
+        final DataOutputStream data = new DataOutputStream(sink);
+        for (int from = 0; from < list.size(); from += CHUNK_ELEMENTS) {
+            final int to = Math.min(list.size(), from + CHUNK_ELEMENTS);
+            sink.writeVarLong(to - from);
+            for (int i = from; i < to; ++i) {
+                final T element = list.get(i);
+                if (element != null) {
+                    sink.write(1);
+                    codec.write(data, element);
+                } else {
+                    sink.write(0);
+                }
+            }
+        }
+        sink.writeVarLong(0);
+        sink.flush();
+    }
+
+    static int zigzag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static long zigzag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeUnchecked(final Write write) {
+        try {
+            write.run();
+        } catch (final IOException e) {
+            // byte buffer output never fails with I/O error
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        void run() throws IOException;
+    }
+
+    /**
+     * Buffered output writing either to a stream or to a byte buffer.
+     */
+    private static final class Sink extends OutputStream {
+        private final OutputStream out; // target stream, {@code null} - if writing to buffer
+
+        private final ByteBuffer target; // target buffer, {@code null} - if writing to stream
+
+        private final byte[] buffer; // pending bytes
+
+        private int position; // number of pending bytes
+
+        Sink(final OutputStream out, final ByteBuffer target) {
+            this.out = out;
+            this.target = target;
+            this.buffer = new byte[BUFFER_BYTES];
+            this.position = 0;
+        }
+
+        void writeHeader(final int listType) throws IOException {
+            write(FORMAT_VERSION);
+            write(listType);
+        }
+
+        void writeVarLong(final long value) throws IOException {
+            if (position > buffer.length - 10) {
+                drain();
+            }
+
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            buffer[position++] = (byte) remaining;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (position == buffer.length) {
+                drain();
+            }
+            buffer[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (len > buffer.length - position) {
+                drain();
+                if (len > buffer.length) {
+                    put(b, off, len);
+                    return;
+                }
+            }
+            System.arraycopy(b, off, buffer, position, len);
+            position += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+            if (out != null) {
+                out.flush();
+            }
+        }
+
+        private void drain() throws IOException {
+            put(buffer, 0, position);
+            position = 0;
+        }
+
+        private void put(final byte[] b, final int off, final int len) throws IOException {
+            if (out != null) {
+                out.write(b, off, len);
+            } else {
+                target.put(b, off, len);
+            }
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Incremental reader of lists encoded by {@link ListCodec}.
+ * <p>
+ * Decoder reads encoded list chunk by chunk, so at most one chunk of elements is decoded by a single call and the
+ * whole payload is never held in memory. Reading from a stream is buffered and may read ahead of the list end.
+ * Reading from a byte buffer leaves buffer's position right after the list end.
+ * <p>
+ * Decoder reads a single list: either by {@code readChunk} calls until they return {@code 0}, or by a single
+ * {@code readAll} call.
+ */
+public final class ListDecoder {
+    private static final int BUFFER_BYTES = 8192;
+
+    private final Source source; // encoded list source
+
+    private final int listType; // type of the encoded list
+
+    private long previous; // previous primitive value or its bits
+
+    private boolean finished; // whether the last chunk has been read
+
+    /**
+     * Creates decoder reading list from {@code in} and reads list header.
+     *
+     * @param in stream to read list from
+     *
+     * @throws IOException if header can not be read or is malformed
+     */
+    public ListDecoder(final InputStream in) throws IOException {
+        this(new Source(in));
+    }
+
+    /**
+     * Creates decoder reading list from {@code buffer} starting from its position and reads list header.
+     *
+     * @param buffer buffer to read list from
+     *
+     * @throws IOException if header can not be read or is malformed
+     */
+    public ListDecoder(final ByteBuffer buffer) throws IOException {
+        this(new Source(buffer));
+    }
+
+    private ListDecoder(final Source source) throws IOException {
+        this.source = source;
+
+        final int version = source.readByte();
+        if (version != ListCodec.FORMAT_VERSION) {
+            throw new IOException(String.format("Unsupported list format version %d", version));
+        }
+        this.listType = source.readByte();
+        if (listType < ListCodec.OBJECT_LIST || listType > ListCodec.DOUBLE_LIST) {
+            throw new IOException(String.format("Unsupported list type %d", listType));
+        }
+        this.previous = 0;
+        this.finished = false;
+    }
+
+    /**
+     * Whether the whole list has been read.
+     *
+     * @return whether list has been read or not
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Reads next chunk of {@code int} list and appends its elements to {@code target}.
+     *
+     * @param target list to append elements to
+     *
+     * @throws IOException if chunk can not be read or list is not an {@code int} one
+     * @return number of appended elements, {@code 0} - if whole list has been read
+     */
+    public int readChunk(final IntArrayList target) throws IOException {
+        final int count = readChunkHeader(ListCodec.INT_LIST);
+        target.ensureCapacity(target.size() + count);
+
+        int value = (int) previous;
+        for (int i = 0; i < count; ++i) {
+            final int delta = (int) source.readVarLong();
+            value += (delta >>> 1) ^ -(delta & 1);
+            target.add(value);
+        }
+        previous = value;
+
+        return count;
+    }
+
+    /**
+     * Reads next chunk of {@code long} list and appends its elements to {@code target}.
+     *
+     * @param target list to append elements to
+     *
+     * @throws IOException if chunk can not be read or list is not a {@code long} one
+     * @return number of appended elements, {@code 0} - if whole list has been read
+     */
+    public int readChunk(final LongArrayList target) throws IOException {
+        final int count = readChunkHeader(ListCodec.LONG_LIST);
+        target.ensureCapacity(target.size() + count);
+
+        long value = previous;
+        for (int i = 0; i < count; ++i) {
+            final long delta = source.readVarLong();
+            value += (delta >>> 1) ^ -(delta & 1);
+            target.add(value);
+        }
+        previous = value;
+
+        return count;
+    }
+
+    /**
+     * Reads next chunk of {@code double} list and appends its elements to {@code target}.
+     *
+     * @param target list to append elements to
+     *
+     * @throws IOException if chunk can not be read or list is not a {@code double} one
+     * @return number of appended elements, {@code 0} - if whole list has been read
+     */
+    public int readChunk(final DoubleArrayList target) throws IOException {
+        final int count = readChunkHeader(ListCodec.DOUBLE_LIST);
+        target.ensureCapacity(target.size() + count);
+
+        long bits = previous;
+        for (int i = 0; i < count; ++i) {
+            bits ^= source.readVarLong();
+            target.add(Double.longBitsToDouble(bits));
+        }
+        previous = bits;
+
+        return count;
+    }
+
+    /**
+     * Reads next chunk of list decoding its elements by {@code codec} and appends them to {@code target}.
+     *
+     * @param target list to append elements to
+     * @param codec  elements codec
+     * @param <T>    element type
+     *
+     * @throws IOException if chunk can not be read or list is not an {@code ArrayList} one
+     * @return number of appended elements, {@code 0} - if whole list has been read
+     */
+    public <T> int readChunk(final ArrayList<T> target, final ElementCodec<? extends T> codec) throws IOException {
+        final int count = readChunkHeader(ListCodec.OBJECT_LIST);
+        target.ensureCapacity(target.size() + count);
+
+        final DataInputStream data = source.data();
+        for (int i = 0; i < count; ++i) {
+            final int presence = source.readByte();
+            if (presence == 1) {
+                target.add(codec.read(data));
+            } else if (presence == 0) {
+                target.add(null);
+            } else {
+                throw new IOException(String.format("Malformed element presence %d", presence));
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Reads the rest of {@code int} list and appends its elements to {@code target}.
+     *
+     * @param target list to append elements to
+     *
+     * @throws IOException if list can not be read or is not an {@code int} one
+     * @return {@code target}
+     */
+    public IntArrayList readAll(final IntArrayList target) throws IOException {
+        while (readChunk(target) != 0) {
+            // chunks are appended to target
+        }
+        return target;
+    }
+
+    /**
+     * Reads the rest of {@code long} list and appends its elements to {@code target}.
+     *
+     * @param target list to append elements to
+     *
+     * @throws IOException if list can not be read or is not a {@code long} one
+     * @return {@code target}
+     */
+    public LongArrayList readAll(final LongArrayList target) throws IOException {
+        while (readChunk(target) != 0) {
+            // chunks are appended to target
+        }
+        return target;
+    }
+
+    /**
+     * Reads the rest of {@code double} list and appends its elements to {@code target}.
+     *
+     * @param target list to append elements to
+     *
+     * @throws IOException if list can not be read or is not a {@code double} one
+     * @return {@code target}
+     */
+    public DoubleArrayList readAll(final DoubleArrayList target) throws IOException {
+        while (readChunk(target) != 0) {
+            // chunks are appended to target
+        }
+        return target;
+    }
+
+    /**
+     * Reads the rest of list decoding its elements by {@code codec} and appends them to {@code target}.
+     *
+     * @param target list to append elements to
+     * @param codec  elements codec
+     * @param <T>    element type
+     *
+     * @throws IOException if list can not be read or is not an {@code ArrayList} one
+     * @return {@code target}
+     */
+    public <T> ArrayList<T> readAll(final ArrayList<T> target, final ElementCodec<? extends T> codec)
+            throws IOException {
+        while (readChunk(target, codec) != 0) {
+            // chunks are appended to target
+        }
+        return target;
+    }
+
+    private int readChunkHeader(final int expectedType) throws IOException {
+        if (listType != expectedType) {
+            throw new IOException(String.format("Encoded list type %d doesn't match requested type %d",
+                    listType, expectedType));
+        }
+        if (finished) {
+            return 0;
+        }
+
+        final long count = source.readVarLong();
+        if (count < 0 || count > ListCodec.CHUNK_ELEMENTS) {
+            throw new IOException(String.format("Malformed chunk size %d", count));
+        }
+        finished = count == 0;
+
+        return (int) count;
+    }
+
+    /**
+     * Buffered input reading either from a stream or from a byte buffer.
+     */
+    private static final class Source extends InputStream {
+        private final InputStream in; // source stream, {@code null} - if reading from buffer
+
+        private final ByteBuffer window; // bytes available for reading
+
+        private DataInputStream data; // element codecs input
+
+        Source(final InputStream in) {
+            this.in = in;
+            this.window = ByteBuffer.allocate(BUFFER_BYTES);
+            this.window.limit(0);
+        }
+
+        Source(final ByteBuffer buffer) {
+            this.in = null;
+            this.window = buffer;
+        }
+
+        DataInputStream data() {
+            if (data == null) {
+                data = new DataInputStream(this);
+            }
+            return data;
+        }
+
+        int readByte() throws IOException {
+            if (!window.hasRemaining() && !fill()) {
+                throw new EOFException("Unexpected end of encoded list");
+            }
+            return window.get() & 0xFF;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                final int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if (b < 0x80) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!window.hasRemaining() && !fill()) {
+                return -1;
+            }
+            return window.get() & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!window.hasRemaining() && !fill()) {
+                return -1;
+            }
+
+            final int count = Math.min(len, window.remaining());
+            window.get(b, off, count);
+            return count;
+        }
+
+        private boolean fill() throws IOException {
+            if (in == null) {
+                return false;
+            }
+
+            final int count = in.read(window.array(), 0, window.capacity());
+            if (count <= 0) {
+                return false;
+            }
+            window.clear();
+            window.limit(count);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package ru.nmanakov.personal.datatypes.list;
+
+/**
+ * Listener of {@link ArrayList} element(-s) holder events, which is installed by
+ * {@link ArrayList#setListener(ListListener)}.
+ * <p>
+ * Listener is called synchronously by the list operation causing the event, so it should be cheap. Listener shared
+ * between several lists should be thread-safe if lists are used by different threads.
+ */
+public interface ListListener {
+    /**
+     * Called after element(-s) holder has been grown.
+     *
+     * @param oldCapacity      capacity before growth
+     * @param newCapacity      capacity after growth
+     * @param requiredCapacity capacity required by the operation causing growth
+     */
+    default void grown(int oldCapacity, int newCapacity, int requiredCapacity) {
+    }
+
+    /**
+     * Called after elements have been shifted within element(-s) holder by insertion or removal.
+     *
+     * @param count number of shifted elements
+     */
+    default void shifted(int count) {
+    }
+
+    /**
+     * Called after element(-s) holder has been trimmed.
+     *
+     * @param oldCapacity capacity before trimming
+     * @param newCapacity capacity after trimming
+     */
+    default void trimmed(int oldCapacity, int newCapacity) {
+    }
+
+    /**
+     * Called after growth or trim replaced element(-s) holder, so that unused capacity of the list changed. Slack of
+     * a holder is the capacity beyond the one required by the operation, which created it. Holders created before
+     * the listener was installed have no slack reported, so reported values of a list always net out.
+     * <p>
+     * Slack is retracted ({@code newSlack} is <b>0</b>) once the listener is uninstalled or the list is garbage
+     * collected. In the latter case the listener is called by a cleaner thread.
+     *
+     * @param oldSlack slack of the replaced holder, as reported by the previous event of this list
+     * @param newSlack slack of the new holder
+     */
+    default void slackChanged(int oldSlack, int newSlack) {
+    }
+}
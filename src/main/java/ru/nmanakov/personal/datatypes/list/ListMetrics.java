@@ -0,0 +1,169 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe {@link ListListener} collecting counters of element(-s) holder growths and element shifts.
+ * <p>
+ * Single instance could be shared by all lists of one kind (e.g. created by the same component) to find out how
+ * they should be presized. Counters are exposed through {@link ListMetricsMXBean} once metrics are registered by
+ * {@link #register(String)}. Lists without listener pay nothing for metrics.
+ */
+public final class ListMetrics implements ListListener, ListMetricsMXBean {
+    private static final String DOMAIN = "ru.nmanakov.personal.datatypes";
+
+    private static final int REFERENCE_BYTES = referenceBytes();
+
+    private final LongAdder grows = new LongAdder();
+
+    private final LongAdder elementsCopied = new LongAdder();
+
+    private final LongAdder elementsShifted = new LongAdder();
+
+    private final LongAdder wastedCapacity = new LongAdder();
+
+    private final LongAccumulator peakCapacity = new LongAccumulator(Math::max, 0);
+
+    private final LongAccumulator peakRequiredCapacity = new LongAccumulator(Math::max, 0);
+
+    @Override
+    public void grown(final int oldCapacity, final int newCapacity, final int requiredCapacity) {
+        grows.increment();
+        elementsCopied.add(oldCapacity);
+        peakCapacity.accumulate(newCapacity);
+        peakRequiredCapacity.accumulate(requiredCapacity);
+    }
+
+    @Override
+    public void shifted(final int count) {
+        elementsShifted.add(count);
+    }
+
+    @Override
+    public void trimmed(final int oldCapacity, final int newCapacity) {
+        elementsCopied.add(newCapacity);
+    }
+
+    @Override
+    public void slackChanged(final int oldSlack, final int newSlack) {
+        wastedCapacity.add(newSlack - oldSlack);
+    }
+
+    @Override
+    public long getGrows() {
+        return grows.sum();
+    }
+
+    @Override
+    public long getElementsCopied() {
+        return elementsCopied.sum();
+    }
+
+    @Override
+    public long getBytesCopied() {
+        return elementsCopied.sum() * REFERENCE_BYTES;
+    }
+
+    @Override
+    public long getElementsShifted() {
+        return elementsShifted.sum();
+    }
+
+    @Override
+    public int getPeakCapacity() {
+        return (int) peakCapacity.get();
+    }
+
+    @Override
+    public int getPeakRequiredCapacity() {
+        return (int) peakRequiredCapacity.get();
+    }
+
+    @Override
+    public long getWastedCapacity() {
+        return wastedCapacity.sum();
+    }
+
+    @Override
+    public void reset() {
+        grows.reset();
+        elementsCopied.reset();
+        elementsShifted.reset();
+        wastedCapacity.reset();
+        peakCapacity.reset();
+        peakRequiredCapacity.reset();
+    }
+
+    /**
+     * Registers metrics in the platform MBean server as {@code ru.nmanakov.personal.datatypes:type=ListMetrics} MBean
+     * with {@code name} key property.
+     *
+     * @param name metrics name, must be unique among registered list metrics
+     *
+     * @throws IllegalArgumentException if name is not a valid key property value or is already registered
+     * @return registered MBean name
+     */
+    public ObjectName register(final String name) {
+        final ObjectName objectName = objectName(name);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        } catch (final InstanceAlreadyExistsException e) {
+            throw new IllegalArgumentException(String.format("List metrics %s are already registered", name), e);
+        } catch (final JMException e) {
+            throw new IllegalStateException(String.format("List metrics %s can not be registered", name), e);
+        }
+
+        return objectName;
+    }
+
+    /**
+     * Unregisters metrics registered by {@link #register(String)}. Unregistering not registered metrics has no
+     * effect.
+     *
+     * @param name metrics name
+     */
+    public static void unregister(final String name) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName(name));
+        } catch (final InstanceNotFoundException e) {
+            // nothing to unregister
+        } catch (final JMException e) {
+            throw new IllegalStateException(String.format("List metrics %s can not be unregistered", name), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ListMetrics[grows=%d, elementsCopied=%d, elementsShifted=%d, peakCapacity=%d, "
+                        + "peakRequiredCapacity=%d, wastedCapacity=%d]", getGrows(), getElementsCopied(),
+                getElementsShifted(), getPeakCapacity(), getPeakRequiredCapacity(), getWastedCapacity());
+    }
+
+    private static ObjectName objectName(final String name) {
+        try {
+            return new ObjectName(DOMAIN + ":type=ListMetrics,name=" + name);
+        } catch (final MalformedObjectNameException e) {
+            throw new IllegalArgumentException(String.format("List metrics name %s is malformed", name), e);
+        }
+    }
+
+    private static int referenceBytes() {
+        // compressed references are 4 bytes long, uncompressed ones - 8 bytes
+        try {
+            final com.sun.management.HotSpotDiagnosticMXBean diagnostic =
+                    ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+            return Boolean.parseBoolean(diagnostic.getVMOption("UseCompressedOops").getValue()) ? 4 : 8;
+        } catch (final RuntimeException | LinkageError e) {
+            return 8;
+        }
+    }
+}
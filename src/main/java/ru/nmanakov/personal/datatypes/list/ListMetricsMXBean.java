@@ -0,0 +1,63 @@
+package ru.nmanakov.personal.datatypes.list;
+
+/**
+ * Management interface of {@link ListMetrics}.
+ */
+public interface ListMetricsMXBean {
+    /**
+     * Number of element(-s) holder growths.
+     *
+     * @return growths number
+     */
+    long getGrows();
+
+    /**
+     * Number of elements copied into grown or trimmed element(-s) holders.
+     *
+     * @return copied elements number
+     */
+    long getElementsCopied();
+
+    /**
+     * Number of bytes copied into grown or trimmed element(-s) holders, estimated by reference size of the running JVM.
+     *
+     * @return copied bytes number
+     */
+    long getBytesCopied();
+
+    /**
+     * Number of elements shifted by insertions and removals.
+     *
+     * @return shifted elements number
+     */
+    long getElementsShifted();
+
+    /**
+     * The largest element(-s) holder capacity reached by a list.
+     *
+     * @return peak capacity
+     */
+    int getPeakCapacity();
+
+    /**
+     * The largest capacity required by a list operation causing growth, which is a lower bound of the peak list
+     * size. Lists presized to it would never grow.
+     *
+     * @return peak required capacity
+     */
+    int getPeakRequiredCapacity();
+
+    /**
+     * Number of element(-s) holder slots allocated by the latest growth of each list beyond the capacity it required,
+     * which have not been reclaimed by trimming. Capacity of presized lists is not counted as wasted. Slack of lists,
+     * which have been uninstrumented or garbage collected, is not counted either.
+     *
+     * @return wasted capacity
+     */
+    long getWastedCapacity();
+
+    /**
+     * Resets all counters.
+     */
+    void reset();
+}
@@ -0,0 +1,315 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * View of {@link ArrayList} elements, which reads and writes through to the element(-s) holder of the list without
+ * copying.
+ * <p>
+ * View element {@code i} is list element {@code offset + i * stride}, so a contiguous range, reversed order and every
+ * n-th element are represented by the same view, and views of views compose without extra indirection. Creating a
+ * view takes O(1) and allocates the view object only.
+ * <p>
+ * View is bound to the list state it has been created at: any structural modification of the list, made not through
+ * the view, makes every view operation throw {@code ConcurrentModificationException}. Views don't change list
+ * structure, {@link #set(int, Object)} replaces list element in place.
+ *
+ * @param <T> element type
+ */
+public final class ListView<T> implements Iterable<T> {
+    private final ArrayList<T> list; // backing list
+
+    private final int offset; // list index of the first view element
+
+    private final int stride; // list index step between view elements, negative - if view is reversed
+
+    private final int size; // number of view elements
+
+    private final int expectedModCount; // list modifications number the view is valid for
+
+    private ListView(final ArrayList<T> list, final int offset, final int stride, final int size,
+                     final int expectedModCount) {
+        this.list = list;
+        this.offset = offset;
+        this.stride = stride;
+        this.size = size;
+        this.expectedModCount = expectedModCount;
+    }
+
+    /**
+     * View of all {@code list} elements.
+     *
+     * @param list backing list
+     * @param <T>  element type
+     *
+     * @return list view
+     */
+    static <T> ListView<T> of(final ArrayList<T> list) {
+        return new ListView<>(list, 0, 1, list.size(), list.modCount());
+    }
+
+    /**
+     * Retrieves view element by {@code index}.
+     *
+     * @param index index of element to retrieve
+     *
+     * @return retrieved element
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        checkForComodification();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (T) list.elements()[offset + index * stride];
+    }
+
+    /**
+     * Replaces view element by {@code index} with {@code element}, which replaces the element of backing list.
+     *
+     * @param index   index of element to replace
+     * @param element element to store
+     *
+     * @return replaced element
+     */
+    public T set(final int index, final T element) {
+        checkForComodification();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return list.set(offset + index * stride, element);
+    }
+
+    /**
+     * View of elements within {@code [fromIndex, toIndex)} range of this view.
+     *
+     * @param fromIndex index of first view element
+     * @param toIndex   index after last view element
+     *
+     * @return list view
+     */
+    public ListView<T> subList(final int fromIndex, final int toIndex) {
+        checkForComodification();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    String.format("List range [%d, %d) is out of range", fromIndex, toIndex));
+        }
+        return new ListView<>(list, offset + fromIndex * stride, stride, toIndex - fromIndex, expectedModCount);
+    }
+
+    /**
+     * View of elements of this view in reverse order.
+     *
+     * @return list view
+     */
+    public ListView<T> reversed() {
+        checkForComodification();
+        if (size == 0) {
+            return this;
+        }
+        return new ListView<>(list, offset + (size - 1) * stride, -stride, size, expectedModCount);
+    }
+
+    /**
+     * View of every {@code step}-th element of this view starting from the first one.
+     *
+     * @param step distance between elements of new view in this view, must be positive
+     *
+     * @return list view
+     */
+    public ListView<T> strided(final int step) {
+        checkForComodification();
+        if (step <= 0) {
+            throw new IllegalArgumentException(String.format("View step %d should be positive", step));
+        }
+        if (size <= 1 || step == 1) {
+            return this;
+        }
+        // step beyond the view leaves its first element only, so the stride never overflows
+        final int newSize = (int) (((long) size + step - 1) / step);
+        return new ListView<>(list, offset, newSize > 1 ? stride * step : stride, newSize, expectedModCount);
+    }
+
+    /**
+     * Gets index of provided {@code element} in the view. If element's not present in the view then return
+     * <b>-1</b>.
+     *
+     * @param element element's index to find
+     *
+     * @return element's index
+     */
+    public int indexOf(final T element) {
+        checkForComodification();
+        final Object[] array = list.elements();
+        for (int i = 0, position = offset; i < size; ++i, position += stride) {
+            if (Objects.equals(array[position], element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Whether view contains provided {@code element}.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter view contains provided element or not
+     */
+    public boolean contains(final T element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Whether view is empty.
+     *
+     * @return Whether view is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of view elements.
+     *
+     * @return view elements number
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies view elements into new array.
+     *
+     * @return array of view elements
+     */
+    public Object[] toArray() {
+        checkForComodification();
+        final Object[] array = list.elements();
+        final Object[] result = new Object[size];
+        if (stride == 1) {
+            System.arraycopy(array, offset, result, 0, size);
+        } else {
+            for (int i = 0, position = offset; i < size; ++i, position += stride) {
+                result[i] = array[position];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Performs {@code action} for each view element in order. Modification check is made once after the whole
+     * traversal.
+     *
+     * @param action action to perform
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(final Consumer<? super T> action) {
+        checkForComodification();
+        final Object[] array = list.elements();
+        for (int i = 0, position = offset; i < size; ++i, position += stride) {
+            action.accept((T) array[position]);
+        }
+        checkForComodification();
+    }
+
+    /**
+     * Creates iterator over view elements, which fails fast if backing list is structurally modified.
+     *
+     * @return view iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        checkForComodification();
+        return new ListViewIterator();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final ListView<?> that = (ListView<?>) obj;
+        checkForComodification();
+        that.checkForComodification();
+        if (size != that.size) {
+            return false;
+        }
+
+        final Object[] array = list.elements();
+        final Object[] thatArray = that.list.elements();
+        for (int i = 0; i < size; ++i) {
+            if (!Objects.equals(array[offset + i * stride], thatArray[that.offset + i * that.stride])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        checkForComodification();
+        final Object[] array = list.elements();
+        int result = 1;
+        for (int i = 0, position = offset; i < size; ++i, position += stride) {
+            result = 31 * result + Objects.hashCode(array[position]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        checkForComodification();
+        final Object[] array = list.elements();
+        final StringBuilder str = new StringBuilder("[");
+        for (int i = 0, position = offset; i < size; ++i, position += stride) {
+            str.append(array[position]);
+            if (i != size - 1) {
+                str.append(", ");
+            }
+        }
+        str.append("]");
+
+        return str.toString();
+    }
+
+    private void checkForComodification() {
+        if (list.modCount() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Fail-fast view iterator.
+     */
+    private final class ListViewIterator implements Iterator<T> {
+        private int cursor; // index of element to return by next call of {@link #next()}
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            return (T) list.elements()[offset + cursor++ * stride];
+        }
+    }
+}
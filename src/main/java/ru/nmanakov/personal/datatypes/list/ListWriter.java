@@ -0,0 +1,87 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.io.IOException;
+
+/**
+ * Writes list string representation, the same as {@code toString()} one, to {@link Appendable} in bounded chunks.
+ * <p>
+ * Elements are formatted into reused chunk, which is passed to the output once it exceeds {@link #CHUNK_SIZE}
+ * characters, so memory taken by writing doesn't depend on list size. {@link StringBuilder} output is appended to
+ * directly. If element number exceeds the limit, then remaining elements are written as {@code ... N more}:
+ * {@code [1, 2, ... 8 more]}.
+ */
+final class ListWriter {
+    /**
+     * Number of characters chunk is passed to the output after.
+     */
+    static final int CHUNK_SIZE = 8192;
+
+    private final Appendable out; // output
+
+    private final StringBuilder chunk; // formatted element(-s) holder, output itself - if it's string builder
+
+    private boolean empty; // whether no element has been written yet
+
+    /**
+     * Creates writer and writes opening bracket.
+     *
+     * @param out output to write to
+     */
+    ListWriter(final Appendable out) {
+        this.out = out;
+        this.chunk = out instanceof StringBuilder ? (StringBuilder) out : new StringBuilder(CHUNK_SIZE * 2);
+        this.chunk.append('[');
+        this.empty = true;
+    }
+
+    /**
+     * Checks element {@code limit}, which should not be negative.
+     *
+     * @param limit maximum number of element(-s) to write
+     *
+     * @throws IllegalArgumentException if {@code limit} is negative
+     */
+    static void checkLimit(final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException(String.format("Element limit %d should not be negative", limit));
+        }
+    }
+
+    /**
+     * Writes separator and returns chunk to append next element to.
+     *
+     * @return chunk to append element to
+     *
+     * @throws IOException if output fails
+     */
+    StringBuilder next() throws IOException {
+        if (chunk != out && chunk.length() >= CHUNK_SIZE) {
+            out.append(chunk);
+            chunk.setLength(0);
+        }
+        if (!empty) {
+            chunk.append(", ");
+        }
+        empty = false;
+
+        return chunk;
+    }
+
+    /**
+     * Writes number of {@code remaining} element(-s), which have not been written, closing bracket and the rest of
+     * the chunk.
+     *
+     * @param remaining number of element(-s), which exceed the limit
+     *
+     * @throws IOException if output fails
+     */
+    void close(final int remaining) throws IOException {
+        if (remaining != 0) {
+            next().append("... ").append(remaining).append(" more");
+        }
+        chunk.append(']');
+        if (chunk != out) {
+            out.append(chunk);
+        }
+    }
+}
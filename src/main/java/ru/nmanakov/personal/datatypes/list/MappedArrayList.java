@@ -0,0 +1,352 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Persistent array list implementation storing fixed-width records in a memory-mapped file.
+ * <p>
+ * File consists of a small header followed by records encoded by {@link RecordLayout}. Records are read and written
+ * straight in the mapped region, so reopening a list maps the file and reads its header only, nothing is deserialized.
+ * File is mapped by pages, list grows by mapping new pages beyond the end of the file, records already stored are
+ * never copied on growth.
+ * <p>
+ * Modifications reach the file eventually; {@link #force()} writes them to the storage device synchronously. List must
+ * be closed by {@link #close()} to unmap the file and trim its unused tail.
+ *
+ * @param <T> record type
+ */
+public final class MappedArrayList<T> implements AutoCloseable {
+    private static final long MAGIC = 0x44544C4953543031L; // "DTLIST01"
+
+    private static final int HEADER_BYTES = 64;
+
+    private static final int MAGIC_OFFSET = 0;
+
+    private static final int RECORD_SIZE_OFFSET = 8;
+
+    private static final int BYTE_ORDER_OFFSET = 12;
+
+    private static final int SIZE_OFFSET = 16;
+
+    private static final int DEFAULT_PAGE_BYTES = 1 << 26;
+
+    private final FileChannel channel; // list file
+
+    private final MappedByteBuffer header; // mapped file header
+
+    private final RecordPages pages; // mapped record(-s) holder
+
+    private final OffHeapArrayList<T> records; // records operations over mapped pages
+
+    private boolean closed; // whether file has been unmapped and closed
+
+    /**
+     * Opens list stored in {@code file}, creating it if the file does not exist.
+     *
+     * @param file   list file
+     * @param layout records binary layout, must match the layout list has been created with
+     *
+     * @throws IOException if file can not be opened or is not a list file of {@code layout}
+     */
+    public MappedArrayList(final Path file, final RecordLayout<T> layout) throws IOException {
+        this(file, layout, DEFAULT_PAGE_BYTES);
+    }
+
+    /**
+     * Opens list stored in {@code file} and mapped by pages of {@code pageBytes} size.
+     *
+     * @param file      list file
+     * @param layout    records binary layout
+     * @param pageBytes desired page size in bytes
+     *
+     * @throws IOException if file can not be opened or is not a list file of {@code layout}
+     */
+    MappedArrayList(final Path file, final RecordLayout<T> layout, final int pageBytes) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            final long fileSize = channel.size();
+            final boolean created = fileSize == 0;
+            if (!created) {
+                checkMagic(file, fileSize);
+            }
+            this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            this.header.order(ByteOrder.BIG_ENDIAN);
+            if (created) {
+                header.putLong(MAGIC_OFFSET, MAGIC);
+                header.putInt(RECORD_SIZE_OFFSET, layout.size());
+                header.putInt(BYTE_ORDER_OFFSET, ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 1 : 0);
+                header.putInt(SIZE_OFFSET, 0);
+            }
+            final int size = readHeader(file, layout);
+
+            this.pages = new RecordPages(layout.size(), pageBytes, (pageIndex, bytes) -> mapPage(pageIndex, bytes));
+            this.records = new OffHeapArrayList<>(layout, pages, size, 0);
+            this.closed = false;
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves last list record. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return retrieved record
+     */
+    public T get() {
+        return records.get();
+    }
+
+    /**
+     * Retrieves list record by {@code index}.
+     *
+     * @param index index of record to retrieve
+     *
+     * @return retrieved record
+     */
+    public T get(final int index) {
+        return records.get(index);
+    }
+
+    /**
+     * Reads {@code int} field of record {@code index} in place.
+     *
+     * @param index       record index
+     * @param fieldOffset field offset within record in bytes
+     *
+     * @return field value
+     */
+    public int getInt(final int index, final int fieldOffset) {
+        return records.getInt(index, fieldOffset);
+    }
+
+    /**
+     * Reads {@code long} field of record {@code index} in place.
+     *
+     * @param index       record index
+     * @param fieldOffset field offset within record in bytes
+     *
+     * @return field value
+     */
+    public long getLong(final int index, final int fieldOffset) {
+        return records.getLong(index, fieldOffset);
+    }
+
+    /**
+     * Reads {@code double} field of record {@code index} in place.
+     *
+     * @param index       record index
+     * @param fieldOffset field offset within record in bytes
+     *
+     * @return field value
+     */
+    public double getDouble(final int index, final int fieldOffset) {
+        return records.getDouble(index, fieldOffset);
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @param element record to add
+     *
+     * @return added record
+     */
+    public T add(final T element) {
+        records.add(element);
+        writeSize();
+
+        return element;
+    }
+
+    /**
+     * Adds {@code element} to the list by {@code index}.
+     *
+     * @param element record to add
+     * @param index   index to add record by
+     *
+     * @return added record
+     */
+    public T add(final T element, final int index) {
+        records.add(element, index);
+        writeSize();
+
+        return element;
+    }
+
+    /**
+     * Removes last record from list.
+     *
+     * @return removed record, {@code null} - if nothing was removed
+     */
+    public T remove() {
+        final T removedElement = records.remove();
+        writeSize();
+
+        return removedElement;
+    }
+
+    /**
+     * Removes record by {@code index} from list.
+     *
+     * @param index index of record to remove
+     *
+     * @return removed record
+     */
+    public T remove(final int index) {
+        final T removedElement = records.remove(index);
+        writeSize();
+
+        return removedElement;
+    }
+
+    /**
+     * Removes first occurence of {@code element} from list.
+     *
+     * @param element record to remove
+     *
+     * @return removed record, {@code null} - if nothing was removed
+     */
+    public T remove(final T element) {
+        final T removedElement = records.remove(element);
+        writeSize();
+
+        return removedElement;
+    }
+
+    /**
+     * Gets index of provided {@code element}. If record's not present in the collection then return <b>-1</b>.
+     *
+     * @param element record's index to find
+     *
+     * @return record's index
+     */
+    public int indexOf(final T element) {
+        return records.indexOf(element);
+    }
+
+    /**
+     * Whether list contains provided {@code element}.
+     *
+     * @param element record to check inclusion against
+     *
+     * @return wheter list contains provided record or not
+     */
+    public boolean contains(final T element) {
+        return records.contains(element);
+    }
+
+    /**
+     * Ensures that list is able to hold at least {@code minCapacity} records without further growth.
+     *
+     * @param minCapacity minimum required capacity
+     */
+    public void ensureCapacity(final int minCapacity) {
+        records.ensureCapacity(minCapacity);
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return records.isEmpty();
+    }
+
+    /**
+     * Number of list records.
+     *
+     * @return list records number
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Writes all list modifications to the storage device synchronously.
+     */
+    public void force() {
+        checkOpen();
+        pages.force();
+        header.force();
+    }
+
+    /**
+     * Writes all list modifications, unmaps and closes the file. Closing closed list has no effect.
+     *
+     * @throws IOException if file can not be written or closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        try {
+            final long fileSize = HEADER_BYTES + (long) records.size() * pages.recordSize();
+            pages.force();
+            header.force();
+            records.close();
+            DirectBuffers.release(header);
+            channel.truncate(fileSize);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void checkMagic(final Path file, final long fileSize) throws IOException {
+        // file is checked before it's mapped for writing, as mapping would extend a foreign file up to header size
+        final ByteBuffer magic = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.BIG_ENDIAN);
+        if (fileSize < HEADER_BYTES || channel.read(magic, MAGIC_OFFSET) != Long.BYTES || magic.getLong(0) != MAGIC) {
+            throw new IOException(String.format("File %s is not a list file", file));
+        }
+    }
+
+    private int readHeader(final Path file, final RecordLayout<T> layout) throws IOException {
+        if (header.getInt(RECORD_SIZE_OFFSET) != layout.size()) {
+            throw new IOException(String.format("File %s holds records of %d bytes, but layout defines %d bytes",
+                    file, header.getInt(RECORD_SIZE_OFFSET), layout.size()));
+        }
+        if (header.getInt(BYTE_ORDER_OFFSET) != (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 1 : 0)) {
+            throw new IOException(String.format("File %s is written with different byte order", file));
+        }
+
+        final int size = header.getInt(SIZE_OFFSET);
+        if (size < 0 || channel.size() < HEADER_BYTES + (long) size * layout.size()) {
+            throw new IOException(String.format("File %s is truncated", file));
+        }
+        return size;
+    }
+
+    private MappedByteBuffer mapPage(final int pageIndex, final int pageBytes) {
+        try {
+            final MappedByteBuffer page = channel.map(FileChannel.MapMode.READ_WRITE,
+                    HEADER_BYTES + (long) pageIndex * pageBytes, pageBytes);
+            page.order(ByteOrder.nativeOrder());
+
+            return page;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeSize() {
+        header.putInt(SIZE_OFFSET, records.size());
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Array list implementation storing fixed-width records outside of Java heap.
+ * <p>
+ * Records are encoded by {@link RecordLayout} into pages of native memory, so list of any size adds no work for
+ * garbage collector. List grows by allocating new pages, records already stored are never copied on growth. Fields
+ * of stored records could be read in place, without decoding whole record, by {@link #getInt(int, int)},
+ * {@link #getLong(int, int)} and {@link #getDouble(int, int)}.
+ * <p>
+ * Native memory is released by {@link #close()}, list must not be used afterwards. {@code null} records are not
+ * supported. Records are equal if their binary representations are equal.
+ *
+ * @param <T> record type
+ */
+public final class OffHeapArrayList<T> implements AutoCloseable {
+    private static final int DEFAULT_INITIAL_CAPACITY = 15;
+
+    private final RecordLayout<T> layout; // records binary layout
+
+    private final RecordPages pages; // record(-s) holder
+
+    private final ByteBuffer key; // encoded record to search for
+
+    private int size; // current number of element's in an list
+
+    private boolean closed; // whether native memory has been released
+
+    /**
+     * Creates and initializes instance of {@code OffHeapArrayList} with capacity as default one.
+     *
+     * @param layout records binary layout
+     */
+    public OffHeapArrayList(final RecordLayout<T> layout) {
+        this(layout, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates empty list able to hold at least {@code initialCapacity} records without growth.
+     *
+     * @param layout          records binary layout
+     * @param initialCapacity initial capacity
+     */
+    public OffHeapArrayList(final RecordLayout<T> layout, final int initialCapacity) {
+        this(layout, new RecordPages(layout.size(), OffHeapArrayList::allocatePage), 0, initialCapacity);
+    }
+
+    /**
+     * Creates empty list with pages of {@code pageBytes} size.
+     *
+     * @param layout          records binary layout
+     * @param pageBytes       desired page size in bytes
+     * @param initialCapacity initial capacity
+     */
+    OffHeapArrayList(final RecordLayout<T> layout, final int pageBytes, final int initialCapacity) {
+        this(layout, new RecordPages(layout.size(), pageBytes, OffHeapArrayList::allocatePage), 0, initialCapacity);
+    }
+
+    /**
+     * Creates list over {@code pages}, first {@code size} records of which are already stored.
+     *
+     * @param layout          records binary layout
+     * @param pages           record(-s) holder
+     * @param size            number of stored records
+     * @param initialCapacity initial capacity
+     */
+    OffHeapArrayList(final RecordLayout<T> layout, final RecordPages pages, final int size,
+                     final int initialCapacity) {
+        this.layout = layout;
+        this.pages = pages;
+        this.key = ByteBuffer.allocateDirect(layout.size()).order(ByteOrder.nativeOrder());
+        this.size = size;
+        this.closed = false;
+        pages.ensureCapacity(Math.max(size, initialCapacity));
+    }
+
+    /**
+     * Retrieves last list record. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return retrieved record
+     */
+    public T get() {
+        checkOpen();
+        if (size != 0) {
+            return read(size - 1);
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Retrieves list record by {@code index}.
+     *
+     * @param index index of record to retrieve
+     *
+     * @return retrieved record
+     */
+    public T get(final int index) {
+        checkIndex(index);
+        return read(index);
+    }
+
+    /**
+     * Reads {@code int} field of record {@code index} in place.
+     *
+     * @param index       record index
+     * @param fieldOffset field offset within record in bytes
+     *
+     * @return field value
+     */
+    public int getInt(final int index, final int fieldOffset) {
+        checkField(index, fieldOffset, Integer.BYTES);
+        return pages.page(index).getInt(pages.offset(index) + fieldOffset);
+    }
+
+    /**
+     * Reads {@code long} field of record {@code index} in place.
+     *
+     * @param index       record index
+     * @param fieldOffset field offset within record in bytes
+     *
+     * @return field value
+     */
+    public long getLong(final int index, final int fieldOffset) {
+        checkField(index, fieldOffset, Long.BYTES);
+        return pages.page(index).getLong(pages.offset(index) + fieldOffset);
+    }
+
+    /**
+     * Reads {@code double} field of record {@code index} in place.
+     *
+     * @param index       record index
+     * @param fieldOffset field offset within record in bytes
+     *
+     * @return field value
+     */
+    public double getDouble(final int index, final int fieldOffset) {
+        checkField(index, fieldOffset, Double.BYTES);
+        return pages.page(index).getDouble(pages.offset(index) + fieldOffset);
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @param element record to add
+     *
+     * @return added record
+     */
+    public T add(final T element) {
+        checkOpen();
+        pages.ensureCapacity(size + 1);
+        write(size, element);
+        size++;
+
+        return element;
+    }
+
+    /**
+     * Adds {@code element} to the list by {@code index}.
+     *
+     * @param element record to add
+     * @param index   index to add record by
+     *
+     * @return added record
+     */
+    public T add(final T element, final int index) {
+        checkOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        pages.ensureCapacity(size + 1);
+        pages.move(index, index + 1, size - index);
+        write(index, element);
+        size++;
+
+        return element;
+    }
+
+    /**
+     * Removes last record from list.
+     *
+     * @return removed record, {@code null} - if nothing was removed
+     */
+    public T remove() {
+        checkOpen();
+        if (size == 0) {
+            return null;
+        }
+
+        return read(--size);
+    }
+
+    /**
+     * Removes record by {@code index} from list.
+     *
+     * @param index index of record to remove
+     *
+     * @return removed record
+     */
+    public T remove(final int index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        final T removedElement = read(index);
+        pages.move(index + 1, index, size - index - 1);
+        size--;
+
+        return removedElement;
+    }
+
+    /**
+     * Removes first occurence of {@code element} from list.
+     *
+     * @param element record to remove
+     *
+     * @return removed record, {@code null} - if nothing was removed
+     */
+    public T remove(final T element) {
+        final int index = indexOf(element);
+
+        return index != -1 ? remove(index) : null;
+    }
+
+    /**
+     * Gets index of provided {@code element}. If record's not present in the collection then return <b>-1</b>.
+     * Records are compared by their binary representations, so no record is decoded during the search.
+     *
+     * @param element record's index to find
+     *
+     * @return record's index
+     */
+    public int indexOf(final T element) {
+        checkOpen();
+        layout.write(key, 0, element);
+        for (int i = 0; i < size; ++i) {
+            if (pages.recordEquals(i, key)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Whether list contains provided {@code element}.
+     *
+     * @param element record to check inclusion against
+     *
+     * @return wheter list contains provided record or not
+     */
+    public boolean contains(final T element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Ensures that list is able to hold at least {@code minCapacity} records without further growth.
+     *
+     * @param minCapacity minimum required capacity
+     */
+    public void ensureCapacity(final int minCapacity) {
+        checkOpen();
+        pages.ensureCapacity(minCapacity);
+    }
+
+    /**
+     * Releases native memory pages which are not required to hold current records.
+     */
+    public void trimToSize() {
+        checkOpen();
+        pages.trimToSize(size);
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of list records.
+     *
+     * @return list records number
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Releases native memory held by the list. Closing closed list has no effect.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            size = 0;
+            pages.release();
+            DirectBuffers.release(key);
+        }
+    }
+
+    private T read(final int index) {
+        return layout.read(pages.page(index), pages.offset(index));
+    }
+
+    private void write(final int index, final T element) {
+        layout.write(pages.page(index), pages.offset(index), element);
+    }
+
+    private void checkIndex(final int index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private void checkField(final int index, final int fieldOffset, final int fieldSize) {
+        checkIndex(index);
+        if (fieldOffset < 0 || fieldOffset > layout.size() - fieldSize) {
+            throw new IndexOutOfBoundsException(String.format("Field offset %d is out of record", fieldOffset));
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private static ByteBuffer allocatePage(final int pageIndex, final int pageBytes) {
+        return ByteBuffer.allocateDirect(pageBytes).order(ByteOrder.nativeOrder());
+    }
+}
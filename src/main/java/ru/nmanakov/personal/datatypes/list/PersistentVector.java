@@ -0,0 +1,588 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable persistent vector implementation: 32-way trie with a tail buffer.
+ * <p>
+ * Every modification returns a new vector, which shares all untouched trie nodes with the original one, so it costs
+ * O(log<sub>32</sub> n) time and memory, while the original vector stays valid and unchanged. Snapshot of a vector is
+ * the vector itself, so taking it is O(1). Last (up to 32) elements are held in a separate tail array, which makes
+ * appends and removals from the end amortized O(1).
+ * <p>
+ * Bulk construction should use {@link Transient} obtained by {@link #asTransient()}: it modifies nodes it has
+ * created in place instead of copying them on every modification.
+ *
+ * @param <T> element type
+ */
+public final class PersistentVector<T> implements Iterable<T> {
+    private static final int BITS = 5;
+
+    private static final int WIDTH = 1 << BITS;
+
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size; // number of vector elements
+
+    private final int shift; // bit shift of the root level index
+
+    private final Node root; // trie root holding all elements except the tail ones
+
+    private final Object[] tail; // last element(-s) holder, its length is the number of tail elements
+
+    private int hash; // lazily computed hash code, {@code 0} - if not computed yet
+
+    private PersistentVector(final int size, final int shift, final Node root, final Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Gets empty vector.
+     *
+     * @param <T> element type
+     *
+     * @return empty vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Creates vector of {@code elements} provided.
+     *
+     * @param elements vector elements
+     * @param <T>      element type
+     *
+     * @return created vector
+     */
+    @SafeVarargs
+    public static <T> PersistentVector<T> of(final T... elements) {
+        final Transient<T> builder = PersistentVector.<T>empty().asTransient();
+        for (final T element : elements) {
+            builder.add(element);
+        }
+        return builder.persistent();
+    }
+
+    /**
+     * Creates vector of {@code list} elements.
+     *
+     * @param list list to copy elements from
+     * @param <T>  element type
+     *
+     * @return created vector
+     */
+    public static <T> PersistentVector<T> copyOf(final ArrayList<? extends T> list) {
+        final Transient<T> builder = PersistentVector.<T>empty().asTransient();
+        for (final T element : list) {
+            builder.add(element);
+        }
+        return builder.persistent();
+    }
+
+    /**
+     * Retrieves last vector element. If vector is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if vector is empty
+     * @return retrieved element
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        if (size != 0) {
+            return (T) tail[tail.length - 1];
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Retrieves vector element by {@code index}.
+     *
+     * @param index index of element to retrieve
+     *
+     * @return retrieved element
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (T) leafFor(index, size, shift, root, tail)[index & MASK];
+    }
+
+    /**
+     * Creates vector with {@code element} added to the end of this vector.
+     *
+     * @param element element to add
+     *
+     * @return new vector
+     */
+    public PersistentVector<T> add(final T element) {
+        if (size - tailOffset(size) < WIDTH) {
+            final Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        // full tail is pushed into the trie, growing it by one level if root is full
+        final Node tailNode = new Node(null, tail);
+        final Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * Creates vector with element by {@code index} replaced with {@code element}.
+     *
+     * @param index   index of element to replace
+     * @param element new element
+     *
+     * @return new vector
+     */
+    public PersistentVector<T> set(final int index, final T element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Vector index %d is out of range", index));
+        }
+
+        if (index >= tailOffset(size)) {
+            final Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, assoc(null, shift, root, index, element), tail);
+    }
+
+    /**
+     * Creates vector without the last element of this vector.
+     *
+     * @throws IndexOutOfBoundsException if vector is empty
+     * @return new vector
+     */
+    public PersistentVector<T> removeLast() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException(0);
+        } else if (size == 1) {
+            return empty();
+        } else if (tail.length > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        // the last trie leaf becomes the tail, trie loses one level if root is left with a single child
+        final Object[] newTail = leafFor(size - 2, size, shift, root, tail);
+        Node newRoot = popTail(size, shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Gets index of provided {@code element}. If element's not present in the vector then return <b>-1</b>.
+     *
+     * @param element element's index to find
+     *
+     * @return element's index
+     */
+    public int indexOf(final T element) {
+        for (int leafStart = 0; leafStart < size; leafStart += WIDTH) {
+            final Object[] leaf = leafFor(leafStart, size, shift, root, tail);
+            final int leafSize = Math.min(WIDTH, size - leafStart);
+            for (int i = 0; i < leafSize; ++i) {
+                if (Objects.equals(leaf[i], element)) {
+                    return leafStart + i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Whether vector contains provided {@code element}.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter vector contains provided element or not
+     */
+    public boolean contains(final T element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Whether vector is empty.
+     *
+     * @return Whether vector is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of vector elements.
+     *
+     * @return vector elements number
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies vector elements into a new array.
+     *
+     * @return array of vector elements
+     */
+    public Object[] toArray() {
+        final Object[] copy = new Object[size];
+        for (int leafStart = 0; leafStart < size; leafStart += WIDTH) {
+            final Object[] leaf = leafFor(leafStart, size, shift, root, tail);
+            System.arraycopy(leaf, 0, copy, leafStart, Math.min(WIDTH, size - leafStart));
+        }
+
+        return copy;
+    }
+
+    /**
+     * Creates transient vector holding elements of this vector. This vector is not affected by transient's
+     * modifications.
+     *
+     * @return transient vector
+     */
+    public Transient<T> asTransient() {
+        return new Transient<>(this);
+    }
+
+    /**
+     * Creates iterator over vector elements. Iterator traverses trie leaves directly, so retrieval of every element
+     * is O(1).
+     *
+     * @return vector iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index; // index of element to return by next call of {@link #next()}
+
+            private Object[] leaf; // leaf holding element {@code index}
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0) {
+                    leaf = leafFor(index, size, shift, root, tail);
+                }
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final PersistentVector<?> that = (PersistentVector<?>) obj;
+        if (size != that.size) {
+            return false;
+        } else if (hash != 0 && that.hash != 0 && hash != that.hash) {
+            return false;
+        }
+
+        final Iterator<?> thatIterator = that.iterator();
+        for (final T element : this) {
+            if (!Objects.equals(element, thatIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = 1;
+            for (final T element : this) {
+                result = result * 31 + Objects.hashCode(element);
+            }
+            hash = result;
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder("[");
+        for (final T element : this) {
+            if (str.length() != 1) {
+                str.append(", ");
+            }
+            str.append(element);
+        }
+        str.append("]");
+
+        return str.toString();
+    }
+
+    private static int tailOffset(final int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private static Object[] leafFor(final int index, final int size, final int shift, final Node root,
+                                    final Object[] tail) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private static Node newPath(final Object edit, final int level, final Node node) {
+        if (level == 0) {
+            return node;
+        }
+
+        final Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    private static Node pushTail(final Object edit, final int size, final int level, final Node parent,
+                                 final Node tailNode) {
+        final int childIndex = ((size - 1) >>> level) & MASK;
+        final Node result = editable(edit, parent);
+
+        final Node child;
+        if (level == BITS) {
+            child = tailNode;
+        } else if (parent.array[childIndex] != null) {
+            child = pushTail(edit, size, level - BITS, (Node) parent.array[childIndex], tailNode);
+        } else {
+            child = newPath(edit, level - BITS, tailNode);
+        }
+        result.array[childIndex] = child;
+
+        return result;
+    }
+
+    private static Node popTail(final int size, final int level, final Node node) {
+        final int childIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            final Node newChild = popTail(size, level - BITS, (Node) node.array[childIndex]);
+            if (newChild == null && childIndex == 0) {
+                return null;
+            }
+
+            final Node result = new Node(null, node.array.clone());
+            result.array[childIndex] = newChild;
+            return result;
+        } else if (childIndex == 0) {
+            return null;
+        }
+
+        final Node result = new Node(null, node.array.clone());
+        result.array[childIndex] = null;
+        return result;
+    }
+
+    private static Node assoc(final Object edit, final int level, final Node node, final int index,
+                              final Object element) {
+        final Node result = editable(edit, node);
+        if (level == 0) {
+            result.array[index & MASK] = element;
+        } else {
+            final int childIndex = (index >>> level) & MASK;
+            result.array[childIndex] = assoc(edit, level - BITS, (Node) node.array[childIndex], index, element);
+        }
+
+        return result;
+    }
+
+    private static Node editable(final Object edit, final Node node) {
+        // node created by the same transient is modified in place, any other one is copied
+        return edit != null && node.edit == edit ? node : new Node(edit, node.array.clone());
+    }
+
+    /**
+     * Trie node.
+     */
+    private static final class Node {
+        private final Object edit; // owner transient token, {@code null} - if node is immutable
+
+        private final Object[] array; // child node(-s) or element(-s) holder
+
+        Node(final Object edit, final Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Mutable builder of persistent vectors.
+     * <p>
+     * Transient modifies trie nodes and tail it has created in place, so bulk construction costs the same as filling
+     * an array list. {@link #persistent()} turns transient into a persistent vector in O(1), after which transient
+     * must not be used. Transient is not thread-safe.
+     *
+     * @param <T> element type
+     */
+    public static final class Transient<T> {
+        private Object edit; // token of nodes owned by this transient, {@code null} - if transient is finished
+
+        private int size; // number of vector elements
+
+        private int shift; // bit shift of the root level index
+
+        private Node root; // trie root holding all elements except the tail ones
+
+        private Object[] tail; // last element(-s) holder, always of full width
+
+        private Transient(final PersistentVector<T> vector) {
+            this.edit = new Object();
+            this.size = vector.size;
+            this.shift = vector.shift;
+            this.root = new Node(edit, vector.root.array.clone());
+            this.tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        /**
+         * Retrieves element by {@code index}.
+         *
+         * @param index index of element to retrieve
+         *
+         * @return retrieved element
+         */
+        @SuppressWarnings("unchecked")
+        public T get(final int index) {
+            ensureEditable();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (T) leafFor(index, size, shift, root, tail)[index & MASK];
+        }
+
+        /**
+         * Adds {@code element} to the end of the vector.
+         *
+         * @param element element to add
+         *
+         * @return this transient
+         */
+        public Transient<T> add(final T element) {
+            ensureEditable();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+
+            final Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> BITS) > (1 << shift)) {
+                final Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(edit, size, shift, root, tailNode);
+            }
+            size++;
+
+            return this;
+        }
+
+        /**
+         * Replaces element by {@code index} with {@code element}.
+         *
+         * @param index   index of element to replace
+         * @param element new element
+         *
+         * @return this transient
+         */
+        public Transient<T> set(final int index, final T element) {
+            ensureEditable();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(String.format("Vector index %d is out of range", index));
+            }
+
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = assoc(edit, shift, root, index, element);
+            }
+
+            return this;
+        }
+
+        /**
+         * Number of vector elements.
+         *
+         * @return vector elements number
+         */
+        public int size() {
+            ensureEditable();
+            return size;
+        }
+
+        /**
+         * Creates persistent vector of transient's elements. Transient must not be used afterwards.
+         *
+         * @return persistent vector
+         */
+        public PersistentVector<T> persistent() {
+            ensureEditable();
+            edit = null;
+
+            return new PersistentVector<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        private void ensureEditable() {
+            if (edit == null) {
+                throw new IllegalStateException("Transient vector has been made persistent");
+            }
+        }
+    }
+}
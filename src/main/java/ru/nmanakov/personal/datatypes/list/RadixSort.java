@@ -0,0 +1,118 @@
+package ru.nmanakov.personal.datatypes.list;
+
+/**
+ * Least significant digit radix sort of primitive arrays.
+ * <p>
+ * Keys are sorted by 8-bit digits in O(n) time per digit using a scratch array of the same size. Histograms of all
+ * digits are collected by a single pass, and digits which are equal for every key are skipped, so keys from a narrow
+ * range are sorted in fewer passes. Sign bit is flipped, so that negative keys precede positive ones.
+ */
+final class RadixSort {
+    private static final int DIGIT_BITS = 8;
+
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    private RadixSort() {
+    }
+
+    /**
+     * Sorts first {@code size} elements of {@code array} in ascending order.
+     *
+     * @param array array to sort
+     * @param size  number of elements to sort
+     */
+    static void sort(final int[] array, final int size) {
+        final int digits = Integer.SIZE / DIGIT_BITS;
+        final int[][] counts = new int[digits][RADIX];
+        for (int i = 0; i < size; ++i) {
+            final int key = array[i] ^ Integer.MIN_VALUE;
+            for (int d = 0; d < digits; ++d) {
+                counts[d][(key >>> (d * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+
+        int[] source = array;
+        int[] target = new int[size];
+        for (int d = 0; d < digits; ++d) {
+            final int[] offsets = counts[d];
+            if (!toOffsets(offsets, size)) {
+                continue;
+            }
+
+            final int digitShift = d * DIGIT_BITS;
+            for (int i = 0; i < size; ++i) {
+                final int value = source[i];
+                target[offsets[((value ^ Integer.MIN_VALUE) >>> digitShift) & DIGIT_MASK]++] = value;
+            }
+            final int[] swap = source;
+            source = target;
+            target = swap;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, size);
+        }
+    }
+
+    /**
+     * Sorts first {@code size} elements of {@code array} in ascending order.
+     *
+     * @param array array to sort
+     * @param size  number of elements to sort
+     */
+    static void sort(final long[] array, final int size) {
+        final int digits = Long.SIZE / DIGIT_BITS;
+        final int[][] counts = new int[digits][RADIX];
+        for (int i = 0; i < size; ++i) {
+            final long key = array[i] ^ Long.MIN_VALUE;
+            for (int d = 0; d < digits; ++d) {
+                counts[d][(int) (key >>> (d * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+
+        long[] source = array;
+        long[] target = new long[size];
+        for (int d = 0; d < digits; ++d) {
+            final int[] offsets = counts[d];
+            if (!toOffsets(offsets, size)) {
+                continue;
+            }
+
+            final int digitShift = d * DIGIT_BITS;
+            for (int i = 0; i < size; ++i) {
+                final long value = source[i];
+                target[offsets[(int) ((value ^ Long.MIN_VALUE) >>> digitShift) & DIGIT_MASK]++] = value;
+            }
+            final long[] swap = source;
+            source = target;
+            target = swap;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, size);
+        }
+    }
+
+    /**
+     * Turns digit histogram into bucket start offsets.
+     *
+     * @param counts digit histogram, replaced with offsets
+     * @param size   number of keys
+     *
+     * @return whether digit has to be sorted by, {@code false} - if all keys share the same digit value
+     */
+    private static boolean toOffsets(final int[] counts, final int size) {
+        int offset = 0;
+        for (int i = 0; i < RADIX; ++i) {
+            final int count = counts[i];
+            if (count == size) {
+                return false;
+            }
+            counts[i] = offset;
+            offset += count;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,101 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-width binary layout of list records, which are stored outside of Java heap.
+ * <p>
+ * Every record occupies exactly {@link #size()} bytes. Two records are considered equal if their binary
+ * representations are equal.
+ *
+ * @param <T> record type
+ */
+public interface RecordLayout<T> {
+    /**
+     * Layout of {@code int} values.
+     */
+    RecordLayout<Integer> INT = new RecordLayout<Integer>() {
+        @Override
+        public int size() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(final ByteBuffer buffer, final int offset, final Integer record) {
+            buffer.putInt(offset, record);
+        }
+
+        @Override
+        public Integer read(final ByteBuffer buffer, final int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Layout of {@code long} values.
+     */
+    RecordLayout<Long> LONG = new RecordLayout<Long>() {
+        @Override
+        public int size() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(final ByteBuffer buffer, final int offset, final Long record) {
+            buffer.putLong(offset, record);
+        }
+
+        @Override
+        public Long read(final ByteBuffer buffer, final int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Layout of {@code double} values.
+     */
+    RecordLayout<Double> DOUBLE = new RecordLayout<Double>() {
+        @Override
+        public int size() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(final ByteBuffer buffer, final int offset, final Double record) {
+            buffer.putDouble(offset, record);
+        }
+
+        @Override
+        public Double read(final ByteBuffer buffer, final int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Number of bytes occupied by a record.
+     *
+     * @return record size in bytes
+     */
+    int size();
+
+    /**
+     * Writes {@code record} to {@code buffer} starting from {@code offset}. Buffer's position and limit should not
+     * be changed.
+     *
+     * @param buffer buffer to write record to
+     * @param offset offset of record's first byte
+     * @param record record to write
+     */
+    void write(ByteBuffer buffer, int offset, T record);
+
+    /**
+     * Reads record from {@code buffer} starting from {@code offset}. Buffer's position and limit should not be
+     * changed.
+     *
+     * @param buffer buffer to read record from
+     * @param offset offset of record's first byte
+     *
+     * @return read record
+     */
+    T read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,279 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Fixed-width records storage split into equally sized pages, which are direct or mapped byte buffers.
+ * <p>
+ * Record {@code index} is stored in page {@code index >>> pageShift} at offset {@code (index & pageMask) * recordSize},
+ * so a single list is not limited by 2GB buffer size. Storage grows by adding pages: records already stored are
+ * never copied on growth. Records are moved between pages through a direct scratch buffer, so they never pass
+ * through Java heap.
+ */
+final class RecordPages {
+    private static final int DEFAULT_PAGE_BYTES = 1 << 20;
+
+    private static final int SCRATCH_BYTES = 1 << 16;
+
+    private final int recordSize; // record size in bytes
+
+    private final int pageShift; // log2 of number of records per page
+
+    private final int pageMask; // mask of record index within its page
+
+    private final PageFactory pageFactory; // allocates page buffers
+
+    private final ByteBuffer scratch; // bounce buffer for records moves
+
+    private ByteBuffer[] pages; // page(-s) holder
+
+    private int pageCount; // number of allocated pages
+
+    /**
+     * Creates empty storage with default page size.
+     *
+     * @param recordSize  record size in bytes
+     * @param pageFactory allocates page buffers
+     */
+    RecordPages(final int recordSize, final PageFactory pageFactory) {
+        this(recordSize, DEFAULT_PAGE_BYTES, pageFactory);
+    }
+
+    /**
+     * Creates empty storage.
+     *
+     * @param recordSize  record size in bytes
+     * @param pageBytes   desired page size in bytes, actual one is adjusted to fit power of two records
+     * @param pageFactory allocates page buffers
+     */
+    RecordPages(final int recordSize, final int pageBytes, final PageFactory pageFactory) {
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException(String.format("Record size %d should be positive", recordSize));
+        }
+
+        final int pageRecords = Integer.highestOneBit(Math.max(1, pageBytes / recordSize));
+        this.recordSize = recordSize;
+        this.pageShift = Integer.numberOfTrailingZeros(pageRecords);
+        this.pageMask = pageRecords - 1;
+        this.pageFactory = pageFactory;
+        this.scratch = ByteBuffer.allocateDirect(Math.max(1, SCRATCH_BYTES / recordSize) * recordSize);
+        this.pages = new ByteBuffer[0];
+        this.pageCount = 0;
+    }
+
+    /**
+     * Record size in bytes.
+     *
+     * @return record size
+     */
+    int recordSize() {
+        return recordSize;
+    }
+
+    /**
+     * Page size in bytes.
+     *
+     * @return page size
+     */
+    int pageBytes() {
+        return (pageMask + 1) * recordSize;
+    }
+
+    /**
+     * Number of records which fit allocated pages.
+     *
+     * @return storage capacity
+     */
+    int capacity() {
+        return (int) Math.min((long) pageCount << pageShift, GrowthPolicy.MAX_CAPACITY);
+    }
+
+    /**
+     * Number of allocated pages.
+     *
+     * @return page count
+     */
+    int pageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Allocates pages, so that at least {@code minCapacity} records fit them.
+     *
+     * @param minCapacity minimum required capacity
+     */
+    void ensureCapacity(final int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required list capacity is too large");
+        }
+
+        final int requiredPages = (int) (((long) minCapacity + pageMask) >>> pageShift);
+        if (requiredPages > pages.length) {
+            pages = Arrays.copyOf(pages, GrowthPolicy.DEFAULT.newCapacity(pages.length, requiredPages));
+        }
+        while (pageCount < requiredPages) {
+            pages[pageCount] = pageFactory.allocate(pageCount, pageBytes());
+            pageCount++;
+        }
+    }
+
+    /**
+     * Releases pages which are not required to hold {@code size} records.
+     *
+     * @param size number of records to keep
+     */
+    void trimToSize(final int size) {
+        final int requiredPages = (int) (((long) size + pageMask) >>> pageShift);
+        while (pageCount > requiredPages) {
+            pageCount--;
+            DirectBuffers.release(pages[pageCount]);
+            pages[pageCount] = null;
+        }
+    }
+
+    /**
+     * Page holding record {@code index}.
+     *
+     * @param index record index
+     *
+     * @return page buffer
+     */
+    ByteBuffer page(final int index) {
+        return pages[index >>> pageShift];
+    }
+
+    /**
+     * Offset of record {@code index} within its page.
+     *
+     * @param index record index
+     *
+     * @return record offset in bytes
+     */
+    int offset(final int index) {
+        return (index & pageMask) * recordSize;
+    }
+
+    /**
+     * Moves {@code count} records starting from {@code from} index to {@code to} index. Source and destination
+     * ranges may overlap.
+     *
+     * @param from  index of first record to move
+     * @param to    destination index of first record
+     * @param count number of records to move
+     */
+    void move(final int from, final int to, final int count) {
+        final int scratchRecords = scratch.capacity() / recordSize;
+        if (to < from) {
+            int moved = 0;
+            while (moved < count) {
+                final int chunk = chunk(from + moved, to + moved, count - moved, scratchRecords);
+                copy(from + moved, to + moved, chunk);
+                moved += chunk;
+            }
+        } else if (to > from) {
+            int remaining = count;
+            while (remaining > 0) {
+                // chunks are taken from the end, so that not moved records are never overwritten
+                final int chunk = backwardChunk(from + remaining, to + remaining, remaining, scratchRecords);
+                remaining -= chunk;
+                copy(from + remaining, to + remaining, chunk);
+            }
+        }
+    }
+
+    /**
+     * Whether binary representation of record {@code index} is equal to the first record of {@code record} buffer.
+     *
+     * @param index  record index
+     * @param record buffer holding record to compare with
+     *
+     * @return whether records are equal or not
+     */
+    boolean recordEquals(final int index, final ByteBuffer record) {
+        final ByteBuffer page = page(index);
+        final int offset = offset(index);
+
+        int i = 0;
+        for (; i + Long.BYTES <= recordSize; i += Long.BYTES) {
+            if (page.getLong(offset + i) != record.getLong(i)) {
+                return false;
+            }
+        }
+        for (; i < recordSize; ++i) {
+            if (page.get(offset + i) != record.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forces changes of mapped pages to be written to the storage device.
+     */
+    void force() {
+        for (int i = 0; i < pageCount; ++i) {
+            if (pages[i] instanceof MappedByteBuffer) {
+                ((MappedByteBuffer) pages[i]).force();
+            }
+        }
+    }
+
+    /**
+     * Releases all pages. Storage must not be used afterwards.
+     */
+    void release() {
+        trimToSize(0);
+        DirectBuffers.release(scratch);
+    }
+
+    private int chunk(final int from, final int to, final int count, final int scratchRecords) {
+        final int pageRecords = pageMask + 1;
+        final int fromLeft = pageRecords - (from & pageMask);
+        final int toLeft = pageRecords - (to & pageMask);
+
+        return Math.min(Math.min(count, scratchRecords), Math.min(fromLeft, toLeft));
+    }
+
+    private int backwardChunk(final int fromEnd, final int toEnd, final int count, final int scratchRecords) {
+        final int fromLeft = ((fromEnd - 1) & pageMask) + 1;
+        final int toLeft = ((toEnd - 1) & pageMask) + 1;
+
+        return Math.min(Math.min(count, scratchRecords), Math.min(fromLeft, toLeft));
+    }
+
+    private void copy(final int from, final int to, final int count) {
+        final ByteBuffer source = page(from);
+        final ByteBuffer destination = page(to);
+        final int sourceOffset = offset(from);
+        final int bytes = count * recordSize;
+
+        scratch.clear();
+        source.limit(sourceOffset + bytes).position(sourceOffset);
+        scratch.put(source);
+        source.clear();
+
+        scratch.flip();
+        destination.position(offset(to));
+        destination.put(scratch);
+        destination.clear();
+    }
+
+    /**
+     * Page buffers factory.
+     */
+    @FunctionalInterface
+    interface PageFactory {
+        /**
+         * Allocates direct or mapped page buffer. Buffer is released by {@link DirectBuffers#release(ByteBuffer)}
+         * once it's not required anymore.
+         *
+         * @param pageIndex page index
+         * @param pageBytes page size in bytes
+         *
+         * @return page buffer
+         */
+        ByteBuffer allocate(int pageIndex, int pageBytes);
+    }
+}
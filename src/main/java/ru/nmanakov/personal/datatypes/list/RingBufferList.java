@@ -0,0 +1,585 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Circular array list implementation with O(1) additions and removals at both ends.
+ * <p>
+ * Elements are held in a circular array starting from {@code head} slot and wrapping around its end, so element is
+ * retrieved by index in O(1), while additions and removals at either end never shift other elements. Additions and
+ * removals by index shift the shorter side of the list.
+ * <p>
+ * List created by {@link #overwriting(int)} never grows: once it's full, every addition evicts the oldest element,
+ * which makes it a bounded sliding window of recent elements.
+ */
+public final class RingBufferList<T> implements Iterable<T>, Cloneable {
+    private static final int DEFAULT_INITIAL_CAPACITY = 15;
+
+    private Object[] array; // circular element(-s) holder
+
+    private int head; // slot of the first element
+
+    private int size; // current number of element's in an list
+
+    private int modCount; // number of structural modifications, used by iterators to fail fast
+
+    private final GrowthPolicy growthPolicy; // element(-s) holder growth policy, {@code null} - if list overwrites
+
+    /**
+     * Creates and initializes instance of {@code RingBufferList} with capacity as default one.
+     */
+    public RingBufferList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates and initializes instance of {@code RingBufferList} with {@code elements} provided.
+     *
+     * @param elements initial elements
+     */
+    public RingBufferList(final T... elements) {
+        this.array = new Object[elements.length * 2];
+        System.arraycopy(elements, 0, this.array, 0, elements.length);
+        this.head = 0;
+        this.size = elements.length;
+        this.growthPolicy = GrowthPolicy.DEFAULT;
+    }
+
+    /**
+     * Creates empty list with initial capacity equals to {@code initialCapacity}.
+     *
+     * @param initialCapacity initial capacity
+     */
+    public RingBufferList(final int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Creates empty list with initial capacity equals to {@code initialCapacity}, which grows according to
+     * {@code growthPolicy}.
+     *
+     * @param initialCapacity initial capacity
+     * @param growthPolicy    element(-s) holder growth policy
+     */
+    public RingBufferList(final int initialCapacity, final GrowthPolicy growthPolicy) {
+        this(new Object[initialCapacity], Objects.requireNonNull(growthPolicy, "Growth policy should be provided"));
+    }
+
+    private RingBufferList(final Object[] array, final GrowthPolicy growthPolicy) {
+        this.array = array;
+        this.head = 0;
+        this.size = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Creates empty fixed-capacity list, which evicts its first element when an element is added to the full list,
+     * or its last element when an element is added to the beginning of the full list.
+     *
+     * @param capacity maximum number of list elements
+     * @param <T>      element type
+     *
+     * @return overwriting list
+     */
+    public static <T> RingBufferList<T> overwriting(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(String.format("Capacity %d should be positive", capacity));
+        }
+        return new RingBufferList<>(new Object[capacity], null);
+    }
+
+    /**
+     * Adds {@code element} to the beginning of the list. Full overwriting list evicts its last element.
+     *
+     * @param element element to add
+     */
+    public void addFirst(final T element) {
+        if (size == array.length) {
+            if (growthPolicy == null) {
+                array[slot(size - 1)] = null;
+                size--;
+            } else {
+                grow(size + 1);
+            }
+        }
+
+        head = head == 0 ? array.length - 1 : head - 1;
+        array[head] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds {@code element} to the end of the list. Full overwriting list evicts its first element.
+     *
+     * @param element element to add
+     */
+    public void addLast(final T element) {
+        if (size == array.length) {
+            if (growthPolicy == null) {
+                array[slot(size)] = element;
+                head = slot(1);
+                modCount++;
+                return;
+            }
+            grow(size + 1);
+        }
+
+        array[slot(size)] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Retrieves first list element without removal.
+     *
+     * @return first element, {@code null} - if list is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekFirst() {
+        return size != 0 ? (T) array[head] : null;
+    }
+
+    /**
+     * Retrieves last list element without removal.
+     *
+     * @return last element, {@code null} - if list is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekLast() {
+        return size != 0 ? (T) array[slot(size - 1)] : null;
+    }
+
+    /**
+     * Retrieves and removes first list element.
+     *
+     * @return removed element, {@code null} - if list is empty
+     */
+    public T pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked") final T removedElement = (T) array[head];
+        array[head] = null;
+        head = slot(1);
+        size--;
+        modCount++;
+
+        return removedElement;
+    }
+
+    /**
+     * Retrieves and removes last list element.
+     *
+     * @return removed element, {@code null} - if list is empty
+     */
+    public T pollLast() {
+        if (size == 0) {
+            return null;
+        }
+
+        final int slot = slot(size - 1);
+        @SuppressWarnings("unchecked") final T removedElement = (T) array[slot];
+        array[slot] = null;
+        size--;
+        modCount++;
+
+        return removedElement;
+    }
+
+    /**
+     * Retrieves last list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return retrieved element
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        if (size != 0) {
+            return (T) array[slot(size - 1)];
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Retrieves list element by {@code index}.
+     *
+     * @param index index of element to retrieve
+     *
+     * @return retrieved element
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (T) array[slot(index)];
+    }
+
+    /**
+     * Adds {@code element} to the end of the list. Full overwriting list evicts its first element.
+     *
+     * @param element element to add
+     *
+     * @return added element
+     */
+    public T add(final T element) {
+        addLast(element);
+
+        return element;
+    }
+
+    /**
+     * Adds {@code element} to the list by {@code index}. Full overwriting list evicts its first element afterwards,
+     * so element added by index {@code 0} is evicted at once.
+     *
+     * @param element element to add
+     * @param index   index to add element by
+     *
+     * @return added element
+     */
+    public T add(final T element, final int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        if (size == array.length) {
+            if (growthPolicy == null) {
+                if (index != 0) {
+                    // evicting the first element frees the slot to shift the leading elements into
+                    pollFirst();
+                    insert(index - 1, element);
+                }
+                return element;
+            }
+            grow(size + 1);
+        }
+        insert(index, element);
+
+        return element;
+    }
+
+    /**
+     * Removes last element from list.
+     *
+     * @return removed element, {@code null} - if nothing was removed
+     */
+    public T remove() {
+        return pollLast();
+    }
+
+    /**
+     * Removes element by {@code index} from list. Removal shifts the shorter side of the list, so removal of the
+     * first element is O(1).
+     *
+     * @param index index of element to remove
+     *
+     * @return removed element
+     */
+    public T remove(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        return removeAt(index);
+    }
+
+    /**
+     * Removes element by first occurence of {@code element} from list.
+     *
+     * @param element element to remove
+     *
+     * @return removed element
+     */
+    public T remove(final T element) {
+        final int index = indexOf(element);
+
+        return index != -1 ? removeAt(index) : null;
+    }
+
+    /**
+     * Gets index of provided {@code element}. If element's not present in the collection then return <b>-1</b>.
+     *
+     * @param element element's index to find
+     *
+     * @return element's index
+     */
+    public int indexOf(final T element) {
+        for (int i = 0; i < size; ++i) {
+            if (Objects.equals(array[slot(i)], element)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Whether list contains provided {@code element}.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter list contains provided element or not
+     */
+    public boolean contains(final T element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Whether list evicts its oldest elements instead of growth.
+     *
+     * @return whether list overwrites or not
+     */
+    public boolean isOverwriting() {
+        return growthPolicy == null;
+    }
+
+    /**
+     * Number of elements list is able to hold without growth or, for overwriting list, without evictions.
+     *
+     * @return list capacity
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Ensures that list is able to hold at least {@code minCapacity} elements without further growth. Capacity of
+     * overwriting list is never changed.
+     *
+     * @param minCapacity minimum required capacity
+     */
+    public void ensureCapacity(final int minCapacity) {
+        if (growthPolicy != null && minCapacity > array.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims capacity of the list to its current size. Capacity of overwriting list is never changed.
+     */
+    public void trimToSize() {
+        if (growthPolicy != null && size < array.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of list elements.
+     *
+     * @return list elements number
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies list elements into a new array.
+     *
+     * @return array of list elements
+     */
+    public Object[] toArray() {
+        final Object[] copy = new Object[size];
+        copyTo(copy);
+
+        return copy;
+    }
+
+    /**
+     * Creates fail-fast iterator over list elements. Iterator throws {@code ConcurrentModificationException} if list
+     * has been structurally modified after iterator creation.
+     *
+     * @return list iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new RingBufferListIterator();
+    }
+
+    /**
+     * Clones <p>this</p> object with its own copy of element(-s) holder and returns it.
+     *
+     * @return cloned list
+     *
+     * @throws CloneNotSupportedException if error occurred during clone operation
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        @SuppressWarnings("unchecked") final RingBufferList<T> clone = (RingBufferList<T>) super.clone();
+        clone.array = array.clone();
+        clone.modCount = 0;
+
+        return clone;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final RingBufferList<?> that = (RingBufferList<?>) obj;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; ++i) {
+            if (!Objects.equals(array[slot(i)], that.array[that.slot(i)])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+
+        for (int i = 0; i < size; ++i) {
+            result = result * prime + Objects.hashCode(array[slot(i)]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < size; ++i) {
+            str.append(array[slot(i)]);
+            if (i != size - 1) {
+                str.append(", ");
+            }
+        }
+        str.append("]");
+
+        return str.toString();
+    }
+
+    private int slot(final int index) {
+        // index never exceeds capacity, so a single subtraction wraps it around
+        final int slot = head + index;
+
+        return slot < array.length ? slot : slot - array.length;
+    }
+
+    private void insert(final int index, final T element) {
+        if (index < size / 2) {
+            head = head == 0 ? array.length - 1 : head - 1;
+            for (int i = 0; i < index; ++i) {
+                array[slot(i)] = array[slot(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; --i) {
+                array[slot(i)] = array[slot(i - 1)];
+            }
+        }
+        array[slot(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    private T removeAt(final int index) {
+        @SuppressWarnings("unchecked") final T removedElement = (T) array[slot(index)];
+
+        if (index < size / 2) {
+            for (int i = index; i > 0; --i) {
+                array[slot(i)] = array[slot(i - 1)];
+            }
+            array[head] = null;
+            head = slot(1);
+        } else {
+            for (int i = index; i < size - 1; ++i) {
+                array[slot(i)] = array[slot(i + 1)];
+            }
+            array[slot(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+
+        return removedElement;
+    }
+
+    private void grow(final int minCapacity) {
+        resize(growthPolicy.newCapacity(array.length, minCapacity));
+    }
+
+    private void resize(final int newCapacity) {
+        final Object[] newArray = new Object[newCapacity];
+        copyTo(newArray);
+
+        array = newArray;
+        head = 0;
+    }
+
+    private void copyTo(final Object[] target) {
+        final int firstPart = Math.min(size, array.length - head);
+        System.arraycopy(array, head, target, 0, firstPart);
+        System.arraycopy(array, 0, target, firstPart, size - firstPart);
+    }
+
+    /**
+     * Fail-fast list iterator.
+     */
+    private final class RingBufferListIterator implements Iterator<T> {
+        private int cursor; // index of element to return by next call of {@link #next()}
+
+        private int lastReturned = -1; // index of element returned by last call of {@link #next()}
+
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor++;
+            return (T) array[slot(lastReturned)];
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned < 0) {
+                throw new IllegalStateException("No element to remove at iterator position");
+            }
+
+            removeAt(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
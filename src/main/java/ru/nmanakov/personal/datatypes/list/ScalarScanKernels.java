@@ -0,0 +1,179 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.util.Arrays;
+
+/**
+ * Scan kernels processing one element at a time, which are used if vector ones are not available.
+ */
+final class ScalarScanKernels implements ScanKernels {
+    private static final int PRIME = 31;
+
+    @Override
+    public int indexOf(final int[] array, final int size, final int element) {
+        for (int i = 0; i < size; ++i) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(final long[] array, final int size, final long element) {
+        for (int i = 0; i < size; ++i) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(final double[] array, final int size, final double element) {
+        final long elementBits = Double.doubleToLongBits(element);
+        for (int i = 0; i < size; ++i) {
+            if (Double.doubleToLongBits(array[i]) == elementBits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void fill(final int[] array, final int size, final int element) {
+        Arrays.fill(array, 0, size, element);
+    }
+
+    @Override
+    public void fill(final long[] array, final int size, final long element) {
+        Arrays.fill(array, 0, size, element);
+    }
+
+    @Override
+    public void fill(final double[] array, final int size, final double element) {
+        Arrays.fill(array, 0, size, element);
+    }
+
+    @Override
+    public long sum(final int[] array, final int size) {
+        long sum = 0;
+        for (int i = 0; i < size; ++i) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long sum(final long[] array, final int size) {
+        long sum = 0;
+        for (int i = 0; i < size; ++i) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double sum(final double[] array, final int size) {
+        double sum = 0;
+        for (int i = 0; i < size; ++i) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(final int[] array, final int size) {
+        int min = array[0];
+        for (int i = 1; i < size; ++i) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long min(final long[] array, final int size) {
+        long min = array[0];
+        for (int i = 1; i < size; ++i) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double min(final double[] array, final int size) {
+        double min = array[0];
+        for (int i = 1; i < size; ++i) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(final int[] array, final int size) {
+        int max = array[0];
+        for (int i = 1; i < size; ++i) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long max(final long[] array, final int size) {
+        long max = array[0];
+        for (int i = 1; i < size; ++i) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public double max(final double[] array, final int size) {
+        double max = array[0];
+        for (int i = 1; i < size; ++i) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public boolean equals(final int[] array, final int[] other, final int size) {
+        return Arrays.equals(array, 0, size, other, 0, size);
+    }
+
+    @Override
+    public boolean equals(final long[] array, final long[] other, final int size) {
+        return Arrays.equals(array, 0, size, other, 0, size);
+    }
+
+    @Override
+    public boolean equals(final double[] array, final double[] other, final int size) {
+        return Arrays.equals(array, 0, size, other, 0, size);
+    }
+
+    @Override
+    public int hashCode(final int[] array, final int size) {
+        int result = 1;
+        for (int i = 0; i < size; ++i) {
+            result = result * PRIME + Integer.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode(final long[] array, final int size) {
+        int result = 1;
+        for (int i = 0; i < size; ++i) {
+            result = result * PRIME + Long.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode(final double[] array, final int size) {
+        int result = 1;
+        for (int i = 0; i < size; ++i) {
+            result = result * PRIME + Double.hashCode(array[i]);
+        }
+        return result;
+    }
+}
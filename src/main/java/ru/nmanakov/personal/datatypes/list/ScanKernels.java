@@ -0,0 +1,255 @@
+package ru.nmanakov.personal.datatypes.list;
+
+/**
+ * Linear scans over the first {@code size} elements of primitive list holders, which are shared by
+ * {@link IntArrayList}, {@link LongArrayList} and {@link DoubleArrayList}.
+ * <p>
+ * {@link #INSTANCE} is implemented with {@code jdk.incubator.vector} if the library has been built with {@code vector}
+ * profile and the module is resolved at runtime ({@code --add-modules jdk.incubator.vector}), otherwise it's
+ * {@link ScalarScanKernels}. Vector kernels may be turned off with {@code -D}{@value #VECTOR_PROPERTY}{@code =false}.
+ * <p>
+ * Every kernel returns exactly the same result as the scalar one, except {@code double} sum, which may differ in
+ * rounding, as vector kernel adds elements in different order.
+ */
+interface ScanKernels {
+    /**
+     * System property, which turns vector kernels off if set to {@code false}.
+     */
+    String VECTOR_PROPERTY = "ru.nmanakov.personal.datatypes.list.vector";
+
+    /**
+     * Kernels used by primitive lists.
+     */
+    ScanKernels INSTANCE = load();
+
+    /**
+     * Loads vector kernels if they are available and enabled, scalar ones otherwise.
+     *
+     * @return loaded kernels
+     */
+    static ScanKernels load() {
+        if (!"false".equals(System.getProperty(VECTOR_PROPERTY))) {
+            try {
+                return (ScanKernels) Class.forName("ru.nmanakov.personal.datatypes.list.VectorScanKernels")
+                        .getDeclaredConstructor().newInstance();
+            } catch (final ReflectiveOperationException | LinkageError e) {
+                // either built without vector profile or jdk.incubator.vector module is not resolved
+            }
+        }
+        return new ScalarScanKernels();
+    }
+
+    /**
+     * Index of the first element equal to {@code element}, <b>-1</b> - if there is no such element.
+     *
+     * @param array   element(-s) holder
+     * @param size    number of elements
+     * @param element element to search for
+     *
+     * @return element's index
+     */
+    int indexOf(int[] array, int size, int element);
+
+    /**
+     * Index of the first element equal to {@code element}, <b>-1</b> - if there is no such element.
+     *
+     * @param array   element(-s) holder
+     * @param size    number of elements
+     * @param element element to search for
+     *
+     * @return element's index
+     */
+    int indexOf(long[] array, int size, long element);
+
+    /**
+     * Index of the first element equal to {@code element} as by {@link Double#equals(Object)}, <b>-1</b> - if there
+     * is no such element.
+     *
+     * @param array   element(-s) holder
+     * @param size    number of elements
+     * @param element element to search for
+     *
+     * @return element's index
+     */
+    int indexOf(double[] array, int size, double element);
+
+    /**
+     * Replaces every element with {@code element}.
+     *
+     * @param array   element(-s) holder
+     * @param size    number of elements
+     * @param element element to fill with
+     */
+    void fill(int[] array, int size, int element);
+
+    /**
+     * Replaces every element with {@code element}.
+     *
+     * @param array   element(-s) holder
+     * @param size    number of elements
+     * @param element element to fill with
+     */
+    void fill(long[] array, int size, long element);
+
+    /**
+     * Replaces every element with {@code element}.
+     *
+     * @param array   element(-s) holder
+     * @param size    number of elements
+     * @param element element to fill with
+     */
+    void fill(double[] array, int size, double element);
+
+    /**
+     * Sum of elements, which doesn't overflow.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements
+     *
+     * @return sum of elements
+     */
+    long sum(int[] array, int size);
+
+    /**
+     * Sum of elements, which overflows as {@code long} addition does.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements
+     *
+     * @return sum of elements
+     */
+    long sum(long[] array, int size);
+
+    /**
+     * Sum of elements.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements
+     *
+     * @return sum of elements
+     */
+    double sum(double[] array, int size);
+
+    /**
+     * Minimum element.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements, must be positive
+     *
+     * @return minimum element
+     */
+    int min(int[] array, int size);
+
+    /**
+     * Minimum element.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements, must be positive
+     *
+     * @return minimum element
+     */
+    long min(long[] array, int size);
+
+    /**
+     * Minimum element as by {@link Math#min(double, double)}.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements, must be positive
+     *
+     * @return minimum element
+     */
+    double min(double[] array, int size);
+
+    /**
+     * Maximum element.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements, must be positive
+     *
+     * @return maximum element
+     */
+    int max(int[] array, int size);
+
+    /**
+     * Maximum element.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements, must be positive
+     *
+     * @return maximum element
+     */
+    long max(long[] array, int size);
+
+    /**
+     * Maximum element as by {@link Math#max(double, double)}.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements, must be positive
+     *
+     * @return maximum element
+     */
+    double max(double[] array, int size);
+
+    /**
+     * Whether first {@code size} elements of both holders are equal.
+     *
+     * @param array element(-s) holder
+     * @param other other element(-s) holder
+     * @param size  number of elements to compare
+     *
+     * @return whether elements are equal or not
+     */
+    boolean equals(int[] array, int[] other, int size);
+
+    /**
+     * Whether first {@code size} elements of both holders are equal.
+     *
+     * @param array element(-s) holder
+     * @param other other element(-s) holder
+     * @param size  number of elements to compare
+     *
+     * @return whether elements are equal or not
+     */
+    boolean equals(long[] array, long[] other, int size);
+
+    /**
+     * Whether first {@code size} elements of both holders are equal as by {@link Double#equals(Object)}.
+     *
+     * @param array element(-s) holder
+     * @param other other element(-s) holder
+     * @param size  number of elements to compare
+     *
+     * @return whether elements are equal or not
+     */
+    boolean equals(double[] array, double[] other, int size);
+
+    /**
+     * Hash of elements, which is the same as boxed list's one.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements
+     *
+     * @return hash of elements
+     */
+    int hashCode(int[] array, int size);
+
+    /**
+     * Hash of elements, which is the same as boxed list's one.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements
+     *
+     * @return hash of elements
+     */
+    int hashCode(long[] array, int size);
+
+    /**
+     * Hash of elements, which is the same as boxed list's one.
+     *
+     * @param array element(-s) holder
+     * @param size  number of elements
+     *
+     * @return hash of elements
+     */
+    int hashCode(double[] array, int size);
+}
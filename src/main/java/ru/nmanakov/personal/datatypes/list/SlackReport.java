@@ -0,0 +1,58 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.lang.ref.Cleaner;
+
+/**
+ * Unused capacity of an instrumented {@link ArrayList}, which has been reported to its {@link ListListener}.
+ * <p>
+ * Report is retracted once the listener is uninstalled or the list is garbage collected, so that listener shared by
+ * many lists sums the slack of lists, which are alive and instrumented, only.
+ */
+final class SlackReport implements Runnable {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final ListListener listener; // listener slack is reported to
+
+    private final Cleaner.Cleanable cleanable; // registration of the list in cleaner
+
+    private volatile int slack; // reported slack, volatile, as it's retracted by cleaner thread
+
+    private SlackReport(final Object list, final ListListener listener) {
+        this.listener = listener;
+        this.cleanable = CLEANER.register(list, this);
+    }
+
+    /**
+     * Starts reporting slack of {@code list} to {@code listener}.
+     *
+     * @param list     instrumented list
+     * @param listener listener to report slack to
+     *
+     * @return slack report of the list
+     */
+    static SlackReport start(final Object list, final ListListener listener) {
+        return new SlackReport(list, listener);
+    }
+
+    /**
+     * Reports new slack of the list, replacing the previously reported one.
+     *
+     * @param newSlack new slack of the list
+     */
+    void update(final int newSlack) {
+        listener.slackChanged(slack, newSlack);
+        slack = newSlack;
+    }
+
+    /**
+     * Retracts reported slack, as the list is not instrumented anymore.
+     */
+    void stop() {
+        cleanable.clean();
+    }
+
+    @Override
+    public void run() {
+        listener.slackChanged(slack, 0);
+    }
+}
@@ -0,0 +1,517 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Ordered list implementation based on indexable skip list.
+ * <p>
+ * Elements are kept sorted by comparator, equal elements are kept in insertion order. Every node links to the next
+ * nodes of its levels along with the number of elements it skips, so insertion, removal, search and retrieval by
+ * index take O(log n) on average. {@link #subRange(Object, Object)} finds the first element of the range in O(log n)
+ * and then iterates over the bottom level, which takes O(1) per element.
+ * <p>
+ * Elements are compared by comparator only, {@code equals} of elements is not used. {@code null} elements are not
+ * supported.
+ *
+ * @param <T> element type
+ */
+public final class SortedList<T> implements Iterable<T> {
+    private static final int MAX_LEVEL = 32;
+
+    private final Comparator<? super T> comparator; // elements order
+
+    private final Node<T> head; // sentinel node preceding the first element on every level
+
+    private final Node<T>[] update; // scratch array of the last nodes preceding modified position on every level
+
+    private final int[] rank; // scratch array of positions of {@link #update} nodes
+
+    private int level; // number of levels in use
+
+    private int size; // current number of element's in an list
+
+    private int modCount; // number of structural modifications, used by iterators to fail fast
+
+    private int seed; // state of node levels generator
+
+    /**
+     * Creates empty list ordering elements by their natural order.
+     */
+    @SuppressWarnings("unchecked")
+    public SortedList() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Creates empty list ordering elements by {@code comparator}.
+     *
+     * @param comparator elements order
+     */
+    @SuppressWarnings("unchecked")
+    public SortedList(final Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.head = new Node<>(null, MAX_LEVEL);
+        this.update = (Node<T>[]) new Node<?>[MAX_LEVEL];
+        this.rank = new int[MAX_LEVEL];
+        this.level = 1;
+        this.size = 0;
+        this.seed = System.identityHashCode(this) | 1;
+    }
+
+    /**
+     * Creates list ordering {@code elements} by their natural order.
+     *
+     * @param elements initial elements
+     */
+    @SafeVarargs
+    public SortedList(final T... elements) {
+        this();
+        for (final T element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Retrieves last (the greatest) list element. If list is empty then throw {@code IndexOutOfBoundsException}.
+     *
+     * @throws IndexOutOfBoundsException if list is empty
+     * @return retrieved element
+     */
+    public T get() {
+        if (size != 0) {
+            return get(size - 1);
+        } else {
+            throw new IndexOutOfBoundsException(0);
+        }
+    }
+
+    /**
+     * Retrieves list element by {@code index} in O(log n).
+     *
+     * @param index index of element to retrieve
+     *
+     * @return retrieved element
+     */
+    public T get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        final int target = index + 1;
+        Node<T> node = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; --i) {
+            while (node.next[i] != null && traversed + node.width[i] <= target) {
+                traversed += node.width[i];
+                node = node.next[i];
+            }
+            if (traversed == target) {
+                break;
+            }
+        }
+
+        return node.element;
+    }
+
+    /**
+     * Adds {@code element} to the list keeping it sorted. Element is placed after all equal ones.
+     *
+     * @param element element to add
+     *
+     * @return added element
+     */
+    public T add(final T element) {
+        Objects.requireNonNull(element);
+
+        Node<T> node = head;
+        for (int i = level - 1; i >= 0; --i) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (node.next[i] != null && comparator.compare(node.next[i].element, element) <= 0) {
+                rank[i] += node.width[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+
+        final int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; ++i) {
+                rank[i] = 0;
+                update[i] = head;
+                head.width[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        final Node<T> inserted = new Node<>(element, nodeLevel);
+        for (int i = 0; i < nodeLevel; ++i) {
+            inserted.next[i] = update[i].next[i];
+            update[i].next[i] = inserted;
+            inserted.width[i] = update[i].width[i] - (rank[0] - rank[i]);
+            update[i].width[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; ++i) {
+            update[i].width[i]++;
+        }
+        size++;
+        modCount++;
+        clearUpdate();
+
+        return element;
+    }
+
+    /**
+     * Removes last (the greatest) element from list.
+     *
+     * @return removed element, {@code null} - if nothing was removed
+     */
+    public T remove() {
+        if (size == 0) {
+            return null;
+        }
+
+        return remove(size - 1);
+    }
+
+    /**
+     * Removes element by {@code index} from list in O(log n).
+     *
+     * @param index index of element to remove
+     *
+     * @return removed element
+     */
+    public T remove(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("List index %d is out of range", index));
+        }
+
+        Node<T> node = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; --i) {
+            while (node.next[i] != null && traversed + node.width[i] <= index) {
+                traversed += node.width[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+
+        return unlink(update[0].next[0]);
+    }
+
+    /**
+     * Removes first element equal to {@code element} according to comparator from list.
+     *
+     * @param element element to remove
+     *
+     * @return removed element, {@code null} - if nothing was removed
+     */
+    public T remove(final T element) {
+        final Node<T> node = lowerBound(element, update, null);
+        if (node == null || comparator.compare(node.element, element) != 0) {
+            clearUpdate();
+            return null;
+        }
+
+        return unlink(node);
+    }
+
+    /**
+     * Gets index of the first element equal to {@code element} according to comparator. If element's not present in
+     * the collection then return <b>-1</b>.
+     *
+     * @param element element's index to find
+     *
+     * @return element's index
+     */
+    public int indexOf(final T element) {
+        final Node<T> node = lowerBound(element, null, rank);
+
+        return node != null && comparator.compare(node.element, element) == 0 ? rank[0] : -1;
+    }
+
+    /**
+     * Whether list contains element equal to {@code element} according to comparator.
+     *
+     * @param element element to check inclusion against
+     *
+     * @return wheter list contains provided element or not
+     */
+    public boolean contains(final T element) {
+        final Node<T> node = lowerBound(element, null, null);
+
+        return node != null && comparator.compare(node.element, element) == 0;
+    }
+
+    /**
+     * Elements within {@code [fromElement, toElement)} range in ascending order. Range iteration is fail-fast and
+     * supports removal.
+     *
+     * @param fromElement lower bound of the range, inclusive
+     * @param toElement   upper bound of the range, exclusive
+     *
+     * @return range elements
+     */
+    public Iterable<T> subRange(final T fromElement, final T toElement) {
+        Objects.requireNonNull(fromElement);
+        Objects.requireNonNull(toElement);
+
+        return () -> {
+            final Node<T> first = lowerBound(fromElement, null, rank);
+            return new SortedListIterator(first, rank[0], toElement);
+        };
+    }
+
+    /**
+     * Number of elements within {@code [fromElement, toElement)} range, which is counted in O(log n).
+     *
+     * @param fromElement lower bound of the range, inclusive
+     * @param toElement   upper bound of the range, exclusive
+     *
+     * @return number of range elements
+     */
+    public int rangeSize(final T fromElement, final T toElement) {
+        lowerBound(fromElement, null, rank);
+        final int from = rank[0];
+        lowerBound(toElement, null, rank);
+
+        return Math.max(0, rank[0] - from);
+    }
+
+    /**
+     * Whether list is empty.
+     *
+     * @return Whether list is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of list elements.
+     *
+     * @return list elements number
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies list elements in ascending order into new array.
+     *
+     * @return array of list elements
+     */
+    public Object[] toArray() {
+        final Object[] result = new Object[size];
+        int i = 0;
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0]) {
+            result[i++] = node.element;
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SortedListIterator(head.next[0], 0, null);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final SortedList<?> that = (SortedList<?>) obj;
+        if (size != that.size) {
+            return false;
+        }
+        for (Node<?> node = head.next[0], thatNode = that.head.next[0]; node != null;
+             node = node.next[0], thatNode = thatNode.next[0]) {
+            if (!Objects.equals(node.element, thatNode.element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0]) {
+            result = 31 * result + Objects.hashCode(node.element);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder("[");
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0]) {
+            str.append(node.element);
+            if (node.next[0] != null) {
+                str.append(", ");
+            }
+        }
+        str.append("]");
+
+        return str.toString();
+    }
+
+    /**
+     * Finds the first node not less than {@code element}.
+     *
+     * @param element   element to search for
+     * @param lastNodes array to store last nodes less than {@code element} on every level to, {@code null} - if they
+     *                  are not required
+     * @param ranks     array to store index of found node to by <b>0</b> index, {@code null} - if it's not required
+     *
+     * @return found node, {@code null} - if all elements are less than {@code element}
+     */
+    private Node<T> lowerBound(final T element, final Node<T>[] lastNodes, final int[] ranks) {
+        Node<T> node = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; --i) {
+            while (node.next[i] != null && comparator.compare(node.next[i].element, element) < 0) {
+                traversed += node.width[i];
+                node = node.next[i];
+            }
+            if (lastNodes != null) {
+                lastNodes[i] = node;
+            }
+        }
+        if (ranks != null) {
+            ranks[0] = traversed;
+        }
+
+        return node.next[0];
+    }
+
+    /**
+     * Unlinks {@code node}, last preceding nodes of which are stored in {@link #update}.
+     *
+     * @param node node to unlink
+     *
+     * @return unlinked element
+     */
+    private T unlink(final Node<T> node) {
+        for (int i = 0; i < level; ++i) {
+            if (update[i].next[i] == node) {
+                update[i].width[i] += node.width[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].width[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        modCount++;
+        clearUpdate();
+
+        return node.element;
+    }
+
+    private void clearUpdate() {
+        // scratch array must not keep removed nodes reachable
+        for (int i = 0; i < level; ++i) {
+            update[i] = null;
+        }
+    }
+
+    private int randomLevel() {
+        // xorshift generator, every level is taken with probability 1/2 of the previous one
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+
+        return Math.min(Integer.numberOfTrailingZeros(seed) + 1, MAX_LEVEL);
+    }
+
+    /**
+     * Skip list node.
+     *
+     * @param <T> element type
+     */
+    private static final class Node<T> {
+        private final T element; // node element, {@code null} - for head node
+
+        private final Node<T>[] next; // next nodes on every level of the node
+
+        private final int[] width; // number of bottom level links skipped by next node links
+
+        @SuppressWarnings("unchecked")
+        private Node(final T element, final int level) {
+            this.element = element;
+            this.next = (Node<T>[]) new Node<?>[level];
+            this.width = new int[level];
+        }
+    }
+
+    /**
+     * Fail-fast iterator over elements less than optional upper bound.
+     */
+    private final class SortedListIterator implements Iterator<T> {
+        private final T toElement; // upper bound of iterated elements, exclusive, {@code null} - if there's none
+
+        private Node<T> next; // node to return by next call of {@link #next()}
+
+        private int index; // index of {@link #next} node
+
+        private boolean canRemove; // whether element returned by last call of {@link #next()} could be removed
+
+        private int expectedModCount = modCount;
+
+        private SortedListIterator(final Node<T> first, final int index, final T toElement) {
+            this.next = first;
+            this.index = index;
+            this.toElement = toElement;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null && (toElement == null || comparator.compare(next.element, toElement) < 0);
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final T element = next.element;
+            next = next.next[0];
+            index++;
+            canRemove = true;
+
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (!canRemove) {
+                throw new IllegalStateException("No element to remove at iterator position");
+            }
+
+            SortedList.this.remove(--index);
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
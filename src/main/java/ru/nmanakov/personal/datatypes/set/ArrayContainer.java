@@ -0,0 +1,205 @@
+package ru.nmanakov.personal.datatypes.set;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Container of sparse values, which are kept in sorted {@code char[]}, 2 bytes per value.
+ */
+final class ArrayContainer extends Container {
+    private static final int DEFAULT_INITIAL_CAPACITY = 4;
+
+    private char[] values; // sorted value(-s) holder
+
+    private int cardinality; // number of held values
+
+    /**
+     * Creates empty container.
+     */
+    ArrayContainer() {
+        this(new char[DEFAULT_INITIAL_CAPACITY], 0);
+    }
+
+    /**
+     * Creates container holding first {@code cardinality} values of {@code values}.
+     *
+     * @param values      sorted values
+     * @param cardinality number of values
+     */
+    ArrayContainer(final char[] values, final int cardinality) {
+        this.values = values;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(final char value) {
+        final int position = Arrays.binarySearch(values, 0, cardinality, value);
+        if (position >= 0) {
+            return this;
+        }
+        if (cardinality == ARRAY_MAX_CARDINALITY) {
+            return toBitmap().add(value);
+        }
+
+        final int insertion = -position - 1;
+        if (cardinality == values.length) {
+            values = Arrays.copyOf(values,
+                    Math.min(ARRAY_MAX_CARDINALITY, Math.max(DEFAULT_INITIAL_CAPACITY, values.length * 2)));
+        }
+        System.arraycopy(values, insertion, values, insertion + 1, cardinality - insertion);
+        values[insertion] = value;
+        cardinality++;
+
+        return this;
+    }
+
+    @Override
+    Container remove(final char value) {
+        final int position = Arrays.binarySearch(values, 0, cardinality, value);
+        if (position >= 0) {
+            System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+            cardinality--;
+        }
+        return this;
+    }
+
+    @Override
+    boolean contains(final char value) {
+        return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(final Container other) {
+        if (other instanceof ArrayContainer) {
+            // merge of two sorted arrays
+            final ArrayContainer that = (ArrayContainer) other;
+            final char[] result = new char[Math.min(cardinality, that.cardinality)];
+            int count = 0;
+            for (int i = 0, j = 0; i < cardinality && j < that.cardinality; ) {
+                if (values[i] < that.values[j]) {
+                    i++;
+                } else if (values[i] > that.values[j]) {
+                    j++;
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        final char[] result = new char[cardinality];
+        int count = 0;
+        for (int i = 0; i < cardinality; ++i) {
+            if (other.contains(values[i])) {
+                result[count++] = values[i];
+            }
+        }
+        return new ArrayContainer(result, count);
+    }
+
+    @Override
+    Container or(final Container other) {
+        if (!(other instanceof ArrayContainer)) {
+            return other.or(this);
+        }
+
+        final ArrayContainer that = (ArrayContainer) other;
+        if (cardinality + that.cardinality > ARRAY_MAX_CARDINALITY) {
+            return toBitmap().or(that);
+        }
+
+        final char[] result = new char[cardinality + that.cardinality];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < that.cardinality) {
+            if (values[i] < that.values[j]) {
+                result[count++] = values[i++];
+            } else if (values[i] > that.values[j]) {
+                result[count++] = that.values[j++];
+            } else {
+                result[count++] = values[i++];
+                j++;
+            }
+        }
+        while (i < cardinality) {
+            result[count++] = values[i++];
+        }
+        while (j < that.cardinality) {
+            result[count++] = that.values[j++];
+        }
+        return new ArrayContainer(result, count);
+    }
+
+    @Override
+    Container andNot(final Container other) {
+        final char[] result = new char[cardinality];
+        int count = 0;
+        for (int i = 0; i < cardinality; ++i) {
+            if (!other.contains(values[i])) {
+                result[count++] = values[i];
+            }
+        }
+        return new ArrayContainer(result, count);
+    }
+
+    @Override
+    void forEach(final int high, final IntConsumer action) {
+        for (int i = 0; i < cardinality; ++i) {
+            action.accept(high | values[i]);
+        }
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+        final BitmapContainer bitmap = new BitmapContainer();
+        for (int i = 0; i < cardinality; ++i) {
+            bitmap.set(values[i]);
+        }
+        return bitmap;
+    }
+
+    @Override
+    Container runOptimize() {
+        int runs = cardinality == 0 ? 0 : 1;
+        for (int i = 1; i < cardinality; ++i) {
+            if (values[i] != values[i - 1] + 1) {
+                runs++;
+            }
+        }
+        if (RunContainer.sizeInBytes(runs) >= sizeInBytes()) {
+            return this;
+        }
+
+        final char[] result = new char[runs * 2];
+        int run = -1;
+        for (int i = 0; i < cardinality; ++i) {
+            if (i == 0 || values[i] != values[i - 1] + 1) {
+                result[++run * 2] = values[i];
+            } else {
+                result[run * 2 + 1]++;
+            }
+        }
+        return new RunContainer(result, runs);
+    }
+
+    @Override
+    long sizeInBytes() {
+        return 2L * cardinality;
+    }
+
+    @Override
+    public ArrayContainer clone() {
+        final ArrayContainer clone = (ArrayContainer) super.clone();
+        clone.values = Arrays.copyOf(values, Math.max(cardinality, 1));
+
+        return clone;
+    }
+}
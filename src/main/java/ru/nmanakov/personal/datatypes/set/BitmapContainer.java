@@ -0,0 +1,225 @@
+package ru.nmanakov.personal.datatypes.set;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Container of dense values, which are kept as bits of fixed 8KB {@code long[]}.
+ * <p>
+ * Bulk operations combine whole words in simple loops, which JIT compiler unrolls and vectorizes.
+ */
+final class BitmapContainer extends Container {
+    private static final int WORD_COUNT = (1 << Character.SIZE) / Long.SIZE;
+
+    private long[] words; // value(-s) holder, value {@code v} is bit {@code v & 63} of word {@code v >>> 6}
+
+    private int cardinality; // number of held values
+
+    /**
+     * Creates empty container.
+     */
+    BitmapContainer() {
+        this(new long[WORD_COUNT], 0);
+    }
+
+    private BitmapContainer(final long[] words, final int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Adds {@code value} to the container, which stays bitmap one.
+     *
+     * @param value value to add
+     */
+    void set(final char value) {
+        final long word = words[value >>> 6];
+        final long updated = word | (1L << value);
+        words[value >>> 6] = updated;
+        cardinality += (int) ((word ^ updated) >>> value);
+    }
+
+    /**
+     * Adds values within {@code [from, to]} range to the container, which stays bitmap one.
+     *
+     * @param from first value to add
+     * @param to   last value to add
+     */
+    void setRange(final char from, final char to) {
+        final int firstWord = from >>> 6;
+        final int lastWord = to >>> 6;
+        for (int i = firstWord; i <= lastWord; ++i) {
+            long mask = -1L;
+            if (i == firstWord) {
+                mask &= -1L << from;
+            }
+            if (i == lastWord) {
+                mask &= -1L >>> (63 - (to & 63));
+            }
+            cardinality += Long.bitCount(mask & ~words[i]);
+            words[i] |= mask;
+        }
+    }
+
+    @Override
+    Container add(final char value) {
+        set(value);
+        return this;
+    }
+
+    @Override
+    Container remove(final char value) {
+        final long word = words[value >>> 6];
+        final long updated = word & ~(1L << value);
+        words[value >>> 6] = updated;
+        cardinality -= (int) ((word ^ updated) >>> value);
+
+        return cardinality <= ARRAY_MAX_CARDINALITY ? toArray() : this;
+    }
+
+    @Override
+    boolean contains(final char value) {
+        return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(final Container other) {
+        if (other instanceof ArrayContainer) {
+            return other.and(this);
+        }
+
+        final long[] otherWords = other.toBitmap().words;
+        final long[] result = new long[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            result[i] = words[i] & otherWords[i];
+        }
+        return normalize(result);
+    }
+
+    @Override
+    Container or(final Container other) {
+        final long[] otherWords = other.toBitmap().words;
+        final long[] result = new long[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            result[i] = words[i] | otherWords[i];
+        }
+        return normalize(result);
+    }
+
+    @Override
+    Container andNot(final Container other) {
+        final long[] otherWords = other.toBitmap().words;
+        final long[] result = new long[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            result[i] = words[i] & ~otherWords[i];
+        }
+        return normalize(result);
+    }
+
+    @Override
+    void forEach(final int high, final IntConsumer action) {
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+        return this;
+    }
+
+    @Override
+    Container runOptimize() {
+        // run starts at every set bit, preceding bit of which is cleared
+        int runs = 0;
+        long previous = 0;
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            final long word = words[i];
+            runs += Long.bitCount(word & ~((word << 1) | (previous >>> 63)));
+            previous = word;
+        }
+        if (RunContainer.sizeInBytes(runs) >= sizeInBytes()) {
+            return this;
+        }
+
+        final char[] result = new char[runs * 2];
+        int run = 0;
+        int value = nextSetBit(0);
+        while (value != -1) {
+            final int end = nextClearBit(value);
+            result[run * 2] = (char) value;
+            result[run * 2 + 1] = (char) (end - value - 1);
+            run++;
+            value = end < 1 << Character.SIZE ? nextSetBit(end) : -1;
+        }
+        return new RunContainer(result, runs);
+    }
+
+    @Override
+    long sizeInBytes() {
+        return (long) WORD_COUNT * Long.BYTES;
+    }
+
+    @Override
+    public BitmapContainer clone() {
+        final BitmapContainer clone = (BitmapContainer) super.clone();
+        clone.words = words.clone();
+
+        return clone;
+    }
+
+    private int nextSetBit(final int from) {
+        int word = from >>> 6;
+        long bits = words[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == WORD_COUNT) {
+                return -1;
+            }
+            bits = words[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    private int nextClearBit(final int from) {
+        int word = from >>> 6;
+        long bits = ~words[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == WORD_COUNT) {
+                return 1 << Character.SIZE;
+            }
+            bits = ~words[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    private ArrayContainer toArray() {
+        final char[] values = new char[cardinality];
+        int count = 0;
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            long word = words[i];
+            while (word != 0) {
+                values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return new ArrayContainer(values, count);
+    }
+
+    private static Container normalize(final long[] words) {
+        int cardinality = 0;
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            cardinality += Long.bitCount(words[i]);
+        }
+
+        final BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+        return cardinality <= ARRAY_MAX_CARDINALITY ? bitmap.toArray() : bitmap;
+    }
+}
@@ -0,0 +1,349 @@
+package ru.nmanakov.personal.datatypes.set;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of {@code int} values (roaring bitmap).
+ * <p>
+ * Values are split by their high 16 bits into chunks, each chunk is stored in a container of the most compact kind:
+ * <ul>
+ *     <li>array container - sorted {@code char[]} of up to 4096 low 16 bits values, 2 bytes per value;</li>
+ *     <li>bitmap container - 8KB bitmap of denser chunks, 1 bit per possible value;</li>
+ *     <li>run container - pairs of run start and length, 4 bytes per run of consecutive values, which is produced
+ *     by {@link #runOptimize()}.</li>
+ * </ul>
+ * Membership check is a binary search of the chunk followed by O(1) or O(log n) container lookup. Bulk operations
+ * ({@link #and(CompressedIntSet)}, {@link #or(CompressedIntSet)}, {@link #andNot(CompressedIntSet)}) merge chunks
+ * and combine bitmap containers a word at a time.
+ * <p>
+ * Values are iterated in unsigned order, so negative values follow positive ones.
+ */
+public final class CompressedIntSet implements Cloneable {
+    private static final int DEFAULT_INITIAL_CAPACITY = 4;
+
+    private char[] keys; // sorted high 16 bits of chunk(-s)
+
+    private Container[] containers; // chunk(-s) holder, container {@code i} holds values of chunk {@code keys[i]}
+
+    private int size; // number of chunks
+
+    /**
+     * Creates empty set.
+     */
+    public CompressedIntSet() {
+        this.keys = new char[DEFAULT_INITIAL_CAPACITY];
+        this.containers = new Container[DEFAULT_INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Creates set of provided {@code values}.
+     *
+     * @param values initial values
+     *
+     * @return created set
+     */
+    public static CompressedIntSet of(final int... values) {
+        final CompressedIntSet set = new CompressedIntSet();
+        for (final int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Adds {@code value} to the set.
+     *
+     * @param value value to add
+     *
+     * @return whether value has been added or it's been present already
+     */
+    public boolean add(final int value) {
+        final char key = (char) (value >>> Character.SIZE);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertChunk(index, key, new ArrayContainer());
+        }
+
+        final Container container = containers[index];
+        final int cardinality = container.cardinality();
+        containers[index] = container.add((char) value);
+
+        return containers[index].cardinality() != cardinality;
+    }
+
+    /**
+     * Removes {@code value} from the set.
+     *
+     * @param value value to remove
+     *
+     * @return whether value has been removed or it's not been present
+     */
+    public boolean remove(final int value) {
+        final int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> Character.SIZE));
+        if (index < 0) {
+            return false;
+        }
+
+        final Container container = containers[index];
+        final int cardinality = container.cardinality();
+        final Container updated = container.remove((char) value);
+        if (updated.cardinality() == 0) {
+            removeChunk(index);
+        } else {
+            containers[index] = updated;
+        }
+
+        return updated.cardinality() != cardinality;
+    }
+
+    /**
+     * Whether set contains provided {@code value}.
+     *
+     * @param value value to check inclusion against
+     *
+     * @return wheter set contains provided value or not
+     */
+    public boolean contains(final int value) {
+        final int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> Character.SIZE));
+
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    /**
+     * Number of set values.
+     *
+     * @return set cardinality
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; ++i) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Whether set is empty.
+     *
+     * @return Whether set is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Intersection of this set and {@code other} one. Neither set is modified.
+     *
+     * @param other set to intersect with
+     *
+     * @return new set holding the result
+     */
+    public CompressedIntSet and(final CompressedIntSet other) {
+        final CompressedIntSet result = new CompressedIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                final Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() != 0) {
+                    result.appendChunk(keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Union of this set and {@code other} one. Neither set is modified.
+     *
+     * @param other set to unite with
+     *
+     * @return new set holding the result
+     */
+    public CompressedIntSet or(final CompressedIntSet other) {
+        final CompressedIntSet result = new CompressedIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], containers[i].clone());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.appendChunk(other.keys[j], other.containers[j].clone());
+                j++;
+            } else {
+                result.appendChunk(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Difference of this set and {@code other} one. Neither set is modified.
+     *
+     * @param other set of values to exclude
+     *
+     * @return new set holding the result
+     */
+    public CompressedIntSet andNot(final CompressedIntSet other) {
+        final CompressedIntSet result = new CompressedIntSet();
+        int j = 0;
+        for (int i = 0; i < size; ++i) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            final Container container = j < other.size && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j]) : containers[i].clone();
+            if (container.cardinality() != 0) {
+                result.appendChunk(keys[i], container);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts chunks of consecutive values to run containers, if they take less memory. Set should be optimized
+     * once it's built, as modifications convert run containers back.
+     */
+    public void runOptimize() {
+        for (int i = 0; i < size; ++i) {
+            containers[i] = containers[i].runOptimize();
+        }
+    }
+
+    /**
+     * Approximate memory taken by set values, excluding fixed object overhead.
+     *
+     * @return memory size in bytes
+     */
+    public long sizeInBytes() {
+        long bytes = (long) keys.length * Character.BYTES + (long) containers.length * Integer.BYTES;
+        for (int i = 0; i < size; ++i) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Performs {@code action} for each set value in unsigned order.
+     *
+     * @param action action to perform
+     */
+    public void forEach(final IntConsumer action) {
+        for (int i = 0; i < size; ++i) {
+            containers[i].forEach(keys[i] << Character.SIZE, action);
+        }
+    }
+
+    /**
+     * Copies set values in unsigned order into new array.
+     *
+     * @return array of set values
+     */
+    public int[] toArray() {
+        final int[] result = new int[Math.toIntExact(cardinality())];
+        final int[] count = new int[1];
+        forEach(value -> result[count[0]++] = value);
+
+        return result;
+    }
+
+    /**
+     * Clones <p>this</p> object with its own copy of every container and returns it.
+     *
+     * @return cloned set
+     *
+     * @throws CloneNotSupportedException if error occurred during clone operation
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        final CompressedIntSet clone = (CompressedIntSet) super.clone();
+        clone.keys = keys.clone();
+        clone.containers = containers.clone();
+        for (int i = 0; i < size; ++i) {
+            clone.containers[i] = containers[i].clone();
+        }
+
+        return clone;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final CompressedIntSet that = (CompressedIntSet) obj;
+        if (size != that.size || !Arrays.equals(keys, 0, size, that.keys, 0, size)) {
+            return false;
+        }
+        for (int i = 0; i < size; ++i) {
+            // containers of different kinds could hold the same values
+            if (containers[i].cardinality() != that.containers[i].cardinality()
+                    || containers[i].andNot(that.containers[i]).cardinality() != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        final int[] result = {1};
+        forEach(value -> result[0] = result[0] * prime + Integer.hashCode(value));
+
+        return result[0];
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder("[");
+        forEach(value -> {
+            if (str.length() > 1) {
+                str.append(", ");
+            }
+            str.append(value);
+        });
+        str.append("]");
+
+        return str.toString();
+    }
+
+    private void appendChunk(final char key, final Container container) {
+        insertChunk(size, key, container);
+    }
+
+    private void insertChunk(final int index, final char key, final Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeChunk(final int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+}
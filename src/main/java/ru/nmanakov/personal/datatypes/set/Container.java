@@ -0,0 +1,115 @@
+package ru.nmanakov.personal.datatypes.set;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Set of 16-bit values sharing the same high 16 bits within {@link CompressedIntSet}.
+ * <p>
+ * Values are stored as {@code char}, so they are compared as unsigned. Modifications return container holding the
+ * result, which is either this container or a new one of more suitable kind, so caller must replace its reference.
+ */
+abstract class Container implements Cloneable {
+    /**
+     * Maximum cardinality of {@link ArrayContainer}, which takes the same memory as {@link BitmapContainer}.
+     */
+    static final int ARRAY_MAX_CARDINALITY = 4096;
+
+    /**
+     * Adds {@code value} to the container.
+     *
+     * @param value value to add
+     *
+     * @return container holding the result
+     */
+    abstract Container add(char value);
+
+    /**
+     * Removes {@code value} from the container.
+     *
+     * @param value value to remove
+     *
+     * @return container holding the result
+     */
+    abstract Container remove(char value);
+
+    /**
+     * Whether container holds {@code value}.
+     *
+     * @param value value to check inclusion against
+     *
+     * @return whether container holds value or not
+     */
+    abstract boolean contains(char value);
+
+    /**
+     * Number of held values.
+     *
+     * @return container cardinality
+     */
+    abstract int cardinality();
+
+    /**
+     * Intersection of this container and {@code other} one. Neither container is modified.
+     *
+     * @param other container to intersect with
+     *
+     * @return new container holding the result
+     */
+    abstract Container and(Container other);
+
+    /**
+     * Union of this container and {@code other} one. Neither container is modified.
+     *
+     * @param other container to unite with
+     *
+     * @return new container holding the result
+     */
+    abstract Container or(Container other);
+
+    /**
+     * Difference of this container and {@code other} one. Neither container is modified.
+     *
+     * @param other container of values to exclude
+     *
+     * @return new container holding the result
+     */
+    abstract Container andNot(Container other);
+
+    /**
+     * Performs {@code action} for each held value in ascending order.
+     *
+     * @param high   high 16 bits of values, which are already shifted
+     * @param action action to perform
+     */
+    abstract void forEach(int high, IntConsumer action);
+
+    /**
+     * Converts container to bitmap one, which is used by bulk operations.
+     *
+     * @return bitmap container holding the same values, this container - if it's bitmap one already
+     */
+    abstract BitmapContainer toBitmap();
+
+    /**
+     * Converts container to run one, if it takes less memory.
+     *
+     * @return container holding the same values, which takes the least memory
+     */
+    abstract Container runOptimize();
+
+    /**
+     * Approximate memory taken by the container.
+     *
+     * @return memory size in bytes
+     */
+    abstract long sizeInBytes();
+
+    @Override
+    public Container clone() {
+        try {
+            return (Container) super.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
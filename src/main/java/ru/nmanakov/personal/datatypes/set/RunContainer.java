@@ -0,0 +1,147 @@
+package ru.nmanakov.personal.datatypes.set;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Container of values forming long consecutive runs, which are kept as {@code (start, length - 1)} pairs, 4 bytes per
+ * run.
+ * <p>
+ * Run container is produced by {@link Container#runOptimize()} only. Modifications and bulk operations convert it to
+ * array or bitmap container first.
+ */
+final class RunContainer extends Container {
+    private char[] runs; // run(-s) holder, start of run {@code i} is at {@code 2 * i}, its length - 1 follows
+
+    private final int runCount; // number of held runs
+
+    private final int cardinality; // number of held values
+
+    /**
+     * Creates container holding first {@code runCount} runs of {@code runs}.
+     *
+     * @param runs     sorted not adjacent runs
+     * @param runCount number of runs
+     */
+    RunContainer(final char[] runs, final int runCount) {
+        this.runs = runs;
+        this.runCount = runCount;
+
+        int cardinality = 0;
+        for (int i = 0; i < runCount; ++i) {
+            cardinality += runs[i * 2 + 1] + 1;
+        }
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Memory taken by run container of {@code runCount} runs.
+     *
+     * @param runCount number of runs
+     *
+     * @return memory size in bytes
+     */
+    static long sizeInBytes(final int runCount) {
+        return 2L + 4L * runCount;
+    }
+
+    @Override
+    Container add(final char value) {
+        return contains(value) ? this : toEfficient().add(value);
+    }
+
+    @Override
+    Container remove(final char value) {
+        return contains(value) ? toEfficient().remove(value) : this;
+    }
+
+    @Override
+    boolean contains(final char value) {
+        // binary search of the last run starting not after the value
+        int low = 0;
+        int high = runCount - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (runs[middle * 2] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high >= 0 && value - runs[high * 2] <= runs[high * 2 + 1];
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(final Container other) {
+        return toEfficient().and(other);
+    }
+
+    @Override
+    Container or(final Container other) {
+        return toBitmap().or(other);
+    }
+
+    @Override
+    Container andNot(final Container other) {
+        return toEfficient().andNot(other);
+    }
+
+    @Override
+    void forEach(final int high, final IntConsumer action) {
+        for (int i = 0; i < runCount; ++i) {
+            final int start = runs[i * 2];
+            final int end = start + runs[i * 2 + 1];
+            for (int value = start; value <= end; ++value) {
+                action.accept(high | value);
+            }
+        }
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+        final BitmapContainer bitmap = new BitmapContainer();
+        for (int i = 0; i < runCount; ++i) {
+            bitmap.setRange(runs[i * 2], (char) (runs[i * 2] + runs[i * 2 + 1]));
+        }
+        return bitmap;
+    }
+
+    @Override
+    Container runOptimize() {
+        return this;
+    }
+
+    @Override
+    long sizeInBytes() {
+        return sizeInBytes(runCount);
+    }
+
+    @Override
+    public RunContainer clone() {
+        final RunContainer clone = (RunContainer) super.clone();
+        clone.runs = runs.clone();
+
+        return clone;
+    }
+
+    private Container toEfficient() {
+        if (cardinality > ARRAY_MAX_CARDINALITY) {
+            return toBitmap();
+        }
+
+        final char[] values = new char[Math.max(cardinality, 1)];
+        int count = 0;
+        for (int i = 0; i < runCount; ++i) {
+            final int start = runs[i * 2];
+            final int end = start + runs[i * 2 + 1];
+            for (int value = start; value <= end; ++value) {
+                values[count++] = (char) value;
+            }
+        }
+        return new ArrayContainer(values, count);
+    }
+}
@@ -0,0 +1,93 @@
+package ru.nmanakov.personal.datatypes;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+
+/**
+ * Counts heap bytes allocated by the current thread, as reported by {@link com.sun.management.ThreadMXBean}.
+ * <p>
+ * Counter is exact and is not affected by garbage collection, so it's suitable for allocation regression assertions.
+ * It's available on HotSpot based virtual machines only, tests should be skipped if {@link #isSupported()} is
+ * {@code false}.
+ */
+public final class AllocationCounter {
+    private static final com.sun.management.ThreadMXBean THREADS = threads(); // null - if not supported
+
+    private static final long OVERHEAD = THREADS != null ? overhead() : 0; // bytes allocated by counting itself
+
+    private AllocationCounter() {
+    }
+
+    /**
+     * Whether allocation counting is supported by the virtual machine.
+     *
+     * @return whether allocation counting is supported or not
+     */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Number of bytes allocated by the current thread while {@code action} is running.
+     *
+     * @param action action to count allocation of
+     *
+     * @return allocated bytes
+     *
+     * @throws UnsupportedOperationException if allocation counting is not supported
+     */
+    public static long allocatedBytes(final Runnable action) {
+        if (THREADS == null) {
+            throw new UnsupportedOperationException("Thread allocation counting is not supported");
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = THREADS.getThreadAllocatedBytes(threadId);
+        action.run();
+        final long after = THREADS.getThreadAllocatedBytes(threadId);
+
+        return Math.max(0, after - before - OVERHEAD);
+    }
+
+    /**
+     * Number of bytes allocated by the current thread while {@code action} is running, after {@code warmups} runs of
+     * {@code action}, so that JIT compiler has a chance to eliminate allocations of escaping objects.
+     *
+     * @param warmups number of warm up runs
+     * @param action  action to count allocation of
+     *
+     * @return allocated bytes
+     */
+    public static long allocatedBytes(final int warmups, final Runnable action) {
+        for (int i = 0; i < warmups; ++i) {
+            action.run();
+        }
+        return allocatedBytes(action);
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+
+        final com.sun.management.ThreadMXBean hotSpotThreads = (com.sun.management.ThreadMXBean) threads;
+        if (!hotSpotThreads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        hotSpotThreads.setThreadAllocatedMemoryEnabled(true);
+        return hotSpotThreads;
+    }
+
+    private static long overhead() {
+        final long threadId = Thread.currentThread().getId();
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 16; ++i) {
+            final long before = THREADS.getThreadAllocatedBytes(threadId);
+            final long after = THREADS.getThreadAllocatedBytes(threadId);
+            overhead = Math.min(overhead, after - before);
+        }
+        return overhead;
+    }
+}
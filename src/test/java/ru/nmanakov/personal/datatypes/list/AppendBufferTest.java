@@ -0,0 +1,138 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class AppendBufferTest {
+    @Test
+    void constructor_blockSize() {
+        assertThrows(IllegalArgumentException.class, () -> new AppendBuffer<Integer>(0),
+                "Should throw if block size is not positive");
+    }
+
+    @Test
+    void drainTo_singleProducer() {
+        final AppendBuffer<Integer> buffer = new AppendBuffer<>(4);
+        final ArrayList<Integer> aList = new ArrayList<>(0);
+
+        assertTrue(buffer.isEmpty(), "Expecting empty buffer");
+        assertEquals(0, buffer.drainTo(aList), "Empty buffer should transfer nothing");
+
+        for (int i = 0; i < 10; ++i) {
+            buffer.add(i);
+        }
+        buffer.add(null);
+        assertEquals(11, buffer.size(), "Unexpected buffer size");
+        assertEquals(11, buffer.drainTo(aList), "Unexpected number of transferred elements");
+        assertTrue(buffer.isEmpty(), "Expecting drained buffer");
+        assertEquals(new ArrayList<>(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, null), aList, "Unexpected transferred elements");
+
+        buffer.add(10);
+        assertEquals(1, buffer.drainTo(aList), "Unexpected number of transferred elements");
+        assertEquals(10, aList.get(), "Unexpected last transferred element");
+    }
+
+    @Test
+    void drainTo_singleGrow() {
+        final AppendBuffer<Integer> buffer = new AppendBuffer<>(16);
+        final ArrayList<Integer> aList = new ArrayList<>(0);
+        final ListMetrics metrics = new ListMetrics();
+        aList.setListener(metrics);
+        for (int i = 0; i < 1000; ++i) {
+            buffer.add(i);
+        }
+
+        buffer.drainTo(aList);
+        assertEquals(1, metrics.getGrows(), "List should grow once per drain");
+        assertEquals(1000, aList.size(), "Unexpected list size");
+        assertEquals(new ArrayList<>(0, 1, 2).hashCode(), aList.subList(0, 3).hashCode(),
+                "Unexpected transferred elements");
+    }
+
+    @Test
+    void drainTo_multipleProducers() throws InterruptedException {
+        final int producers = 8;
+        final int perProducer = 100_000;
+        final AppendBuffer<Long> buffer = new AppendBuffer<>(64);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; ++p) {
+            final long producer = p;
+            threads[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; ++i) {
+                    buffer.add(producer << 32 | i);
+                }
+            });
+            threads[p].start();
+        }
+
+        start.countDown();
+        final ArrayList<Long> aList = new ArrayList<>();
+        while (aList.size() < producers * perProducer) {
+            buffer.drainTo(aList);
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // every element is transferred once, elements of each producer are in their addition order
+        final int[] next = new int[producers];
+        for (int i = 0; i < aList.size(); ++i) {
+            final long element = aList.get(i);
+            final int producer = (int) (element >>> 32);
+            assertEquals(next[producer]++, (int) element, "Unexpected order of producer elements");
+        }
+        for (final int count : next) {
+            assertEquals(perProducer, count, "Unexpected number of producer elements");
+        }
+
+        assertEquals(0, buffer.drainTo(aList), "Expecting drained buffer");
+        assertEquals(0, buffer.segmentCount(), "Segments of terminated producers should be dropped");
+    }
+
+    @Test
+    void drainTo_concurrentConsumers() throws InterruptedException {
+        final AppendBuffer<Integer> buffer = new AppendBuffer<>();
+        final CountDownLatch listenerCalled = new CountDownLatch(1);
+        final CountDownLatch drained = new CountDownLatch(1);
+        final ArrayList<Integer> aList = new ArrayList<>(0);
+        aList.setListener(new ListListener() {
+            @Override
+            public void grown(final int oldCapacity, final int newCapacity, final int requiredCapacity) {
+                listenerCalled.countDown();
+                try {
+                    drained.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        buffer.add(1);
+
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final Thread consumer = new Thread(() -> buffer.drainTo(aList));
+        consumer.start();
+        listenerCalled.await();
+        try {
+            buffer.drainTo(new ArrayList<>());
+        } catch (final IllegalStateException e) {
+            error.set(e);
+        }
+        drained.countDown();
+        consumer.join();
+
+        assertNotNull(error.get(), "Concurrent drain should throw");
+        assertEquals(1, aList.size(), "Unexpected number of transferred elements");
+        assertEquals(1, aList.get(), "Unexpected transferred element");
+    }
+}
@@ -0,0 +1,140 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ArrayListPoolTest {
+    @Test
+    void acquire_reusesReleasedList() {
+        final ArrayListPool pool = new ArrayListPool();
+        final ArrayList<Integer> aList = pool.acquire();
+        aList.add(1);
+        aList.add(2);
+        aList.setIndexed(true);
+
+        pool.release(aList);
+        final ArrayList<String> reacquired = pool.acquire();
+
+        assertSame(aList, reacquired, "Released list should be reused");
+        assertTrue(reacquired.isEmpty(), "Reused list should be empty");
+        assertFalse(reacquired.isIndexed(), "Reused list should not be indexed");
+        reacquired.add("a");
+        assertEquals("[a]", reacquired.toString(), "Unexpected list elements");
+    }
+
+    @Test
+    void acquire_capacityBuckets() {
+        final ArrayListPool pool = new ArrayListPool();
+        final ArrayList<Integer> small = pool.acquire(10);
+        final ArrayList<Integer> large = pool.acquire(1000);
+        assertTrue(large.capacity() >= 1000, "Acquired list should fit required capacity");
+
+        pool.release(small);
+        pool.release(large);
+
+        assertSame(large, pool.acquire(600), "Large enough released list should be reused");
+        assertNotSame(small, pool.acquire(600), "Too small released list should not be reused");
+        assertSame(small, pool.acquire(5), "Small released list should be reused");
+        pool.release(large);
+        assertSame(large, pool.acquire(5), "Larger released list should be reused if there is no smaller one");
+    }
+
+    @Test
+    void release_limits() {
+        final ArrayListPool pool = new ArrayListPool(1, 64, false);
+        final ArrayList<Integer> first = pool.acquire();
+        final ArrayList<Integer> second = pool.acquire();
+        final ArrayList<Integer> huge = pool.acquire(128);
+
+        pool.release(first);
+        pool.release(second);
+        pool.release(huge);
+
+        assertSame(first, pool.acquire(), "First released list should be kept");
+        assertNotSame(second, pool.acquire(), "List exceeding bucket limit should be dropped");
+        assertNotSame(huge, pool.acquire(128), "List exceeding maximum pooled capacity should be dropped");
+    }
+
+    @Test
+    void release_twice() {
+        final ArrayListPool pool = new ArrayListPool();
+        final ArrayList<Integer> aList = pool.acquire();
+
+        pool.release(aList);
+        assertThrows(IllegalStateException.class, () -> pool.release(aList), "List should not be released twice");
+    }
+
+    @Test
+    void release_twice_debug() {
+        final ArrayListPool pool = new ArrayListPool(16, 1 << 16, true);
+        final ArrayList<Integer> aList = pool.acquire();
+
+        pool.release(aList);
+        assertThrows(IllegalStateException.class, () -> pool.release(aList), "List should not be released twice");
+        assertSame(aList, pool.acquire(), "Released list should be reused");
+        pool.release(aList);
+    }
+
+    @Test
+    void release_perThread() throws InterruptedException {
+        final ArrayListPool pool = new ArrayListPool();
+        final ArrayList<Integer> aList = pool.acquire();
+        pool.release(aList);
+
+        final Object[] acquired = new Object[1];
+        final Thread thread = new Thread(() -> acquired[0] = pool.acquire());
+        thread.start();
+        thread.join();
+
+        assertNotSame(aList, acquired[0], "Lists released by one thread should not be acquired by another one");
+        assertSame(aList, pool.acquire(), "Released list should be reused by the releasing thread");
+    }
+
+    @Test
+    void debug_detectsLeaks() throws InterruptedException {
+        final ArrayListPool pool = new ArrayListPool(16, 1 << 16, true);
+        assertTrue(pool.isDebug(), "Pool should be in debug mode");
+
+        pool.release(pool.acquire());
+        pool.acquire();
+        for (int i = 0; i < 100 && pool.leakCount() == 0; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, pool.leakCount(), "Not released list should be reported as leaked");
+    }
+
+    @Test
+    void debug_sharesCleaner() {
+        new ArrayListPool(16, 1 << 16, true).acquire();
+        final int threads = ManagementFactory.getThreadMXBean().getThreadCount();
+
+        for (int i = 0; i < 16; ++i) {
+            final ArrayListPool pool = new ArrayListPool(16, 1 << 16, true);
+            pool.release(pool.acquire());
+        }
+
+        assertTrue(ManagementFactory.getThreadMXBean().getThreadCount() <= threads, "Debug mode pools should not start threads of their own");
+    }
+
+    @Test
+    void debug_releaseToAnotherPool() throws InterruptedException {
+        final ArrayListPool debugPool = new ArrayListPool(16, 1 << 16, true);
+        // pool keeping no lists, so that released list becomes unreachable
+        final ArrayListPool pool = new ArrayListPool(0, 1 << 16, false);
+
+        pool.release(debugPool.acquire());
+        debugPool.acquire();
+        for (int i = 0; i < 100 && debugPool.leakCount() == 0; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, debugPool.leakCount(), "Only not released list should be reported as leaked");
+    }
+}
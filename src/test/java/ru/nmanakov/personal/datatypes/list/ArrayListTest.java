@@ -2,8 +2,16 @@ package ru.nmanakov.personal.datatypes.list;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static ru.nmanakov.personal.datatypes.TestUtils.getFieldValue;
@@ -165,6 +173,115 @@ class ArrayListTest {
         assertEquals(10, anArrayList.get(0), assertionMessage);
         assertEquals(20, anArrayList.get(1), assertionMessage);
         assertEquals(40, anArrayList.get(2), assertionMessage);
+
+        final Integer removedElement3 = anArrayList.remove((Integer) 40);
+        assertEquals(40, removedElement3, "Unexpected removed list element");
+        assertEquals(2, anArrayList.size(), "Unexpected list size received");
+        assertEquals(20, anArrayList.get(), assertionMessage);
+    }
+
+    @Test
+    void addAll() {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(2);
+
+        anArrayList.addAll(new Integer[]{10, 20, 30});
+        anArrayList.addAll(new ArrayList<>(40, 50));
+        anArrayList.addAll(anArrayList);
+
+        assertEquals(new ArrayList<>(10, 20, 30, 40, 50, 10, 20, 30, 40, 50), anArrayList,
+                "Unexpected list elements");
+    }
+
+    @Test
+    void insertAll() {
+        final String assertionMessage = "Should throw an exception when list's index is out of bounds";
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20);
+
+        anArrayList.insertAll(1, new Integer[]{11, 12});
+        assertEquals(new ArrayList<>(10, 11, 12, 20), anArrayList, "Unexpected list elements");
+
+        anArrayList.insertAll(0, new ArrayList<>(1, 2));
+        anArrayList.insertAll(6, new ArrayList<>(21, 22));
+        assertEquals(new ArrayList<>(1, 2, 10, 11, 12, 20, 21, 22), anArrayList, "Unexpected list elements");
+
+        anArrayList.insertAll(1, anArrayList);
+        assertEquals(new ArrayList<>(1, 1, 2, 10, 11, 12, 20, 21, 22, 2, 10, 11, 12, 20, 21, 22), anArrayList,
+                "Unexpected list elements");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.insertAll(-1, new Integer[]{1}),
+                assertionMessage);
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.insertAll(17, new ArrayList<>(1, 2)),
+                assertionMessage);
+    }
+
+    @Test
+    void insertAll_removeRange_empty() {
+        final ListMetrics metrics = new ListMetrics();
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20, 30);
+        anArrayList.setListener(metrics);
+        anArrayList.setHashCached(true);
+        final int hash = anArrayList.hashCode();
+        final Iterator<Integer> iterator = anArrayList.iterator();
+
+        anArrayList.insertAll(1, new Integer[0]);
+        anArrayList.insertAll(0, new ArrayList<Integer>());
+        anArrayList.removeRange(1, 1);
+
+        assertEquals(0, metrics.getElementsShifted(), "Empty insertion and removal should not shift elements");
+        assertEquals(10, iterator.next(), "Empty insertion and removal should not invalidate iterators");
+        assertEquals(hash, anArrayList.hashCode(), "Unexpected list hash");
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.insertAll(4, new Integer[0]),
+                "Should throw an exception when list's index is out of bounds");
+    }
+
+    @Test
+    void removeRange() throws NoSuchFieldException, IllegalAccessException {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20, 30, 40, 50);
+
+        anArrayList.removeRange(1, 3);
+        assertEquals(new ArrayList<>(10, 40, 50), anArrayList, "Unexpected list elements");
+        assertNull(((Object[]) getFieldValue(anArrayList, "array"))[3], "Removed elements should not be referenced");
+
+        anArrayList.removeRange(1, 1);
+        assertEquals(3, anArrayList.size(), "Empty range removal should not change list");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.removeRange(2, 1),
+                "Should throw an exception when range is invalid");
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.removeRange(0, 4),
+                "Should throw an exception when range is out of bounds");
+    }
+
+    @Test
+    void removeIf() throws NoSuchFieldException, IllegalAccessException {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 15, 20, 25, 30);
+
+        assertEquals(2, anArrayList.removeIf(element -> element % 10 != 0), "Unexpected removed elements number");
+        assertEquals(new ArrayList<>(10, 20, 30), anArrayList, "Unexpected list elements");
+        assertNull(((Object[]) getFieldValue(anArrayList, "array"))[3], "Removed elements should not be referenced");
+
+        assertEquals(0, anArrayList.removeIf(element -> false), "Unexpected removed elements number");
+        assertEquals(3, anArrayList.size(), "Unexpected list size");
+    }
+
+    @Test
+    void removeIf_failingFilter() {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 15, 20, 25, 30);
+
+        assertThrows(IllegalStateException.class, () -> anArrayList.removeIf(element -> {
+            if (element == 20) {
+                throw new IllegalStateException();
+            }
+            return element == 15;
+        }), "Filter exception should be propagated");
+        assertEquals(new ArrayList<>(10, 20, 25, 30), anArrayList, "Not tested elements should be kept");
+    }
+
+    @Test
+    void retainAll() {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20, 30, 20);
+
+        assertEquals(2, anArrayList.retainAll(new ArrayList<>(20, 40)), "Unexpected removed elements number");
+        assertEquals(new ArrayList<>(20, 20), anArrayList, "Unexpected list elements");
     }
 
     @Test
@@ -185,6 +302,151 @@ class ArrayListTest {
         assertFalse(anArrayList.contains(100), "List should not contain provided element");
     }
 
+    @Test
+    void ensureCapacity() throws NoSuchFieldException, IllegalAccessException {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20);
+
+        anArrayList.ensureCapacity(1000);
+        assertTrue((int) getFieldValue(anArrayList, "capacity") >= 1000, "Capacity should fit required one");
+        assertEquals(2, anArrayList.size(), "Unexpected list size");
+        assertEquals(20, anArrayList.get(), "Unexpected last list element retrieved");
+    }
+
+    @Test
+    void trimToSize() throws NoSuchFieldException, IllegalAccessException {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20);
+
+        anArrayList.trimToSize();
+        assertEquals(2, (int) getFieldValue(anArrayList, "capacity"), "Capacity should be equal to size");
+
+        anArrayList.add(30);
+        assertEquals(3, anArrayList.size(), "Unexpected list size");
+        assertEquals(30, anArrayList.get(), "Unexpected last list element retrieved");
+    }
+
+    @Test
+    void growthPolicy() throws NoSuchFieldException, IllegalAccessException {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, new GrowthPolicy(1.5, 3));
+        final ArrayList<Integer> noElementsArrayList = new ArrayList<>(new Integer[0]);
+
+        for (int i = 0; i < 11; ++i) {
+            anArrayList.add(i);
+            noElementsArrayList.add(i);
+        }
+        assertEquals(13, (int) getFieldValue(anArrayList, "capacity"), "Capacity should grow by max step");
+        assertEquals(11, noElementsArrayList.size(), "Zero capacity list should grow");
+        assertEquals(10, noElementsArrayList.get(), "Unexpected last list element retrieved");
+    }
+
+    @Test
+    void indexOf_nullElements() {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, null, 30);
+
+        assertEquals(1, anArrayList.indexOf(null), "Unexpected null element's index");
+        assertTrue(anArrayList.contains(30), "List should contain provided element");
+        assertNull(anArrayList.remove((Integer) null), "Unexpected removed list element");
+        assertEquals(new ArrayList<>(10, 30), anArrayList, "Unexpected list elements");
+    }
+
+    @Test
+    void hashCached() throws NoSuchFieldException, IllegalAccessException {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20, 30);
+        anArrayList.setHashCached(true);
+
+        assertTrue(anArrayList.isHashCached(), "List should cache its hash code");
+        assertEquals(new ArrayList<>(10, 20, 30).hashCode(), anArrayList.hashCode(), "Unexpected list hash code");
+        assertTrue((boolean) getFieldValue(anArrayList, "hashValid"), "Hash code should be cached");
+
+        anArrayList.add(40);
+        anArrayList.add(null);
+        anArrayList.addAll(new Integer[]{50, 60});
+        anArrayList.remove();
+        anArrayList.remove(5);
+        assertTrue((boolean) getFieldValue(anArrayList, "hashValid"), "Appends should keep cached hash code");
+        assertEquals(new ArrayList<>(10, 20, 30, 40, null).hashCode(), anArrayList.hashCode(),
+                "Unexpected incrementally updated hash code");
+
+        anArrayList.add(0, 0);
+        assertFalse((boolean) getFieldValue(anArrayList, "hashValid"), "Insertion should invalidate hash code");
+        assertEquals(new ArrayList<>(0, 10, 20, 30, 40, null).hashCode(), anArrayList.hashCode(),
+                "Unexpected recomputed hash code");
+    }
+
+    @Test
+    void equals_nullElementsAndCachedHash() {
+        final ArrayList<Integer> anArrayList1 = new ArrayList<>(10, null, 30);
+        final ArrayList<Integer> anArrayList2 = new ArrayList<>(10, null, 30);
+        final ArrayList<Integer> anArrayList3 = new ArrayList<>(10, null, 31);
+        anArrayList1.setHashCached(true);
+        anArrayList3.setHashCached(true);
+        anArrayList1.hashCode();
+        anArrayList3.hashCode();
+
+        assertEquals(anArrayList1, anArrayList2, "Lists with equal elements should be equal");
+        assertEquals(anArrayList1.hashCode(), anArrayList2.hashCode(), "Equal lists should have equal hash codes");
+        assertNotEquals(anArrayList1, anArrayList3, "Lists with different elements should not be equal");
+
+        anArrayList3.remove();
+        anArrayList3.add(30);
+        assertEquals(anArrayList1, anArrayList3, "Lists with equal elements should be equal");
+    }
+
+    @Test
+    void indexed() {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20, 30, 20);
+        anArrayList.setIndexed(true);
+
+        assertTrue(anArrayList.isIndexed(), "List should be indexed");
+        assertEquals(1, anArrayList.indexOf(20), "Unexpected element's index");
+        assertEquals(-1, anArrayList.indexOf(99), "Unexpected non existent element's index");
+
+        anArrayList.add(40);
+        anArrayList.add(null);
+        assertEquals(4, anArrayList.indexOf(40), "Unexpected appended element's index");
+        assertEquals(5, anArrayList.indexOf(null), "Unexpected appended null element's index");
+
+        anArrayList.add(5, 0);
+        assertEquals(0, anArrayList.indexOf(5), "Unexpected inserted element's index");
+        assertEquals(2, anArrayList.indexOf(20), "Unexpected shifted element's index");
+
+        assertEquals(20, anArrayList.remove((Integer) 20), "Unexpected removed list element");
+        assertEquals(3, anArrayList.indexOf(20), "Unexpected duplicate element's index");
+        assertTrue(anArrayList.contains(20), "List should contain duplicate of removed element");
+        assertEquals(20, anArrayList.remove((Integer) 20), "Unexpected removed list element");
+        assertFalse(anArrayList.contains(20), "List should not contain removed element");
+
+        anArrayList.remove();
+        assertFalse(anArrayList.contains(null), "List should not contain removed element");
+        assertEquals(new ArrayList<>(5, 10, 30, 40), anArrayList, "Unexpected list elements");
+    }
+
+    @Test
+    void indexed_bulkOperations() throws CloneNotSupportedException {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20, 30);
+        anArrayList.setIndexed(true);
+
+        anArrayList.addAll(new Integer[]{40, 50});
+        anArrayList.insertAll(0, new Integer[]{1, 2});
+        assertEquals(6, anArrayList.indexOf(50), "Unexpected element's index");
+
+        anArrayList.removeRange(0, 2);
+        assertFalse(anArrayList.contains(1), "List should not contain removed element");
+        assertEquals(0, anArrayList.indexOf(10), "Unexpected element's index");
+
+        anArrayList.removeIf(element -> element % 20 == 0);
+        assertFalse(anArrayList.contains(40), "List should not contain removed element");
+        assertEquals(2, anArrayList.indexOf(50), "Unexpected element's index");
+
+        @SuppressWarnings("unchecked") final ArrayList<Integer> anArrayListCopy =
+                (ArrayList<Integer>) anArrayList.clone();
+        anArrayList.remove(0);
+        assertTrue(anArrayListCopy.contains(10), "Copy index should not be affected by original list");
+
+        anArrayList.setIndexed(false);
+        assertFalse(anArrayList.isIndexed(), "List should not be indexed");
+        assertEquals(1, anArrayList.indexOf(50), "Unexpected element's index");
+    }
+
     @Test
     void isEmpty() {
         final ArrayList<Integer> nonEmptyArrayList = new ArrayList<>(10, 20);
@@ -204,6 +466,77 @@ class ArrayListTest {
         assertEquals(2, nonEmptyArrayList.size(), "Unexpected list size received");
     }
 
+    @Test
+    void iterator() {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20, 30, 40);
+
+        final Iterator<Integer> iterator = anArrayList.iterator();
+        assertEquals(10, iterator.next(), "Unexpected iterator element");
+        assertEquals(20, iterator.next(), "Unexpected iterator element");
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove, "Element should not be removed twice");
+        assertEquals(30, iterator.next(), "Unexpected iterator element");
+        assertEquals(40, iterator.next(), "Unexpected iterator element");
+        assertFalse(iterator.hasNext(), "Iterator should be at the end of the list");
+
+        assertEquals(new ArrayList<>(10, 30, 40), anArrayList, "Unexpected list elements");
+    }
+
+    @Test
+    void iterator_failFast() {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20, 30);
+
+        final Iterator<Integer> iterator = anArrayList.iterator();
+        iterator.next();
+        anArrayList.add(40);
+        assertThrows(ConcurrentModificationException.class, iterator::next,
+                "Iterator should fail when list is modified not through it");
+
+        assertThrows(ConcurrentModificationException.class, () -> anArrayList.forEach(anArrayList::remove),
+                "forEach should fail when list is modified by action");
+    }
+
+    @Test
+    void forEach() {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20, 30);
+        final ArrayList<Integer> visited = new ArrayList<>();
+
+        anArrayList.forEach(visited::add);
+
+        assertEquals(anArrayList, visited, "Every element should be visited in order");
+    }
+
+    @Test
+    void spliterator() {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, 20, 30, 40, 50);
+
+        final Spliterator<Integer> spliterator = anArrayList.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED),
+                "Unexpected spliterator characteristics");
+        assertEquals(5, spliterator.estimateSize(), "Unexpected spliterator size");
+
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(2, prefix.estimateSize(), "Unexpected split prefix size");
+        assertEquals(3, spliterator.estimateSize(), "Unexpected split suffix size");
+        assertTrue(prefix.tryAdvance(element -> assertEquals(10, element, "Unexpected spliterator element")),
+                "Spliterator should advance");
+    }
+
+    @Test
+    void stream() {
+        final ArrayList<Integer> anArrayList = new ArrayList<>();
+        for (int i = 1; i <= 100_000; ++i) {
+            anArrayList.add(i);
+        }
+
+        assertEquals("1, 2, 3", new ArrayList<>(1, 2, 3).stream().map(String::valueOf)
+                .collect(Collectors.joining(", ")), "Unexpected sequential stream result");
+        assertEquals(5_000_050_000L, anArrayList.parallelStream().mapToLong(Integer::longValue).sum(),
+                "Unexpected parallel stream result");
+        assertEquals(50_000, anArrayList.parallelStream().filter(element -> element % 2 == 0).count(),
+                "Unexpected parallel stream result");
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     void clone_test() throws CloneNotSupportedException {
@@ -221,6 +554,9 @@ class ArrayListTest {
         final ArrayList<ArrayList<Integer>> anArrayListCopy2 = (ArrayList<ArrayList<Integer>>) anArrayList2.clone();
         assertEquals(1, anArrayListCopy2.size(), assertionMessage2);
         assertEquals(new ArrayList<>(10, 20), anArrayListCopy2.get(0), assertionMessage1);
+
+        anArrayListCopy1.remove(0);
+        assertEquals(new ArrayList<>(10, 20), anArrayList1, "Clone modifications should not affect original list");
     }
 
     @SuppressWarnings("SimplifiableJUnitAssertion")
@@ -268,6 +604,57 @@ class ArrayListTest {
         assertEquals("[10, 20]", nonEmptyArrayList.toString(), "Unexpected non empty list string representation");
     }
 
+    @Test
+    void writeTo() throws IOException {
+        final ArrayList<Integer> anArrayList = new ArrayList<>(10, null, 30);
+        final StringWriter writer = new StringWriter();
+        anArrayList.writeTo(writer);
+        assertEquals(anArrayList.toString(), writer.toString(), "Written representation should match toString()");
+
+        final StringBuilder str = new StringBuilder("list: ");
+        anArrayList.writeTo(str, 1, element -> element == null ? "-" : Integer.toHexString(element));
+        assertEquals("list: [a, ... 2 more]", str.toString(), "Unexpected truncated list representation");
+
+        final StringBuilder empty = new StringBuilder();
+        anArrayList.writeTo(empty, 0, Object::toString);
+        assertEquals("[... 3 more]", empty.toString(), "Unexpected truncated list representation");
+        assertThrows(IllegalArgumentException.class,
+                () -> anArrayList.writeTo(new StringBuilder(), -1, String::valueOf),
+                "Should throw if element limit is negative");
+    }
+
+    @Test
+    void writeTo_boundedChunks() throws IOException {
+        final ArrayList<Integer> anArrayList = new ArrayList<>();
+        for (int i = 0; i < 100_000; ++i) {
+            anArrayList.add(i);
+        }
+
+        final int[] maxChunk = {0};
+        final StringBuilder written = new StringBuilder();
+        anArrayList.writeTo(new Appendable() {
+            @Override
+            public Appendable append(final CharSequence csq) {
+                maxChunk[0] = Math.max(maxChunk[0], csq.length());
+                written.append(csq);
+                return this;
+            }
+
+            @Override
+            public Appendable append(final CharSequence csq, final int start, final int end) {
+                return append(csq.subSequence(start, end));
+            }
+
+            @Override
+            public Appendable append(final char c) {
+                return append(String.valueOf(c));
+            }
+        });
+
+        assertEquals(anArrayList.toString(), written.toString(), "Written representation should match toString()");
+        assertTrue(maxChunk[0] < ListWriter.CHUNK_SIZE * 2, "Representation should be written in bounded chunks");
+    }
+
     @Test
     void testCase1() throws CloneNotSupportedException {
         final String assertionMessage = "Unexpected list element received";
@@ -316,4 +703,72 @@ class ArrayListTest {
         assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.get(3),
                 "Should throw an exception for out of bounds index");
     }
+
+    @Test
+    void sort_binarySearch() {
+        final ArrayList<String> anArrayList = new ArrayList<>("pear", "fig", "apple", "kiwi", "banana");
+        anArrayList.setIndexed(true);
+        anArrayList.setHashCached(true);
+        anArrayList.hashCode();
+
+        anArrayList.sort(null);
+        assertEquals(new ArrayList<>("apple", "banana", "fig", "kiwi", "pear"), anArrayList,
+                "Unexpected sorted list elements");
+        assertEquals(2, anArrayList.binarySearch("fig", null), "Unexpected found element's index");
+        assertEquals(-3, anArrayList.binarySearch("cherry", null), "Expecting insertion point for absent element");
+        assertEquals(3, anArrayList.indexOf("kiwi"), "Index should follow sorted positions");
+        assertEquals(new ArrayList<>("apple", "banana", "fig", "kiwi", "pear").hashCode(), anArrayList.hashCode(),
+                "Hash code should follow sorted elements");
+
+        final Comparator<String> byLength = Comparator.comparingInt(String::length);
+        anArrayList.sort(byLength);
+        assertEquals(new ArrayList<>("fig", "kiwi", "pear", "apple", "banana"), anArrayList,
+                "Sort should be stable");
+        assertEquals(4, anArrayList.binarySearch("orange", byLength), "Unexpected found element's index");
+    }
+
+    @Test
+    void parallelSort() {
+        final Random random = new Random(16);
+        final ArrayList<Integer> anArrayList = new ArrayList<>();
+        final java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 100000; ++i) {
+            final Integer element = random.nextInt();
+            anArrayList.add(element);
+            expected.add(element);
+        }
+        expected.sort(Comparator.reverseOrder());
+
+        final Iterator<Integer> iterator = anArrayList.iterator();
+        anArrayList.parallelSort(Comparator.reverseOrder());
+        assertArrayEquals(expected.toArray(), anArrayList.toArray(), "Unexpected parallel sorted list elements");
+        assertThrows(ConcurrentModificationException.class, iterator::next,
+                "Sorting should fail iterators fast");
+    }
+
+    @Test
+    void clear() throws NoSuchFieldException, IllegalAccessException {
+        final ArrayList<Integer> aList = new ArrayList<>(10, 20, 30);
+        aList.setIndexed(true);
+        aList.setHashCached(true);
+        final int capacity = (int) getFieldValue(aList, "capacity");
+
+        aList.clear();
+
+        assertTrue(aList.isEmpty(), "Expecting empty list");
+        assertEquals(capacity, (int) getFieldValue(aList, "capacity"), "Clearing should keep capacity");
+        assertFalse(aList.contains(10), "Cleared list should not contain removed elements");
+        assertEquals(new ArrayList<Integer>().hashCode(), aList.hashCode(), "Unexpected hash code of cleared list");
+        aList.add(40);
+        assertEquals(0, aList.indexOf(40), "Unexpected index of element");
+    }
+
+    @Test
+    void set() {
+        final ArrayList<Integer> aList = new ArrayList<>(10, 20, 30);
+
+        assertEquals(20, aList.set(1, 25), "Unexpected replaced element");
+        assertEquals(new ArrayList<>(10, 25, 30).toString(), aList.toString(), "Unexpected list elements");
+        assertThrows(IndexOutOfBoundsException.class, () -> aList.set(3, 40), "Should throw if index is out of range");
+    }
 }
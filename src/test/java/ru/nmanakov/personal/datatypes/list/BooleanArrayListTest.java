@@ -0,0 +1,176 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class BooleanArrayListTest {
+    @Test
+    void constructor_initialElements() {
+        final BooleanArrayList aList = new BooleanArrayList(true, false, true);
+
+        assertEquals(3, aList.size(), "Expecting size of initial element's size");
+        assertTrue(aList.get(0), "Unexpected first element");
+        assertFalse(aList.get(1), "Unexpected element");
+        assertTrue(aList.get(), "Unexpected last element");
+        assertEquals("[true, false, true]", aList.toString(), "Unexpected list elements");
+    }
+
+    @Test
+    void addAndRemove_acrossWords() {
+        final BooleanArrayList aList = new BooleanArrayList(0);
+        final java.util.ArrayList<Boolean> expected = new java.util.ArrayList<>();
+        final Random random = new Random(7);
+
+        for (int i = 0; i < 5000; ++i) {
+            final boolean element = random.nextBoolean();
+            final int operation = random.nextInt(5);
+            if (operation < 2 || expected.isEmpty()) {
+                aList.add(element);
+                expected.add(element);
+            } else if (operation == 2) {
+                final int index = random.nextInt(expected.size() + 1);
+                aList.add(element, index);
+                expected.add(index, element);
+            } else if (operation == 3) {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), aList.remove(index), "Unexpected removed list element");
+            } else {
+                assertEquals(expected.remove(expected.size() - 1), aList.remove(), "Unexpected removed element");
+            }
+        }
+
+        assertEquals(expected.size(), aList.size(), "Unexpected list size");
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEquals(expected.get(i), aList.get(i), "Unexpected list element");
+        }
+        assertEquals(expected.stream().filter(e -> e).count(), aList.cardinality(), "Unexpected cardinality");
+        assertEquals(expected.indexOf(true), aList.indexOf(true), "Unexpected index of element");
+        assertEquals(expected.indexOf(false), aList.indexOf(false), "Unexpected index of element");
+    }
+
+    @Test
+    void remove_emptyList() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new BooleanArrayList().remove(),
+                "Should throw if list is empty");
+        assertThrows(IndexOutOfBoundsException.class, () -> new BooleanArrayList().get(),
+                "Should throw if list is empty");
+    }
+
+    @Test
+    void set() {
+        final BooleanArrayList aList = new BooleanArrayList(false, false, false);
+
+        assertFalse(aList.set(1, true), "Unexpected replaced element");
+        assertEquals(new BooleanArrayList(false, true, false), aList, "Unexpected list elements");
+        assertEquals(1, aList.indexOf(true), "Unexpected index of element");
+        assertFalse(new BooleanArrayList(false, false).contains(true), "Element should not be contained");
+    }
+
+    @Test
+    void bulkOperations_matchBitSet() {
+        final Random random = new Random(11);
+        final BooleanArrayList first = new BooleanArrayList();
+        final BooleanArrayList second = new BooleanArrayList();
+        final BitSet firstBits = new BitSet();
+        final BitSet secondBits = new BitSet();
+        for (int i = 0; i < 1000; ++i) {
+            final boolean element = random.nextBoolean();
+            first.add(element);
+            firstBits.set(i, element);
+        }
+        for (int i = 0; i < 700; ++i) {
+            final boolean element = random.nextBoolean();
+            second.add(element);
+            secondBits.set(i, element);
+        }
+
+        final BooleanArrayList and = copy(first);
+        and.and(second);
+        assertEquals(bits(firstBits, secondBits, 0), toBitSet(and), "Unexpected result of 'and'");
+
+        final BooleanArrayList or = copy(second);
+        or.or(first);
+        assertEquals(700, or.size(), "Bulk operation should not change list size");
+        assertEquals(bits(secondBits, firstBits, 1).get(0, 700), toBitSet(or), "Unexpected result of 'or'");
+
+        final BooleanArrayList xor = copy(first);
+        xor.xor(second);
+        assertEquals(bits(firstBits, secondBits, 2), toBitSet(xor), "Unexpected result of 'xor'");
+
+        final BooleanArrayList andNot = copy(first);
+        andNot.andNot(second);
+        assertEquals(bits(firstBits, secondBits, 3), toBitSet(andNot), "Unexpected result of 'andNot'");
+        assertEquals(bits(firstBits, secondBits, 3).cardinality(), andNot.cardinality(), "Unexpected cardinality");
+    }
+
+    @Test
+    void trimToSize() throws CloneNotSupportedException {
+        final BooleanArrayList aList = new BooleanArrayList(1000);
+        aList.add(true);
+        aList.trimToSize();
+
+        final BooleanArrayList clone = (BooleanArrayList) aList.clone();
+        clone.add(false, 0);
+        assertEquals(new BooleanArrayList(true), aList, "Clone should not share element(-s) holder");
+        assertEquals(new BooleanArrayList(false, true), clone, "Unexpected clone elements");
+        assertEquals(new BooleanArrayList(false, true).hashCode(), clone.hashCode(), "Unexpected hash code");
+        assertArrayEquals(new boolean[]{false, true}, clone.toArray(), "Unexpected list elements");
+    }
+
+    private static BooleanArrayList copy(final BooleanArrayList aList) {
+        final BooleanArrayList copy = new BooleanArrayList();
+        for (int i = 0; i < aList.size(); ++i) {
+            copy.add(aList.get(i));
+        }
+        return copy;
+    }
+
+    private static BitSet toBitSet(final BooleanArrayList aList) {
+        final BitSet bits = new BitSet();
+        for (int i = aList.nextSetBit(0); i != -1; i = aList.nextSetBit(i + 1)) {
+            bits.set(i);
+        }
+        return bits;
+    }
+
+    private static BitSet bits(final BitSet first, final BitSet second, final int operation) {
+        final BitSet result = (BitSet) first.clone();
+        switch (operation) {
+            case 0:
+                result.and(second);
+                break;
+            case 1:
+                result.or(second);
+                break;
+            case 2:
+                result.xor(second);
+                break;
+            default:
+                result.andNot(second);
+                break;
+        }
+        return result;
+    }
+
+    @Test
+    void writeTo() throws IOException {
+        final BooleanArrayList anArrayList = new BooleanArrayList(true, false, true);
+        final StringWriter writer = new StringWriter();
+        anArrayList.writeTo(writer);
+        assertEquals("[true, false, true]", writer.toString(), "Unexpected written list representation");
+        assertEquals(anArrayList.toString(), writer.toString(), "Written representation should match toString()");
+
+        final StringBuilder str = new StringBuilder();
+        anArrayList.writeTo(str, 2);
+        assertEquals("[true, false, ... 1 more]", str.toString(), "Unexpected truncated list representation");
+        assertThrows(IllegalArgumentException.class, () -> anArrayList.writeTo(new StringBuilder(), -1),
+                "Should throw if element limit is negative");
+    }
+}
@@ -0,0 +1,110 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.nmanakov.personal.datatypes.TestUtils.getFieldValue;
+
+
+class ChunkedListTest {
+    @Test
+    void constructor_initialElements() {
+        final ChunkedList<Integer> aList = new ChunkedList<>(10, 20);
+
+        assertEquals(2, aList.size(), "Expecting size of initial element's size");
+        assertEquals(10, aList.get(0), "Unexpected first element");
+        assertEquals(20, aList.get(), "Unexpected last element");
+    }
+
+    @Test
+    void addAndRemove() {
+        final ChunkedList<Integer> aList = new ChunkedList<>();
+        for (int i = 0; i < 100; ++i) {
+            aList.add(i);
+        }
+        aList.add(-1, 0);
+        aList.add(-2, 50);
+
+        assertEquals(102, aList.size(), "Unexpected list size");
+        assertEquals(-1, aList.get(0), "Unexpected inserted list element");
+        assertEquals(-2, aList.get(50), "Unexpected inserted list element");
+        assertEquals(99, aList.get(), "Unexpected last list element");
+        assertEquals(-2, aList.remove(50), "Unexpected removed list element");
+        assertEquals(-1, aList.remove((Integer) (-1)), "Unexpected removed list element");
+        assertEquals(99, aList.remove(), "Unexpected removed list element");
+        assertEquals(50, aList.indexOf(50), "Unexpected element's index");
+        assertFalse(aList.contains(99), "List should not contain removed element");
+        assertThrows(IndexOutOfBoundsException.class, () -> aList.add(0, 100),
+                "Should throw an exception when list's index is out of bounds");
+        assertThrows(IndexOutOfBoundsException.class, () -> aList.remove(99),
+                "Should throw an exception when list's index is out of bounds");
+    }
+
+    @Test
+    void randomEdits() {
+        final Random random = new Random(12);
+        final ChunkedList<Integer> aList = new ChunkedList<>();
+        final java.util.List<Integer> expected = new java.util.ArrayList<>();
+
+        for (int i = 0; i < 50000; ++i) {
+            final int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation < 2) {
+                final int index = random.nextInt(expected.size() + 1);
+                aList.add(i, index);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                aList.add(i);
+                expected.add(i);
+            } else {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), aList.remove(index), "Unexpected removed list element");
+            }
+        }
+
+        assertArrayEquals(expected.toArray(), aList.toArray(), "Unexpected list elements");
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEquals(expected.get(i), aList.get(i), "Unexpected list element");
+        }
+        assertEquals(expected.hashCode(), aList.hashCode(), "Unexpected list hash code");
+
+        while (expected.size() > 10) {
+            assertEquals(expected.remove(0), aList.remove(0), "Unexpected removed list element");
+        }
+        aList.trimToSize();
+        assertArrayEquals(expected.toArray(), aList.toArray(), "Trimming should not change list elements");
+    }
+
+    @Test
+    void chunkCapacity_followsSize() throws NoSuchFieldException, IllegalAccessException {
+        final ChunkedList<Integer> aList = new ChunkedList<>();
+        for (int i = 0; i < 1 << 16; ++i) {
+            aList.add(i);
+        }
+
+        final int chunkShift = (int) getFieldValue(aList, "chunkShift");
+        assertTrue(chunkShift >= 7 && chunkShift <= 9, "Chunk capacity should be about square root of size");
+
+        for (int i = 0; i < 1 << 16; ++i) {
+            assertEquals(i, aList.get(i), "Unexpected list element");
+        }
+    }
+
+    @Test
+    void iterator_failFast() {
+        final ChunkedList<Integer> aList = new ChunkedList<>(10, 20, 30);
+
+        final Iterator<Integer> iterator = aList.iterator();
+        assertEquals(10, iterator.next(), "Unexpected iterated element");
+        iterator.remove();
+        assertEquals(20, iterator.next(), "Unexpected iterated element");
+        assertEquals(new ChunkedList<>(20, 30), aList, "Unexpected list elements");
+
+        aList.add(40);
+        assertThrows(ConcurrentModificationException.class, iterator::next,
+                "Should throw an exception when list is modified during iteration");
+    }
+}
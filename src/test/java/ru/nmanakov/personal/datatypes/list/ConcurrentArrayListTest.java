@@ -0,0 +1,136 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ConcurrentArrayListTest {
+    @Test
+    void addAndGet() {
+        final ConcurrentArrayList<Integer> aList = new ConcurrentArrayList<>(10, 20);
+
+        aList.add(30);
+        aList.add(5, 0);
+        aList.addAll(new Integer[]{40, 50});
+        aList.addAll(new ArrayList<>(60, 70));
+
+        assertEquals(new ConcurrentArrayList<>(5, 10, 20, 30, 40, 50, 60, 70), aList, "Unexpected list elements");
+        assertEquals(5, aList.get(0), "Unexpected first list element");
+        assertEquals(70, aList.get(), "Unexpected last list element");
+        assertThrows(IndexOutOfBoundsException.class, () -> aList.get(8),
+                "Should throw an exception when element with non existent index is demanded");
+        assertThrows(IndexOutOfBoundsException.class, () -> aList.add(1, 9),
+                "Should throw an exception when list's index is out of bounds");
+    }
+
+    @Test
+    void remove() {
+        final ConcurrentArrayList<Integer> aList = new ConcurrentArrayList<>(10, 20, 30, 40, 50);
+
+        assertEquals(50, aList.remove(), "Unexpected removed list element");
+        assertEquals(10, aList.remove(0), "Unexpected removed list element");
+        assertEquals(30, aList.remove((Integer) 30), "Unexpected removed list element");
+        assertNull(aList.remove((Integer) 99), "Not existent element should not be removed");
+        assertEquals(1, aList.removeIf(element -> element > 30), "Unexpected removed elements number");
+
+        assertEquals(new ConcurrentArrayList<>(20), aList, "Unexpected list elements");
+        assertEquals(20, aList.remove(), "Unexpected removed list element");
+        assertNull(aList.remove(), "Should return 'null' when empty list removal operation is performed");
+        assertTrue(aList.isEmpty(), "Expecting empty list");
+    }
+
+    @Test
+    void indexOf_contains() {
+        final ConcurrentArrayList<Integer> aList = new ConcurrentArrayList<>(10, null, 30);
+
+        assertEquals(2, aList.indexOf(30), "Unexpected element's index");
+        assertEquals(1, aList.indexOf(null), "Unexpected null element's index");
+        assertTrue(aList.contains(10), "List should contain provided element");
+        assertFalse(aList.contains(99), "List should not contain provided element");
+    }
+
+    @Test
+    void update() {
+        final ConcurrentArrayList<Integer> aList = new ConcurrentArrayList<>(10, 20, 30);
+
+        aList.update(list -> {
+            list.remove(0);
+            list.add(40);
+            list.add(15, 0);
+        });
+
+        assertEquals(new ConcurrentArrayList<>(15, 20, 30, 40), aList, "Unexpected list elements");
+        assertEquals(new ArrayList<>(15, 20, 30, 40), aList.snapshot(), "Unexpected list snapshot");
+    }
+
+    @Test
+    void update_retainedCopy() {
+        final ConcurrentArrayList<Integer> aList = new ConcurrentArrayList<>(10, 20, 30);
+        final AtomicReference<ArrayList<Integer>> retained = new AtomicReference<>();
+
+        aList.update(list -> {
+            list.set(0, 15);
+            retained.set(list);
+        });
+        retained.get().add(40);
+
+        assertEquals(new ConcurrentArrayList<>(15, 20, 30), aList, "Unexpected list elements");
+    }
+
+    @Test
+    void iterator_snapshot() {
+        final ConcurrentArrayList<Integer> aList = new ConcurrentArrayList<>(10, 20);
+
+        final Iterator<Integer> iterator = aList.iterator();
+        aList.add(30);
+        aList.remove(0);
+
+        assertEquals(10, iterator.next(), "Iterator should not observe following modifications");
+        assertEquals(20, iterator.next(), "Iterator should not observe following modifications");
+        assertFalse(iterator.hasNext(), "Iterator should not observe following modifications");
+        assertEquals("[20, 30]", aList.toString(), "Unexpected list string representation");
+    }
+
+    @Test
+    void concurrentReadersAndWriters() throws InterruptedException {
+        final int writes = 2_000;
+        final ConcurrentArrayList<Integer> aList = new ConcurrentArrayList<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; ++t) {
+            final boolean writer = t % 2 == 0;
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < writes; ++i) {
+                        if (writer) {
+                            aList.add(i);
+                        } else {
+                            // snapshot is consistent: every published element is non null
+                            for (final Integer element : aList) {
+                                assertNotNull(element);
+                            }
+                        }
+                    }
+                } catch (final Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get(), "Concurrent access should not fail");
+        assertEquals(2 * writes, aList.size(), "Concurrent additions should not be lost");
+    }
+}
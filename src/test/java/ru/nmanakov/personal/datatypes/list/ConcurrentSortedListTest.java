@@ -0,0 +1,86 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ConcurrentSortedListTest {
+    @Test
+    void add_keepsOrder() {
+        final ConcurrentSortedList<String> aList = new ConcurrentSortedList<>(Comparator.comparing(String::length));
+
+        aList.add("bb");
+        aList.add("a");
+        aList.add("cc");
+        aList.add("d");
+
+        assertEquals("[a, d, bb, cc]", aList.toString(), "Equal elements should be kept in insertion order");
+        assertEquals(4, aList.size(), "Unexpected list size");
+        assertEquals("a", aList.first(), "Unexpected first list element");
+        assertEquals("cc", aList.last(), "Unexpected last list element");
+    }
+
+    @Test
+    void remove() {
+        final ConcurrentSortedList<Integer> aList = new ConcurrentSortedList<>();
+        aList.add(2);
+        aList.add(1);
+        aList.add(2);
+
+        assertEquals(2, aList.remove(2), "Unexpected removed list element");
+        assertTrue(aList.contains(2), "Equal element should be still contained");
+        assertEquals(2, aList.remove(2), "Unexpected removed list element");
+        assertNull(aList.remove(2), "Should return 'null' if nothing was removed");
+        assertFalse(aList.contains(2), "Removed element should not be contained");
+        assertEquals(1, aList.pollFirst(), "Unexpected removed first list element");
+        assertNull(aList.pollFirst(), "Should return 'null' when list is empty");
+        assertTrue(aList.isEmpty(), "Expecting empty list");
+        assertEquals(0, aList.size(), "Unexpected list size");
+    }
+
+    @Test
+    void subRange() {
+        final ConcurrentSortedList<Integer> aList = new ConcurrentSortedList<>();
+        for (int i = 0; i < 100; i += 10) {
+            aList.add(i);
+        }
+
+        final Iterator<Integer> iterator = aList.subRange(25, 60).iterator();
+        assertEquals(30, iterator.next(), "Unexpected range element");
+        iterator.remove();
+        assertEquals(40, iterator.next(), "Unexpected range element");
+        assertEquals(50, iterator.next(), "Unexpected range element");
+        assertFalse(iterator.hasNext(), "Range should end before its upper bound");
+
+        assertEquals(9, aList.size(), "Unexpected list size");
+        assertFalse(aList.subRange(60, 25).iterator().hasNext(), "Inverted range should be empty");
+    }
+
+    @Test
+    void add_concurrently() throws InterruptedException {
+        final ConcurrentSortedList<Integer> aList = new ConcurrentSortedList<>();
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; ++t) {
+            final int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; ++i) {
+                    aList.add(i * threads.length + offset);
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40000, aList.size(), "Unexpected list size");
+        int expected = 0;
+        for (final Integer element : aList) {
+            assertEquals(expected++, element, "Unexpected list element");
+        }
+    }
+}
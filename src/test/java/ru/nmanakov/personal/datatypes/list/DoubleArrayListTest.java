@@ -0,0 +1,213 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.nmanakov.personal.datatypes.TestUtils.getFieldValue;
+
+
+class DoubleArrayListTest {
+    @Test
+    void constructor_noParameters() throws NoSuchFieldException, IllegalAccessException {
+        final DoubleArrayList anArrayList = new DoubleArrayList();
+        final int capacity = (int) getFieldValue(anArrayList, "capacity");
+
+        assertTrue(anArrayList.isEmpty(), "Expecting empty list");
+        assertTrue(capacity != 0, "Expecting default capacity");
+        assertThrows(IndexOutOfBoundsException.class, anArrayList::get,
+                "Empty list should throw exception when element is demanded");
+    }
+
+    @Test
+    void constructor_initialElements() {
+        final DoubleArrayList anArrayList = new DoubleArrayList(10, 20);
+
+        assertEquals(2, anArrayList.size(), "Expecting size of initial element's size");
+        assertEquals(10, anArrayList.get(0), "Unexpected first element");
+        assertEquals(20, anArrayList.get(1), "Unexpected second element");
+    }
+
+    @Test
+    void constructor_initialCapacity() throws NoSuchFieldException, IllegalAccessException {
+        final DoubleArrayList anArrayList = new DoubleArrayList(5);
+        final int capacity = (int) getFieldValue(anArrayList, "capacity");
+
+        assertTrue(anArrayList.isEmpty(), "Expecting empty list");
+        assertEquals(5, capacity, "Expecting default capacity");
+    }
+
+    @Test
+    void get_byIndex() {
+        final DoubleArrayList anArrayList = new DoubleArrayList(10, 20);
+
+        assertEquals(10, anArrayList.get(0), "Unexpected element retrieved by index");
+        assertEquals(20, anArrayList.get(1), "Unexpected element retrieved by index");
+        assertEquals(20, anArrayList.get(), "Unexpected last list element retrieved");
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.get(2),
+                "Should throw an exception when element with non existent index is demanded");
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.get(-1),
+                "Should throw an exception when element with non existent index is demanded");
+    }
+
+    @Test
+    void add_byElement() {
+        final DoubleArrayList emptyArrayList = new DoubleArrayList();
+        final DoubleArrayList zeroCapacityArrayList = new DoubleArrayList(0);
+
+        for (int i = 0; i < 25; ++i) {
+            emptyArrayList.add(i);
+            zeroCapacityArrayList.add(i);
+        }
+
+        assertEquals(25, emptyArrayList.size(), "Unexpected list size");
+        assertEquals(24, emptyArrayList.get(), "Unexpected last list element retrieved");
+        assertEquals(25, zeroCapacityArrayList.size(), "Unexpected list size");
+        assertEquals(24, zeroCapacityArrayList.get(), "Unexpected last list element retrieved");
+    }
+
+    @Test
+    void add_byElementAndIndex() {
+        final String assertionMessage1 = "Unexpected list element retrieved";
+        final String assertionMessage2 = "Should throw an exception when list's index is out of bounds";
+        final DoubleArrayList anArrayList = new DoubleArrayList(10, 20);
+
+        anArrayList.add(99, 0);
+        anArrayList.add(98, 2);
+        anArrayList.add(97, 4);
+        assertEquals(new DoubleArrayList(99, 10, 98, 20, 97), anArrayList, assertionMessage1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.add(96, 100), assertionMessage2);
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.add(96, -1), assertionMessage2);
+    }
+
+    @Test
+    void remove() {
+        final DoubleArrayList anArrayList = new DoubleArrayList(10, 20, 30, 40);
+
+        assertEquals(40, anArrayList.remove(), "Unexpected removed list element");
+        assertEquals(20, anArrayList.remove(1), "Unexpected removed list element");
+        assertEquals(new DoubleArrayList(10, 30), anArrayList, "Unexpected list elements");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.remove(2),
+                "Should throw an exceptions when list's index is out of bounds");
+        assertThrows(IndexOutOfBoundsException.class, () -> new DoubleArrayList().remove(),
+                "Should throw an exceptions when list is empty");
+    }
+
+    @Test
+    void removeElement() {
+        final DoubleArrayList anArrayList = new DoubleArrayList(10, 20, 30, 40);
+
+        assertTrue(anArrayList.removeElement(40), "Existent element should be removed");
+        assertTrue(anArrayList.removeElement(10), "Existent element should be removed");
+        assertFalse(anArrayList.removeElement(99), "Not existent element should not be removed");
+        assertEquals(new DoubleArrayList(20, 30), anArrayList, "Unexpected list elements");
+    }
+
+    @Test
+    void indexOf_contains() {
+        final DoubleArrayList anArrayList = new DoubleArrayList(10, 20, 30, 20);
+
+        assertEquals(1, anArrayList.indexOf(20), "Unexpected element's index");
+        assertEquals(-1, anArrayList.indexOf(99), "Unexpected non existent element's index");
+        assertTrue(anArrayList.contains(30), "List should contain provided element");
+        assertFalse(anArrayList.contains(99), "List should not contain provided element");
+    }
+
+    @Test
+    void indexOf_specialValues() {
+        final DoubleArrayList anArrayList = new DoubleArrayList(0.0, Double.NaN, -0.0);
+
+        assertEquals(1, anArrayList.indexOf(Double.NaN), "NaN should be found by itself");
+        assertEquals(2, anArrayList.indexOf(-0.0), "Negative zero should not be equal to positive one");
+    }
+
+    @Test
+    void clone_test() throws CloneNotSupportedException {
+        final DoubleArrayList anArrayList = new DoubleArrayList(10, 20);
+
+        final DoubleArrayList anArrayListCopy = (DoubleArrayList) anArrayList.clone();
+        anArrayListCopy.add(5, 0);
+
+        assertEquals(new DoubleArrayList(10, 20), anArrayList, "Original list should not be affected by its copy");
+        assertEquals(new DoubleArrayList(5, 10, 20), anArrayListCopy, "Unexpected list copy elements");
+    }
+
+    @Test
+    void equals_hashCode() {
+        final DoubleArrayList anArrayList1 = new DoubleArrayList(10, 20);
+        final DoubleArrayList anArrayList2 = new DoubleArrayList(2);
+        anArrayList2.add(10);
+        anArrayList2.add(20);
+
+        assertEquals(anArrayList1, anArrayList2, "Provided list instances should be equals");
+        assertNotEquals(anArrayList1, new DoubleArrayList(20, 10), "Provided list instances should not be equals");
+        assertEquals(new ArrayList<>(10.0, 20.0).hashCode(), anArrayList1.hashCode(),
+                "Hash should be the same as boxed list's one");
+
+        final Map<DoubleArrayList, String> hashMap = new HashMap<>();
+        hashMap.put(anArrayList1, "array list entry value 1");
+        hashMap.put(anArrayList2, "array list entry value 2");
+
+        assertEquals(1, hashMap.size(), "Hash is generated with different values for equal objects");
+    }
+
+    @Test
+    void toString_test() {
+        assertEquals("[]", new DoubleArrayList().toString(), "Unexpected empty list string representation");
+        assertEquals("[10.0, 20.0]", new DoubleArrayList(10, 20).toString(),
+                "Unexpected non empty list string representation");
+    }
+
+    @Test
+    void writeTo() throws IOException {
+        final DoubleArrayList anArrayList = new DoubleArrayList(Double.NaN, -0.0, 1.5);
+        final StringWriter writer = new StringWriter();
+        anArrayList.writeTo(writer);
+        assertEquals("[NaN, -0.0, 1.5]", writer.toString(), "Unexpected written list representation");
+        assertEquals(anArrayList.toString(), writer.toString(), "Written representation should match toString()");
+
+        final StringBuilder str = new StringBuilder();
+        anArrayList.writeTo(str, 2);
+        assertEquals("[NaN, -0.0, ... 1 more]", str.toString(), "Unexpected truncated list representation");
+        assertThrows(IllegalArgumentException.class, () -> anArrayList.writeTo(new StringBuilder(), -1),
+                "Should throw if element limit is negative");
+    }
+
+    @Test
+    void sort_binarySearch() {
+        final DoubleArrayList anArrayList = new DoubleArrayList(Double.NaN, 1.5, 0.0, -0.0, Double.NEGATIVE_INFINITY);
+        final DoubleArrayList aParallelArrayList = new DoubleArrayList(Double.NaN, 1.5, 0.0, -0.0,
+                Double.NEGATIVE_INFINITY);
+
+        anArrayList.sort();
+        aParallelArrayList.parallelSort();
+        assertEquals(new DoubleArrayList(Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.5, Double.NaN), anArrayList,
+                "Unexpected sorted list elements");
+        assertEquals(anArrayList, aParallelArrayList, "Unexpected parallel sorted list elements");
+        assertEquals(3, anArrayList.binarySearch(1.5), "Unexpected found element's index");
+        assertEquals(-4, anArrayList.binarySearch(1.0), "Expecting insertion point for absent element");
+    }
+
+    @Test
+    void fill_sum_minMax() {
+        final DoubleArrayList anArrayList = new DoubleArrayList(0.0, 1.5, -0.0, Double.NEGATIVE_INFINITY);
+
+        assertEquals(Double.NEGATIVE_INFINITY, anArrayList.sum(), "Unexpected sum of list elements");
+        assertEquals(Double.NEGATIVE_INFINITY, anArrayList.min(), "Unexpected minimum element");
+        assertEquals(1.5, anArrayList.max(), "Unexpected maximum element");
+        assertEquals(-0.0, new DoubleArrayList(0.0, -0.0).min(), "-0.0 should be less than 0.0");
+        assertEquals(Double.NaN, new DoubleArrayList(1.0, Double.NaN).max(), "NaN should be the maximum");
+
+        anArrayList.fill(0.5);
+        assertEquals(new DoubleArrayList(0.5, 0.5, 0.5, 0.5), anArrayList, "Unexpected filled list elements");
+        assertEquals(2.0, anArrayList.sum(), "Unexpected sum of list elements");
+        assertThrows(IndexOutOfBoundsException.class, () -> new DoubleArrayList().min(),
+                "Empty list should throw exception when minimum is demanded");
+    }
+}
@@ -0,0 +1,179 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.nmanakov.personal.datatypes.TestUtils.getFieldValue;
+
+
+class DoubleLinkedListTest {
+    @Test
+    void constructor_initialElements() {
+        final DoubleLinkedList<Integer> aLinkedList = new DoubleLinkedList<>(10, 20);
+
+        assertEquals(2, aLinkedList.size(), "Expecting size of initial element's size");
+        assertEquals(10, aLinkedList.get(0), "Unexpected first element");
+        assertEquals(20, aLinkedList.get(1), "Unexpected second element");
+    }
+
+    @Test
+    void dequeOperations() {
+        final DoubleLinkedList<Integer> aLinkedList = new DoubleLinkedList<>(0);
+
+        aLinkedList.addLast(20);
+        aLinkedList.addFirst(10);
+        aLinkedList.addLast(30);
+        assertEquals(new DoubleLinkedList<>(10, 20, 30), aLinkedList, "Unexpected list elements");
+        assertEquals(10, aLinkedList.peekFirst(), "Unexpected first list element");
+        assertEquals(30, aLinkedList.peekLast(), "Unexpected last list element");
+
+        assertEquals(10, aLinkedList.pollFirst(), "Unexpected removed first list element");
+        assertEquals(30, aLinkedList.pollLast(), "Unexpected removed last list element");
+        assertEquals(20, aLinkedList.pollLast(), "Unexpected removed last list element");
+        assertTrue(aLinkedList.isEmpty(), "Expecting empty list");
+        assertNull(aLinkedList.pollFirst(), "Should return 'null' when list is empty");
+        assertNull(aLinkedList.peekLast(), "Should return 'null' when list is empty");
+    }
+
+    @Test
+    void queueChurn_reusesSlots() throws NoSuchFieldException, IllegalAccessException {
+        final DoubleLinkedList<Integer> aLinkedList = new DoubleLinkedList<>(4);
+
+        for (int i = 0; i < 1000; ++i) {
+            aLinkedList.addLast(i);
+            aLinkedList.addLast(i);
+            aLinkedList.pollFirst();
+            aLinkedList.pollFirst();
+        }
+
+        assertTrue(aLinkedList.isEmpty(), "Expecting empty list");
+        assertEquals(4, (int) getFieldValue(aLinkedList, "capacity"), "Removed nodes slots should be reused");
+    }
+
+    @Test
+    void add_byElementAndIndex() {
+        final DoubleLinkedList<Integer> aLinkedList = new DoubleLinkedList<>(10, 20);
+
+        aLinkedList.add(99, 0);
+        aLinkedList.add(98, 2);
+        aLinkedList.add(97, 4);
+        assertEquals(new DoubleLinkedList<>(99, 10, 98, 20, 97), aLinkedList, "Unexpected list elements");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> aLinkedList.add(96, 100),
+                "Should throw an exception when list's index is out of bounds");
+    }
+
+    @Test
+    void remove() {
+        final DoubleLinkedList<Integer> aLinkedList = new DoubleLinkedList<>(10, 20, 30, 40, 50);
+
+        assertEquals(50, aLinkedList.remove(), "Unexpected removed list element");
+        assertEquals(30, aLinkedList.remove(2), "Unexpected removed list element");
+        assertEquals(10, aLinkedList.remove((Integer) 10), "Unexpected removed list element");
+        assertNull(aLinkedList.remove((Integer) 99), "Not existent element should not be removed");
+        assertEquals(new DoubleLinkedList<>(20, 40), aLinkedList, "Unexpected list elements");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> aLinkedList.remove(2),
+                "Should throw an exceptions when list's index is out of bounds");
+    }
+
+    @Test
+    void indexOf_contains() {
+        final DoubleLinkedList<Integer> aLinkedList = new DoubleLinkedList<>(10, null, 30);
+
+        assertEquals(2, aLinkedList.indexOf(30), "Unexpected element's index");
+        assertEquals(1, aLinkedList.indexOf(null), "Unexpected null element's index");
+        assertFalse(aLinkedList.contains(99), "List should not contain provided element");
+    }
+
+    @Test
+    void cursor() {
+        final DoubleLinkedList<Integer> aLinkedList = new DoubleLinkedList<>(10, 20, 30);
+
+        final DoubleLinkedList<Integer>.Cursor cursor = aLinkedList.cursor();
+        cursor.add(5);
+        assertEquals(10, cursor.next(), "Unexpected cursor element");
+        assertEquals(20, cursor.next(), "Unexpected cursor element");
+        cursor.remove();
+        assertThrows(IllegalStateException.class, cursor::remove, "Element should not be removed twice");
+        cursor.add(25);
+        assertEquals(30, cursor.next(), "Unexpected cursor element");
+        cursor.add(35);
+        assertFalse(cursor.hasNext(), "Cursor should be at the end of the list");
+
+        assertEquals(new DoubleLinkedList<>(5, 10, 25, 30, 35), aLinkedList, "Unexpected list elements");
+    }
+
+    @Test
+    void cursor_failFast() {
+        final DoubleLinkedList<Integer> aLinkedList = new DoubleLinkedList<>(10, 20, 30);
+
+        final Iterator<Integer> iterator = aLinkedList.iterator();
+        iterator.next();
+        aLinkedList.addLast(40);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next,
+                "Cursor should fail when list is modified not through it");
+    }
+
+    @Test
+    void compact() {
+        final DoubleLinkedList<Integer> aLinkedList = new DoubleLinkedList<>(10, 20, 30, 40);
+
+        aLinkedList.remove(1);
+        aLinkedList.addFirst(5);
+        aLinkedList.compact();
+        aLinkedList.addLast(50);
+
+        assertEquals(new DoubleLinkedList<>(5, 10, 30, 40, 50), aLinkedList, "Unexpected list elements");
+        assertEquals(40, aLinkedList.get(3), "Unexpected list element");
+
+        final DoubleLinkedList<Integer> emptyLinkedList = new DoubleLinkedList<>();
+        emptyLinkedList.compact();
+        emptyLinkedList.addFirst(10);
+        assertEquals(10, emptyLinkedList.get(), "Unexpected last list element");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void clone_test() throws CloneNotSupportedException {
+        final DoubleLinkedList<Integer> aLinkedList = new DoubleLinkedList<>(10, 20);
+
+        final DoubleLinkedList<Integer> aLinkedListCopy = (DoubleLinkedList<Integer>) aLinkedList.clone();
+        aLinkedListCopy.addFirst(5);
+
+        assertEquals(new DoubleLinkedList<>(10, 20), aLinkedList, "Original list should not be affected by its copy");
+        assertEquals(new DoubleLinkedList<>(5, 10, 20), aLinkedListCopy, "Unexpected list copy elements");
+    }
+
+    @Test
+    void equals_hashCode() {
+        final DoubleLinkedList<Integer> aLinkedList1 = new DoubleLinkedList<>(10, 20);
+        final DoubleLinkedList<Integer> aLinkedList2 = new DoubleLinkedList<>();
+        aLinkedList2.addFirst(20);
+        aLinkedList2.addFirst(10);
+
+        assertEquals(aLinkedList1, aLinkedList2, "Provided list instances should be equals");
+        assertNotEquals(aLinkedList1, new DoubleLinkedList<>(20, 10), "Provided list instances should not be equals");
+        assertEquals(new ArrayList<>(10, 20).hashCode(), aLinkedList1.hashCode(),
+                "Hash should be the same as array list's one");
+
+        final Map<DoubleLinkedList<Integer>, String> hashMap = new HashMap<>();
+        hashMap.put(aLinkedList1, "linked list entry value 1");
+        hashMap.put(aLinkedList2, "linked list entry value 2");
+
+        assertEquals(1, hashMap.size(), "Hash is generated with different values for equal objects");
+    }
+
+    @Test
+    void toString_test() {
+        assertEquals("[]", new DoubleLinkedList<>().toString(), "Unexpected empty list string representation");
+        assertEquals("[10, 20]", new DoubleLinkedList<>(10, 20).toString(),
+                "Unexpected non empty list string representation");
+    }
+}
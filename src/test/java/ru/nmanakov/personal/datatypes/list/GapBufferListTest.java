@@ -0,0 +1,97 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class GapBufferListTest {
+    @Test
+    void constructor_initialElements() {
+        final GapBufferList<Integer> aList = new GapBufferList<>(10, 20);
+
+        assertEquals(2, aList.size(), "Expecting size of initial element's size");
+        assertEquals(10, aList.get(0), "Unexpected first element");
+        assertEquals(20, aList.get(), "Unexpected last element");
+    }
+
+    @Test
+    void cursorEdits() {
+        final GapBufferList<Character> aList = new GapBufferList<>();
+        for (final char c : "hello world".toCharArray()) {
+            aList.add(c);
+        }
+
+        aList.add(',', 5);
+        assertEquals(6, aList.cursor(), "Cursor should be after inserted element");
+        aList.remove(5);
+        aList.remove(4);
+        aList.add('o', 4);
+        aList.add('!');
+
+        assertEquals(new GapBufferList<>('h', 'e', 'l', 'l', 'o', ' ', 'w', 'o', 'r', 'l', 'd', '!'), aList,
+                "Unexpected list elements");
+        assertEquals("[h, e, l, l, o,  , w, o, r, l, d, !]", aList.toString(), "Unexpected list representation");
+        assertEquals(6, aList.indexOf('w'), "Unexpected element's index");
+        assertEquals(-1, aList.indexOf('x'), "Expecting -1 when element is absent");
+        assertThrows(IndexOutOfBoundsException.class, () -> aList.add('x', 13),
+                "Should throw an exception when list's index is out of bounds");
+        assertThrows(IndexOutOfBoundsException.class, () -> aList.get(12),
+                "Should throw an exception when element with non existent index is demanded");
+    }
+
+    @Test
+    void remove() {
+        final GapBufferList<Integer> aList = new GapBufferList<>(10, 20, 30, 40);
+
+        assertEquals(40, aList.remove(), "Unexpected removed list element");
+        assertEquals(10, aList.remove(0), "Unexpected removed list element");
+        assertEquals(30, aList.remove((Integer) 30), "Unexpected removed list element");
+        assertNull(aList.remove((Integer) 30), "Should return 'null' when element is absent");
+        assertEquals(20, aList.remove(), "Unexpected removed list element");
+        assertNull(aList.remove(), "Should return 'null' when list is empty");
+        assertTrue(aList.isEmpty(), "Expecting empty list");
+    }
+
+    @Test
+    void randomEdits() {
+        final Random random = new Random(12);
+        final GapBufferList<Integer> aList = new GapBufferList<>(0);
+        final java.util.List<Integer> expected = new java.util.ArrayList<>();
+
+        for (int i = 0; i < 20000; ++i) {
+            if (expected.isEmpty() || random.nextInt(3) != 0) {
+                final int index = random.nextInt(expected.size() + 1);
+                aList.add(i, index);
+                expected.add(index, i);
+            } else {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), aList.remove(index), "Unexpected removed list element");
+            }
+        }
+
+        assertArrayEquals(expected.toArray(), aList.toArray(), "Unexpected list elements");
+        assertEquals(expected.hashCode(), aList.hashCode(), "Unexpected list hash code");
+        aList.trimToSize();
+        assertArrayEquals(expected.toArray(), aList.toArray(), "Trimming should not change list elements");
+    }
+
+    @Test
+    void iterator_failFast() {
+        final GapBufferList<Integer> aList = new GapBufferList<>(10, 20, 30);
+
+        final Iterator<Integer> iterator = aList.iterator();
+        assertEquals(10, iterator.next(), "Unexpected iterated element");
+        iterator.remove();
+        assertEquals(20, iterator.next(), "Unexpected iterated element");
+        assertEquals(new GapBufferList<>(20, 30), aList, "Unexpected list elements");
+
+        aList.add(40, 0);
+        assertThrows(ConcurrentModificationException.class, iterator::next,
+                "Should throw an exception when list is modified during iteration");
+    }
+}
@@ -0,0 +1,43 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class GrowthPolicyTest {
+    @Test
+    void constructor_invalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new GrowthPolicy(1.0, 10),
+                "Growth factor should be greater than 1");
+        assertThrows(IllegalArgumentException.class, () -> new GrowthPolicy(Double.NaN, 10),
+                "Growth factor should be a number");
+        assertThrows(IllegalArgumentException.class, () -> new GrowthPolicy(1.5, 0),
+                "Growth step should be positive");
+    }
+
+    @Test
+    void newCapacity() {
+        final GrowthPolicy growthPolicy = new GrowthPolicy(1.5, 100);
+
+        assertEquals(30, GrowthPolicy.DEFAULT.newCapacity(15, 16), "Default policy should double capacity");
+        assertEquals(15, growthPolicy.newCapacity(10, 11), "Capacity should be multiplied by factor");
+        assertEquals(1100, growthPolicy.newCapacity(1000, 1001), "Capacity should not grow more than max step");
+        assertEquals(5000, growthPolicy.newCapacity(1000, 5000), "Capacity should fit minimum required one");
+        assertEquals(1, growthPolicy.newCapacity(0, 1), "Zero capacity should grow as well");
+    }
+
+    @Test
+    void newCapacity_nearMaxCapacity() {
+        final int capacity = GrowthPolicy.MAX_CAPACITY - 10;
+
+        assertEquals(GrowthPolicy.MAX_CAPACITY, GrowthPolicy.DEFAULT.newCapacity(capacity, capacity + 1),
+                "Capacity should not exceed maximum one");
+        assertThrows(OutOfMemoryError.class,
+                () -> GrowthPolicy.DEFAULT.newCapacity(GrowthPolicy.MAX_CAPACITY, GrowthPolicy.MAX_CAPACITY + 1),
+                "Should throw an error when capacity can not grow anymore");
+        assertThrows(OutOfMemoryError.class,
+                () -> GrowthPolicy.DEFAULT.newCapacity(GrowthPolicy.MAX_CAPACITY, Integer.MAX_VALUE + 1),
+                "Should throw an error when required capacity has overflown");
+    }
+}
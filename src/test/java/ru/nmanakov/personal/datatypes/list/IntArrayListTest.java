@@ -0,0 +1,233 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.nmanakov.personal.datatypes.TestUtils.getFieldValue;
+
+
+class IntArrayListTest {
+    @Test
+    void constructor_noParameters() throws NoSuchFieldException, IllegalAccessException {
+        final IntArrayList anArrayList = new IntArrayList();
+        final int capacity = (int) getFieldValue(anArrayList, "capacity");
+
+        assertTrue(anArrayList.isEmpty(), "Expecting empty list");
+        assertTrue(capacity != 0, "Expecting default capacity");
+        assertThrows(IndexOutOfBoundsException.class, anArrayList::get,
+                "Empty list should throw exception when element is demanded");
+    }
+
+    @Test
+    void constructor_initialElements() {
+        final IntArrayList anArrayList = new IntArrayList(10, 20);
+
+        assertEquals(2, anArrayList.size(), "Expecting size of initial element's size");
+        assertEquals(10, anArrayList.get(0), "Unexpected first element");
+        assertEquals(20, anArrayList.get(1), "Unexpected second element");
+    }
+
+    @Test
+    void constructor_initialCapacity() throws NoSuchFieldException, IllegalAccessException {
+        final IntArrayList anArrayList = new IntArrayList(5);
+        final int capacity = (int) getFieldValue(anArrayList, "capacity");
+
+        assertTrue(anArrayList.isEmpty(), "Expecting empty list");
+        assertEquals(5, capacity, "Expecting default capacity");
+    }
+
+    @Test
+    void get_byIndex() {
+        final IntArrayList anArrayList = new IntArrayList(10, 20);
+
+        assertEquals(10, anArrayList.get(0), "Unexpected element retrieved by index");
+        assertEquals(20, anArrayList.get(1), "Unexpected element retrieved by index");
+        assertEquals(20, anArrayList.get(), "Unexpected last list element retrieved");
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.get(2),
+                "Should throw an exception when element with non existent index is demanded");
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.get(-1),
+                "Should throw an exception when element with non existent index is demanded");
+    }
+
+    @Test
+    void add_byElement() {
+        final IntArrayList emptyArrayList = new IntArrayList();
+        final IntArrayList zeroCapacityArrayList = new IntArrayList(0);
+
+        for (int i = 0; i < 25; ++i) {
+            emptyArrayList.add(i);
+            zeroCapacityArrayList.add(i);
+        }
+
+        assertEquals(25, emptyArrayList.size(), "Unexpected list size");
+        assertEquals(24, emptyArrayList.get(), "Unexpected last list element retrieved");
+        assertEquals(25, zeroCapacityArrayList.size(), "Unexpected list size");
+        assertEquals(24, zeroCapacityArrayList.get(), "Unexpected last list element retrieved");
+    }
+
+    @Test
+    void add_byElementAndIndex() {
+        final String assertionMessage1 = "Unexpected list element retrieved";
+        final String assertionMessage2 = "Should throw an exception when list's index is out of bounds";
+        final IntArrayList anArrayList = new IntArrayList(10, 20);
+
+        anArrayList.add(99, 0);
+        anArrayList.add(98, 2);
+        anArrayList.add(97, 4);
+        assertEquals(new IntArrayList(99, 10, 98, 20, 97), anArrayList, assertionMessage1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.add(96, 100), assertionMessage2);
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.add(96, -1), assertionMessage2);
+    }
+
+    @Test
+    void remove() {
+        final IntArrayList anArrayList = new IntArrayList(10, 20, 30, 40);
+
+        assertEquals(40, anArrayList.remove(), "Unexpected removed list element");
+        assertEquals(20, anArrayList.remove(1), "Unexpected removed list element");
+        assertEquals(new IntArrayList(10, 30), anArrayList, "Unexpected list elements");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.remove(2),
+                "Should throw an exceptions when list's index is out of bounds");
+        assertThrows(IndexOutOfBoundsException.class, () -> new IntArrayList().remove(),
+                "Should throw an exceptions when list is empty");
+    }
+
+    @Test
+    void removeElement() {
+        final IntArrayList anArrayList = new IntArrayList(10, 20, 30, 40);
+
+        assertTrue(anArrayList.removeElement(40), "Existent element should be removed");
+        assertTrue(anArrayList.removeElement(10), "Existent element should be removed");
+        assertFalse(anArrayList.removeElement(99), "Not existent element should not be removed");
+        assertEquals(new IntArrayList(20, 30), anArrayList, "Unexpected list elements");
+    }
+
+    @Test
+    void indexOf_contains() {
+        final IntArrayList anArrayList = new IntArrayList(10, 20, 30, 20);
+
+        assertEquals(1, anArrayList.indexOf(20), "Unexpected element's index");
+        assertEquals(-1, anArrayList.indexOf(99), "Unexpected non existent element's index");
+        assertTrue(anArrayList.contains(30), "List should contain provided element");
+        assertFalse(anArrayList.contains(99), "List should not contain provided element");
+    }
+
+    @Test
+    void clone_test() throws CloneNotSupportedException {
+        final IntArrayList anArrayList = new IntArrayList(10, 20);
+
+        final IntArrayList anArrayListCopy = (IntArrayList) anArrayList.clone();
+        anArrayListCopy.add(5, 0);
+
+        assertEquals(new IntArrayList(10, 20), anArrayList, "Original list should not be affected by its copy");
+        assertEquals(new IntArrayList(5, 10, 20), anArrayListCopy, "Unexpected list copy elements");
+    }
+
+    @Test
+    void equals_hashCode() {
+        final IntArrayList anArrayList1 = new IntArrayList(10, 20);
+        final IntArrayList anArrayList2 = new IntArrayList(2);
+        anArrayList2.add(10);
+        anArrayList2.add(20);
+
+        assertEquals(anArrayList1, anArrayList2, "Provided list instances should be equals");
+        assertNotEquals(anArrayList1, new IntArrayList(20, 10), "Provided list instances should not be equals");
+        assertEquals(new ArrayList<>(10, 20).hashCode(), anArrayList1.hashCode(),
+                "Hash should be the same as boxed list's one");
+
+        final Map<IntArrayList, String> hashMap = new HashMap<>();
+        hashMap.put(anArrayList1, "array list entry value 1");
+        hashMap.put(anArrayList2, "array list entry value 2");
+
+        assertEquals(1, hashMap.size(), "Hash is generated with different values for equal objects");
+    }
+
+    @Test
+    void toString_test() {
+        assertEquals("[]", new IntArrayList().toString(), "Unexpected empty list string representation");
+        assertEquals("[10, 20]", new IntArrayList(10, 20).toString(),
+                "Unexpected non empty list string representation");
+    }
+
+    @Test
+    void writeTo() throws IOException {
+        final IntArrayList anArrayList = new IntArrayList(Integer.MIN_VALUE, 20, 30);
+        final StringWriter writer = new StringWriter();
+        anArrayList.writeTo(writer);
+        assertEquals("[-2147483648, 20, 30]", writer.toString(), "Unexpected written list representation");
+        assertEquals(anArrayList.toString(), writer.toString(), "Written representation should match toString()");
+
+        final StringBuilder str = new StringBuilder();
+        anArrayList.writeTo(str, 2);
+        assertEquals("[-2147483648, 20, ... 1 more]", str.toString(), "Unexpected truncated list representation");
+        assertThrows(IllegalArgumentException.class, () -> anArrayList.writeTo(new StringBuilder(), -1),
+                "Should throw if element limit is negative");
+    }
+
+    @Test
+    void sort_binarySearch() {
+        final Random random = new Random(16);
+        for (final int size : new int[]{0, 100, 100000}) {
+            final int[] expected = new int[size];
+            final IntArrayList anArrayList = new IntArrayList();
+            final IntArrayList aNarrowArrayList = new IntArrayList();
+            for (int i = 0; i < size; ++i) {
+                expected[i] = random.nextInt();
+                anArrayList.add(expected[i]);
+                aNarrowArrayList.add(expected[i] & 0xFFFF);
+            }
+            Arrays.sort(expected);
+
+            final IntArrayList aParallelArrayList = (IntArrayList) clone(anArrayList);
+            anArrayList.sort();
+            aParallelArrayList.parallelSort();
+            assertEquals(new IntArrayList(expected), anArrayList, "Unexpected sorted list elements");
+            assertEquals(anArrayList, aParallelArrayList, "Unexpected parallel sorted list elements");
+
+            aNarrowArrayList.sort();
+            for (int i = 1; i < size; ++i) {
+                assertTrue(aNarrowArrayList.get(i - 1) <= aNarrowArrayList.get(i), "List should be sorted");
+            }
+            for (int i = 0; i < size; i += 97) {
+                assertEquals(expected[i], anArrayList.get(anArrayList.binarySearch(expected[i])),
+                        "Unexpected found element");
+            }
+        }
+
+        assertEquals(-2, new IntArrayList(10, 30).binarySearch(20), "Expecting insertion point for absent element");
+    }
+
+    private static Object clone(final IntArrayList anArrayList) {
+        try {
+            return anArrayList.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    void fill_sum_minMax() {
+        final IntArrayList anArrayList = new IntArrayList(Integer.MAX_VALUE, 20, -5, Integer.MAX_VALUE);
+
+        assertEquals(2L * Integer.MAX_VALUE + 15, anArrayList.sum(), "Sum should not overflow");
+        assertEquals(-5, anArrayList.min(), "Unexpected minimum element");
+        assertEquals(Integer.MAX_VALUE, anArrayList.max(), "Unexpected maximum element");
+
+        anArrayList.fill(7);
+        assertEquals(new IntArrayList(7, 7, 7, 7), anArrayList, "Unexpected filled list elements");
+        assertEquals(0, new IntArrayList().sum(), "Sum of empty list should be 0");
+        assertThrows(IndexOutOfBoundsException.class, () -> new IntArrayList().min(),
+                "Empty list should throw exception when minimum is demanded");
+        assertThrows(IndexOutOfBoundsException.class, () -> new IntArrayList().max(),
+                "Empty list should throw exception when maximum is demanded");
+    }
+}
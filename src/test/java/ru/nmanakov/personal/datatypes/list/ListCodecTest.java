@@ -0,0 +1,142 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ListCodecTest {
+    @Test
+    void intList() throws IOException {
+        final Random random = new Random(11);
+        final IntArrayList aList = new IntArrayList();
+        for (int i = 0; i < 10000; ++i) {
+            aList.add(i % 7 == 0 ? random.nextInt() : i);
+        }
+        aList.add(Integer.MIN_VALUE);
+        aList.add(Integer.MAX_VALUE);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListCodec.write(aList, out);
+
+        final IntArrayList decoded = new ListDecoder(new ByteArrayInputStream(out.toByteArray()))
+                .readAll(new IntArrayList());
+        assertEquals(aList, decoded, "Decoded list should be equal to the encoded one");
+    }
+
+    @Test
+    void longList() throws IOException {
+        final LongArrayList aList = new LongArrayList(Long.MIN_VALUE, -1L, 0L, Long.MAX_VALUE, 42L);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListCodec.write(aList, out);
+
+        final LongArrayList decoded = new ListDecoder(new ByteArrayInputStream(out.toByteArray()))
+                .readAll(new LongArrayList());
+        assertEquals(aList, decoded, "Decoded list should be equal to the encoded one");
+    }
+
+    @Test
+    void doubleList() throws IOException {
+        final DoubleArrayList aList = new DoubleArrayList(1.5, 1.5, -0.0, Double.NaN, Double.MAX_VALUE, 3.25);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        ListCodec.write(aList, buffer);
+        buffer.flip();
+
+        final DoubleArrayList decoded = new ListDecoder(buffer).readAll(new DoubleArrayList());
+        assertEquals(aList, decoded, "Decoded list should be equal to the encoded one");
+        assertFalse(buffer.hasRemaining(), "Whole encoded list should be read");
+    }
+
+    @Test
+    void objectList() throws IOException {
+        final ArrayList<String> aList = new ArrayList<>("alpha", null, "", "\u0434\u0435\u043b\u044c\u0442\u0430");
+        final char[] large = new char[70000];
+        Arrays.fill(large, 'x');
+        aList.add(new String(large));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListCodec.write(aList, ElementCodec.STRING, out);
+
+        final ArrayList<String> decoded = new ListDecoder(new ByteArrayInputStream(out.toByteArray()))
+                .readAll(new ArrayList<>(), ElementCodec.STRING);
+        assertEquals(aList.size(), decoded.size(), "Unexpected decoded list size");
+        for (int i = 0; i < aList.size(); ++i) {
+            assertEquals(aList.get(i), decoded.get(i), "Unexpected decoded list element");
+        }
+    }
+
+    @Test
+    void emptyList() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListCodec.write(new ArrayList<Integer>(), ElementCodec.INT, out);
+
+        assertEquals(3, out.size(), "Empty list should be encoded by header and terminating chunk");
+        final ListDecoder decoder = new ListDecoder(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(0, decoder.readChunk(new ArrayList<>(), ElementCodec.INT), "Unexpected chunk size");
+        assertTrue(decoder.isFinished(), "Decoder should be finished");
+    }
+
+    @Test
+    void compactness() throws IOException {
+        final IntArrayList aList = new IntArrayList();
+        for (int i = 0; i < 100000; ++i) {
+            aList.add(1000000 + i * 3);
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListCodec.write(aList, out);
+
+        assertTrue(out.size() < 110000, "Sorted list should be delta encoded by about a byte per element");
+    }
+
+    @Test
+    void readChunk() throws IOException {
+        final LongArrayList aList = new LongArrayList();
+        for (long i = 0; i < 10000; ++i) {
+            aList.add(i * i);
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListCodec.write(aList, out);
+
+        final ListDecoder decoder = new ListDecoder(new ByteArrayInputStream(out.toByteArray()));
+        final LongArrayList decoded = new LongArrayList();
+        int chunks = 0;
+        while (decoder.readChunk(decoded) != 0) {
+            assertTrue(decoded.size() <= (chunks + 1) * 4096, "Chunk should not exceed chunk size");
+            chunks++;
+        }
+
+        assertEquals(3, chunks, "Unexpected number of chunks");
+        assertEquals(aList, decoded, "Decoded list should be equal to the encoded one");
+        assertEquals(0, decoder.readChunk(decoded), "Finished decoder should return empty chunks");
+    }
+
+    @Test
+    void malformed() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListCodec.write(new IntArrayList(1, 2, 3), out);
+        final byte[] bytes = out.toByteArray();
+
+        assertThrows(IOException.class, () -> new ListDecoder(ByteBuffer.wrap(bytes)).readAll(new LongArrayList()),
+                "Should throw an exception when list type doesn't match");
+        assertThrows(EOFException.class,
+                () -> new ListDecoder(ByteBuffer.wrap(bytes, 0, bytes.length - 1)).readAll(new IntArrayList()),
+                "Should throw an exception when list is truncated");
+        assertThrows(IOException.class, () -> new ListDecoder(ByteBuffer.wrap(new byte[]{7, 1, 0})),
+                "Should throw an exception when format version is unsupported");
+        assertThrows(BufferOverflowException.class, () -> ListCodec.write(new IntArrayList(1, 2), ByteBuffer.allocate(2)),
+                "Should throw an exception when buffer has no space left");
+    }
+}
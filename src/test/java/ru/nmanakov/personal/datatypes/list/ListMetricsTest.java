@@ -0,0 +1,149 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ListMetricsTest {
+    @Test
+    void grows() {
+        final ListMetrics metrics = new ListMetrics();
+        final ArrayList<Integer> aList = new ArrayList<>(2);
+        aList.setListener(metrics);
+
+        for (int i = 0; i < 5; ++i) {
+            aList.add(i);
+        }
+
+        assertEquals(2, metrics.getGrows(), "Unexpected number of growths");
+        assertEquals(2 + 4, metrics.getElementsCopied(), "Unexpected number of copied elements");
+        assertTrue(metrics.getBytesCopied() == 6 * 4 || metrics.getBytesCopied() == 6 * 8,
+                "Unexpected number of copied bytes");
+        assertEquals(8, metrics.getPeakCapacity(), "Unexpected peak capacity");
+        assertEquals(5, metrics.getPeakRequiredCapacity(), "Unexpected peak required capacity");
+        assertEquals(3, metrics.getWastedCapacity(), "Unexpected wasted capacity");
+
+        aList.trimToSize();
+        assertEquals(0, metrics.getWastedCapacity(), "Trimming should reclaim wasted capacity");
+        assertEquals(2 + 4 + 5, metrics.getElementsCopied(), "Trimming should count copied elements");
+    }
+
+    @Test
+    void wastedCapacity_presized() {
+        final ListMetrics metrics = new ListMetrics();
+        final ArrayList<Integer> grown = new ArrayList<>(2);
+        final ArrayList<Integer> presized = new ArrayList<>(100);
+        grown.setListener(metrics);
+        presized.setListener(metrics);
+
+        for (int i = 0; i < 3; ++i) {
+            grown.add(i);
+        }
+        presized.add(1);
+        assertEquals(1, metrics.getWastedCapacity(), "Unexpected wasted capacity");
+
+        // slack of presized list has never been counted, so its trimming should not hide waste of other lists
+        presized.trimToSize();
+        assertEquals(1, metrics.getWastedCapacity(), "Trimming of presized list should not change wasted capacity");
+
+        for (int i = 0; i < 100; ++i) {
+            presized.add(i);
+        }
+        presized.trimToSize();
+        grown.trimToSize();
+        assertEquals(0, metrics.getWastedCapacity(), "Trimming should reclaim wasted capacity");
+    }
+
+    @Test
+    void wastedCapacity_retracted() throws InterruptedException {
+        final ListMetrics metrics = new ListMetrics();
+        final ArrayList<Integer> uninstrumented = new ArrayList<>(2);
+        uninstrumented.setListener(metrics);
+        for (int i = 0; i < 3; ++i) {
+            uninstrumented.add(i);
+        }
+        assertEquals(1, metrics.getWastedCapacity(), "Unexpected wasted capacity");
+
+        uninstrumented.setListener(null);
+        assertEquals(0, metrics.getWastedCapacity(), "Uninstalling listener should retract wasted capacity");
+
+        growAndDrop(metrics);
+        assertEquals(1, metrics.getWastedCapacity(), "Unexpected wasted capacity");
+        for (int i = 0; i < 100 && metrics.getWastedCapacity() != 0; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, metrics.getWastedCapacity(), "Garbage collected list should retract wasted capacity");
+    }
+
+    @Test
+    void shifts() {
+        final ListMetrics metrics = new ListMetrics();
+        final ArrayList<Integer> aList = new ArrayList<>(0, 1, 2, 3, 4, 5);
+        aList.setListener(metrics);
+
+        aList.add(10, 1);
+        assertEquals(5, metrics.getElementsShifted(), "Insertion should shift tail elements");
+        aList.add(11);
+        aList.remove();
+        aList.remove(0);
+        assertEquals(5 + 6, metrics.getElementsShifted(), "Removal should shift tail elements");
+        aList.removeRange(0, 2);
+        assertEquals(5 + 6 + 4, metrics.getElementsShifted(), "Range removal should shift tail elements");
+        aList.removeIf(e -> e == 3);
+        assertEquals(5 + 6 + 4 + 2, metrics.getElementsShifted(), "Unexpected number of shifted elements");
+        assertEquals(new ArrayList<>(2, 4, 5).toString(), aList.toString(), "Unexpected list elements");
+
+        metrics.reset();
+        assertEquals(0, metrics.getElementsShifted(), "Reset should clear counters");
+    }
+
+    @Test
+    void listener_uninstalled() {
+        final ListMetrics metrics = new ListMetrics();
+        final ArrayList<Integer> aList = new ArrayList<>(1);
+        aList.setListener(metrics);
+        assertSame(metrics, aList.getListener(), "Unexpected list listener");
+
+        aList.setListener(null);
+        aList.add(1);
+        aList.add(2, 0);
+        assertNull(aList.getListener(), "Listener should be uninstalled");
+        assertEquals(0, metrics.getGrows(), "Uninstalled listener should not be called");
+        assertEquals(0, metrics.getElementsShifted(), "Uninstalled listener should not be called");
+    }
+
+    @Test
+    void register() throws Exception {
+        final ListMetrics metrics = new ListMetrics();
+        final ArrayList<Integer> aList = new ArrayList<>(1);
+        aList.setListener(metrics);
+        aList.add(1);
+        aList.add(2);
+
+        final ObjectName name = metrics.register("test");
+        try {
+            assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Grows"),
+                    "Unexpected number of growths exposed");
+            assertThrows(IllegalArgumentException.class, () -> new ListMetrics().register("test"),
+                    "Should not register metrics twice under the same name");
+        } finally {
+            ListMetrics.unregister("test");
+        }
+
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name), "Metrics should be unregistered");
+        ListMetrics.unregister("test");
+    }
+
+    private static void growAndDrop(final ListMetrics metrics) {
+        final ArrayList<Integer> aList = new ArrayList<>(2);
+        aList.setListener(metrics);
+        for (int i = 0; i < 3; ++i) {
+            aList.add(i);
+        }
+    }
+}
@@ -0,0 +1,502 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * Model based tests: long random operation sequences are applied both to a list under test and to
+ * {@link java.util.ArrayList}, which serves as an oracle. Results of every operation and list contents are compared.
+ * <p>
+ * Sequences are generated from fixed seeds, which are reported by failed assertions, so every failure is
+ * reproducible. Elements are drawn from a small range including {@code null}, so that searches hit duplicates.
+ */
+class ListModelTest {
+    private static final long[] SEEDS = {1, 42, 20201};
+
+    private static final int OPERATIONS = 20_000;
+
+    private static final int MAX_ELEMENT = 32;
+
+    private static final int CHECK_INTERVAL = 64; // number of operations full list contents are compared after
+
+    @Test
+    void arrayList() {
+        runModel(ArrayList::new);
+        runModel(() -> new ArrayList<>(0, new GrowthPolicy(1.5, 7)));
+    }
+
+    @Test
+    void gapBufferList() {
+        runModel(GapBufferList::new);
+    }
+
+    @Test
+    void ringBufferList() {
+        runModel(RingBufferList::new);
+    }
+
+    @Test
+    void chunkedList() {
+        runModel(ChunkedList::new);
+    }
+
+    @Test
+    void doubleLinkedList() {
+        runModel(DoubleLinkedList::new);
+    }
+
+    @Test
+    void concurrentArrayList() {
+        runModel(ConcurrentArrayList::new);
+    }
+
+    @Test
+    void arrayList_extendedOperations() {
+        for (final long seed : SEEDS) {
+            final Random random = new Random(seed);
+            final ArrayList<Integer> aList = new ArrayList<>();
+            final List<Integer> model = new java.util.ArrayList<>();
+
+            for (int operation = 0; operation < OPERATIONS; ++operation) {
+                final String context = String.format("seed %d, operation %d", seed, operation);
+                final int size = model.size();
+                switch (random.nextInt(16)) {
+                    case 0: {
+                        final int index = random.nextInt(size + 1);
+                        final Integer[] elements = randomElements(random, random.nextInt(8));
+                        aList.insertAll(index, elements);
+                        model.addAll(index, Arrays.asList(elements));
+                        break;
+                    }
+                    case 1: {
+                        final Integer[] elements = randomElements(random, random.nextInt(8));
+                        aList.addAll(elements);
+                        model.addAll(Arrays.asList(elements));
+                        break;
+                    }
+                    case 2: {
+                        if (size != 0) {
+                            final int index = random.nextInt(size);
+                            final Integer element = randomElement(random);
+                            assertEquals(model.set(index, element), aList.set(index, element),
+                                    () -> "Unexpected replaced element, " + context);
+                        }
+                        break;
+                    }
+                    case 3: {
+                        final int from = random.nextInt(size + 1);
+                        final int to = from + random.nextInt(size - from + 1);
+                        aList.removeRange(from, to);
+                        model.subList(from, to).clear();
+                        break;
+                    }
+                    case 4: {
+                        final int divisor = 2 + random.nextInt(5);
+                        final int expectedRemoved = (int) model.stream().filter(e -> e != null && e % divisor == 0)
+                                .count();
+                        model.removeIf(e -> e != null && e % divisor == 0);
+                        assertEquals(expectedRemoved, aList.removeIf(e -> e != null && e % divisor == 0),
+                                () -> "Unexpected number of removed elements, " + context);
+                        break;
+                    }
+                    case 5: {
+                        if (random.nextInt(8) == 0) {
+                            aList.clear();
+                            model.clear();
+                        }
+                        break;
+                    }
+                    case 6: {
+                        final Comparator<Integer> comparator = Comparator.nullsFirst(Comparator.naturalOrder());
+                        aList.sort(comparator);
+                        model.sort(comparator);
+                        break;
+                    }
+                    case 7:
+                        aList.setIndexed(!aList.isIndexed());
+                        break;
+                    case 8:
+                        aList.setHashCached(!aList.isHashCached());
+                        break;
+                    case 9:
+                        if (random.nextBoolean()) {
+                            aList.trimToSize();
+                        } else {
+                            aList.ensureCapacity(size + random.nextInt(64));
+                        }
+                        break;
+                    case 10: {
+                        // remove every element equal to the random one through iterators
+                        final Integer element = randomElement(random);
+                        final Iterator<Integer> iterator = aList.iterator();
+                        while (iterator.hasNext()) {
+                            if (java.util.Objects.equals(iterator.next(), element)) {
+                                iterator.remove();
+                            }
+                        }
+                        model.removeIf(e -> java.util.Objects.equals(e, element));
+                        break;
+                    }
+                    case 11: {
+                        final int from = random.nextInt(size + 1);
+                        final int to = from + random.nextInt(size - from + 1);
+                        assertEquals(model.subList(from, to).toString(), aList.subList(from, to).toString(),
+                                () -> "Unexpected list view elements, " + context);
+                        final Object[] reversed = model.toArray();
+                        java.util.Collections.reverse(Arrays.asList(reversed));
+                        assertArrayEquals(reversed, aList.reversed().toArray(),
+                                () -> "Unexpected reversed view elements, " + context);
+                        break;
+                    }
+                    default:
+                        applyBasicOperation(random, new Subject(aList), model, context);
+                        break;
+                }
+
+                assertEquals(model.size(), aList.size(), () -> "Unexpected list size, " + context);
+                if (operation % CHECK_INTERVAL == 0) {
+                    assertContents(model, new Subject(aList), context);
+                    assertEquals(model.hashCode(), aList.hashCode(), () -> "Unexpected list hash, " + context);
+                }
+            }
+            assertContents(model, new Subject(aList), "seed " + seed);
+        }
+    }
+
+    @Test
+    void intArrayList() {
+        for (final long seed : SEEDS) {
+            final Random random = new Random(seed);
+            final IntArrayList aList = new IntArrayList(0);
+            final List<Integer> model = new java.util.ArrayList<>();
+
+            for (int operation = 0; operation < OPERATIONS; ++operation) {
+                final String context = String.format("seed %d, operation %d", seed, operation);
+                final int size = model.size();
+                final int element = random.nextInt(MAX_ELEMENT) - MAX_ELEMENT / 2;
+                switch (random.nextInt(8)) {
+                    case 0:
+                    case 1:
+                        aList.add(element);
+                        model.add(element);
+                        break;
+                    case 2: {
+                        final int index = random.nextInt(size + 1);
+                        aList.add(element, index);
+                        model.add(index, element);
+                        break;
+                    }
+                    case 3:
+                        if (size != 0) {
+                            assertEquals(model.remove(size - 1), aList.remove(),
+                                    () -> "Unexpected removed element, " + context);
+                        }
+                        break;
+                    case 4:
+                        if (size != 0) {
+                            final int index = random.nextInt(size);
+                            assertEquals(model.remove(index), aList.remove(index),
+                                    () -> "Unexpected removed element, " + context);
+                        }
+                        break;
+                    case 5:
+                        assertEquals(model.remove((Integer) element), aList.removeElement(element),
+                                () -> "Unexpected element removal, " + context);
+                        break;
+                    case 6:
+                        assertEquals(model.indexOf(element), aList.indexOf(element),
+                                () -> "Unexpected index of element, " + context);
+                        break;
+                    default:
+                        if (size != 0) {
+                            assertEquals(model.stream().mapToLong(Integer::longValue).sum(), aList.sum(),
+                                    () -> "Unexpected sum of elements, " + context);
+                            assertEquals(model.stream().mapToInt(Integer::intValue).min().getAsInt(), aList.min(),
+                                    () -> "Unexpected minimum element, " + context);
+                            assertEquals(model.stream().mapToInt(Integer::intValue).max().getAsInt(), aList.max(),
+                                    () -> "Unexpected maximum element, " + context);
+                        }
+                        break;
+                }
+
+                assertEquals(model.size(), aList.size(), () -> "Unexpected list size, " + context);
+                if (operation % CHECK_INTERVAL == 0) {
+                    assertEquals(model.toString(), aList.toString(), () -> "Unexpected list elements, " + context);
+                    assertEquals(model.hashCode(), aList.hashCode(), () -> "Unexpected list hash, " + context);
+                }
+            }
+        }
+    }
+
+    private static void runModel(final Supplier<Object> factory) {
+        for (final long seed : SEEDS) {
+            final Random random = new Random(seed);
+            final Subject subject = new Subject(factory.get());
+            final List<Integer> model = new java.util.ArrayList<>();
+
+            for (int operation = 0; operation < OPERATIONS; ++operation) {
+                final String context = String.format("%s, seed %d, operation %d", subject.name(), seed, operation);
+                applyBasicOperation(random, subject, model, context);
+
+                assertEquals(model.size(), subject.size(), () -> "Unexpected list size, " + context);
+                if (operation % CHECK_INTERVAL == 0) {
+                    assertContents(model, subject, context);
+                }
+            }
+            assertContents(model, subject, subject.name() + ", seed " + seed);
+        }
+    }
+
+    private static void applyBasicOperation(final Random random, final Subject subject, final List<Integer> model,
+                                            final String context) {
+        final int size = model.size();
+        final Integer element = randomElement(random);
+        switch (random.nextInt(10)) {
+            case 0:
+            case 1:
+                // additions are more frequent, so the list keeps growing
+                subject.add(element);
+                model.add(element);
+                break;
+            case 2: {
+                final int index = random.nextInt(size + 1);
+                subject.add(element, index);
+                model.add(index, element);
+                break;
+            }
+            case 3:
+                assertEquals(size != 0 ? model.remove(size - 1) : null, subject.remove(),
+                        () -> "Unexpected removed last element, " + context);
+                break;
+            case 4:
+                if (size != 0) {
+                    final int index = random.nextInt(size);
+                    assertEquals(model.remove(index), subject.remove(index),
+                            () -> "Unexpected removed element, " + context);
+                }
+                break;
+            case 5: {
+                final int index = model.indexOf(element);
+                assertEquals(index != -1 ? model.remove(index) : null, subject.removeElement(element),
+                        () -> "Unexpected removed element, " + context);
+                break;
+            }
+            case 6:
+                assertEquals(model.indexOf(element), subject.indexOf(element),
+                        () -> "Unexpected index of element, " + context);
+                assertEquals(model.contains(element), subject.contains(element),
+                        () -> "Unexpected element inclusion, " + context);
+                break;
+            case 7:
+                if (size != 0) {
+                    final int index = random.nextInt(size);
+                    assertEquals(model.get(index), subject.get(index), () -> "Unexpected element, " + context);
+                    assertEquals(model.get(size - 1), subject.get(), () -> "Unexpected last element, " + context);
+                } else {
+                    assertThrows(IndexOutOfBoundsException.class, subject::get,
+                            () -> "Empty list should throw exception when element is demanded, " + context);
+                }
+                break;
+            case 8: {
+                // invalid indices are rejected without modification
+                final int index = random.nextBoolean() ? -1 - random.nextInt(4) : size + 1 + random.nextInt(4);
+                assertThrows(IndexOutOfBoundsException.class, () -> subject.add(element, index),
+                        () -> "Should throw an exception when element is added by invalid index, " + context);
+                assertThrows(IndexOutOfBoundsException.class, () -> subject.remove(index),
+                        () -> "Should throw an exception when element is removed by invalid index, " + context);
+                assertThrows(IndexOutOfBoundsException.class, () -> subject.get(Math.max(index, size)),
+                        () -> "Should throw an exception when element is demanded by invalid index, " + context);
+                break;
+            }
+            default: {
+                final Iterator<?> iterator = subject.iterator();
+                for (final Integer expected : model) {
+                    assertEquals(expected, iterator.next(), () -> "Unexpected iterated element, " + context);
+                }
+                assertFalse(iterator.hasNext(), () -> "Iterator should be exhausted, " + context);
+                break;
+            }
+        }
+    }
+
+    private static void assertContents(final List<Integer> model, final Subject subject, final String context) {
+        assertArrayEquals(model.toArray(), subject.toArray(), () -> "Unexpected list elements, " + context);
+        assertEquals(model.toString(), subject.toString(), () -> "Unexpected list representation, " + context);
+        assertEquals(model.hashCode(), subject.hashCode(), () -> "Unexpected list hash, " + context);
+    }
+
+    private static Integer randomElement(final Random random) {
+        final int element = random.nextInt(MAX_ELEMENT + 1);
+        return element == MAX_ELEMENT ? null : element;
+    }
+
+    private static Integer[] randomElements(final Random random, final int length) {
+        final Integer[] elements = new Integer[length];
+        for (int i = 0; i < length; ++i) {
+            elements[i] = randomElement(random);
+        }
+        return elements;
+    }
+
+    /**
+     * List under test. List implementations share method names and signatures but not an interface, so their
+     * methods are invoked reflectively.
+     */
+    private static final class Subject {
+        private final Object list; // list under test
+
+        private final Method getLast;
+
+        private final Method getByIndex;
+
+        private final Method add;
+
+        private final Method addByIndex;
+
+        private final Method removeLast;
+
+        private final Method removeByIndex;
+
+        private final Method removeElement;
+
+        private final Method indexOf;
+
+        private final Method contains;
+
+        private final Method size;
+
+        private final Method toArray; // null - if list has no array conversion
+
+        private final Method iterator;
+
+        private Subject(final Object list) {
+            final Class<?> listClass = list.getClass();
+            this.list = list;
+            try {
+                this.getLast = listClass.getMethod("get");
+                this.getByIndex = listClass.getMethod("get", int.class);
+                this.add = listClass.getMethod("add", Object.class);
+                this.addByIndex = listClass.getMethod("add", Object.class, int.class);
+                this.removeLast = listClass.getMethod("remove");
+                this.removeByIndex = listClass.getMethod("remove", int.class);
+                this.removeElement = listClass.getMethod("remove", Object.class);
+                this.indexOf = listClass.getMethod("indexOf", Object.class);
+                this.contains = listClass.getMethod("contains", Object.class);
+                this.size = listClass.getMethod("size");
+                this.toArray = toArrayMethod(listClass);
+                this.iterator = listClass.getMethod("iterator");
+            } catch (final NoSuchMethodException e) {
+                throw new AssertionError(listClass.getSimpleName() + " misses list operation", e);
+            }
+        }
+
+        private String name() {
+            return list.getClass().getSimpleName();
+        }
+
+        private Object get() {
+            return invoke(getLast);
+        }
+
+        private Object get(final int index) {
+            return invoke(getByIndex, index);
+        }
+
+        private void add(final Integer element) {
+            invoke(add, element);
+        }
+
+        private void add(final Integer element, final int index) {
+            invoke(addByIndex, element, index);
+        }
+
+        private Object remove() {
+            return invoke(removeLast);
+        }
+
+        private Object remove(final int index) {
+            return invoke(removeByIndex, index);
+        }
+
+        private Object removeElement(final Integer element) {
+            return invoke(removeElement, element);
+        }
+
+        private int indexOf(final Integer element) {
+            return (int) invoke(indexOf, element);
+        }
+
+        private boolean contains(final Integer element) {
+            return (boolean) invoke(contains, element);
+        }
+
+        private int size() {
+            return (int) invoke(size);
+        }
+
+        private Object[] toArray() {
+            if (toArray != null) {
+                return (Object[]) invoke(toArray);
+            }
+
+            final Object[] elements = new Object[size()];
+            final Iterator<?> it = iterator();
+            for (int i = 0; i < elements.length; ++i) {
+                elements[i] = it.next();
+            }
+            return elements;
+        }
+
+        private static Method toArrayMethod(final Class<?> listClass) {
+            try {
+                return listClass.getMethod("toArray");
+            } catch (final NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        private Iterator<?> iterator() {
+            return (Iterator<?>) invoke(iterator);
+        }
+
+        @Override
+        public int hashCode() {
+            return list.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj;
+        }
+
+        @Override
+        public String toString() {
+            return list.toString();
+        }
+
+        private Object invoke(final Method method, final Object... args) {
+            try {
+                return method.invoke(list, args);
+            } catch (final InvocationTargetException e) {
+                // list exceptions are rethrown as they are, so that they could be asserted
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new AssertionError(e.getCause());
+            } catch (final IllegalAccessException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
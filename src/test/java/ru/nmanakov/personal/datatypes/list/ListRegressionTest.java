@@ -0,0 +1,388 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+import ru.nmanakov.personal.datatypes.AllocationCounter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+
+/**
+ * Performance regression tests. Allocation is measured by {@link AllocationCounter}, which is exact, and complexity
+ * is asserted through operation counts (equality checks, comparisons, shifted and copied element(-s)) rather than
+ * time, so that assertions are deterministic.
+ */
+class ListRegressionTest {
+    private static final int OPERATIONS = 10_000;
+
+    private static final int WARMUPS = 200;
+
+    private static final Integer[] ELEMENTS = elements(1 << 12);
+
+    @Test
+    void allocation_readOperations() {
+        assumeTrue(AllocationCounter.isSupported(), "Thread allocation counting is not supported");
+
+        final ArrayList<Integer> aList = new ArrayList<>(ELEMENTS);
+        final Integer absent = -1;
+        final int[] sink = new int[1];
+
+        assertNoAllocation("get", () -> {
+            for (int i = 0; i < OPERATIONS; ++i) {
+                sink[0] += aList.get(i & (ELEMENTS.length - 1));
+            }
+        });
+        assertNoAllocation("indexOf", () -> {
+            for (int i = 0; i < OPERATIONS / 100; ++i) {
+                sink[0] += aList.indexOf(absent);
+            }
+        });
+
+        aList.setIndexed(true);
+        assertNoAllocation("indexed contains", () -> {
+            for (int i = 0; i < OPERATIONS; ++i) {
+                sink[0] += aList.contains(ELEMENTS[i & (ELEMENTS.length - 1)]) ? 1 : 0;
+            }
+        });
+
+        aList.setHashCached(true);
+        assertNoAllocation("cached hashCode", () -> {
+            for (int i = 0; i < OPERATIONS; ++i) {
+                sink[0] += aList.hashCode();
+            }
+        });
+    }
+
+    @Test
+    void allocation_writeOperations() {
+        assumeTrue(AllocationCounter.isSupported(), "Thread allocation counting is not supported");
+
+        final ArrayList<Integer> aList = new ArrayList<>(ELEMENTS.length);
+        assertNoAllocation("add within capacity", () -> {
+            aList.clear();
+            for (final Integer element : ELEMENTS) {
+                aList.add(element);
+            }
+        });
+        assertNoAllocation("set", () -> {
+            for (int i = 0; i < OPERATIONS; ++i) {
+                aList.set(i & (ELEMENTS.length - 1), ELEMENTS[i & (ELEMENTS.length - 1)]);
+            }
+        });
+        assertNoAllocation("add and remove", () -> {
+            for (int i = 0; i < OPERATIONS; ++i) {
+                aList.remove();
+                aList.add(ELEMENTS[i & (ELEMENTS.length - 1)]);
+            }
+        });
+    }
+
+    @Test
+    void allocation_growthIsLinear() {
+        assumeTrue(AllocationCounter.isSupported(), "Thread allocation counting is not supported");
+
+        final int size = 1 << 12;
+        final long small = AllocationCounter.allocatedBytes(WARMUPS, () -> fill(size));
+        final long large = AllocationCounter.allocatedBytes(WARMUPS, () -> fill(size * 16));
+
+        // doubling growth allocates less than 2 holders of the final capacity, which is less than twice the number of
+        // elements, holder slot takes a reference
+        final long referenceBytes = referenceBytes();
+        assertTrue(large <= 2L * 2 * 16 * size * referenceBytes + 1024,
+                () -> String.format("Growth to %d elements allocated %d bytes", size * 16, large));
+        assertTrue(large <= small * 16 + 1024,
+                () -> String.format("Growth allocation scales superlinearly: %d bytes for %d elements, %d for %d",
+                        small, size, large, size * 16));
+    }
+
+    @Test
+    void allocation_writeToIsBounded() throws IOException {
+        assumeTrue(AllocationCounter.isSupported(), "Thread allocation counting is not supported");
+
+        final IntArrayList small = new IntArrayList(0);
+        final IntArrayList large = new IntArrayList(0);
+        for (int i = 0; i < 1 << 16; ++i) {
+            if (i < 1 << 10) {
+                small.add(i);
+            }
+            large.add(i);
+        }
+
+        final Writer out = Writer.nullWriter();
+        final long smallBytes = AllocationCounter.allocatedBytes(WARMUPS, () -> writeTo(small, out));
+        final long largeBytes = AllocationCounter.allocatedBytes(WARMUPS, () -> writeTo(large, out));
+
+        // output is streamed by fixed size chunks, so allocation does not depend on list size
+        assertTrue(largeBytes <= smallBytes + 1024,
+                () -> String.format("List of %d elements allocated %d bytes on write, list of %d - %d bytes",
+                        small.size(), smallBytes, large.size(), largeBytes));
+    }
+
+    @Test
+    void allocation_poolRoundTrip() {
+        assumeTrue(AllocationCounter.isSupported(), "Thread allocation counting is not supported");
+
+        final ArrayListPool pool = new ArrayListPool();
+        assertNoAllocation("pool acquire and release", () -> {
+            for (int i = 0; i < OPERATIONS; ++i) {
+                final ArrayList<Integer> aList = pool.acquire(64);
+                aList.add(ELEMENTS[i & (ELEMENTS.length - 1)]);
+                pool.release(aList);
+            }
+        });
+    }
+
+    @Test
+    void allocation_poolReleaseIndexed() {
+        assumeTrue(AllocationCounter.isSupported(), "Thread allocation counting is not supported");
+
+        final ArrayListPool pool = new ArrayListPool();
+        final ArrayList<?>[] lists = new ArrayList<?>[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; ++i) {
+            final ArrayList<Integer> aList = pool.acquire(64);
+            aList.add(ELEMENTS[i & (ELEMENTS.length - 1)]);
+            aList.setIndexed(true);
+            aList.setHashCached(true);
+            lists[i] = aList;
+        }
+
+        final long bytes = AllocationCounter.allocatedBytes(() -> {
+            for (final ArrayList<?> aList : lists) {
+                pool.release(aList);
+            }
+        });
+        assertTrue(bytes < 256, () -> String.format("Release of indexed lists allocated %d bytes", bytes));
+    }
+
+    @Test
+    void allocation_concurrentUpdateCopiesOnce() {
+        assumeTrue(AllocationCounter.isSupported(), "Thread allocation counting is not supported");
+
+        final ConcurrentArrayList<Integer> aList = new ConcurrentArrayList<>(ELEMENTS);
+        final long bytes = AllocationCounter.allocatedBytes(WARMUPS, () -> aList.update(list -> list.set(0, 0)));
+
+        // in-place modifications copy the snapshot once, snapshot slot takes a reference
+        final long snapshotBytes = (long) ELEMENTS.length * referenceBytes();
+        assertTrue(bytes <= snapshotBytes + 1024,
+                () -> String.format("Update of %d elements allocated %d bytes", ELEMENTS.length, bytes));
+    }
+
+    @Test
+    void complexity_lookup() {
+        final int size = 1 << 12;
+        final int[] calls = new int[2];
+        final ArrayList<Probe> aList = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            aList.add(new Probe(i, calls));
+        }
+        final Probe absent = new Probe(-1, calls);
+
+        aList.indexOf(absent);
+        assertEquals(size, calls[Probe.EQUALS], "Unindexed lookup should check every element");
+
+        aList.setIndexed(true);
+        calls[Probe.EQUALS] = 0;
+        for (int i = 0; i < size; ++i) {
+            assertTrue(aList.contains(new Probe(i, calls)), "List should contain element");
+        }
+        assertFalse(aList.contains(absent), "List should not contain element");
+        // hash collisions are possible, but lookup of every element must not degrade to a scan
+        assertTrue(calls[Probe.EQUALS] <= 2 * size,
+                () -> String.format("Indexed lookups of %d elements made %d equality checks", size,
+                        calls[Probe.EQUALS]));
+    }
+
+    @Test
+    void complexity_removeAfterMiddleEdits() {
+        final int size = 1 << 12;
+        final int rounds = 1 << 10;
+        final int[] calls = new int[2];
+        final ArrayList<Probe> aList = new ArrayList<>(size + rounds);
+        for (int i = 0; i < size; ++i) {
+            aList.add(new Probe(i, calls));
+        }
+        aList.setIndexed(true);
+
+        calls[Probe.EQUALS] = 0;
+        calls[Probe.HASH_CODE] = 0;
+        for (int i = 0; i < rounds; ++i) {
+            // insertion in the middle shifts positions, removed element is always the first one
+            aList.add(new Probe(size + i, calls), aList.size() / 2);
+            assertNotNull(aList.remove(new Probe(i, calls)), "Element should be removed");
+        }
+        assertEquals(size, aList.size(), "Unexpected list size");
+        assertEquals(0, aList.indexOf(new Probe(rounds, calls)), "Unexpected element index");
+
+        // lookups after shifts must neither rehash the whole list on every shift nor scan for the element
+        assertTrue(calls[Probe.HASH_CODE] <= 32 * rounds,
+                () -> String.format("%d removals after middle edits made %d hash computations", rounds,
+                        calls[Probe.HASH_CODE]));
+        assertTrue(calls[Probe.EQUALS] <= 8 * rounds,
+                () -> String.format("%d removals after middle edits made %d equality checks", rounds,
+                        calls[Probe.EQUALS]));
+    }
+
+    @Test
+    void complexity_tailLookupAfterMiddleEdits() {
+        final int size = 1 << 12;
+        final int rounds = 1 << 10;
+        final int[] calls = new int[2];
+        final ArrayList<Probe> aList = new ArrayList<>(size + rounds);
+        for (int i = 0; i < size; ++i) {
+            aList.add(new Probe(i, calls));
+        }
+        aList.setIndexed(true);
+
+        calls[Probe.EQUALS] = 0;
+        calls[Probe.HASH_CODE] = 0;
+        for (int i = 0; i < rounds; ++i) {
+            // insertion in the middle shifts the looked up element, which stays the last one
+            aList.add(new Probe(size + i, calls), aList.size() / 2);
+            assertEquals(aList.size() - 1, aList.indexOf(new Probe(size - 1, calls)), "Unexpected element index");
+            assertEquals(i + 1, aList.indexOf(new Probe(i + 1, calls)), "Unexpected element index");
+        }
+
+        assertTrue(calls[Probe.HASH_CODE] <= 32 * rounds,
+                () -> String.format("%d lookups after middle edits made %d hash computations", 2 * rounds,
+                        calls[Probe.HASH_CODE]));
+        assertTrue(calls[Probe.EQUALS] <= 8 * rounds,
+                () -> String.format("%d lookups after middle edits made %d equality checks", 2 * rounds,
+                        calls[Probe.EQUALS]));
+    }
+
+    @Test
+    void complexity_sort() {
+        final long smallComparisons = sortComparisons(1 << 10);
+        final long largeComparisons = sortComparisons(1 << 14);
+
+        assertTrue(smallComparisons <= nLogN(1 << 10),
+                () -> String.format("Sort of %d elements made %d comparisons", 1 << 10, smallComparisons));
+        assertTrue(largeComparisons <= nLogN(1 << 14),
+                () -> String.format("Sort of %d elements made %d comparisons", 1 << 14, largeComparisons));
+    }
+
+    @Test
+    void complexity_shifts() {
+        final int size = 1 << 12;
+        final ListMetrics metrics = new ListMetrics();
+        final ArrayList<Integer> aList = new ArrayList<>(ELEMENTS);
+        aList.setListener(metrics);
+
+        // removal of the last element shifts nothing
+        aList.remove(ELEMENTS[size - 1]);
+        aList.remove(size - 2);
+        aList.remove();
+        assertEquals(0, metrics.getElementsShifted(), "Removal of the last element should not shift elements");
+        assertEquals(size - 3, aList.size(), "Unexpected list size");
+
+        // bulk removal compacts the list in one pass
+        aList.removeIf(element -> element % 2 == 0);
+        assertTrue(metrics.getElementsShifted() <= size,
+                () -> String.format("Removal by filter shifted %d elements of %d", metrics.getElementsShifted(),
+                        size));
+
+        // bulk addition grows once
+        final ArrayList<Integer> target = new ArrayList<>(1, GrowthPolicy.DEFAULT);
+        final ListMetrics targetMetrics = new ListMetrics();
+        target.setListener(targetMetrics);
+        target.addAll(ELEMENTS);
+        assertEquals(1, targetMetrics.getGrows(), "Bulk addition should grow list once");
+        assertEquals(size, target.size(), "Unexpected list size");
+    }
+
+    private static void assertNoAllocation(final String operation, final Runnable action) {
+        final long bytes = AllocationCounter.allocatedBytes(WARMUPS, action);
+        // a few bytes are tolerated for deoptimization and safepoint bookkeeping
+        assertTrue(bytes < 256, () -> String.format("Operation '%s' allocated %d bytes", operation, bytes));
+    }
+
+    private static long referenceBytes() {
+        // 4 bytes for compressed references, 8 bytes for uncompressed ones
+        final int length = 1 << 16;
+        final Object[][] holder = new Object[1][];
+        return AllocationCounter.allocatedBytes(() -> holder[0] = new Object[length]) / length;
+    }
+
+    private static void fill(final int size) {
+        final ArrayList<Integer> aList = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            aList.add(ELEMENTS[i & (ELEMENTS.length - 1)]);
+        }
+    }
+
+    private static void writeTo(final IntArrayList list, final Writer out) {
+        try {
+            list.writeTo(out);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long sortComparisons(final int size) {
+        final Random random = new Random(size);
+        final ArrayList<Integer> aList = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            aList.add(ELEMENTS[random.nextInt(ELEMENTS.length)]);
+        }
+
+        final long[] comparisons = new long[1];
+        final Comparator<Integer> comparator = (a, b) -> {
+            comparisons[0]++;
+            return Integer.compare(a, b);
+        };
+        aList.sort(comparator);
+
+        for (int i = 1; i < size; ++i) {
+            assertTrue(aList.get(i - 1) <= aList.get(i), "List should be sorted");
+        }
+        return comparisons[0];
+    }
+
+    private static long nLogN(final int size) {
+        return (long) size * (Integer.SIZE - Integer.numberOfLeadingZeros(size));
+    }
+
+    private static Integer[] elements(final int size) {
+        final Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; ++i) {
+            elements[i] = i;
+        }
+        return elements;
+    }
+
+    /**
+     * Element, which counts its equality checks and hash computations.
+     */
+    private static final class Probe {
+        private static final int EQUALS = 0;
+
+        private static final int HASH_CODE = 1;
+
+        private final int value;
+
+        private final int[] calls; // shared counters of equality checks and hash computations
+
+        private Probe(final int value, final int[] calls) {
+            this.value = value;
+            this.calls = calls;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            calls[EQUALS]++;
+            return obj instanceof Probe && ((Probe) obj).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            calls[HASH_CODE]++;
+            return Integer.hashCode(value);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ListViewTest {
+    private static ArrayList<Integer> range(final int size) {
+        final ArrayList<Integer> aList = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            aList.add(i);
+        }
+        return aList;
+    }
+
+    @Test
+    void subList() {
+        final ListView<Integer> view = range(10).subList(2, 6);
+
+        assertEquals(4, view.size(), "Unexpected view size");
+        assertEquals("[2, 3, 4, 5]", view.toString(), "Unexpected view elements");
+        assertEquals(3, view.get(1), "Unexpected view element");
+        assertEquals(2, view.indexOf(4), "Unexpected index of view element");
+        assertFalse(view.contains(6), "Element out of view should not be contained");
+        assertArrayEquals(new Object[]{2, 3, 4, 5}, view.toArray(), "Unexpected view elements");
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(4), "Should throw if index is out of view");
+        assertThrows(IndexOutOfBoundsException.class, () -> range(10).subList(5, 11),
+                "Should throw if range is out of list");
+    }
+
+    @Test
+    void reversed() {
+        final ArrayList<Integer> aList = range(5);
+
+        assertEquals("[4, 3, 2, 1, 0]", aList.reversed().toString(), "Unexpected view elements");
+        assertEquals("[3, 2]", aList.subList(1, 4).reversed().subList(0, 2).toString(), "Unexpected view elements");
+        assertEquals(aList.subList(0, 5), aList.reversed().reversed(), "Twice reversed view should be equal to list");
+        assertTrue(aList.subList(2, 2).reversed().isEmpty(), "Reversed empty view should be empty");
+    }
+
+    @Test
+    void strided() {
+        final ArrayList<Integer> aList = range(10);
+
+        assertEquals("[0, 3, 6, 9]", aList.strided(3).toString(), "Unexpected view elements");
+        assertEquals("[9, 7, 5, 3, 1]", aList.reversed().strided(2).toString(), "Unexpected view elements");
+        assertEquals("[1, 5, 9]", aList.subList(1, 10).strided(2).strided(2).toString(),
+                "Unexpected view elements");
+        assertEquals("[0]", aList.strided(Integer.MAX_VALUE).toString(), "Unexpected view elements");
+        assertThrows(IllegalArgumentException.class, () -> aList.strided(0), "Should throw if step is not positive");
+    }
+
+    @Test
+    void set_writesThrough() {
+        final ArrayList<Integer> aList = range(6);
+        aList.setIndexed(true);
+        aList.setHashCached(true);
+        aList.hashCode();
+
+        assertEquals(5, aList.reversed().set(0, 50), "Unexpected replaced element");
+        aList.strided(2).set(1, 20);
+
+        assertEquals("[0, 1, 20, 3, 4, 50]", aList.toString(), "View writes should reach the list");
+        assertEquals(new ArrayList<>(0, 1, 20, 3, 4, 50).hashCode(), aList.hashCode(),
+                "Writes through view should invalidate cached hash code");
+        assertEquals(5, aList.indexOf(50), "Writes through view should update list index");
+        assertFalse(aList.contains(5), "Replaced element should not be contained");
+    }
+
+    @Test
+    void structuralModification_failsFast() {
+        final ArrayList<Integer> aList = range(5);
+        final ListView<Integer> view = aList.subList(1, 3);
+        final Iterator<Integer> iterator = view.iterator();
+        iterator.next();
+
+        aList.set(0, 10);
+        assertEquals(1, view.get(0), "Replacement should not invalidate view");
+
+        aList.add(5);
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0),
+                "View should fail on structural modification of the list");
+        assertThrows(ConcurrentModificationException.class, iterator::next,
+                "View iterator should fail on structural modification of the list");
+    }
+
+    @Test
+    void iterator() {
+        final StringBuilder str = new StringBuilder();
+        for (final Integer element : range(7).subList(1, 7).reversed().strided(3)) {
+            str.append(element).append(' ');
+        }
+
+        assertEquals("6 3 ", str.toString(), "Unexpected view elements");
+    }
+}
@@ -0,0 +1,219 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.nmanakov.personal.datatypes.TestUtils.getFieldValue;
+
+
+class LongArrayListTest {
+    @Test
+    void constructor_noParameters() throws NoSuchFieldException, IllegalAccessException {
+        final LongArrayList anArrayList = new LongArrayList();
+        final int capacity = (int) getFieldValue(anArrayList, "capacity");
+
+        assertTrue(anArrayList.isEmpty(), "Expecting empty list");
+        assertTrue(capacity != 0, "Expecting default capacity");
+        assertThrows(IndexOutOfBoundsException.class, anArrayList::get,
+                "Empty list should throw exception when element is demanded");
+    }
+
+    @Test
+    void constructor_initialElements() {
+        final LongArrayList anArrayList = new LongArrayList(10, 20);
+
+        assertEquals(2, anArrayList.size(), "Expecting size of initial element's size");
+        assertEquals(10, anArrayList.get(0), "Unexpected first element");
+        assertEquals(20, anArrayList.get(1), "Unexpected second element");
+    }
+
+    @Test
+    void constructor_initialCapacity() throws NoSuchFieldException, IllegalAccessException {
+        final LongArrayList anArrayList = new LongArrayList(5);
+        final int capacity = (int) getFieldValue(anArrayList, "capacity");
+
+        assertTrue(anArrayList.isEmpty(), "Expecting empty list");
+        assertEquals(5, capacity, "Expecting default capacity");
+    }
+
+    @Test
+    void get_byIndex() {
+        final LongArrayList anArrayList = new LongArrayList(10, 20);
+
+        assertEquals(10, anArrayList.get(0), "Unexpected element retrieved by index");
+        assertEquals(20, anArrayList.get(1), "Unexpected element retrieved by index");
+        assertEquals(20, anArrayList.get(), "Unexpected last list element retrieved");
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.get(2),
+                "Should throw an exception when element with non existent index is demanded");
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.get(-1),
+                "Should throw an exception when element with non existent index is demanded");
+    }
+
+    @Test
+    void add_byElement() {
+        final LongArrayList emptyArrayList = new LongArrayList();
+        final LongArrayList zeroCapacityArrayList = new LongArrayList(0);
+
+        for (int i = 0; i < 25; ++i) {
+            emptyArrayList.add(i);
+            zeroCapacityArrayList.add(i);
+        }
+
+        assertEquals(25, emptyArrayList.size(), "Unexpected list size");
+        assertEquals(24, emptyArrayList.get(), "Unexpected last list element retrieved");
+        assertEquals(25, zeroCapacityArrayList.size(), "Unexpected list size");
+        assertEquals(24, zeroCapacityArrayList.get(), "Unexpected last list element retrieved");
+    }
+
+    @Test
+    void add_byElementAndIndex() {
+        final String assertionMessage1 = "Unexpected list element retrieved";
+        final String assertionMessage2 = "Should throw an exception when list's index is out of bounds";
+        final LongArrayList anArrayList = new LongArrayList(10, 20);
+
+        anArrayList.add(99, 0);
+        anArrayList.add(98, 2);
+        anArrayList.add(97, 4);
+        assertEquals(new LongArrayList(99, 10, 98, 20, 97), anArrayList, assertionMessage1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.add(96, 100), assertionMessage2);
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.add(96, -1), assertionMessage2);
+    }
+
+    @Test
+    void remove() {
+        final LongArrayList anArrayList = new LongArrayList(10, 20, 30, 40);
+
+        assertEquals(40, anArrayList.remove(), "Unexpected removed list element");
+        assertEquals(20, anArrayList.remove(1), "Unexpected removed list element");
+        assertEquals(new LongArrayList(10, 30), anArrayList, "Unexpected list elements");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> anArrayList.remove(2),
+                "Should throw an exceptions when list's index is out of bounds");
+        assertThrows(IndexOutOfBoundsException.class, () -> new LongArrayList().remove(),
+                "Should throw an exceptions when list is empty");
+    }
+
+    @Test
+    void removeElement() {
+        final LongArrayList anArrayList = new LongArrayList(10, 20, 30, 40);
+
+        assertTrue(anArrayList.removeElement(40), "Existent element should be removed");
+        assertTrue(anArrayList.removeElement(10), "Existent element should be removed");
+        assertFalse(anArrayList.removeElement(99), "Not existent element should not be removed");
+        assertEquals(new LongArrayList(20, 30), anArrayList, "Unexpected list elements");
+    }
+
+    @Test
+    void indexOf_contains() {
+        final LongArrayList anArrayList = new LongArrayList(10, 20, 30, 20);
+
+        assertEquals(1, anArrayList.indexOf(20), "Unexpected element's index");
+        assertEquals(-1, anArrayList.indexOf(99), "Unexpected non existent element's index");
+        assertTrue(anArrayList.contains(30), "List should contain provided element");
+        assertFalse(anArrayList.contains(99), "List should not contain provided element");
+    }
+
+    @Test
+    void clone_test() throws CloneNotSupportedException {
+        final LongArrayList anArrayList = new LongArrayList(10, 20);
+
+        final LongArrayList anArrayListCopy = (LongArrayList) anArrayList.clone();
+        anArrayListCopy.add(5, 0);
+
+        assertEquals(new LongArrayList(10, 20), anArrayList, "Original list should not be affected by its copy");
+        assertEquals(new LongArrayList(5, 10, 20), anArrayListCopy, "Unexpected list copy elements");
+    }
+
+    @Test
+    void equals_hashCode() {
+        final LongArrayList anArrayList1 = new LongArrayList(10, 20);
+        final LongArrayList anArrayList2 = new LongArrayList(2);
+        anArrayList2.add(10);
+        anArrayList2.add(20);
+
+        assertEquals(anArrayList1, anArrayList2, "Provided list instances should be equals");
+        assertNotEquals(anArrayList1, new LongArrayList(20, 10), "Provided list instances should not be equals");
+        assertEquals(new ArrayList<>(10L, 20L).hashCode(), anArrayList1.hashCode(),
+                "Hash should be the same as boxed list's one");
+
+        final Map<LongArrayList, String> hashMap = new HashMap<>();
+        hashMap.put(anArrayList1, "array list entry value 1");
+        hashMap.put(anArrayList2, "array list entry value 2");
+
+        assertEquals(1, hashMap.size(), "Hash is generated with different values for equal objects");
+    }
+
+    @Test
+    void toString_test() {
+        assertEquals("[]", new LongArrayList().toString(), "Unexpected empty list string representation");
+        assertEquals("[10, 20]", new LongArrayList(10, 20).toString(),
+                "Unexpected non empty list string representation");
+    }
+
+    @Test
+    void writeTo() throws IOException {
+        final LongArrayList anArrayList = new LongArrayList(Long.MIN_VALUE, 20, 30);
+        final StringWriter writer = new StringWriter();
+        anArrayList.writeTo(writer);
+        assertEquals("[-9223372036854775808, 20, 30]", writer.toString(), "Unexpected written list representation");
+        assertEquals(anArrayList.toString(), writer.toString(), "Written representation should match toString()");
+
+        final StringBuilder str = new StringBuilder();
+        anArrayList.writeTo(str, 2);
+        assertEquals("[-9223372036854775808, 20, ... 1 more]", str.toString(),
+                "Unexpected truncated list representation");
+        assertThrows(IllegalArgumentException.class, () -> anArrayList.writeTo(new StringBuilder(), -1),
+                "Should throw if element limit is negative");
+    }
+
+    @Test
+    void sort_binarySearch() {
+        final Random random = new Random(16);
+        final long[] expected = new long[100000];
+        final LongArrayList anArrayList = new LongArrayList();
+        final LongArrayList aParallelArrayList = new LongArrayList();
+        for (int i = 0; i < expected.length; ++i) {
+            expected[i] = i % 3 == 0 ? random.nextLong() : random.nextInt(1000) - 500;
+            anArrayList.add(expected[i]);
+            aParallelArrayList.add(expected[i]);
+        }
+        Arrays.sort(expected);
+
+        anArrayList.sort();
+        aParallelArrayList.parallelSort();
+        assertEquals(new LongArrayList(expected), anArrayList, "Unexpected sorted list elements");
+        assertEquals(anArrayList, aParallelArrayList, "Unexpected parallel sorted list elements");
+        assertEquals(expected[500], anArrayList.get(anArrayList.binarySearch(expected[500])),
+                "Unexpected found element");
+        assertEquals(-1, anArrayList.binarySearch(Long.MIN_VALUE), "Expecting insertion point for absent element");
+
+        final LongArrayList aSmallArrayList = new LongArrayList(3L, -1L, 2L);
+        aSmallArrayList.sort();
+        assertEquals(new LongArrayList(-1L, 2L, 3L), aSmallArrayList, "Unexpected sorted list elements");
+    }
+
+    @Test
+    void fill_sum_minMax() {
+        final LongArrayList anArrayList = new LongArrayList(Long.MIN_VALUE, 20, -5, Long.MAX_VALUE);
+
+        assertEquals(14, anArrayList.sum(), "Unexpected sum of list elements");
+        assertEquals(Long.MIN_VALUE, anArrayList.min(), "Unexpected minimum element");
+        assertEquals(Long.MAX_VALUE, anArrayList.max(), "Unexpected maximum element");
+
+        anArrayList.fill(7);
+        assertEquals(new LongArrayList(7, 7, 7, 7), anArrayList, "Unexpected filled list elements");
+        assertEquals(0, new LongArrayList().sum(), "Sum of empty list should be 0");
+        assertThrows(IndexOutOfBoundsException.class, () -> new LongArrayList().min(),
+                "Empty list should throw exception when minimum is demanded");
+        assertThrows(IndexOutOfBoundsException.class, () -> new LongArrayList().max(),
+                "Empty list should throw exception when maximum is demanded");
+    }
+}
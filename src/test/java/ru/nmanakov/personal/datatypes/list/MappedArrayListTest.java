@@ -0,0 +1,113 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class MappedArrayListTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void addAndGet() throws IOException {
+        try (MappedArrayList<Long> aList = new MappedArrayList<>(directory.resolve("list"), RecordLayout.LONG)) {
+            for (long i = 0; i < 100; ++i) {
+                aList.add(i);
+            }
+            aList.add(-1L, 50);
+
+            assertEquals(101, aList.size(), "Unexpected list size");
+            assertEquals(-1L, aList.get(50), "Unexpected inserted list element");
+            assertEquals(50L, aList.get(51), "Unexpected shifted list element");
+            assertEquals(99L, aList.get(), "Unexpected last list element");
+            assertEquals(99L, aList.remove(), "Unexpected removed list element");
+            assertEquals(-1L, aList.remove(50), "Unexpected removed list element");
+            assertEquals(49, aList.indexOf(49L), "Unexpected element's index");
+            assertTrue(aList.contains(98L), "List should contain element");
+        }
+    }
+
+    @Test
+    void reopen() throws IOException {
+        final Path file = directory.resolve("list");
+        try (MappedArrayList<Integer> aList = new MappedArrayList<>(file, RecordLayout.INT, 64)) {
+            for (int i = 0; i < 1000; ++i) {
+                aList.add(i * 3);
+            }
+            aList.remove((Integer) 0);
+        }
+
+        assertEquals(64 + 999L * Integer.BYTES, Files.size(file), "File should be trimmed to list size");
+
+        try (MappedArrayList<Integer> aList = new MappedArrayList<>(file, RecordLayout.INT, 64)) {
+            assertEquals(999, aList.size(), "Unexpected reopened list size");
+            for (int i = 0; i < 999; ++i) {
+                assertEquals((i + 1) * 3, aList.get(i), "Unexpected reopened list element");
+                assertEquals((i + 1) * 3, aList.getInt(i, 0), "Unexpected reopened list field");
+            }
+
+            aList.add(-1);
+        }
+
+        try (MappedArrayList<Integer> aList = new MappedArrayList<>(file, RecordLayout.INT)) {
+            assertEquals(1000, aList.size(), "Unexpected reopened list size");
+            assertEquals(-1, aList.get(), "Unexpected appended list element");
+        }
+    }
+
+    @Test
+    void force() throws IOException {
+        final Path file = directory.resolve("list");
+        try (MappedArrayList<Double> aList = new MappedArrayList<>(file, RecordLayout.DOUBLE)) {
+            aList.add(1.5);
+            aList.force();
+
+            final ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+            assertEquals(1, content.getInt(16), "Forced list size should be visible");
+            assertEquals(1.5, content.order(ByteOrder.nativeOrder()).getDouble(64),
+                    "Forced list element should be visible");
+        }
+    }
+
+    @Test
+    void invalidFile() throws IOException {
+        final Path file = directory.resolve("list");
+        try (MappedArrayList<Long> aList = new MappedArrayList<>(file, RecordLayout.LONG)) {
+            aList.add(1L);
+        }
+
+        assertThrows(IOException.class, () -> new MappedArrayList<>(file, RecordLayout.INT),
+                "Should throw an exception when record size doesn't match the file");
+
+        final Path text = directory.resolve("text");
+        Files.write(text, new byte[128]);
+        assertThrows(IOException.class, () -> new MappedArrayList<>(text, RecordLayout.LONG),
+                "Should throw an exception when file is not a list file");
+        assertEquals(128, Files.size(text), "File which is not a list file should not be modified");
+
+        final Path small = directory.resolve("small");
+        Files.write(small, new byte[] {'a', 'b', 'c'});
+        assertThrows(IOException.class, () -> new MappedArrayList<>(small, RecordLayout.LONG),
+                "Should throw an exception when file is shorter than list file header");
+        assertEquals(3, Files.size(small), "File shorter than list file header should not be extended");
+    }
+
+    @Test
+    void close() throws IOException {
+        final MappedArrayList<Long> aList = new MappedArrayList<>(directory.resolve("list"), RecordLayout.LONG);
+        aList.add(1L);
+        aList.close();
+        aList.close();
+
+        assertThrows(IllegalStateException.class, aList::get, "Should throw an exception when list is closed");
+        assertThrows(IllegalStateException.class, aList::force, "Should throw an exception when list is closed");
+    }
+}
@@ -0,0 +1,139 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class OffHeapArrayListTest {
+    private static final RecordLayout<long[]> PAIR = new RecordLayout<long[]>() {
+        @Override
+        public int size() {
+            return 2 * Long.BYTES;
+        }
+
+        @Override
+        public void write(final ByteBuffer buffer, final int offset, final long[] record) {
+            buffer.putLong(offset, record[0]);
+            buffer.putLong(offset + Long.BYTES, record[1]);
+        }
+
+        @Override
+        public long[] read(final ByteBuffer buffer, final int offset) {
+            return new long[]{buffer.getLong(offset), buffer.getLong(offset + Long.BYTES)};
+        }
+    };
+
+    @Test
+    void addAndGet() {
+        try (OffHeapArrayList<Long> aList = new OffHeapArrayList<>(RecordLayout.LONG)) {
+            for (long i = 0; i < 100; ++i) {
+                aList.add(i);
+            }
+            aList.add(-1L, 50);
+
+            assertEquals(101, aList.size(), "Unexpected list size");
+            assertEquals(0L, aList.get(0), "Unexpected list element");
+            assertEquals(-1L, aList.get(50), "Unexpected inserted list element");
+            assertEquals(50L, aList.get(51), "Unexpected shifted list element");
+            assertEquals(99L, aList.get(), "Unexpected last list element");
+            assertThrows(IndexOutOfBoundsException.class, () -> aList.get(101),
+                    "Should throw an exception when element with non existent index is demanded");
+            assertThrows(IndexOutOfBoundsException.class, () -> aList.add(0L, 102),
+                    "Should throw an exception when list's index is out of bounds");
+        }
+    }
+
+    @Test
+    void remove() {
+        try (OffHeapArrayList<Integer> aList = new OffHeapArrayList<>(RecordLayout.INT)) {
+            aList.add(10);
+            aList.add(20);
+            aList.add(30);
+            aList.add(40);
+
+            assertEquals(40, aList.remove(), "Unexpected removed list element");
+            assertEquals(10, aList.remove(0), "Unexpected removed list element");
+            assertEquals(30, aList.remove((Integer) 30), "Unexpected removed list element");
+            assertNull(aList.remove((Integer) 99), "Not existent element should not be removed");
+            assertEquals(1, aList.size(), "Unexpected list size");
+            assertEquals(20, aList.get(), "Unexpected last list element");
+            assertEquals(20, aList.remove(), "Unexpected removed list element");
+            assertNull(aList.remove(), "Should return 'null' when empty list removal operation is performed");
+        }
+    }
+
+    @Test
+    void indexOf_binaryEquality() {
+        try (OffHeapArrayList<Double> aList = new OffHeapArrayList<>(RecordLayout.DOUBLE)) {
+            aList.add(0.0);
+            aList.add(Double.NaN);
+            aList.add(-0.0);
+
+            assertEquals(1, aList.indexOf(Double.NaN), "NaN should be found by itself");
+            assertEquals(2, aList.indexOf(-0.0), "Negative zero should not be equal to positive one");
+            assertFalse(aList.contains(1.0), "List should not contain provided element");
+        }
+    }
+
+    @Test
+    void recordFields() {
+        try (OffHeapArrayList<long[]> aList = new OffHeapArrayList<>(PAIR)) {
+            aList.add(new long[]{1, 2});
+            aList.add(new long[]{3, 4});
+
+            assertArrayEquals(new long[]{3, 4}, aList.get(1), "Unexpected list record");
+            assertEquals(2L, aList.getLong(0, Long.BYTES), "Unexpected record field");
+            assertEquals(3L, aList.getLong(1, 0), "Unexpected record field");
+            assertEquals(1, aList.indexOf(new long[]{3, 4}), "Unexpected record's index");
+            assertThrows(IndexOutOfBoundsException.class, () -> aList.getLong(0, 12),
+                    "Should throw an exception when field is out of record");
+        }
+    }
+
+    @Test
+    void pagedStorage_matchesArrayList() {
+        final Random random = new Random(42);
+        final java.util.ArrayList<Long> expected = new java.util.ArrayList<>();
+
+        // 4 records per page, so that moves cross page boundaries
+        try (OffHeapArrayList<Long> aList = new OffHeapArrayList<>(RecordLayout.LONG, 32, 0)) {
+            for (int i = 0; i < 2_000; ++i) {
+                final long element = random.nextLong();
+                if (expected.isEmpty() || random.nextInt(3) != 0) {
+                    final int index = random.nextInt(expected.size() + 1);
+                    expected.add(index, element);
+                    aList.add(element, index);
+                } else {
+                    final int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), aList.remove(index), "Unexpected removed list element");
+                }
+            }
+
+            assertEquals(expected.size(), aList.size(), "Unexpected list size");
+            for (int i = 0; i < expected.size(); ++i) {
+                assertEquals(expected.get(i), aList.get(i), "Unexpected list element");
+            }
+
+            aList.trimToSize();
+            aList.add(1L);
+            assertEquals(1L, aList.get(), "Unexpected last list element");
+        }
+    }
+
+    @Test
+    void close() {
+        final OffHeapArrayList<Long> aList = new OffHeapArrayList<>(RecordLayout.LONG);
+        aList.add(10L);
+
+        aList.close();
+        aList.close();
+
+        assertTrue(aList.isEmpty(), "Closed list should be empty");
+        assertThrows(IllegalStateException.class, () -> aList.add(20L), "Closed list should not be used");
+        assertThrows(IllegalStateException.class, () -> aList.get(0), "Closed list should not be used");
+    }
+}
@@ -0,0 +1,145 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class PersistentVectorTest {
+    private static final int LARGE_SIZE = 40000; // requires three trie levels
+
+    @Test
+    void empty() {
+        final PersistentVector<Integer> aVector = PersistentVector.empty();
+
+        assertTrue(aVector.isEmpty(), "Expecting empty vector");
+        assertThrows(IndexOutOfBoundsException.class, aVector::get,
+                "Should throw an exception when vector is empty");
+        assertThrows(IndexOutOfBoundsException.class, aVector::removeLast,
+                "Should throw an exception when vector is empty");
+        assertEquals("[]", aVector.toString(), "Unexpected vector representation");
+    }
+
+    @Test
+    void add_sharesStructure() {
+        PersistentVector<Integer> aVector = PersistentVector.empty();
+        final PersistentVector<Integer>[] versions = new PersistentVector[LARGE_SIZE + 1];
+        versions[0] = aVector;
+        for (int i = 0; i < LARGE_SIZE; ++i) {
+            aVector = aVector.add(i);
+            versions[i + 1] = aVector;
+        }
+
+        assertEquals(LARGE_SIZE, aVector.size(), "Unexpected vector size");
+        for (int i = 0; i < LARGE_SIZE; ++i) {
+            assertEquals(i, aVector.get(i), "Unexpected vector element");
+        }
+        assertEquals(LARGE_SIZE - 1, aVector.get(), "Unexpected last vector element");
+        assertEquals(1000, versions[1000].size(), "Older versions should stay unchanged");
+        assertEquals(999, versions[1000].get(), "Older versions should stay unchanged");
+        assertThrows(IndexOutOfBoundsException.class, () -> versions[1000].get(1000),
+                "Should throw an exception when element with non existent index is demanded");
+    }
+
+    @Test
+    void set() {
+        final PersistentVector<Integer> aVector = build(LARGE_SIZE);
+
+        PersistentVector<Integer> updated = aVector;
+        for (int i = 0; i < LARGE_SIZE; i += 7) {
+            updated = updated.set(i, -i);
+        }
+        updated = updated.set(LARGE_SIZE - 1, -1);
+
+        for (int i = 0; i < LARGE_SIZE - 1; ++i) {
+            assertEquals(i % 7 == 0 ? -i : i, updated.get(i), "Unexpected updated vector element");
+            assertEquals(i, aVector.get(i), "Original vector should stay unchanged");
+        }
+        assertEquals(-1, updated.get(), "Unexpected updated tail element");
+        assertEquals(LARGE_SIZE - 1, aVector.get(), "Original vector should stay unchanged");
+        assertThrows(IndexOutOfBoundsException.class, () -> aVector.set(LARGE_SIZE, 0),
+                "Should throw an exception when vector's index is out of bounds");
+    }
+
+    @Test
+    void removeLast() {
+        final PersistentVector<Integer> aVector = build(LARGE_SIZE);
+
+        PersistentVector<Integer> shrunk = aVector;
+        for (int i = LARGE_SIZE - 1; i >= 0; --i) {
+            assertEquals(i, shrunk.get(), "Unexpected last vector element");
+            if (i % 997 == 0) {
+                assertEquals(i / 2, shrunk.get(i / 2), "Unexpected vector element");
+            }
+            shrunk = shrunk.removeLast();
+            assertEquals(i, shrunk.size(), "Unexpected vector size");
+        }
+
+        assertTrue(shrunk.isEmpty(), "Expecting empty vector");
+        assertEquals(LARGE_SIZE, aVector.size(), "Original vector should stay unchanged");
+        assertEquals(build(LARGE_SIZE - 1), aVector.removeLast(), "Unexpected vector elements");
+    }
+
+    @Test
+    void transientBuilder() {
+        final PersistentVector<Integer> base = build(100);
+        final PersistentVector.Transient<Integer> builder = base.asTransient();
+        for (int i = 100; i < LARGE_SIZE; ++i) {
+            builder.add(i);
+        }
+        builder.set(0, -1);
+        builder.set(LARGE_SIZE - 1, -2);
+        assertEquals(LARGE_SIZE, builder.size(), "Unexpected transient size");
+        assertEquals(500, builder.get(500), "Unexpected transient element");
+
+        final PersistentVector<Integer> aVector = builder.persistent();
+        assertThrows(IllegalStateException.class, () -> builder.add(0),
+                "Should throw an exception when transient has been made persistent");
+
+        assertEquals(100, base.size(), "Base vector should stay unchanged");
+        assertEquals(0, base.get(0), "Base vector should stay unchanged");
+        assertEquals(-1, aVector.get(0), "Unexpected vector element");
+        assertEquals(-2, aVector.get(), "Unexpected vector element");
+        for (int i = 1; i < LARGE_SIZE - 1; ++i) {
+            assertEquals(i, aVector.get(i), "Unexpected vector element");
+        }
+
+        final PersistentVector<Integer> modified = aVector.asTransient().set(1000, 0).persistent();
+        assertEquals(1000, aVector.get(1000), "Persistent vector should not be affected by a new transient");
+        assertEquals(0, modified.get(1000), "Unexpected vector element");
+    }
+
+    @Test
+    void iteratorAndEquality() {
+        final PersistentVector<Integer> aVector = build(1000);
+        final ArrayList<Integer> aList = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            aList.add(i);
+        }
+
+        final Iterator<Integer> iterator = aVector.iterator();
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(i, iterator.next(), "Unexpected iterated element");
+        }
+        assertFalse(iterator.hasNext(), "Iterator should be exhausted");
+        assertThrows(NoSuchElementException.class, iterator::next, "Should throw an exception when exhausted");
+
+        assertEquals(PersistentVector.copyOf(aList), aVector, "Vectors with equal elements should be equal");
+        assertEquals(aList.hashCode(), aVector.hashCode(), "Vector hash code should be equal to list one");
+        assertNotEquals(aVector.set(999, null), aVector, "Vectors with different elements should not be equal");
+        assertEquals(500, aVector.indexOf(500), "Unexpected element's index");
+        assertFalse(aVector.contains(1000), "Vector should not contain absent element");
+        assertEquals("[1, null, 3]", PersistentVector.of(1, null, 3).toString(), "Unexpected vector representation");
+    }
+
+    private static PersistentVector<Integer> build(final int size) {
+        PersistentVector<Integer> aVector = PersistentVector.empty();
+        for (int i = 0; i < size; ++i) {
+            aVector = aVector.add(i);
+        }
+        return aVector;
+    }
+}
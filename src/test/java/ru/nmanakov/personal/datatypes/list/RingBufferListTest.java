@@ -0,0 +1,139 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class RingBufferListTest {
+    @Test
+    void constructor_initialElements() {
+        final RingBufferList<Integer> aList = new RingBufferList<>(10, 20);
+
+        assertEquals(2, aList.size(), "Expecting size of initial element's size");
+        assertEquals(10, aList.get(0), "Unexpected first element");
+        assertEquals(20, aList.get(), "Unexpected last element");
+    }
+
+    @Test
+    void dequeOperations() {
+        final RingBufferList<Integer> aList = new RingBufferList<>(0);
+
+        aList.addLast(20);
+        aList.addFirst(10);
+        aList.addLast(30);
+        assertEquals(new RingBufferList<>(10, 20, 30), aList, "Unexpected list elements");
+        assertEquals(10, aList.peekFirst(), "Unexpected first list element");
+        assertEquals(30, aList.peekLast(), "Unexpected last list element");
+
+        assertEquals(10, aList.pollFirst(), "Unexpected removed first list element");
+        assertEquals(30, aList.pollLast(), "Unexpected removed last list element");
+        assertEquals(20, aList.pollLast(), "Unexpected removed last list element");
+        assertTrue(aList.isEmpty(), "Expecting empty list");
+        assertNull(aList.pollFirst(), "Should return 'null' when list is empty");
+        assertNull(aList.peekLast(), "Should return 'null' when list is empty");
+    }
+
+    @Test
+    void slidingWindow_wrapsAround() {
+        final RingBufferList<Integer> aList = new RingBufferList<>(4);
+
+        for (int i = 0; i < 1000; ++i) {
+            aList.add(i);
+            if (aList.size() > 3) {
+                assertEquals(i - 3, aList.remove(0), "Unexpected evicted list element");
+            }
+        }
+
+        assertEquals(4, aList.capacity(), "Sliding window should not grow the list");
+        assertEquals(new RingBufferList<>(997, 998, 999), aList, "Unexpected list elements");
+        assertEquals(998, aList.get(1), "Unexpected list element");
+    }
+
+    @Test
+    void overwriting() {
+        final RingBufferList<Integer> aList = RingBufferList.overwriting(3);
+
+        for (int i = 0; i < 10; ++i) {
+            aList.add(i);
+        }
+        assertTrue(aList.isOverwriting(), "List should be overwriting");
+        assertEquals(new RingBufferList<>(7, 8, 9), aList, "Oldest elements should be evicted");
+
+        aList.addFirst(6);
+        assertEquals(new RingBufferList<>(6, 7, 8), aList, "Last element should be evicted");
+
+        aList.add(-1, 2);
+        assertEquals(new RingBufferList<>(7, -1, 8), aList, "First element should be evicted");
+        aList.add(-2, 0);
+        assertEquals(new RingBufferList<>(7, -1, 8), aList, "Element added by index 0 should be evicted");
+
+        aList.ensureCapacity(10);
+        assertEquals(3, aList.capacity(), "Overwriting list should not grow");
+        assertThrows(IllegalArgumentException.class, () -> RingBufferList.overwriting(0),
+                "Should throw an exception when capacity is not positive");
+    }
+
+    @Test
+    void randomEdits() {
+        final Random random = new Random(13);
+        final RingBufferList<Integer> aList = new RingBufferList<>(2);
+        final java.util.List<Integer> expected = new java.util.ArrayList<>();
+
+        for (int i = 0; i < 20000; ++i) {
+            final int operation = random.nextInt(6);
+            if (expected.isEmpty() || operation == 0) {
+                final int index = random.nextInt(expected.size() + 1);
+                aList.add(i, index);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                aList.addFirst(i);
+                expected.add(0, i);
+            } else if (operation == 2) {
+                aList.addLast(i);
+                expected.add(i);
+            } else if (operation == 3) {
+                assertEquals(expected.remove(0), aList.pollFirst(), "Unexpected removed list element");
+            } else {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), aList.remove(index), "Unexpected removed list element");
+            }
+        }
+
+        assertArrayEquals(expected.toArray(), aList.toArray(), "Unexpected list elements");
+        assertEquals(expected.hashCode(), aList.hashCode(), "Unexpected list hash code");
+        aList.trimToSize();
+        assertEquals(expected.size(), aList.capacity(), "Unexpected trimmed list capacity");
+        assertArrayEquals(expected.toArray(), aList.toArray(), "Trimming should not change list elements");
+    }
+
+    @Test
+    void iterator_failFast() {
+        final RingBufferList<Integer> aList = new RingBufferList<>(10, 20, 30);
+
+        final Iterator<Integer> iterator = aList.iterator();
+        assertEquals(10, iterator.next(), "Unexpected iterated element");
+        iterator.remove();
+        assertEquals(20, iterator.next(), "Unexpected iterated element");
+        assertEquals(new RingBufferList<>(20, 30), aList, "Unexpected list elements");
+
+        aList.addFirst(40);
+        assertThrows(ConcurrentModificationException.class, iterator::next,
+                "Should throw an exception when list is modified during iteration");
+    }
+
+    @Test
+    void clone_isIndependent() throws CloneNotSupportedException {
+        final RingBufferList<Integer> aList = new RingBufferList<>(10, 20);
+
+        @SuppressWarnings("unchecked") final RingBufferList<Integer> clone = (RingBufferList<Integer>) aList.clone();
+        clone.addFirst(0);
+
+        assertEquals(new RingBufferList<>(10, 20), aList, "Original list should not be modified");
+        assertEquals(new RingBufferList<>(0, 10, 20), clone, "Unexpected cloned list elements");
+    }
+}
@@ -0,0 +1,133 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * Compares kernels used by primitive lists against scalar ones. Vector kernels are tested if tests are run with
+ * {@code vector} profile.
+ */
+class ScanKernelsTest {
+    private static final int MAX_SIZE = 100; // covers both vector loop and tail of any vector length
+
+    private final ScanKernels kernels = ScanKernels.INSTANCE;
+
+    private final ScanKernels scalar = new ScalarScanKernels();
+
+    @Test
+    void intKernels() {
+        final Random random = new Random(1);
+        for (int size = 0; size <= MAX_SIZE; ++size) {
+            final int[] array = new int[size + 3];
+            for (int i = 0; i < array.length; ++i) {
+                array[i] = random.nextBoolean() ? random.nextInt() : random.nextInt(8);
+            }
+            final int element = random.nextInt(8);
+
+            assertEquals(scalar.indexOf(array, size, element), kernels.indexOf(array, size, element),
+                    "Unexpected index of element");
+            assertEquals(scalar.sum(array, size), kernels.sum(array, size), "Unexpected sum");
+            assertEquals(scalar.hashCode(array, size), kernels.hashCode(array, size), "Unexpected hash");
+            if (size != 0) {
+                assertEquals(scalar.min(array, size), kernels.min(array, size), "Unexpected minimum");
+                assertEquals(scalar.max(array, size), kernels.max(array, size), "Unexpected maximum");
+            }
+
+            final int[] other = array.clone();
+            other[size] = ~other[size]; // beyond compared elements
+            assertTrue(kernels.equals(array, other, size), "Elements should be equal");
+            if (size != 0) {
+                other[random.nextInt(size)]++;
+                assertFalse(kernels.equals(array, other, size), "Elements should not be equal");
+            }
+
+            kernels.fill(array, size, element);
+            assertEquals(size, Arrays.stream(array, 0, size).filter(e -> e == element).count(),
+                    "Unexpected filled elements");
+        }
+    }
+
+    @Test
+    void longKernels() {
+        final Random random = new Random(2);
+        for (int size = 0; size <= MAX_SIZE; ++size) {
+            final long[] array = new long[size + 3];
+            for (int i = 0; i < array.length; ++i) {
+                array[i] = random.nextBoolean() ? random.nextLong() : random.nextInt(8);
+            }
+            final long element = random.nextInt(8);
+
+            assertEquals(scalar.indexOf(array, size, element), kernels.indexOf(array, size, element),
+                    "Unexpected index of element");
+            assertEquals(scalar.sum(array, size), kernels.sum(array, size), "Unexpected sum");
+            assertEquals(scalar.hashCode(array, size), kernels.hashCode(array, size), "Unexpected hash");
+            if (size != 0) {
+                assertEquals(scalar.min(array, size), kernels.min(array, size), "Unexpected minimum");
+                assertEquals(scalar.max(array, size), kernels.max(array, size), "Unexpected maximum");
+            }
+
+            final long[] other = array.clone();
+            other[size] = ~other[size];
+            assertTrue(kernels.equals(array, other, size), "Elements should be equal");
+            if (size != 0) {
+                other[random.nextInt(size)]++;
+                assertFalse(kernels.equals(array, other, size), "Elements should not be equal");
+            }
+
+            kernels.fill(array, size, element);
+            assertEquals(size, Arrays.stream(array, 0, size).filter(e -> e == element).count(),
+                    "Unexpected filled elements");
+        }
+    }
+
+    @Test
+    void doubleKernels() {
+        final Random random = new Random(3);
+        // NaN with not canonical bits
+        final double otherNaN = Double.longBitsToDouble(Double.doubleToRawLongBits(Double.NaN) + 1);
+        final double[] specialValues = {0.0, -0.0, Double.NaN, otherNaN, Double.NEGATIVE_INFINITY, 1.5};
+        for (int size = 0; size <= MAX_SIZE; ++size) {
+            final double[] array = new double[size + 3];
+            for (int i = 0; i < array.length; ++i) {
+                array[i] = random.nextInt(4) == 0 ? specialValues[random.nextInt(specialValues.length)]
+                        : random.nextInt(1000) / 8.0;
+            }
+
+            for (final double element : specialValues) {
+                assertEquals(scalar.indexOf(array, size, element), kernels.indexOf(array, size, element),
+                        "Unexpected index of element");
+            }
+            // elements are exact binary fractions, so sum doesn't depend on addition order
+            assertEquals(scalar.sum(array, size), kernels.sum(array, size), "Unexpected sum");
+            assertEquals(scalar.hashCode(array, size), kernels.hashCode(array, size), "Unexpected hash");
+            if (size != 0) {
+                assertEquals(scalar.min(array, size), kernels.min(array, size), "Unexpected minimum");
+                assertEquals(scalar.max(array, size), kernels.max(array, size), "Unexpected maximum");
+            }
+
+            final double[] other = array.clone();
+            for (int i = 0; i < size; ++i) {
+                if (Double.isNaN(other[i])) {
+                    other[i] = Double.doubleToRawLongBits(other[i]) == Double.doubleToRawLongBits(otherNaN)
+                            ? Double.NaN : otherNaN;
+                }
+            }
+            assertEquals(scalar.equals(array, other, size), kernels.equals(array, other, size),
+                    "NaN elements should be equal");
+            if (size != 0) {
+                other[random.nextInt(size)] = 0.25;
+                assertEquals(scalar.equals(array, other, size), kernels.equals(array, other, size),
+                        "Unexpected elements equality");
+            }
+
+            kernels.fill(array, size, -0.0);
+            assertTrue(kernels.equals(array, new double[size], size) == (size == 0),
+                    "Filled elements should not be equal to 0.0");
+        }
+    }
+}
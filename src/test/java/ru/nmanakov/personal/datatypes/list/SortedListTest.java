@@ -0,0 +1,144 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class SortedListTest {
+    @Test
+    void add_keepsOrder() {
+        final SortedList<Integer> aList = new SortedList<>(30, 10, 20, 10);
+
+        assertEquals(4, aList.size(), "Unexpected list size");
+        assertEquals("[10, 10, 20, 30]", aList.toString(), "Unexpected list elements");
+        assertEquals(10, aList.get(0), "Unexpected first list element");
+        assertEquals(30, aList.get(), "Unexpected last list element");
+        assertThrows(IndexOutOfBoundsException.class, () -> aList.get(4), "Should throw if index is out of range");
+        assertThrows(IndexOutOfBoundsException.class, () -> new SortedList<Integer>().get(),
+                "Should throw if list is empty");
+    }
+
+    @Test
+    void add_equalElementsInInsertionOrder() {
+        final SortedList<String> aList = new SortedList<>(Comparator.comparing(String::length));
+
+        aList.add("bb");
+        aList.add("a");
+        aList.add("cc");
+        aList.add("d");
+
+        assertEquals("[a, d, bb, cc]", aList.toString(), "Equal elements should be kept in insertion order");
+        assertEquals(2, aList.indexOf("xx"), "Should find the first equal element");
+        assertEquals("bb", aList.remove("xx"), "Should remove the first equal element");
+        assertEquals("[a, d, cc]", aList.toString(), "Unexpected list elements");
+    }
+
+    @Test
+    void remove() {
+        final SortedList<Integer> aList = new SortedList<>(5, 1, 4, 2, 3);
+
+        assertEquals(3, aList.remove(Integer.valueOf(3)), "Unexpected removed list element");
+        assertNull(aList.remove(Integer.valueOf(3)), "Should return 'null' if nothing was removed");
+        assertEquals(1, aList.remove(0), "Unexpected removed list element");
+        assertEquals(5, aList.remove(), "Unexpected removed last list element");
+        assertEquals("[2, 4]", aList.toString(), "Unexpected list elements");
+        assertFalse(aList.contains(5), "Removed element should not be contained");
+        assertTrue(aList.contains(4), "Element should be contained");
+
+        aList.remove();
+        aList.remove();
+        assertTrue(aList.isEmpty(), "Expecting empty list");
+        assertNull(aList.remove(), "Should return 'null' when list is empty");
+    }
+
+    @Test
+    void subRange() {
+        final SortedList<Integer> aList = new SortedList<>();
+        for (int i = 0; i < 100; i += 10) {
+            aList.add(i);
+        }
+
+        final StringBuilder str = new StringBuilder();
+        for (final Integer element : aList.subRange(25, 60)) {
+            str.append(element).append(' ');
+        }
+        assertEquals("30 40 50 ", str.toString(), "Unexpected range elements");
+        assertEquals(3, aList.rangeSize(25, 60), "Unexpected range size");
+        assertEquals(0, aList.rangeSize(60, 25), "Inverted range should be empty");
+        assertFalse(aList.subRange(91, 1000).iterator().hasNext(), "Range should be empty");
+    }
+
+    @Test
+    void subRange_removal() {
+        final SortedList<Integer> aList = new SortedList<>(1, 2, 3, 4, 5, 6);
+
+        final Iterator<Integer> iterator = aList.subRange(2, 5).iterator();
+        assertThrows(IllegalStateException.class, iterator::remove, "Should throw if nothing has been returned");
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals("[1, 3, 5, 6]", aList.toString(), "Unexpected list elements");
+    }
+
+    @Test
+    void iterator_failFast() {
+        final SortedList<Integer> aList = new SortedList<>(1, 2, 3);
+
+        final Iterator<Integer> iterator = aList.iterator();
+        iterator.next();
+        aList.add(4);
+        assertThrows(ConcurrentModificationException.class, iterator::next,
+                "Iterator should fail on concurrent modification");
+    }
+
+    @Test
+    void randomOperations_matchSortedJdkList() {
+        final Random random = new Random(42);
+        final SortedList<Integer> aList = new SortedList<>();
+        final List<Integer> expected = new java.util.ArrayList<>();
+
+        for (int i = 0; i < 20000; ++i) {
+            final int element = random.nextInt(1000);
+            final int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                aList.add(element);
+                // comparator never reports equality, so search ends at the first greater element
+                final int position = Collections.binarySearch(expected, element, (e, key) -> e <= key ? -1 : 1);
+                expected.add(-position - 1, element);
+            } else if (operation == 2) {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), aList.remove(index), "Unexpected removed list element");
+            } else {
+                assertEquals(expected.indexOf(element), aList.indexOf(element), "Unexpected index of element");
+                if (expected.remove(Integer.valueOf(element))) {
+                    assertEquals(element, aList.remove(Integer.valueOf(element)), "Unexpected removed element");
+                }
+            }
+            assertEquals(expected.size(), aList.size(), "Unexpected list size");
+        }
+
+        assertArrayEquals(expected.toArray(), aList.toArray(), "Unexpected list elements");
+        for (int i = 0; i < expected.size(); i += 7) {
+            assertEquals(expected.get(i), aList.get(i), "Unexpected list element");
+        }
+    }
+
+    @Test
+    void equals() {
+        assertEquals(new SortedList<>(3, 1, 2), new SortedList<>(1, 2, 3), "Lists should be equal");
+        assertEquals(new SortedList<>(3, 1, 2).hashCode(), new SortedList<>(1, 2, 3).hashCode(),
+                "Hash codes should be equal");
+        assertNotEquals(new SortedList<>(1, 2), new SortedList<>(1, 2, 3), "Lists should not be equal");
+    }
+}
@@ -0,0 +1,117 @@
+package ru.nmanakov.personal.datatypes.set;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CompressedIntSetTest {
+    @Test
+    void addAndRemove() {
+        final CompressedIntSet set = CompressedIntSet.of(5, 1, 70000, -1);
+
+        assertEquals(4, set.cardinality(), "Unexpected set cardinality");
+        assertTrue(set.contains(70000), "Value should be contained");
+        assertFalse(set.contains(2), "Value should not be contained");
+        assertEquals("[1, 5, 70000, -1]", set.toString(), "Values should be ordered as unsigned");
+
+        assertFalse(set.add(5), "Present value should not be added");
+        assertTrue(set.remove(70000), "Present value should be removed");
+        assertFalse(set.remove(70000), "Absent value should not be removed");
+        assertArrayEquals(new int[]{1, 5, -1}, set.toArray(), "Unexpected set values");
+
+        set.remove(1);
+        set.remove(5);
+        set.remove(-1);
+        assertTrue(set.isEmpty(), "Expecting empty set");
+    }
+
+    @Test
+    void containers_switchKinds() {
+        final CompressedIntSet set = new CompressedIntSet();
+        for (int i = 0; i < 10000; ++i) {
+            set.add(i * 2);
+        }
+        final long bitmapBytes = set.sizeInBytes();
+        assertTrue(bitmapBytes < 10000 * 2, "Dense chunk should be held by bitmap container");
+
+        for (int i = 0; i < 10000 - 100; ++i) {
+            set.remove(i * 2);
+        }
+        assertEquals(100, set.cardinality(), "Unexpected set cardinality");
+        assertTrue(set.sizeInBytes() < 1000, "Sparse chunk should be held by array container");
+        assertTrue(set.contains(19998), "Value should be contained");
+
+        final CompressedIntSet runs = new CompressedIntSet();
+        for (int i = 0; i < 200000; ++i) {
+            runs.add(i);
+        }
+        final CompressedIntSet optimized = runs.or(new CompressedIntSet());
+        optimized.runOptimize();
+        assertTrue(optimized.sizeInBytes() < 100, "Consecutive values should be held by run containers");
+        assertEquals(runs, optimized, "Optimization should keep set values");
+        assertTrue(optimized.contains(199999), "Value should be contained");
+        assertFalse(optimized.contains(200000), "Value should not be contained");
+
+        optimized.add(300000);
+        optimized.remove(5);
+        assertEquals(200000, optimized.cardinality(), "Unexpected set cardinality");
+        assertFalse(optimized.contains(5), "Removed value should not be contained");
+    }
+
+    @Test
+    void bulkOperations_matchTreeSet() {
+        final Random random = new Random(3);
+        for (int round = 0; round < 20; ++round) {
+            final CompressedIntSet first = new CompressedIntSet();
+            final CompressedIntSet second = new CompressedIntSet();
+            final TreeSet<Integer> firstValues = new TreeSet<>();
+            final TreeSet<Integer> secondValues = new TreeSet<>();
+            // mix of sparse, dense and consecutive chunks
+            final int bound = 1 << (14 + random.nextInt(6));
+            for (int i = 0; i < 20000; ++i) {
+                final int value = random.nextInt(bound);
+                first.add(value);
+                firstValues.add(value);
+                final int other = round % 2 == 0 ? random.nextInt(bound) : i;
+                second.add(other);
+                secondValues.add(other);
+            }
+            if (round % 3 == 0) {
+                second.runOptimize();
+            }
+
+            final TreeSet<Integer> and = new TreeSet<>(firstValues);
+            and.retainAll(secondValues);
+            final TreeSet<Integer> or = new TreeSet<>(firstValues);
+            or.addAll(secondValues);
+            final TreeSet<Integer> andNot = new TreeSet<>(firstValues);
+            andNot.removeAll(secondValues);
+
+            assertArrayEquals(toArray(and), first.and(second).toArray(), "Unexpected result of 'and'");
+            assertArrayEquals(toArray(or), first.or(second).toArray(), "Unexpected result of 'or'");
+            assertArrayEquals(toArray(andNot), first.andNot(second).toArray(), "Unexpected result of 'andNot'");
+            assertArrayEquals(toArray(and), second.and(first).toArray(), "Unexpected result of 'and'");
+            assertEquals(firstValues.size(), first.cardinality(), "Unexpected set cardinality");
+        }
+    }
+
+    @Test
+    void equals() throws CloneNotSupportedException {
+        final CompressedIntSet set = CompressedIntSet.of(1, 2, 3, 100000);
+        final CompressedIntSet clone = (CompressedIntSet) set.clone();
+
+        assertEquals(set, clone, "Clone should be equal");
+        assertEquals(set.hashCode(), clone.hashCode(), "Hash codes should be equal");
+        clone.add(4);
+        assertNotEquals(set, clone, "Clone should not share containers");
+        assertFalse(set.contains(4), "Clone should not share containers");
+    }
+
+    private static int[] toArray(final TreeSet<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,397 @@
+package ru.nmanakov.personal.datatypes.list;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Scan kernels processing as many elements at a time as the widest vector register supported by the CPU holds:
+ * 8 {@code int} elements with AVX2, 16 - with AVX-512. Remaining tail elements are processed one at a time.
+ * <p>
+ * Kernels are compiled only with {@code vector} profile and loaded by {@link ScanKernels#load()}.
+ */
+final class VectorScanKernels implements ScanKernels {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final int PRIME = 31;
+
+    private static final long CANONICAL_NAN = Double.doubleToLongBits(Double.NaN);
+
+    private static final int INT_LANES_PRIME = power(INTS.length()); // 31^(int lanes)
+
+    private static final IntVector INT_WEIGHTS = IntVector.fromArray(INTS, intWeights(INTS.length()), 0);
+
+    private static final int LONG_LANES_PRIME = power(LONGS.length()); // 31^(long lanes)
+
+    private static final LongVector LONG_WEIGHTS = LongVector.fromArray(LONGS, longWeights(LONGS.length()), 0);
+
+    @Override
+    public int indexOf(final int[] array, final int size, final int element) {
+        int i = 0;
+        for (final int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            final VectorMask<Integer> found = IntVector.fromArray(INTS, array, i).eq(element);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        for (; i < size; ++i) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(final long[] array, final int size, final long element) {
+        int i = 0;
+        for (final int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            final VectorMask<Long> found = LongVector.fromArray(LONGS, array, i).eq(element);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        for (; i < size; ++i) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(final double[] array, final int size, final double element) {
+        final long elementBits = Double.doubleToLongBits(element);
+        int i = 0;
+        // raw bits of not NaN element are equal to its canonical ones, NaN is searched for one at a time
+        if (!Double.isNaN(element)) {
+            for (final int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+                final VectorMask<Long> found = DoubleVector.fromArray(DOUBLES, array, i).reinterpretAsLongs()
+                        .eq(elementBits);
+                if (found.anyTrue()) {
+                    return i + found.firstTrue();
+                }
+            }
+        }
+        for (; i < size; ++i) {
+            if (Double.doubleToLongBits(array[i]) == elementBits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void fill(final int[] array, final int size, final int element) {
+        final IntVector elements = IntVector.broadcast(INTS, element);
+        int i = 0;
+        for (final int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            elements.intoArray(array, i);
+        }
+        for (; i < size; ++i) {
+            array[i] = element;
+        }
+    }
+
+    @Override
+    public void fill(final long[] array, final int size, final long element) {
+        final LongVector elements = LongVector.broadcast(LONGS, element);
+        int i = 0;
+        for (final int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            elements.intoArray(array, i);
+        }
+        for (; i < size; ++i) {
+            array[i] = element;
+        }
+    }
+
+    @Override
+    public void fill(final double[] array, final int size, final double element) {
+        final DoubleVector elements = DoubleVector.broadcast(DOUBLES, element);
+        int i = 0;
+        for (final int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            elements.intoArray(array, i);
+        }
+        for (; i < size; ++i) {
+            array[i] = element;
+        }
+    }
+
+    @Override
+    public long sum(final int[] array, final int size) {
+        // every int vector is widened into two long ones, so the sum doesn't overflow
+        LongVector sums = LongVector.zero(LONGS);
+        int i = 0;
+        for (final int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            final IntVector elements = IntVector.fromArray(INTS, array, i);
+            sums = sums.add(elements.convertShape(VectorOperators.I2L, LONGS, 0).reinterpretAsLongs())
+                    .add(elements.convertShape(VectorOperators.I2L, LONGS, 1).reinterpretAsLongs());
+        }
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < size; ++i) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long sum(final long[] array, final int size) {
+        LongVector sums = LongVector.zero(LONGS);
+        int i = 0;
+        for (final int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            sums = sums.add(LongVector.fromArray(LONGS, array, i));
+        }
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < size; ++i) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double sum(final double[] array, final int size) {
+        DoubleVector sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (final int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            sums = sums.add(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < size; ++i) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(final int[] array, final int size) {
+        IntVector mins = IntVector.broadcast(INTS, array[0]);
+        int i = 0;
+        for (final int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            mins = mins.min(IntVector.fromArray(INTS, array, i));
+        }
+        int min = mins.reduceLanes(VectorOperators.MIN);
+        for (; i < size; ++i) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long min(final long[] array, final int size) {
+        LongVector mins = LongVector.broadcast(LONGS, array[0]);
+        int i = 0;
+        for (final int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            mins = mins.min(LongVector.fromArray(LONGS, array, i));
+        }
+        long min = mins.reduceLanes(VectorOperators.MIN);
+        for (; i < size; ++i) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double min(final double[] array, final int size) {
+        DoubleVector mins = DoubleVector.broadcast(DOUBLES, array[0]);
+        int i = 0;
+        for (final int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            mins = mins.min(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double min = mins.reduceLanes(VectorOperators.MIN);
+        for (; i < size; ++i) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(final int[] array, final int size) {
+        IntVector maxs = IntVector.broadcast(INTS, array[0]);
+        int i = 0;
+        for (final int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            maxs = maxs.max(IntVector.fromArray(INTS, array, i));
+        }
+        int max = maxs.reduceLanes(VectorOperators.MAX);
+        for (; i < size; ++i) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long max(final long[] array, final int size) {
+        LongVector maxs = LongVector.broadcast(LONGS, array[0]);
+        int i = 0;
+        for (final int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            maxs = maxs.max(LongVector.fromArray(LONGS, array, i));
+        }
+        long max = maxs.reduceLanes(VectorOperators.MAX);
+        for (; i < size; ++i) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public double max(final double[] array, final int size) {
+        DoubleVector maxs = DoubleVector.broadcast(DOUBLES, array[0]);
+        int i = 0;
+        for (final int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            maxs = maxs.max(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double max = maxs.reduceLanes(VectorOperators.MAX);
+        for (; i < size; ++i) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public boolean equals(final int[] array, final int[] other, final int size) {
+        int i = 0;
+        for (final int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            if (IntVector.fromArray(INTS, array, i).compare(VectorOperators.NE, IntVector.fromArray(INTS, other, i))
+                    .anyTrue()) {
+                return false;
+            }
+        }
+        for (; i < size; ++i) {
+            if (array[i] != other[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(final long[] array, final long[] other, final int size) {
+        int i = 0;
+        for (final int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            if (LongVector.fromArray(LONGS, array, i).compare(VectorOperators.NE,
+                    LongVector.fromArray(LONGS, other, i)).anyTrue()) {
+                return false;
+            }
+        }
+        for (; i < size; ++i) {
+            if (array[i] != other[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(final double[] array, final double[] other, final int size) {
+        int i = 0;
+        for (final int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            // raw bits of NaN elements may differ, so mismatching vectors are compared one element at a time
+            if (DoubleVector.fromArray(DOUBLES, array, i).reinterpretAsLongs().compare(VectorOperators.NE,
+                    DoubleVector.fromArray(DOUBLES, other, i).reinterpretAsLongs()).anyTrue()
+                    && !equals(array, other, i, i + DOUBLES.length())) {
+                return false;
+            }
+        }
+        return equals(array, other, i, size);
+    }
+
+    @Override
+    public int hashCode(final int[] array, final int size) {
+        // every lane accumulates hash of the elements in its position, lanes are weighted by powers of 31 then
+        IntVector hashes = IntVector.zero(INTS);
+        int power = 1;
+        int i = 0;
+        for (final int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            hashes = hashes.mul(INT_LANES_PRIME).add(IntVector.fromArray(INTS, array, i));
+            power *= INT_LANES_PRIME;
+        }
+        int result = power + hashes.mul(INT_WEIGHTS).reduceLanes(VectorOperators.ADD);
+        for (; i < size; ++i) {
+            result = result * PRIME + Integer.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode(final long[] array, final int size) {
+        // low 32 bits of long arithmetic are the same as int one
+        LongVector hashes = LongVector.zero(LONGS);
+        int power = 1;
+        int i = 0;
+        for (final int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            hashes = hashes.mul(LONG_LANES_PRIME).add(hash(LongVector.fromArray(LONGS, array, i)));
+            power *= LONG_LANES_PRIME;
+        }
+        int result = power + (int) hashes.mul(LONG_WEIGHTS).reduceLanes(VectorOperators.ADD);
+        for (; i < size; ++i) {
+            result = result * PRIME + Long.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode(final double[] array, final int size) {
+        LongVector hashes = LongVector.zero(LONGS);
+        int power = 1;
+        int i = 0;
+        for (final int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            final DoubleVector elements = DoubleVector.fromArray(DOUBLES, array, i);
+            final LongVector bits = elements.reinterpretAsLongs()
+                    .blend(CANONICAL_NAN, elements.test(VectorOperators.IS_NAN).cast(LONGS));
+            hashes = hashes.mul(LONG_LANES_PRIME).add(hash(bits));
+            power *= LONG_LANES_PRIME;
+        }
+        int result = power + (int) hashes.mul(LONG_WEIGHTS).reduceLanes(VectorOperators.ADD);
+        for (; i < size; ++i) {
+            result = result * PRIME + Double.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    private static boolean equals(final double[] array, final double[] other, final int from, final int to) {
+        for (int i = from; i < to; ++i) {
+            if (Double.doubleToLongBits(array[i]) != Double.doubleToLongBits(other[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LongVector hash(final LongVector elements) {
+        return elements.lanewise(VectorOperators.XOR, elements.lanewise(VectorOperators.LSHR, Integer.SIZE));
+    }
+
+    private static int power(final int exponent) {
+        int power = 1;
+        for (int i = 0; i < exponent; ++i) {
+            power *= PRIME;
+        }
+        return power;
+    }
+
+    private static int[] intWeights(final int lanes) {
+        // lane i of every vector is multiplied by 31^(lanes - 1 - i) in the end
+        final int[] weights = new int[lanes];
+        int weight = 1;
+        for (int i = lanes - 1; i >= 0; --i) {
+            weights[i] = weight;
+            weight *= PRIME;
+        }
+        return weights;
+    }
+
+    private static long[] longWeights(final int lanes) {
+        final long[] weights = new long[lanes];
+        final int[] intWeights = intWeights(lanes);
+        for (int i = 0; i < lanes; ++i) {
+            weights[i] = intWeights[i];
+        }
+        return weights;
+    }
+}